@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TRSPerf {
+
+	@State(Scope.Benchmark)
+	public static class Rules {
+		// The Peano rules, mixed with 200 rules which never match.
+		ISeq<TreeRewriteRule<String>> rules = Stream.of(
+				IntStream.range(0, 100)
+					.mapToObj(i -> "f" + i + "($x,$y) -> $x"),
+				IntStream.range(0, 100)
+					.mapToObj(i -> "add(c" + i + ",$x) -> $x"),
+				Stream.of(
+					"add(0,$x) -> $x",
+					"add(S($x),$y) -> S(add($x,$y))",
+					"mul(0,$x) -> 0",
+					"mul(S($x),$y) -> add(mul($x,$y),$y)"
+				))
+			.flatMap(s -> s)
+			.map(TreeRewriteRule::parse)
+			.collect(ISeq.toISeq());
+
+		TRS<String> trs = new TRS<>(rules);
+
+		TreeNode<String> tree = TreeNode.parse(
+			"add(mul(S(S(S(0))),S(S(0))),mul(S(S(0)),add(S(0),S(S(S(0))))))"
+		);
+	}
+
+	@Benchmark
+	public Object sequential(final Rules rules) {
+		final TreeNode<String> tree = TreeNode.ofTree(rules.tree);
+		TreeRewriter.rewrite(tree, rules.rules);
+		return tree;
+	}
+
+	@Benchmark
+	public Object indexed(final Rules rules) {
+		final TreeNode<String> tree = TreeNode.ofTree(rules.tree);
+		rules.trs.rewrite(tree);
+		return tree;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + TRSPerf.class.getSimpleName() + ".*")
+			.warmupIterations(3)
+			.measurementIterations(5)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+	/*
+Benchmark           Mode  Cnt     Score     Error  Units
+TRSPerf.indexed     avgt    6   115.233 ±  19.878  us/op
+TRSPerf.sequential  avgt    6  1999.123 ± 619.320  us/op
+	 */
+
+}
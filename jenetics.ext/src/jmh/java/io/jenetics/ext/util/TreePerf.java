@@ -35,7 +35,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 @State(Scope.Benchmark)
@@ -45,8 +45,8 @@ public class TreePerf {
 
 	@State(Scope.Benchmark)
 	public static class Trees {
-		Tree<?, ?> tree = newTree(4, new Random(123));
-		Tree<?, ?> flatTree = FlatTreeNode.ofTree(tree);
+		TreeNode<Integer> tree = newTree(4, new Random(123));
+		FlatTreeNode<Integer> flatTree = FlatTreeNode.ofTree(tree);
 	}
 
 	private static TreeNode<Integer> newTree(final int levels, final Random random) {
@@ -92,6 +92,62 @@ public class TreePerf {
 		return trees.flatTree.breadthFirstStream().count();
 	}
 
+	@Benchmark
+	public int level(final Trees trees) {
+		return trees.tree.stream().mapToInt(Tree::level).sum();
+	}
+
+	@Benchmark
+	public int flatLevel(final Trees trees) {
+		return trees.flatTree.stream().mapToInt(Tree::level).sum();
+	}
+
+	@Benchmark
+	public int cursorLevel(final Trees trees) {
+		final FlatTreeNode.Cursor<Integer> cursor = trees.flatTree.cursor();
+
+		int level = 0;
+		for (int i = 0, n = trees.flatTree.size(); i < n; ++i) {
+			level += cursor.moveTo(i).level();
+		}
+		return level;
+	}
+
+	@Benchmark
+	public int childPath(final Trees trees) {
+		return trees.tree.stream()
+			.mapToInt(t -> t.childPath().length())
+			.sum();
+	}
+
+	@Benchmark
+	public int flatChildPath(final Trees trees) {
+		return trees.flatTree.stream()
+			.mapToInt(t -> t.childPath().length())
+			.sum();
+	}
+
+	@Benchmark
+	public int subtreeSize(final Trees trees) {
+		return trees.tree.stream().mapToInt(Tree::size).sum();
+	}
+
+	@Benchmark
+	public int flatSubtreeSize(final Trees trees) {
+		return trees.flatTree.stream().mapToInt(Tree::size).sum();
+	}
+
+	@Benchmark
+	public int cursorSubtreeSize(final Trees trees) {
+		final FlatTreeNode.Cursor<Integer> cursor = trees.flatTree.cursor();
+
+		int size = 0;
+		for (int i = 0, n = trees.flatTree.size(); i < n; ++i) {
+			size += cursor.moveTo(i).size();
+		}
+		return size;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + TreePerf.class.getSimpleName() + ".*")
@@ -105,11 +161,19 @@ public class TreePerf {
 	}
 
 	/*
-Benchmark           Mode  Cnt     Score    Error  Units
-TreePerf.count      avgt    4  1914.299 ± 38.673  ns/op
-TreePerf.flatCount  avgt    4  2227.737 ± 73.127  ns/op
-TreePerf.flatSize   avgt    4   347.181 ± 21.484  ns/op
-TreePerf.size       avgt    4   405.097 ±  4.489  ns/op
+Benchmark                   Mode  Cnt      Score      Error  Units
+TreePerf.childPath          avgt    4  12143.779 ± 3081.520  ns/op
+TreePerf.count              avgt    4   1926.933 ±  780.518  ns/op
+TreePerf.cursorLevel        avgt    4     46.962 ±   37.219  ns/op
+TreePerf.cursorSubtreeSize  avgt    4     42.125 ±   25.162  ns/op
+TreePerf.flatChildPath      avgt    4   3643.495 ±  403.381  ns/op
+TreePerf.flatCount          avgt    4     32.631 ±   10.427  ns/op
+TreePerf.flatLevel          avgt    4    288.604 ±  130.988  ns/op
+TreePerf.flatSize           avgt    4      5.813 ±    3.391  ns/op
+TreePerf.flatSubtreeSize    avgt    4    301.552 ±   55.573  ns/op
+TreePerf.level              avgt    4   3513.085 ±  512.031  ns/op
+TreePerf.size               avgt    4    626.861 ±  229.426  ns/op
+TreePerf.subtreeSize        avgt    4   4800.140 ± 2794.183  ns/op
 	 */
 
 }
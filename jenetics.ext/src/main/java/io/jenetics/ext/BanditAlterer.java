@@ -0,0 +1,595 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Alterer which adaptively chooses, for every individual of the offspring
+ * population, one alterer out of a given pool of alterers. The selection of
+ * the alterers is treated as <em>multi-armed bandit</em> problem. Every
+ * alterer (arm) is rewarded with the fitness improvement of the offspring it
+ * has created, relative to the fitness of its parent, per unit of CPU time the
+ * alterer needed. The probability of an alterer being chosen is proportional
+ * to its upper confidence bound (UCB) score, which is given by the normalized
+ * reward rate plus an exploration term. Every alterer keeps a minimal selection
+ * probability, so that changes in the alterer performance are still detected.
+ *
+ * <pre>{@code
+ * final BanditAlterer<DoubleGene, Double> alterer =
+ *     BanditAlterer.<DoubleGene, Double>of(
+ *         Optimize.MINIMUM,
+ *         new Mutator<>(0.2),
+ *         new GaussianMutator<>(0.2),
+ *         new SinglePointCrossover<>(0.3),
+ *         new MeanAlterer<>(0.3)
+ *     );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .alterers(alterer)
+ *     .build();
+ * }</pre>
+ *
+ * The alterer, which created an individual, is credited as soon as the
+ * fitness of the individual is known. If the bandit {@link #interceptor()} is
+ * registered at the engine, this is the case directly after the evaluation
+ * of the offspring. Otherwise, the created individuals are credited when they
+ * are selected as offspring again, in one of the following generations. The
+ * collected statistics are available via the {@link #credits()} method.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .alterers(alterer)
+ *     .interceptor(alterer.interceptor())
+ *     .build();
+ * }</pre>
+ *
+ * Every alterer of the pool is applied to the sub-population of the
+ * individuals it has been chosen for. These sub-populations are random and
+ * disjoint. A recombinator, like a crossover, will therefore only choose the
+ * mates of an individual from the same sub-population and not from the whole
+ * offspring population.
+ *
+ * @implNote
+ * The rewards and the CPU times of the alterers are exponentially decayed
+ * after every generation, which allows the bandit to follow the changing
+ * alterer performance during the evolution process. Created individuals,
+ * which are not credited within {@link #PENDING_GENERATIONS} generations, are
+ * dropped without crediting the alterer. This class is thread-safe.
+ *
+ * @param <G> the gene type
+ * @param <N> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BanditAlterer<
+	G extends Gene<?, G>,
+	N extends Number & Comparable<? super N>
+>
+	implements Alterer<G, N>
+{
+
+	/**
+	 * The default exploration factor of the UCB score: {@code sqrt(2)}.
+	 */
+	public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+	/**
+	 * The default decay factor of the collected rewards and CPU times: 0.9.
+	 */
+	public static final double DEFAULT_DECAY = 0.9;
+
+	/**
+	 * The number of generations the created individuals are waiting for
+	 * being credited: 10.
+	 */
+	public static final int PENDING_GENERATIONS = 10;
+
+	/**
+	 * The credit statistics of one alterer of the pool.
+	 *
+	 * @param <G> the gene type
+	 * @param <N> the fitness type
+	 *
+	 * @implNote
+	 * This class is immutable and thread-safe.
+	 */
+	public static final class Credit<
+		G extends Gene<?, G>,
+		N extends Number & Comparable<? super N>
+	> {
+		private final Alterer<G, N> _alterer;
+		private final long _selections;
+		private final long _alterations;
+		private final long _improvements;
+		private final double _reward;
+		private final Duration _time;
+		private final double _probability;
+
+		private Credit(
+			final Alterer<G, N> alterer,
+			final long selections,
+			final long alterations,
+			final long improvements,
+			final double reward,
+			final Duration time,
+			final double probability
+		) {
+			_alterer = alterer;
+			_selections = selections;
+			_alterations = alterations;
+			_improvements = improvements;
+			_reward = reward;
+			_time = time;
+			_probability = probability;
+		}
+
+		/**
+		 * Return the credited alterer.
+		 *
+		 * @return the credited alterer
+		 */
+		public Alterer<G, N> alterer() {
+			return _alterer;
+		}
+
+		/**
+		 * Return the total number of individuals this alterer has been
+		 * chosen for.
+		 *
+		 * @return the total number of individuals this alterer was chosen for
+		 */
+		public long selections() {
+			return _selections;
+		}
+
+		/**
+		 * Return the total number of alterations performed by this alterer.
+		 *
+		 * @return the total number of alterations
+		 */
+		public long alterations() {
+			return _alterations;
+		}
+
+		/**
+		 * Return the total number of created individuals, which are better
+		 * than its parent.
+		 *
+		 * @return the total number of improved individuals
+		 */
+		public long improvements() {
+			return _improvements;
+		}
+
+		/**
+		 * Return the current (decayed) fitness improvement sum.
+		 *
+		 * @return the current (decayed) fitness improvement sum
+		 */
+		public double reward() {
+			return _reward;
+		}
+
+		/**
+		 * Return the current (decayed) CPU time spent by the alterer.
+		 *
+		 * @return the current (decayed) CPU time spent by the alterer
+		 */
+		public Duration time() {
+			return _time;
+		}
+
+		/**
+		 * Return the fitness improvement per second of CPU time.
+		 *
+		 * @return the fitness improvement per second of CPU time
+		 */
+		public double rewardRate() {
+			return _time.isZero()
+				? 0.0
+				: _reward/(_time.toNanos()/1_000_000_000.0);
+		}
+
+		/**
+		 * Return the probability of the alterer being chosen in the next
+		 * generation.
+		 *
+		 * @return the current selection probability of the alterer
+		 */
+		public double probability() {
+			return _probability;
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Credit[alterer=%s, selections=%d, alterations=%d, " +
+				"improvements=%d, rate=%f, probability=%f]",
+				_alterer, _selections, _alterations,
+				_improvements, rewardRate(), _probability
+			);
+		}
+	}
+
+	// The alterer, parent fitness and generation of a not yet credited
+	// offspring.
+	private static final class Pending {
+		final int arm;
+		final double fitness;
+		final long generation;
+
+		Pending(final int arm, final double fitness, final long generation) {
+			this.arm = arm;
+			this.fitness = fitness;
+			this.generation = generation;
+		}
+	}
+
+	private final Optimize _optimize;
+	private final ISeq<Alterer<G, N>> _alterers;
+	private final double _exploration;
+	private final double _decay;
+
+	// The mutable bandit state, guarded by 'this'.
+	private final long[] _selections;
+	private final long[] _alterations;
+	private final long[] _improvements;
+	private final double[] _counts;
+	private final double[] _rewards;
+	private final double[] _nanos;
+	private final Map<Genotype<G>, Pending> _pending = new IdentityHashMap<>();
+
+	/**
+	 * Create a new bandit alterer with the given parameters.
+	 *
+	 * @param optimize the optimization strategy, needed for rating the
+	 *        fitness improvements
+	 * @param alterers the pool of alterers to choose from
+	 * @param exploration the exploration factor of the UCB score. The greater
+	 *        the value, the more often are less successful alterers chosen.
+	 * @param decay the decay factor of the collected rewards and CPU times,
+	 *        applied after every generation
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alterers} are empty, the
+	 *         {@code exploration} is negative or the {@code decay} is not
+	 *         within the range {@code (0, 1]}
+	 */
+	public BanditAlterer(
+		final Optimize optimize,
+		final ISeq<? extends Alterer<G, N>> alterers,
+		final double exploration,
+		final double decay
+	) {
+		alterers.forEach(Objects::requireNonNull);
+		if (alterers.isEmpty()) {
+			throw new IllegalArgumentException("Alterer pool must not be empty.");
+		}
+		if (!(exploration >= 0)) {
+			throw new IllegalArgumentException(format(
+				"Exploration must not be negative: %f.", exploration
+			));
+		}
+		if (!(decay > 0 && decay <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Decay must be within (0, 1]: %f.", decay
+			));
+		}
+
+		_optimize = requireNonNull(optimize);
+		_alterers = ISeq.upcast(alterers);
+		_exploration = exploration;
+		_decay = decay;
+
+		_selections = new long[alterers.size()];
+		_alterations = new long[alterers.size()];
+		_improvements = new long[alterers.size()];
+		_counts = new double[alterers.size()];
+		_rewards = new double[alterers.size()];
+		_nanos = new double[alterers.size()];
+	}
+
+	/**
+	 * Return the pool of alterers.
+	 *
+	 * @return the pool of alterers
+	 */
+	public ISeq<Alterer<G, N>> alterers() {
+		return _alterers;
+	}
+
+	/**
+	 * Return the current credit statistics of the alterer pool. The
+	 * statistics are in the same order as the {@link #alterers()}.
+	 *
+	 * @return the current credit statistics of the alterers
+	 */
+	public synchronized ISeq<Credit<G, N>> credits() {
+		final double[] probabilities = probabilities();
+
+		final MSeq<Credit<G, N>> credits = MSeq.ofLength(_alterers.size());
+		for (int i = 0; i < credits.size(); ++i) {
+			credits.set(i, new Credit<>(
+				_alterers.get(i),
+				_selections[i],
+				_alterations[i],
+				_improvements[i],
+				_rewards[i],
+				Duration.ofNanos((long)_nanos[i]),
+				probabilities[i]
+			));
+		}
+
+		return credits.toISeq();
+	}
+
+	/**
+	 * Return an evolution interceptor, which credits the alterers with the
+	 * fitness of the evaluated offspring, directly after every evolution
+	 * step. Without this interceptor, the alterers are only credited for the
+	 * individuals, which are selected as offspring again.
+	 *
+	 * @return an evolution interceptor which credits the bandit alterers
+	 */
+	public EvolutionInterceptor<G, N> interceptor() {
+		return EvolutionInterceptor.ofAfter(result -> {
+			credit(result.population(), result.generation());
+			return result;
+		});
+	}
+
+	@Override
+	public AltererResult<G, N> alter(
+		final Seq<Phenotype<G, N>> population,
+		final long generation
+	) {
+		credit(population, generation);
+		final int[] arms = choose(population);
+
+		final MSeq<Phenotype<G, N>> pop = MSeq.of(population);
+		final long[] nanos = new long[_alterers.size()];
+		final int[] alterations = new int[_alterers.size()];
+
+		for (int arm = 0; arm < _alterers.size(); ++arm) {
+			final int[] indexes = indexes(arms, arm);
+			if (indexes.length > 0) {
+				final MSeq<Phenotype<G, N>> part = MSeq.ofLength(indexes.length);
+				for (int i = 0; i < indexes.length; ++i) {
+					part.set(i, pop.get(indexes[i]));
+				}
+
+				final long start = System.nanoTime();
+				final AltererResult<G, N> result = _alterers.get(arm)
+					.alter(part, generation);
+				nanos[arm] = System.nanoTime() - start;
+				alterations[arm] = result.alterations();
+
+				for (int i = 0; i < indexes.length; ++i) {
+					pop.set(indexes[i], result.population().get(i));
+				}
+			}
+		}
+
+		update(population, pop, arms, nanos, alterations, generation);
+
+		int count = 0;
+		for (int alteration : alterations) {
+			count += alteration;
+		}
+		return AltererResult.of(pop.toISeq(), count);
+	}
+
+	private static int[] indexes(final int[] arms, final int arm) {
+		int size = 0;
+		for (int a : arms) {
+			if (a == arm) ++size;
+		}
+
+		final int[] indexes = new int[size];
+		for (int i = 0, j = 0; i < arms.length; ++i) {
+			if (arms[i] == arm) indexes[j++] = i;
+		}
+		return indexes;
+	}
+
+	// Credits the previously created offspring, which are part of the given,
+	// evaluated, population and drops the expired ones.
+	private synchronized void credit(
+		final Seq<Phenotype<G, N>> population,
+		final long generation
+	) {
+		if (_pending.isEmpty()) {
+			return;
+		}
+
+		for (Phenotype<G, N> pt : population) {
+			if (pt.isEvaluated()) {
+				final Pending pending = _pending.remove(pt.genotype());
+				if (pending != null) {
+					final double diff =
+						pt.fitness().doubleValue() - pending.fitness;
+					final double improvement = _optimize == Optimize.MAXIMUM
+						? diff
+						: -diff;
+
+					if (improvement > 0) {
+						_rewards[pending.arm] += improvement;
+						++_improvements[pending.arm];
+					}
+				}
+			}
+		}
+
+		_pending.values().removeIf(p ->
+			generation - p.generation > PENDING_GENERATIONS);
+	}
+
+	// Chooses the alterers for the given population.
+	private synchronized int[] choose(final Seq<Phenotype<G, N>> population) {
+		final double[] probabilities = probabilities();
+		final Random random = RandomRegistry.random();
+
+		final int[] arms = new int[population.size()];
+		for (int i = 0; i < arms.length; ++i) {
+			arms[i] = arm(probabilities, random.nextDouble());
+		}
+		return arms;
+	}
+
+	private static int arm(final double[] probabilities, final double value) {
+		double sum = 0;
+		for (int i = 0; i < probabilities.length - 1; ++i) {
+			sum += probabilities[i];
+			if (value < sum) {
+				return i;
+			}
+		}
+		return probabilities.length - 1;
+	}
+
+	// Calculates the selection probabilities from the UCB scores.
+	private double[] probabilities() {
+		final int k = _alterers.size();
+
+		final double[] rates = new double[k];
+		double max = 0;
+		double total = 0;
+		for (int i = 0; i < k; ++i) {
+			rates[i] = _nanos[i] > 0 ? _rewards[i]/_nanos[i] : 0;
+			max = Math.max(max, rates[i]);
+			total += _counts[i];
+		}
+
+		final double[] scores = new double[k];
+		double sum = 0;
+		for (int i = 0; i < k; ++i) {
+			final double exploitation = max > 0 ? rates[i]/max : 0;
+			final double exploration = _counts[i] < 1
+				? 1.0
+				: Math.min(
+					1.0,
+					_exploration*Math.sqrt(Math.log(Math.max(total, 1))/_counts[i])
+				);
+
+			scores[i] = exploitation + exploration;
+			sum += scores[i];
+		}
+
+		final double min = 0.1/k;
+		final double[] probabilities = new double[k];
+		for (int i = 0; i < k; ++i) {
+			probabilities[i] = sum > 0
+				? min + (1 - k*min)*scores[i]/sum
+				: 1.0/k;
+		}
+		return probabilities;
+	}
+
+	// Registers the created offspring and decays the bandit state.
+	private synchronized void update(
+		final Seq<Phenotype<G, N>> parents,
+		final Seq<Phenotype<G, N>> offspring,
+		final int[] arms,
+		final long[] nanos,
+		final int[] alterations,
+		final long generation
+	) {
+		for (int i = 0; i < _alterers.size(); ++i) {
+			_rewards[i] *= _decay;
+			_nanos[i] = _nanos[i]*_decay + nanos[i];
+			_counts[i] *= _decay;
+			_alterations[i] += alterations[i];
+		}
+
+		for (int i = 0; i < arms.length; ++i) {
+			++_selections[arms[i]];
+			_counts[arms[i]] += 1;
+
+			final Phenotype<G, N> parent = parents.get(i);
+			final Phenotype<G, N> child = offspring.get(i);
+			if (child != parent && parent.isEvaluated()) {
+				_pending.put(
+					child.genotype(),
+					new Pending(
+						arms[i],
+						parent.fitness().doubleValue(),
+						generation
+					)
+				);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("BanditAlterer[%s]", _alterers);
+	}
+
+	/**
+	 * Create a new bandit alterer with the given alterer pool and the
+	 * {@link #DEFAULT_EXPLORATION} and {@link #DEFAULT_DECAY} values.
+	 *
+	 * @param optimize the optimization strategy, needed for rating the
+	 *        fitness improvements
+	 * @param alterers the pool of alterers to choose from
+	 * @param <G> the gene type
+	 * @param <N> the fitness type
+	 * @return a new bandit alterer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alterers} are empty
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, N extends Number & Comparable<? super N>>
+	BanditAlterer<G, N> of(
+		final Optimize optimize,
+		final Alterer<G, N>... alterers
+	) {
+		return new BanditAlterer<>(
+			optimize,
+			ISeq.of(alterers),
+			DEFAULT_EXPLORATION,
+			DEFAULT_DECAY
+		);
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.Random;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 
+import io.jenetics.ext.util.PreorderTree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -64,9 +65,13 @@ import io.jenetics.ext.util.TreeNode;
  *                              ├── i
  *                              └── j
  * }</pre>
+ * <p>
+ * The crossover works directly on the preorder arrays of the chromosome trees,
+ * where the subtree swap is an array splice. Subclasses are crossed over with
+ * the {@link #crossover(TreeNode, TreeNode)} method, which they may override.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 3.9
  */
 public class SingleNodeCrossover<
@@ -124,6 +129,51 @@ public class SingleNodeCrossover<
 		return changed;
 	}
 
+	/**
+	 * Swaps two randomly chosen subtrees with an array splice. If a subclass
+	 * overrides the {@link #crossover(TreeNode, TreeNode)} method, the
+	 * crossover is delegated to it instead.
+	 *
+	 * @since 6.1
+	 *
+	 * @param that the first tree
+	 * @param other the second tree
+	 * @return the number of altered genes
+	 */
+	@Override
+	protected <A> int crossover(
+		final PreorderTree<A> that,
+		final PreorderTree<A> other
+	) {
+		return getClass() == SingleNodeCrossover.class
+			? swap(that, other)
+			: super.crossover(that, other);
+	}
+
+	// The static method makes it easier to test.
+	static <A> int swap(
+		final PreorderTree<A> that,
+		final PreorderTree<A> other
+	) {
+		assert that != null;
+		assert other != null;
+
+		final Random random = RandomRegistry.random();
+
+		final int changed;
+		if (that.size() > 1 && other.size() > 1) {
+			final int i1 = random.nextInt(that.size() - 1) + 1;
+			final int i2 = random.nextInt(other.size() - 1) + 1;
+			PreorderTree.swap(that, i1, other, i2);
+
+			changed = 2;
+		} else {
+			changed = 0;
+		}
+
+		return changed;
+	}
+
 	@Override
 	public String toString() {
 		return format("SingleNodeCrossover[%f]", _probability);
@@ -27,11 +27,12 @@ import io.jenetics.Chromosome;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.Recombinator;
+import io.jenetics.util.BaseSeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
 import io.jenetics.ext.util.FlatTree;
-import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.PreorderTree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -39,9 +40,14 @@ import io.jenetics.ext.util.TreeNode;
  * simplifies the implementation of tree base crossover implementation, by doing
  * the transformation of the flattened tree genes to actual trees and vice versa.
  * Only the {@link #crossover(TreeNode, TreeNode)} method must be implemented.
+ * <p>
+ * Implementations which override the
+ * {@link #crossover(PreorderTree, PreorderTree)} method work directly on the
+ * preorder arrays of the trees, where subtree swaps are simple array splices,
+ * and don't need the mutable {@link TreeNode} graphs.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public abstract class TreeCrossover<
@@ -105,26 +111,28 @@ public abstract class TreeCrossover<
 		final MSeq<Chromosome<G>> c2,
 		final int index
 	) {
-		@SuppressWarnings("unchecked")
-		final TreeNode<A> tree1 = (TreeNode<A>)TreeNode.ofTree(c1.get(index).gene());
-		@SuppressWarnings("unchecked")
-		final TreeNode<A> tree2 = (TreeNode<A>)TreeNode.ofTree(c2.get(index).gene());
+		final PreorderTree<A> tree1 = tree(c1.get(index));
+		final PreorderTree<A> tree2 = tree(c2.get(index));
 
 		crossover(tree1, tree2);
 
-		final var flat1 = FlatTreeNode.ofTree(tree1);
-		final var flat2 = FlatTreeNode.ofTree(tree2);
-
 		@SuppressWarnings("unchecked")
 		final var template = (TreeGene<A, ?>)c1.get(0).gene();
 
-		final var genes1 = flat1.map(tree -> gene(template, tree));
-		final var genes2 = flat2.map(tree -> gene(template, tree));
+		final var genes1 = tree1.toFlatTreeNode().map(t -> gene(template, t));
+		final var genes2 = tree2.toFlatTreeNode().map(t -> gene(template, t));
 
 		c1.set(index, c1.get(index).newInstance(genes1));
 		c2.set(index, c2.get(index).newInstance(genes2));
 	}
 
+	@SuppressWarnings("unchecked")
+	private static <A> PreorderTree<A> tree(final Chromosome<?> chromosome) {
+		return PreorderTree.of(
+			(BaseSeq<? extends FlatTree<? extends A, ?>>)chromosome
+		);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A> G gene(
 		final TreeGene<A, ?> template,
@@ -151,4 +159,31 @@ public abstract class TreeCrossover<
 		final TreeNode<A> other
 	);
 
+	/**
+	 * Template method which performs the crossover on the preorder arrays of
+	 * the chromosome trees. The default implementation converts the trees
+	 * into {@link TreeNode} graphs and delegates to the
+	 * {@link #crossover(TreeNode, TreeNode)} method.
+	 *
+	 * @since 6.1
+	 *
+	 * @param <A> the <em>existential</em> allele type
+	 * @param that the first (chromosome) tree
+	 * @param other the second (chromosome) tree
+	 * @return the number of altered genes
+	 */
+	protected <A> int crossover(
+		final PreorderTree<A> that,
+		final PreorderTree<A> other
+	) {
+		final TreeNode<A> tree1 = that.toTreeNode();
+		final TreeNode<A> tree2 = other.toTreeNode();
+
+		final int altered = crossover(tree1, tree2);
+
+		that.replace(0, PreorderTree.ofTree(tree1), 0);
+		other.replace(0, PreorderTree.ofTree(tree2), 0);
+		return altered;
+	}
+
 }
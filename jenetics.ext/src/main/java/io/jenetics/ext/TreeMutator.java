@@ -26,14 +26,16 @@ import io.jenetics.Mutator;
 import io.jenetics.MutatorResult;
 import io.jenetics.internal.math.Probabilities;
 
-import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.PreorderTree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
- * Abstract class for mutating tree chromosomes.
+ * Abstract class for mutating tree chromosomes. Implementations which override
+ * the {@link #mutate(PreorderTree)} method work directly on the preorder arrays
+ * of the chromosome tree, without creating a mutable {@link TreeNode} graph.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public abstract class TreeMutator<
@@ -74,14 +76,36 @@ public abstract class TreeMutator<
 	}
 
 	private MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
-		final TreeNode<A> tree = TreeNode.ofTree(chromosome.gene());
-		mutate(tree);
+		final PreorderTree<A> tree = PreorderTree.of(chromosome);
+		if (mutate(tree) == 0) {
+			return MutatorResult.of(chromosome);
+		}
 
-		final var flat = FlatTreeNode.ofTree(tree);
+		final var flat = tree.toFlatTreeNode();
 		final var genes = flat.map(t -> chromosome.gene().newInstance(t));
 		return MutatorResult.of(chromosome.newInstance(genes), 1);
 	}
 
+	/**
+	 * This method does the actual mutating, in place, on the preorder arrays
+	 * of the chromosome tree. The default implementation converts the tree
+	 * into a {@link TreeNode} graph and delegates to the
+	 * {@link #mutate(TreeNode)} method.
+	 *
+	 * @since 6.1
+	 *
+	 * @param tree the mutable preorder tree to mutate
+	 * @return the number of mutations, {@code 0} if the tree hasn't been
+	 *         changed
+	 */
+	protected int mutate(final PreorderTree<A> tree) {
+		final TreeNode<A> node = tree.toTreeNode();
+		mutate(node);
+
+		tree.replace(0, PreorderTree.ofTree(node), 0);
+		return 1;
+	}
+
 	/**
 	 * This method does the actual mutating, in place.
 	 *
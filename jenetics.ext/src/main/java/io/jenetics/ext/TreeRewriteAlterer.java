@@ -21,7 +21,10 @@ package io.jenetics.ext;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import io.jenetics.ext.rewriting.TreeRewriter;
+import io.jenetics.ext.util.PreorderTree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -30,7 +33,7 @@ import io.jenetics.ext.util.TreeNode;
  * @see TreeRewriter
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 public class TreeRewriteAlterer<
@@ -109,4 +112,43 @@ public class TreeRewriteAlterer<
 		_rewriter.rewrite(tree, _limit);
 	}
 
+	/**
+	 * Performs the actual tree rewriting, by delegating to the
+	 * {@link #mutate(TreeNode)} method. The preorder tree is only updated
+	 * if the rewritten tree differs from the original one.
+	 *
+	 * @since 6.1
+	 *
+	 * @param tree the tree to rewrite
+	 * @return {@code 1} if the tree has been rewritten, {@code 0} otherwise
+	 */
+	@Override
+	protected int mutate(final PreorderTree<A> tree) {
+		final TreeNode<A> node = tree.toTreeNode();
+		mutate(node);
+
+		final PreorderTree<A> rewritten = PreorderTree.ofTree(node);
+		if (equals(tree, rewritten)) {
+			return 0;
+		}
+
+		tree.replace(0, rewritten, 0);
+		return 1;
+	}
+
+	private static boolean
+	equals(final PreorderTree<?> a, final PreorderTree<?> b) {
+		if (a.size() != b.size()) {
+			return false;
+		}
+		for (int i = 0; i < a.size(); ++i) {
+			if (a.childCount(i) != b.childCount(i) ||
+				!Objects.equals(a.value(i), b.value(i)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.internal.io.BinaryIO;
+import io.jenetics.internal.io.BinaryReader;
+import io.jenetics.util.IO;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Immutable snapshot of a running evolution, which allows to resume the
+ * evolution at the point where the snapshot has been taken. A checkpoint
+ * consists of the {@link EvolutionResult} and, if possible, of the state of
+ * the random engine, which was used by the evolution.
+ *
+ * <pre>{@code
+ * final Checkpoint<DoubleGene, Double> checkpoint =
+ *     Checkpoint.read(Path.of("evolution.checkpoint"));
+ *
+ * // Restoring the random engine makes the resumed evolution deterministic.
+ * // The engine must be created before, since building an engine may
+ * // already consume random numbers.
+ * checkpoint.random().ifPresent(RandomRegistry::random);
+ * final EvolutionResult<DoubleGene, Double> result = engine
+ *     .stream(checkpoint.next())
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * }</pre>
+ *
+ * @see CheckpointWriter
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Checkpoint<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private static final byte[] NO_RANDOM = new byte[0];
+
+	private final EvolutionResult<G, C> _result;
+	private final byte[] _random;
+
+	private Checkpoint(
+		final EvolutionResult<G, C> result,
+		final byte[] random
+	) {
+		_result = requireNonNull(result);
+		_random = requireNonNull(random);
+	}
+
+	/**
+	 * Return the evolution result of the checkpoint.
+	 *
+	 * @return the evolution result of the checkpoint
+	 */
+	public EvolutionResult<G, C> result() {
+		return _result;
+	}
+
+	/**
+	 * Return the evolution start object, which continues the evolution with
+	 * the generation following the checkpoint.
+	 *
+	 * @see EvolutionResult#next()
+	 *
+	 * @return the evolution start object for resuming the evolution
+	 */
+	public EvolutionStart<G, C> next() {
+		return _result.next();
+	}
+
+	/**
+	 * Return a copy of the random engine, in the state it has had when the
+	 * checkpoint has been taken. The random engine is only available if it
+	 * is {@link Serializable}. The default {@link ThreadLocalRandom} engine
+	 * can't be captured.
+	 *
+	 * @return a copy of the captured random engine, if available
+	 * @throws UncheckedIOException if the captured random engine can't
+	 *         be restored
+	 */
+	public Optional<Random> random() {
+		return _random.length == 0
+			? Optional.empty()
+			: Optional.of(restore(_random));
+	}
+
+	byte[] randomState() {
+		return _random;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"Checkpoint[generation=%d, random=%s]",
+			_result.generation(),
+			_random.length > 0
+		);
+	}
+
+	/**
+	 * Create a new checkpoint of the given evolution {@code result}, which
+	 * also captures the state of the current random engine, returned by
+	 * {@link RandomRegistry#random()}.
+	 *
+	 * @param result the evolution result of the checkpoint
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> of(final EvolutionResult<G, C> result) {
+		return new Checkpoint<>(result, capture(RandomRegistry.random()));
+	}
+
+	/**
+	 * Reads a checkpoint, written by the {@link CheckpointWriter}, from the
+	 * given {@code path}.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the read checkpoint
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the checkpoint can't be read
+	 */
+	@SuppressWarnings("unchecked")
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> read(final Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path);
+			BinaryReader reader = BinaryIO.of(false).reader(in))
+		{
+			final Object result = reader.read();
+			final Object random = reader.read();
+			if (!(result instanceof EvolutionResult) ||
+				!(random instanceof byte[]))
+			{
+				throw new InvalidObjectException(format(
+					"Invalid checkpoint file: %s.", path
+				));
+			}
+
+			return new Checkpoint<>(
+				(EvolutionResult<G, C>)result,
+				(byte[])random
+			);
+		}
+	}
+
+	private static byte[] capture(final Random random) {
+		if (random instanceof ThreadLocalRandom ||
+			!(random instanceof Serializable))
+		{
+			return NO_RANDOM;
+		}
+
+		try {
+			return IO.object.toByteArray(random);
+		} catch (IOException e) {
+			return NO_RANDOM;
+		}
+	}
+
+	private static Random restore(final byte[] random) {
+		try {
+			return (Random)IO.object.fromByteArray(random);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
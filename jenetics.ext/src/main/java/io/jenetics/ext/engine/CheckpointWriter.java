@@ -0,0 +1,346 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.internal.io.BinaryIO;
+import io.jenetics.internal.io.BinaryWriter;
+
+/**
+ * Evolution interceptor, which periodically writes {@link Checkpoint}s of
+ * the running evolution to disk. A checkpoint is taken every given number
+ * of generations, or after the given time interval, whatever comes first.
+ * The checkpoints are written, in the compact binary format of
+ * {@link io.jenetics.util.IO#binary}, by a background thread. The evolution
+ * thread only creates the (immutable) checkpoint object and hands it over
+ * to a bounded queue. If the writer can't keep up with the evolution, the
+ * oldest, not yet written, checkpoints are dropped. The checkpoint file is
+ * written atomically, by writing a temporary file first, which is then
+ * renamed to the checkpoint file.
+ *
+ * <pre>{@code
+ * final Path path = Path.of("evolution.checkpoint");
+ * try (var checkpoints = CheckpointWriter.<DoubleGene, Double>of(
+ *         path, 100, Duration.ofMinutes(5)))
+ * {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(checkpoints)
+ *         .build();
+ *
+ *     final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *         .limit(1_000_000)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }</pre>
+ *
+ * @implNote
+ * The state of the random engine is captured by serializing it on the
+ * evolution thread, which is only possible for {@link java.io.Serializable}
+ * random engines. A resumed evolution is only deterministic if the evolution
+ * runs on one thread, e.g. with {@code Runnable::run} as engine executor.
+ *
+ * @see Checkpoint
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class CheckpointWriter<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>, Closeable
+{
+
+	/**
+	 * The default capacity of the checkpoint queue.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 2;
+
+	private final Path _path;
+	private final Path _temp;
+	private final long _generations;
+	private final long _intervalNanos;
+
+	private final BlockingQueue<Checkpoint<G, C>> _queue;
+	private final Thread _writer;
+
+	private final LongAdder _written = new LongAdder();
+	private final LongAdder _dropped = new LongAdder();
+	private final AtomicReference<IOException> _error = new AtomicReference<>();
+
+	private volatile boolean _closed = false;
+
+	// Accessed only by the evolution thread.
+	private long _lastGeneration = 0;
+	private long _lastNanos = System.nanoTime();
+
+	private CheckpointWriter(
+		final Path path,
+		final long generations,
+		final Duration interval,
+		final int queueCapacity
+	) {
+		if (generations < 1) {
+			throw new IllegalArgumentException(format(
+				"Generations must be greater than zero: %d.", generations
+			));
+		}
+		if (interval.isNegative() || interval.isZero()) {
+			throw new IllegalArgumentException(format(
+				"Interval must be positive: %s.", interval
+			));
+		}
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException(format(
+				"Queue capacity must be greater than zero: %d.", queueCapacity
+			));
+		}
+
+		_path = path.toAbsolutePath();
+		_temp = _path.resolveSibling(_path.getFileName() + ".tmp");
+		_generations = generations;
+		_intervalNanos = saturatedNanos(interval);
+		_queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		_writer = new Thread(this::run, "jenetics-checkpoint-writer");
+		_writer.setDaemon(true);
+		_writer.start();
+	}
+
+	private static long saturatedNanos(final Duration duration) {
+		try {
+			return duration.toNanos();
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Return the path of the written checkpoint file.
+	 *
+	 * @return the path of the checkpoint file
+	 */
+	public Path path() {
+		return _path;
+	}
+
+	/**
+	 * Return the number of successfully written checkpoints.
+	 *
+	 * @return the number of written checkpoints
+	 */
+	public long writtenCheckpoints() {
+		return _written.sum();
+	}
+
+	/**
+	 * Return the number of checkpoints, which has been dropped, because the
+	 * checkpoint queue was full.
+	 *
+	 * @return the number of dropped checkpoints
+	 */
+	public long droppedCheckpoints() {
+		return _dropped.sum();
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		final long now = System.nanoTime();
+		if (!_closed &&
+			(result.generation() - _lastGeneration >= _generations ||
+				now - _lastNanos >= _intervalNanos))
+		{
+			_lastGeneration = result.generation();
+			_lastNanos = now;
+
+			final Checkpoint<G, C> checkpoint = Checkpoint.of(result);
+			while (!_queue.offer(checkpoint)) {
+				if (_queue.poll() != null) {
+					_dropped.increment();
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private void run() {
+		try {
+			while (!_closed || !_queue.isEmpty()) {
+				final Checkpoint<G, C> checkpoint =
+					_queue.poll(100, MILLISECONDS);
+				if (checkpoint != null) {
+					write(checkpoint);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void write(final Checkpoint<G, C> checkpoint) {
+		try {
+			try (FileChannel channel = FileChannel.open(
+					_temp, CREATE, TRUNCATE_EXISTING, WRITE);
+				OutputStream out = Channels.newOutputStream(channel))
+			{
+				final BinaryWriter writer = BinaryIO.of(false).writer(out);
+				writer.write(checkpoint.result());
+				writer.write(checkpoint.randomState());
+				writer.finish();
+				channel.force(true);
+			}
+
+			try {
+				Files.move(_temp, _path, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(_temp, _path, StandardCopyOption.REPLACE_EXISTING);
+			}
+			_written.increment();
+		} catch (IOException e) {
+			_error.compareAndSet(null, e);
+		}
+	}
+
+	/**
+	 * Writes the outstanding checkpoints and stops the background writer.
+	 *
+	 * @throws IOException if writing one of the checkpoints failed
+	 */
+	@Override
+	public void close() throws IOException {
+		_closed = true;
+		try {
+			_writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		final IOException error = _error.get();
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"CheckpointWriter[path=%s, written=%d, dropped=%d]",
+			_path, writtenCheckpoints(), droppedCheckpoints()
+		);
+	}
+
+	/**
+	 * Create a new checkpoint writer.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time between two checkpoints
+	 * @param queueCapacity the maximal number of checkpoints, which are
+	 *        waiting to be written
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code generations} or the
+	 *         {@code queueCapacity} is smaller than one, or the
+	 *         {@code interval} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointWriter<G, C> of(
+		final Path path,
+		final long generations,
+		final Duration interval,
+		final int queueCapacity
+	) {
+		requireNonNull(path);
+		requireNonNull(interval);
+		return new CheckpointWriter<>(
+			path, generations, interval, queueCapacity
+		);
+	}
+
+	/**
+	 * Create a new checkpoint writer with the
+	 * {@link #DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code generations} is smaller
+	 *         than one, or the {@code interval} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointWriter<G, C>
+	of(final Path path, final long generations, final Duration interval) {
+		return of(path, generations, interval, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Create a new checkpoint writer, which writes a checkpoint every given
+	 * number of {@code generations}.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @param generations the number of generations between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IllegalArgumentException if the {@code generations} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointWriter<G, C> of(final Path path, final long generations) {
+		return of(path, generations, Duration.ofNanos(Long.MAX_VALUE));
+	}
+
+}
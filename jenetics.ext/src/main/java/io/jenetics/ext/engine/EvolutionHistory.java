@@ -0,0 +1,460 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionStatistics;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.internal.io.BinaryIO;
+
+/**
+ * Read access to an evolution history log, written by the
+ * {@link EvolutionHistoryWriter}. The log consists of a sequence of
+ * segments. Every segment contains the length prefixed
+ * {@link EvolutionSummary} records, in the compact binary format of
+ * {@link io.jenetics.util.IO#binary}, and an index file, which maps the
+ * generations to the record offsets. The segments are memory-mapped, which
+ * allows a fast random access to the summary of a given generation, and a
+ * streaming replay of the whole evolution history.
+ *
+ * <pre>{@code
+ * try (var history = EvolutionHistory.<DoubleGene, Double>open(directory)) {
+ *     final EvolutionStatistics<Double, ?> statistics =
+ *         EvolutionStatistics.ofNumber();
+ *
+ *     // Replay the logged evolution into the statistics object.
+ *     history.stream().forEach(statistics::accept);
+ *
+ *     // Random access to the summary of a given generation.
+ *     history.get(1_000_000).ifPresent(System.out::println);
+ * }
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. Incomplete records at the end of a segment,
+ * e.g. caused by a crash of the writing process, are ignored.
+ *
+ * @see EvolutionHistoryWriter
+ * @see EvolutionStatistics#accept(EvolutionSummary)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionHistory<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Closeable
+{
+
+	static final String LOG_SUFFIX = ".log";
+	static final String INDEX_SUFFIX = ".idx";
+
+	// Index entry: generation and record offset.
+	static final int INDEX_ENTRY_SIZE = 2*Long.BYTES;
+
+	private static final Pattern SEGMENT_NAME =
+		Pattern.compile("segment-(\\d{10})\\.log");
+
+	private static final BinaryIO BINARY = BinaryIO.of(false);
+
+	private final Path _directory;
+	private final List<Segment> _segments;
+	private final long _size;
+
+	private volatile boolean _closed = false;
+
+	private EvolutionHistory(
+		final Path directory,
+		final List<Segment> segments
+	) {
+		_directory = directory;
+		_segments = segments;
+		_size = segments.stream().mapToLong(s -> s.size).sum();
+	}
+
+	/**
+	 * Return the directory of the history log.
+	 *
+	 * @return the directory of the history log
+	 */
+	public Path directory() {
+		return _directory;
+	}
+
+	/**
+	 * Return the number of logged generations.
+	 *
+	 * @return the number of logged generations
+	 */
+	public long size() {
+		return _size;
+	}
+
+	/**
+	 * Return the first logged generation.
+	 *
+	 * @return the first logged generation, or {@link OptionalLong#empty()}
+	 *         if the log is empty
+	 */
+	public OptionalLong firstGeneration() {
+		return _segments.isEmpty()
+			? OptionalLong.empty()
+			: OptionalLong.of(_segments.get(0).generation(0));
+	}
+
+	/**
+	 * Return the last logged generation.
+	 *
+	 * @return the last logged generation, or {@link OptionalLong#empty()}
+	 *         if the log is empty
+	 */
+	public OptionalLong lastGeneration() {
+		if (_segments.isEmpty()) {
+			return OptionalLong.empty();
+		}
+
+		final Segment segment = _segments.get(_segments.size() - 1);
+		return OptionalLong.of(segment.generation(segment.size - 1));
+	}
+
+	/**
+	 * Return the evolution summary of the given {@code generation}.
+	 *
+	 * @param generation the generation of the desired summary
+	 * @return the evolution summary of the given generation, or
+	 *         {@link Optional#empty()} if it is not part of the log
+	 * @throws IllegalStateException if the history has been closed
+	 * @throws UncheckedIOException if the record can't be decoded
+	 */
+	public Optional<EvolutionSummary<G, C>> get(final long generation) {
+		checkOpen();
+
+		final int index = segment(generation);
+		if (index >= 0) {
+			final Segment segment = _segments.get(index);
+			final long entry = segment.entry(generation);
+			if (entry >= 0 && segment.generation(entry) == generation) {
+				return Optional.of(read(segment, entry));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Return a (sequential) stream of all logged evolution summaries,
+	 * ordered by generation.
+	 *
+	 * @return a stream of all logged evolution summaries
+	 * @throws IllegalStateException if the history has been closed
+	 */
+	public Stream<EvolutionSummary<G, C>> stream() {
+		return stream(Long.MIN_VALUE);
+	}
+
+	/**
+	 * Return a (sequential) stream of the logged evolution summaries, with a
+	 * generation greater or equal than the given {@code generation}.
+	 *
+	 * @param generation the first generation of the returned stream
+	 * @return a stream of the logged evolution summaries, starting with the
+	 *         given generation
+	 * @throws IllegalStateException if the history has been closed
+	 */
+	public Stream<EvolutionSummary<G, C>> stream(final long generation) {
+		checkOpen();
+
+		final int segment = Math.max(segment(generation), 0);
+		long entry = 0;
+		if (segment < _segments.size()) {
+			final Segment seg = _segments.get(segment);
+			entry = seg.entry(generation);
+			if (entry < 0) {
+				entry = 0;
+			} else if (seg.generation(entry) < generation) {
+				++entry;
+			}
+		}
+
+		return StreamSupport.stream(
+			new Replay(segment, entry),
+			false
+		);
+	}
+
+	// Return the index of the last segment, which starts at a generation less
+	// or equal the given one, or -1 if there is no such segment.
+	private int segment(final long generation) {
+		int low = 0;
+		int high = _segments.size() - 1;
+		int result = -1;
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			if (_segments.get(mid).generation(0) <= generation) {
+				result = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private EvolutionSummary<G, C>
+	read(final Segment segment, final long entry) {
+		return (EvolutionSummary<G, C>)segment.read(entry);
+	}
+
+	private void checkOpen() {
+		if (_closed) {
+			throw new IllegalStateException("Evolution history is closed.");
+		}
+	}
+
+	/**
+	 * Closes the history log. The memory-mapped segments are released, when
+	 * they are no longer referenced.
+	 */
+	@Override
+	public void close() {
+		_closed = true;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"EvolutionHistory[directory=%s, segments=%d, generations=%d]",
+			_directory, _segments.size(), _size
+		);
+	}
+
+	/* *************************************************************************
+	 * Helper classes.
+	 * ************************************************************************/
+
+	private final class Replay
+		extends Spliterators.AbstractSpliterator<EvolutionSummary<G, C>>
+	{
+		private int _segment;
+		private long _entry;
+
+		Replay(final int segment, final long entry) {
+			super(Long.MAX_VALUE, ORDERED | NONNULL | IMMUTABLE);
+			_segment = segment;
+			_entry = entry;
+		}
+
+		@Override
+		public boolean
+		tryAdvance(final Consumer<? super EvolutionSummary<G, C>> action) {
+			checkOpen();
+
+			while (_segment < _segments.size() &&
+				_entry >= _segments.get(_segment).size)
+			{
+				++_segment;
+				_entry = 0;
+			}
+
+			if (_segment < _segments.size()) {
+				action.accept(read(_segments.get(_segment), _entry++));
+				return true;
+			}
+
+			return false;
+		}
+	}
+
+	private static final class Segment {
+		private final ByteBuffer _index;
+		private final ByteBuffer _log;
+		private final long size;
+
+		private Segment(final ByteBuffer index, final ByteBuffer log) {
+			_index = index;
+			_log = log;
+
+			// Ignore incomplete entries and records at the end.
+			long entries = index.capacity()/INDEX_ENTRY_SIZE;
+			while (entries > 0 && !isComplete(entries - 1)) {
+				--entries;
+			}
+			size = entries;
+		}
+
+		private boolean isComplete(final long entry) {
+			final long offset = offset(entry);
+			return offset >= 0 &&
+				offset + Integer.BYTES <= _log.capacity() &&
+				offset + Integer.BYTES + _log.getInt((int)offset) <=
+					_log.capacity();
+		}
+
+		long generation(final long entry) {
+			return _index.getLong((int)(entry*INDEX_ENTRY_SIZE));
+		}
+
+		private long offset(final long entry) {
+			return _index.getLong((int)(entry*INDEX_ENTRY_SIZE + Long.BYTES));
+		}
+
+		// Return the index of the last entry with a generation less or equal
+		// the given one, or -1 if there is no such entry.
+		long entry(final long generation) {
+			long low = 0;
+			long high = size - 1;
+			long result = -1;
+			while (low <= high) {
+				final long mid = (low + high) >>> 1;
+				if (generation(mid) <= generation) {
+					result = mid;
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return result;
+		}
+
+		EvolutionSummary<?, ?> read(final long entry) {
+			final int offset = (int)offset(entry);
+			final ByteBuffer record = _log.duplicate();
+			record.position(offset + Integer.BYTES);
+			record.limit(offset + Integer.BYTES + _log.getInt(offset));
+
+			try {
+				final Object value = BINARY.reader(record).read();
+				if (!(value instanceof EvolutionSummary)) {
+					throw new StreamCorruptedException(format(
+						"Expected evolution summary, but got %s.", value
+					));
+				}
+
+				return (EvolutionSummary<?, ?>)value;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	static String segmentName(final int segment) {
+		return format("segment-%010d", segment);
+	}
+
+	// Return the sorted segment numbers of the given directory.
+	static List<Integer> segments(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(file -> file.getFileName().toString())
+				.map(SEGMENT_NAME::matcher)
+				.filter(Matcher::matches)
+				.map(matcher -> Integer.parseInt(matcher.group(1)))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Opens the evolution history log in the given {@code directory}. The
+	 * segments of the log, which has been written so far, are mapped into
+	 * memory.
+	 *
+	 * @param directory the directory of the history log
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the opened history log
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the history log can't be opened
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionHistory<G, C> open(final Path directory) throws IOException {
+		requireNonNull(directory);
+
+		final List<Segment> segments = new ArrayList<>();
+		for (int segment : segments(directory)) {
+			final String name = segmentName(segment);
+			final Segment seg = new Segment(
+				map(directory.resolve(name + INDEX_SUFFIX), INDEX_ENTRY_SIZE),
+				map(directory.resolve(name + LOG_SUFFIX), 1)
+			);
+			if (seg.size > 0) {
+				segments.add(seg);
+			}
+		}
+
+		return new EvolutionHistory<>(directory, segments);
+	}
+
+	private static ByteBuffer map(final Path path, final int unit)
+		throws IOException
+	{
+		if (!Files.exists(path)) {
+			return ByteBuffer.allocate(0);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, READ)) {
+			final long size = channel.size() - channel.size()%unit;
+			if (size > Integer.MAX_VALUE) {
+				throw new StreamCorruptedException(format(
+					"Segment file too large: %s.", path
+				));
+			}
+			return channel.map(READ_ONLY, 0, size);
+		}
+	}
+
+}
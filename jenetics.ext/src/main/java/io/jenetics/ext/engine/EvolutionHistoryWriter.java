@@ -0,0 +1,319 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.ext.engine.EvolutionHistory.INDEX_SUFFIX;
+import static io.jenetics.ext.engine.EvolutionHistory.LOG_SUFFIX;
+import static io.jenetics.ext.engine.EvolutionHistory.segmentName;
+import static io.jenetics.ext.engine.EvolutionHistory.segments;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.internal.io.BinaryIO;
+import io.jenetics.internal.io.BinaryWriter;
+
+/**
+ * Evolution interceptor, which appends the {@link EvolutionSummary} of every
+ * generation to an evolution history log. The log is written into the given
+ * directory, as a sequence of segments with a maximal size. Every segment
+ * consists of a log file, containing the length prefixed summary records,
+ * and an index file, which maps the generations to the record offsets.
+ * Existing segments are never modified. If the writer is opened on an
+ * existing log, it continues with a new segment.
+ *
+ * <pre>{@code
+ * try (var history = EvolutionHistoryWriter.<DoubleGene, Double>
+ *         of(Path.of("history")))
+ * {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(history)
+ *         .build();
+ *
+ *     final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *         .limit(10_000_000)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. The records are written synchronously, but
+ * buffered, by the evolution thread. The generations of the appended
+ * summaries must be strictly increasing.
+ *
+ * @see EvolutionHistory
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionHistoryWriter<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>, Closeable, Flushable
+{
+
+	/**
+	 * The default maximal size of a log segment: 64 MB.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64*1024*1024;
+
+	private static final int BUFFER_SIZE = 64*1024;
+
+	private static final BinaryIO BINARY = BinaryIO.of(false);
+
+	private final Path _directory;
+	private final int _segmentSize;
+
+	private final ByteArrayOutputStream _record = new ByteArrayOutputStream();
+
+	private int _segment;
+	private DataOutputStream _log;
+	private DataOutputStream _index;
+	private long _position;
+	private long _lastGeneration;
+	private boolean _closed = false;
+
+	private EvolutionHistoryWriter(
+		final Path directory,
+		final int segmentSize,
+		final int segment,
+		final long lastGeneration
+	) {
+		_directory = directory;
+		_segmentSize = segmentSize;
+		_segment = segment;
+		_lastGeneration = lastGeneration;
+	}
+
+	/**
+	 * Return the directory of the history log.
+	 *
+	 * @return the directory of the history log
+	 */
+	public Path directory() {
+		return _directory;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		try {
+			append(EvolutionSummary.of(result));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Appends the given evolution {@code summary} to the history log.
+	 *
+	 * @param summary the evolution summary to append
+	 * @throws NullPointerException if the given {@code summary} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the generation of the given
+	 *         {@code summary} is not greater than the last appended one
+	 * @throws IllegalStateException if the writer has been closed
+	 * @throws IOException if writing the summary fails
+	 */
+	public synchronized void append(final EvolutionSummary<G, C> summary)
+		throws IOException
+	{
+		requireNonNull(summary);
+		if (_closed) {
+			throw new IllegalStateException("History writer is closed.");
+		}
+		if (summary.generation() <= _lastGeneration) {
+			throw new IllegalArgumentException(format(
+				"Generation %d must be greater than the last generation %d.",
+				summary.generation(), _lastGeneration
+			));
+		}
+
+		_record.reset();
+		final BinaryWriter writer = BINARY.writer(_record);
+		writer.write(summary);
+		writer.finish();
+
+		final int length = Integer.BYTES + _record.size();
+		if (_log == null ||
+			_position > 0 && _position + length > _segmentSize)
+		{
+			roll();
+		}
+
+		_log.writeInt(_record.size());
+		_record.writeTo(_log);
+		_index.writeLong(summary.generation());
+		_index.writeLong(_position);
+
+		_position += length;
+		_lastGeneration = summary.generation();
+	}
+
+	private void roll() throws IOException {
+		closeSegment();
+
+		final String name = segmentName(++_segment);
+		_log = open(_directory.resolve(name + LOG_SUFFIX));
+		_index = open(_directory.resolve(name + INDEX_SUFFIX));
+		_position = 0;
+	}
+
+	private static DataOutputStream open(final Path path) throws IOException {
+		return new DataOutputStream(new BufferedOutputStream(
+			Files.newOutputStream(path, CREATE_NEW, WRITE),
+			BUFFER_SIZE
+		));
+	}
+
+	private void closeSegment() throws IOException {
+		try {
+			if (_log != null) {
+				_log.close();
+			}
+		} finally {
+			if (_index != null) {
+				_index.close();
+			}
+			_log = null;
+			_index = null;
+		}
+	}
+
+	/**
+	 * Flushes the buffered records to the segment files.
+	 *
+	 * @throws IOException if flushing the records fails
+	 */
+	@Override
+	public synchronized void flush() throws IOException {
+		// The log must be flushed before the index.
+		if (_log != null) {
+			_log.flush();
+			_index.flush();
+		}
+	}
+
+	/**
+	 * Flushes and closes the current segment files.
+	 *
+	 * @throws IOException if closing the segment files fails
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!_closed) {
+			_closed = true;
+			closeSegment();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("EvolutionHistoryWriter[directory=%s]", _directory);
+	}
+
+	/**
+	 * Create a new evolution history writer for the given {@code directory}.
+	 * If the directory already contains a history log, the new summaries are
+	 * appended in a new segment.
+	 *
+	 * @param directory the directory of the history log
+	 * @param segmentSize the maximal size of a log segment, in bytes. A
+	 *        segment may be bigger, if it contains only one record.
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new evolution history writer
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code segmentSize} is
+	 *         smaller than one
+	 * @throws IOException if the directory can't be created or read
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionHistoryWriter<G, C>
+	of(final Path directory, final int segmentSize) throws IOException {
+		requireNonNull(directory);
+		if (segmentSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Segment size must be greater than zero: %d.", segmentSize
+			));
+		}
+
+		Files.createDirectories(directory);
+		final List<Integer> segments = segments(directory);
+
+		int segment = -1;
+		long lastGeneration = Long.MIN_VALUE;
+		if (!segments.isEmpty()) {
+			segment = segments.get(segments.size() - 1);
+			try (var history = EvolutionHistory.open(directory)) {
+				lastGeneration = history.lastGeneration()
+					.orElse(Long.MIN_VALUE);
+			}
+		}
+
+		return new EvolutionHistoryWriter<>(
+			directory,
+			segmentSize,
+			segment,
+			lastGeneration
+		);
+	}
+
+	/**
+	 * Create a new evolution history writer for the given {@code directory},
+	 * with a maximal segment size of {@link #DEFAULT_SEGMENT_SIZE}.
+	 *
+	 * @param directory the directory of the history log
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new evolution history writer
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the directory can't be created or read
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionHistoryWriter<G, C> of(final Path directory) throws IOException {
+		return of(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+}
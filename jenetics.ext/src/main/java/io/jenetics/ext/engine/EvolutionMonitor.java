@@ -0,0 +1,499 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvaluationLatencies;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.MeteredExecutor;
+import io.jenetics.stat.LatencyHistogram;
+
+/**
+ * Evolution interceptor, which exposes the live metrics of a running
+ * evolution as JMX MBean. The monitor is registered at the platform
+ * {@link MBeanServer} with the object name
+ * {@code io.jenetics:type=EvolutionMonitor,name=<name>} and is unregistered
+ * when closed.
+ *
+ * <pre>{@code
+ * try (var monitor = EvolutionMonitor.<DoubleGene, Double>register(
+ *         "tsp", executor))
+ * {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .executor(executor)
+ *         .interceptor(monitor)
+ *         .build();
+ *
+ *     final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *         .limit(1_000_000)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }</pre>
+ *
+ * The number of fitness evaluations is taken from the
+ * {@link EvolutionResult#evaluationLatencies()}, if recorded. Otherwise, it
+ * is estimated by the number of individuals created in the current
+ * generation. These are the altered offspring and the individuals which
+ * replaced the killed and invalid ones.
+ *
+ * @implNote
+ * The metrics are updated by the evolution thread, which publishes an
+ * immutable snapshot of the metrics via a volatile field. Reading the MBean
+ * attributes never blocks the evolution thread. The rates and phase duration
+ * percentiles are only recalculated once per refresh interval. One monitor
+ * instance should only be used for one evolution stream at a time.
+ *
+ * @see EvolutionMonitorMXBean
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionMonitor<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>, EvolutionMonitorMXBean, Closeable
+{
+
+	/**
+	 * The default interval for recalculating the rates and percentiles.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL =
+		Duration.ofSeconds(1);
+
+	private static final double[] PERCENTILES = {50, 90, 99};
+
+	// Immutable metrics snapshot.
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(
+			0, "", "", 0, 0, 0, 0, Map.of()
+		);
+
+		final long generation;
+		final String bestFitness;
+		final String worstFitness;
+		final double generationsPerSecond;
+		final double evaluationsPerSecond;
+		final double killRate;
+		final double invalidRate;
+		final Map<String, Double> phaseDurations;
+
+		Snapshot(
+			final long generation,
+			final String bestFitness,
+			final String worstFitness,
+			final double generationsPerSecond,
+			final double evaluationsPerSecond,
+			final double killRate,
+			final double invalidRate,
+			final Map<String, Double> phaseDurations
+		) {
+			this.generation = generation;
+			this.bestFitness = bestFitness;
+			this.worstFitness = worstFitness;
+			this.generationsPerSecond = generationsPerSecond;
+			this.evaluationsPerSecond = evaluationsPerSecond;
+			this.killRate = killRate;
+			this.invalidRate = invalidRate;
+			this.phaseDurations = phaseDurations;
+		}
+	}
+
+	private final ObjectName _name;
+	private final Executor _executor;
+	private final long _refreshNanos;
+
+	private volatile Snapshot _snapshot = Snapshot.EMPTY;
+
+	// Accessed only by the evolution thread.
+	private final LatencyHistogram _selection = new LatencyHistogram();
+	private final LatencyHistogram _alter = new LatencyHistogram();
+	private final LatencyHistogram _filter = new LatencyHistogram();
+	private final LatencyHistogram _evaluation = new LatencyHistogram();
+	private final LatencyHistogram _evolve = new LatencyHistogram();
+	private long _windowStart = System.nanoTime();
+	private long _windowGenerations = 0;
+	private long _windowEvaluations = 0;
+	private long _windowIndividuals = 0;
+	private long _windowKills = 0;
+	private long _windowInvalids = 0;
+
+	private EvolutionMonitor(
+		final ObjectName name,
+		final Executor executor,
+		final Duration refresh
+	) {
+		if (refresh.isNegative()) {
+			throw new IllegalArgumentException(format(
+				"Refresh interval must not be negative: %s.", refresh
+			));
+		}
+
+		_name = requireNonNull(name);
+		_executor = executor instanceof MeteredExecutor
+			? ((MeteredExecutor)executor).executor()
+			: executor;
+		_refreshNanos = refresh.toNanos();
+	}
+
+	/**
+	 * Return the object name, this monitor is registered with.
+	 *
+	 * @return the object name of the monitor MBean
+	 */
+	public ObjectName objectName() {
+		return _name;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		final EvolutionDurations durations = result.durations();
+		_selection.accept(
+			durations.offspringSelectionDuration()
+				.plus(durations.survivorsSelectionDuration())
+		);
+		_alter.accept(durations.offspringAlterDuration());
+		_filter.accept(
+			durations.offspringFilterDuration()
+				.plus(durations.survivorFilterDuration())
+		);
+		_evaluation.accept(durations.evaluationDuration());
+		_evolve.accept(durations.evolveDuration());
+
+		++_windowGenerations;
+		_windowEvaluations += result.evaluationLatencies()
+			.map(EvaluationLatencies::count)
+			.orElseGet(() -> created(result));
+		_windowIndividuals += result.population().size();
+		_windowKills += result.killCount();
+		_windowInvalids += result.invalidCount();
+
+		final Snapshot previous = _snapshot;
+		final long now = System.nanoTime();
+		final long elapsed = now - _windowStart;
+
+		if (elapsed >= _refreshNanos || previous == Snapshot.EMPTY) {
+			final double seconds = Math.max(elapsed, 1)/1_000_000_000.0;
+			_snapshot = snapshot(
+				result,
+				_windowGenerations/seconds,
+				_windowEvaluations/seconds,
+				rate(_windowKills, _windowIndividuals),
+				rate(_windowInvalids, _windowIndividuals),
+				phaseDurations()
+			);
+
+			_windowStart = now;
+			_windowGenerations = 0;
+			_windowEvaluations = 0;
+			_windowIndividuals = 0;
+			_windowKills = 0;
+			_windowInvalids = 0;
+		} else {
+			_snapshot = snapshot(
+				result,
+				previous.generationsPerSecond,
+				previous.evaluationsPerSecond,
+				previous.killRate,
+				previous.invalidRate,
+				previous.phaseDurations
+			);
+		}
+
+		return result;
+	}
+
+	private Snapshot snapshot(
+		final EvolutionResult<G, C> result,
+		final double generationsPerSecond,
+		final double evaluationsPerSecond,
+		final double killRate,
+		final double invalidRate,
+		final Map<String, Double> phaseDurations
+	) {
+		return new Snapshot(
+			result.generation(),
+			String.valueOf(result.bestFitness()),
+			String.valueOf(result.worstFitness()),
+			generationsPerSecond,
+			evaluationsPerSecond,
+			killRate,
+			invalidRate,
+			phaseDurations
+		);
+	}
+
+	// Return the number of individuals, created in the current generation.
+	// These individuals have been evaluated in the current generation.
+	private static int created(final EvolutionResult<?, ?> result) {
+		int count = 0;
+		for (Phenotype<?, ?> pt : result.population()) {
+			if (pt.generation() == result.generation()) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private static double rate(final long count, final long total) {
+		return total > 0 ? (double)count/total : 0.0;
+	}
+
+	private Map<String, Double> phaseDurations() {
+		final Map<String, Double> durations = new TreeMap<>();
+		percentiles("selection", _selection, durations);
+		percentiles("alter", _alter, durations);
+		percentiles("filter", _filter, durations);
+		percentiles("evaluation", _evaluation, durations);
+		percentiles("evolve", _evolve, durations);
+		return Map.copyOf(durations);
+	}
+
+	private static void percentiles(
+		final String phase,
+		final LatencyHistogram histogram,
+		final Map<String, Double> durations
+	) {
+		for (double percentile : PERCENTILES) {
+			durations.put(
+				format("%s.p%d", phase, (int)percentile),
+				histogram.percentile(percentile).toNanos()/1_000_000.0
+			);
+		}
+	}
+
+	@Override
+	public long getGeneration() {
+		return _snapshot.generation;
+	}
+
+	@Override
+	public String getBestFitness() {
+		return _snapshot.bestFitness;
+	}
+
+	@Override
+	public String getWorstFitness() {
+		return _snapshot.worstFitness;
+	}
+
+	@Override
+	public double getGenerationsPerSecond() {
+		return _snapshot.generationsPerSecond;
+	}
+
+	@Override
+	public double getEvaluationsPerSecond() {
+		return _snapshot.evaluationsPerSecond;
+	}
+
+	@Override
+	public double getKillRate() {
+		return _snapshot.killRate;
+	}
+
+	@Override
+	public double getInvalidRate() {
+		return _snapshot.invalidRate;
+	}
+
+	@Override
+	public Map<String, Double> getPhaseDurations() {
+		return _snapshot.phaseDurations;
+	}
+
+	@Override
+	public double getPoolOccupancy() {
+		if (_executor instanceof ForkJoinPool) {
+			final ForkJoinPool pool = (ForkJoinPool)_executor;
+			return (double)pool.getActiveThreadCount()/pool.getParallelism();
+		} else if (_executor instanceof ThreadPoolExecutor) {
+			final ThreadPoolExecutor pool = (ThreadPoolExecutor)_executor;
+			final int size = pool.getMaximumPoolSize();
+			return size > 0 ? (double)pool.getActiveCount()/size : Double.NaN;
+		} else {
+			return Double.NaN;
+		}
+	}
+
+	@Override
+	public int getActiveThreads() {
+		if (_executor instanceof ForkJoinPool) {
+			return ((ForkJoinPool)_executor).getActiveThreadCount();
+		} else if (_executor instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor)_executor).getActiveCount();
+		} else {
+			return -1;
+		}
+	}
+
+	@Override
+	public long getQueuedTasks() {
+		if (_executor instanceof ForkJoinPool) {
+			final ForkJoinPool pool = (ForkJoinPool)_executor;
+			return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+		} else if (_executor instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor)_executor).getQueue().size();
+		} else {
+			return -1;
+		}
+	}
+
+	/**
+	 * Unregisters the monitor MBean from the platform MBean server.
+	 */
+	@Override
+	public void close() {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(_name)) {
+				server.unregisterMBean(_name);
+			}
+		} catch (JMException ignore) {
+			// The MBean has been unregistered concurrently.
+		}
+	}
+
+	@Override
+	public String toString() {
+		final Snapshot snapshot = _snapshot;
+		return format(
+			"EvolutionMonitor[name=%s, generation=%d, best=%s, " +
+			"generations/s=%.2f, evaluations/s=%.2f]",
+			_name, snapshot.generation, snapshot.bestFitness,
+			snapshot.generationsPerSecond, snapshot.evaluationsPerSecond
+		);
+	}
+
+	/**
+	 * Create a new evolution monitor and register it at the platform MBean
+	 * server.
+	 *
+	 * @param name the name of the monitor, which is part of the MBean object
+	 *        name
+	 * @param executor the monitored executor, used for the thread pool
+	 *        metrics. The metrics are available for {@link ForkJoinPool}s
+	 *        and {@link ThreadPoolExecutor}s, also when decorated by a
+	 *        {@link MeteredExecutor}.
+	 * @param refresh the interval for recalculating the rates and the phase
+	 *        duration percentiles
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new, registered, evolution monitor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code name} is not valid, a
+	 *         monitor with the given name is already registered or the
+	 *         {@code refresh} interval is negative
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionMonitor<G, C> register(
+		final String name,
+		final Executor executor,
+		final Duration refresh
+	) {
+		requireNonNull(name);
+		requireNonNull(executor);
+		requireNonNull(refresh);
+
+		try {
+			final EvolutionMonitor<G, C> monitor = new EvolutionMonitor<>(
+				new ObjectName(format(
+					"io.jenetics:type=EvolutionMonitor,name=%s",
+					ObjectName.quote(name)
+				)),
+				executor,
+				refresh
+			);
+
+			ManagementFactory.getPlatformMBeanServer()
+				.registerMBean(monitor, monitor._name);
+			return monitor;
+		} catch (JMException e) {
+			throw new IllegalArgumentException(format(
+				"Can't register evolution monitor '%s': %s",
+				name, e.getMessage()
+			), e);
+		}
+	}
+
+	/**
+	 * Create a new evolution monitor, with the
+	 * {@link #DEFAULT_REFRESH_INTERVAL}, and register it at the platform
+	 * MBean server.
+	 *
+	 * @param name the name of the monitor, which is part of the MBean object
+	 *        name
+	 * @param executor the monitored executor, used for the thread pool
+	 *        metrics
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new, registered, evolution monitor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code name} is not valid or a
+	 *         monitor with the given name is already registered
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionMonitor<G, C>
+	register(final String name, final Executor executor) {
+		return register(name, executor, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Create a new evolution monitor, for an engine with the default
+	 * executor, and register it at the platform MBean server.
+	 *
+	 * @param name the name of the monitor, which is part of the MBean object
+	 *        name
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new, registered, evolution monitor
+	 * @throws NullPointerException if the {@code name} is {@code null}
+	 * @throws IllegalArgumentException if the {@code name} is not valid or a
+	 *         monitor with the given name is already registered
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionMonitor<G, C> register(final String name) {
+		return register(name, ForkJoinPool.commonPool());
+	}
+
+}
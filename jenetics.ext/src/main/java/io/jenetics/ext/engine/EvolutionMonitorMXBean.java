@@ -0,0 +1,127 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link EvolutionMonitor}. The attributes show
+ * the live state of a running evolution in every JMX client, like
+ * <em>JConsole</em> or <em>VisualVM</em>.
+ *
+ * @see EvolutionMonitor
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public interface EvolutionMonitorMXBean {
+
+	/**
+	 * Return the last evolved generation.
+	 *
+	 * @return the last evolved generation, or zero if no generation has been
+	 *         evolved yet
+	 */
+	long getGeneration();
+
+	/**
+	 * Return the best fitness of the last evolved generation, as string.
+	 *
+	 * @return the best fitness of the last generation, or the empty string if
+	 *         no generation has been evolved yet
+	 */
+	String getBestFitness();
+
+	/**
+	 * Return the worst fitness of the last evolved generation, as string.
+	 *
+	 * @return the worst fitness of the last generation, or the empty string if
+	 *         no generation has been evolved yet
+	 */
+	String getWorstFitness();
+
+	/**
+	 * Return the number of evolved generations per second, measured within
+	 * the last refresh interval.
+	 *
+	 * @return the number of generations per second
+	 */
+	double getGenerationsPerSecond();
+
+	/**
+	 * Return the number of fitness evaluations per second, measured within
+	 * the last refresh interval.
+	 *
+	 * @return the number of fitness evaluations per second
+	 */
+	double getEvaluationsPerSecond();
+
+	/**
+	 * Return the fraction of individuals, which has been killed because of
+	 * their age, measured within the last refresh interval.
+	 *
+	 * @return the fraction of killed individuals
+	 */
+	double getKillRate();
+
+	/**
+	 * Return the fraction of invalid individuals, measured within the last
+	 * refresh interval.
+	 *
+	 * @return the fraction of invalid individuals
+	 */
+	double getInvalidRate();
+
+	/**
+	 * Return the percentiles of the evolution phase durations, in
+	 * milliseconds. The keys have the form {@code <phase>.p<percentile>},
+	 * e.g. {@code evaluation.p99}, where the phase is one of
+	 * {@code selection}, {@code alter}, {@code filter}, {@code evaluation}
+	 * and {@code evolve}.
+	 *
+	 * @return the percentiles of the phase durations
+	 */
+	Map<String, Double> getPhaseDurations();
+
+	/**
+	 * Return the fraction of busy threads of the monitored executor.
+	 *
+	 * @return the fraction of busy threads, or {@link Double#NaN} if not
+	 *         available
+	 */
+	double getPoolOccupancy();
+
+	/**
+	 * Return the number of busy threads of the monitored executor.
+	 *
+	 * @return the number of busy threads, or -1 if not available
+	 */
+	int getActiveThreads();
+
+	/**
+	 * Return the number of tasks, which are waiting for execution in the
+	 * monitored executor.
+	 *
+	 * @return the number of waiting tasks, or -1 if not available
+	 */
+	long getQueuedTasks();
+
+}
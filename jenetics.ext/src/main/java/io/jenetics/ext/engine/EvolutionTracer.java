@@ -0,0 +1,348 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.engine.SpanSink;
+
+/**
+ * Writes the timeline of the traced evolution engines as file in the
+ * <em>Chrome trace-event</em> JSON format. An engine is traced by attaching
+ * the tracer as {@link SpanSink} to the engine builder. The trace contains
+ * one span for every evolution step ({@code evolve}), its phases
+ * ({@code offspring-selection}, {@code survivors-selection},
+ * {@code offspring-alter}, {@code offspring-filter}, {@code survivor-filter}
+ * and {@code evaluation}) and the task batches ({@code batch}), executed by
+ * the worker threads of the engine executors. The written file can be opened
+ * with {@code chrome://tracing} or <em>Perfetto</em>, which shows how the
+ * phases overlap on the different threads and where the critical path of
+ * an evolution step is.
+ *
+ * <pre>{@code
+ * try (var tracer = EvolutionTracer.start(Path.of("evolution.json"))) {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .spanSink(tracer)
+ *         .build();
+ *
+ *     final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *         .limit(100)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }</pre>
+ *
+ * Every span has the {@code id}, {@code parent} and {@code generation}
+ * arguments. The parent of a phase is its evolution step and the parent of a
+ * task batch is the phase, which submitted the batch.
+ *
+ * @implNote
+ * The tracer only records the spans of the engines it is attached to. More
+ * than one tracer can be running at the same time. The evolution threads
+ * only hand over the recorded spans to a bounded queue, which is
+ * drained by a background thread writing the buffered trace file. If the
+ * writer can't keep up, new spans are dropped instead of blocking the
+ * evolution.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionTracer implements SpanSink, Closeable {
+
+	/**
+	 * The default capacity of the span queue.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 64*1024;
+
+	private static final class Span {
+		final String name;
+		final long id;
+		final long parent;
+		final long generation;
+		final long start;
+		final long end;
+		final long threadId;
+		final String threadName;
+
+		Span(
+			final String name,
+			final long id,
+			final long parent,
+			final long generation,
+			final long start,
+			final long end,
+			final Thread thread
+		) {
+			this.name = name;
+			this.id = id;
+			this.parent = parent;
+			this.generation = generation;
+			this.start = start;
+			this.end = end;
+			this.threadId = thread.getId();
+			this.threadName = thread.getName();
+		}
+	}
+
+	private final Path _path;
+	private final Writer _out;
+	private final BlockingQueue<Span> _queue;
+	private final long _origin = System.nanoTime();
+	private final long _pid = ProcessHandle.current().pid();
+	private final Thread _writer;
+
+	private final LongAdder _written = new LongAdder();
+	private final LongAdder _dropped = new LongAdder();
+	private final AtomicReference<IOException> _error = new AtomicReference<>();
+
+	private volatile boolean _closed = false;
+
+	// Accessed only by the writer thread.
+	private final Set<Long> _threads = new HashSet<>();
+	private boolean _first = true;
+
+	private EvolutionTracer(
+		final Path path,
+		final Writer out,
+		final int queueCapacity
+	) {
+		_path = path;
+		_out = out;
+		_queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		_writer = new Thread(this::run, "jenetics-evolution-tracer");
+		_writer.setDaemon(true);
+	}
+
+	/**
+	 * Return the path of the written trace file.
+	 *
+	 * @return the path of the trace file
+	 */
+	public Path path() {
+		return _path;
+	}
+
+	/**
+	 * Return the number of written spans.
+	 *
+	 * @return the number of written spans
+	 */
+	public long writtenSpans() {
+		return _written.sum();
+	}
+
+	/**
+	 * Return the number of spans, which has been dropped, because the span
+	 * queue was full.
+	 *
+	 * @return the number of dropped spans
+	 */
+	public long droppedSpans() {
+		return _dropped.sum();
+	}
+
+	@Override
+	public void span(
+		final String name,
+		final long id,
+		final long parent,
+		final long generation,
+		final long start,
+		final long end,
+		final Thread thread
+	) {
+		if (_closed) {
+			return;
+		}
+
+		final Span span = new Span(
+			name, id, parent, generation, start, end, thread
+		);
+		if (!_queue.offer(span)) {
+			_dropped.increment();
+		}
+	}
+
+	private void run() {
+		try {
+			_out.write("{\"traceEvents\":[\n");
+			while (!_closed || !_queue.isEmpty()) {
+				final Span span = _queue.poll(100, MILLISECONDS);
+				if (span != null) {
+					write(span);
+				}
+			}
+			_out.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+		} catch (IOException e) {
+			_error.compareAndSet(null, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				_out.close();
+			} catch (IOException e) {
+				_error.compareAndSet(null, e);
+			}
+		}
+	}
+
+	private void write(final Span span) throws IOException {
+		if (_threads.add(span.threadId)) {
+			event(format(
+				"{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":%d," +
+				"\"tid\":%d,\"args\":{\"name\":\"%s\"}}",
+				_pid, span.threadId, escape(span.threadName)
+			));
+		}
+
+		event(format(
+			Locale.ROOT,
+			"{\"name\":\"%s\",\"cat\":\"jenetics\",\"ph\":\"X\"," +
+			"\"ts\":%.3f,\"dur\":%.3f,\"pid\":%d,\"tid\":%d," +
+			"\"args\":{\"id\":%d,\"parent\":%d,\"generation\":%d}}",
+			escape(span.name),
+			(span.start - _origin)/1000.0,
+			(span.end - span.start)/1000.0,
+			_pid,
+			span.threadId,
+			span.id,
+			span.parent,
+			span.generation
+		));
+		_written.increment();
+	}
+
+	private void event(final String event) throws IOException {
+		if (!_first) {
+			_out.write(",\n");
+		}
+		_out.write(event);
+		_first = false;
+	}
+
+	private static String escape(final String value) {
+		final StringBuilder out = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); ++i) {
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.append('\\').append(c);
+			} else if (c < 0x20) {
+				out.append(format("\\u%04x", (int)c));
+			} else {
+				out.append(c);
+			}
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Stops the tracing, writes the outstanding spans and closes the trace
+	 * file.
+	 *
+	 * @throws IOException if writing the trace file failed
+	 */
+	@Override
+	public void close() throws IOException {
+		_closed = true;
+		try {
+			_writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		final IOException error = _error.get();
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"EvolutionTracer[path=%s, written=%d, dropped=%d]",
+			_path, writtenSpans(), droppedSpans()
+		);
+	}
+
+	/**
+	 * Starts a new tracer, which writes the spans of the evolution engines
+	 * into the given trace file.
+	 *
+	 * @param path the path of the written trace file
+	 * @param queueCapacity the maximal number of spans, which are waiting to
+	 *        be written
+	 * @return a new, running, evolution tracer
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IllegalArgumentException if the {@code queueCapacity} is smaller
+	 *         than one
+	 * @throws IOException if the trace file can't be created
+	 */
+	public static EvolutionTracer start(
+		final Path path,
+		final int queueCapacity
+	)
+		throws IOException
+	{
+		requireNonNull(path);
+		if (queueCapacity < 1) {
+			throw new IllegalArgumentException(format(
+				"Queue capacity must be greater than zero: %d.", queueCapacity
+			));
+		}
+
+		final BufferedWriter out = Files.newBufferedWriter(path, UTF_8);
+		final EvolutionTracer tracer =
+			new EvolutionTracer(path, out, queueCapacity);
+		tracer._writer.start();
+		return tracer;
+	}
+
+	/**
+	 * Starts a new tracer, which writes the spans of the evolution engines
+	 * into the given trace file, with the {@link #DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param path the path of the written trace file
+	 * @return a new, running, evolution tracer
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IOException if the trace file can't be created
+	 */
+	public static EvolutionTracer start(final Path path) throws IOException {
+		return start(path, DEFAULT_QUEUE_CAPACITY);
+	}
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.LazyStore;
+import io.jenetics.internal.io.BinaryIO;
+import io.jenetics.internal.io.BinaryWriter;
+import io.jenetics.util.ISeq;
+
+/**
+ * Memory-mapped population snapshot, which allows a fast <em>warm start</em>
+ * of an evolution from very large population files. Opening a snapshot only
+ * reads the file header. The individuals are decoded lazily, when they are
+ * accessed by the evolution {@link io.jenetics.engine.Engine}. Only the
+ * touched pages of the file are loaded into memory, and since the mapping
+ * is read-only, the operating system is free to release them again.
+ *
+ * <pre>{@code
+ * // Writing the population of the last generation.
+ * PopulationSnapshot.write(Path.of("population.snapshot"), result.next());
+ *
+ * // Resume the evolution from the written snapshot.
+ * try (var snapshot = PopulationSnapshot.<DoubleGene, Double>
+ *         open(Path.of("population.snapshot")))
+ * {
+ *     final EvolutionResult<DoubleGene, Double> best = engine
+ *         .stream(snapshot.toEvolutionStart())
+ *         .limit(100)
+ *         .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ * }</pre>
+ *
+ * The snapshot file consists of a fixed size header, the offset table of the
+ * individuals and the individuals itself. Every individual is stored as
+ * self-contained record in the compact binary format of
+ * {@link io.jenetics.util.IO#binary}, which allows to decode it
+ * independently of the other individuals.
+ *
+ * @implNote
+ * This class is thread-safe. The file is mapped in segments of limited size,
+ * which allows to map files larger than 2 GB. The segments are only mapped
+ * when needed.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class PopulationSnapshot<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Closeable
+{
+
+	private static final int MAGIC = 0x4A504F50; // "JPOP"
+	private static final byte VERSION = 1;
+
+	// Magic, version, generation, population size and maximal record size.
+	private static final int HEADER_SIZE = 4 + 1 + 8 + 4 + 4;
+
+	static final int SEGMENT_SIZE = 1 << 28;
+
+	private static final BinaryIO BINARY = BinaryIO.of(false);
+
+	private final Path _path;
+	private final FileChannel _channel;
+	private final long _fileSize;
+	private final long _generation;
+	private final int _size;
+	private final int _segmentSize;
+	private final int _overlap;
+	private final AtomicReferenceArray<ByteBuffer> _segments;
+
+	private final ISeq<Phenotype<G, C>> _population;
+
+	private PopulationSnapshot(
+		final Path path,
+		final FileChannel channel,
+		final long fileSize,
+		final long generation,
+		final int size,
+		final int maxRecordSize,
+		final int segmentSize
+	) {
+		_path = path;
+		_channel = channel;
+		_fileSize = fileSize;
+		_generation = generation;
+		_size = size;
+		_segmentSize = segmentSize;
+		_overlap = Math.max(maxRecordSize, Long.BYTES);
+		_segments = new AtomicReferenceArray<>(
+			(int)((fileSize + segmentSize - 1)/segmentSize)
+		);
+
+		_population = new ArrayISeq<>(
+			Array.of(LazyStore.of(this::phenotype, size)).seal()
+		);
+	}
+
+	/**
+	 * Return the path of the snapshot file.
+	 *
+	 * @return the path of the snapshot file
+	 */
+	public Path path() {
+		return _path;
+	}
+
+	/**
+	 * Return the generation of the stored population.
+	 *
+	 * @return the generation of the stored population
+	 */
+	public long generation() {
+		return _generation;
+	}
+
+	/**
+	 * Return the number of stored individuals.
+	 *
+	 * @return the number of stored individuals
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the stored population. The individuals are decoded, when they
+	 * are accessed the first time.
+	 *
+	 * @return the lazily decoded population
+	 * @throws UncheckedIOException if an accessed individual can't be
+	 *         decoded
+	 */
+	public ISeq<Phenotype<G, C>> population() {
+		return _population;
+	}
+
+	/**
+	 * Return the evolution start object, which contains the lazily decoded
+	 * population of this snapshot.
+	 *
+	 * @return the evolution start object of this snapshot
+	 */
+	public EvolutionStart<G, C> toEvolutionStart() {
+		return EvolutionStart.of(_population, _generation);
+	}
+
+	/**
+	 * Return the evolution init object, which contains the lazily decoded
+	 * genotypes of this snapshot. The stored fitness values are ignored and
+	 * the individuals are evaluated again.
+	 *
+	 * @return the evolution init object of this snapshot
+	 */
+	public EvolutionInit<G> toEvolutionInit() {
+		final ISeq<Genotype<G>> genotypes = new ArrayISeq<>(
+			Array.of(LazyStore.of(i -> _population.get(i).genotype(), _size))
+				.seal()
+		);
+
+		return EvolutionInit.of(genotypes, _generation);
+	}
+
+	private Phenotype<G, C> phenotype(final int index) {
+		final long start = offset(index);
+		final long end = offset(index + 1);
+		if (start < HEADER_SIZE || end < start || end - start > _overlap) {
+			throw new UncheckedIOException(new StreamCorruptedException(format(
+				"Invalid record offsets [%d, %d) of individual %d.",
+				start, end, index
+			)));
+		}
+
+		try {
+			final Object value = BINARY
+				.reader(slice(start, (int)(end - start)))
+				.read();
+
+			if (!(value instanceof Phenotype)) {
+				throw new StreamCorruptedException(format(
+					"Expected phenotype at index %d, but got %s.",
+					index, value
+				));
+			}
+
+			@SuppressWarnings("unchecked")
+			final var pt = (Phenotype<G, C>)value;
+			return pt;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private long offset(final int index) {
+		return slice(HEADER_SIZE + (long)index*Long.BYTES, Long.BYTES)
+			.getLong();
+	}
+
+	// Every record lies completely within the overlapping part of a segment.
+	private ByteBuffer slice(final long position, final int length) {
+		final int index = (int)(position/_segmentSize);
+		final int local = (int)(position - (long)index*_segmentSize);
+
+		final ByteBuffer slice = segment(index).duplicate();
+		slice.position(local);
+		slice.limit(local + length);
+		return slice;
+	}
+
+	private ByteBuffer segment(final int index) {
+		ByteBuffer segment = _segments.get(index);
+		if (segment == null) {
+			final long position = (long)index*_segmentSize;
+			final long size = Math.min(
+				_fileSize - position,
+				(long)_segmentSize + _overlap
+			);
+
+			try {
+				_segments.compareAndSet(
+					index,
+					null,
+					_channel.map(READ_ONLY, position, size)
+				);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			segment = _segments.get(index);
+		}
+
+		return segment;
+	}
+
+	/**
+	 * Closes the underlying file channel. Already decoded individuals are
+	 * still accessible after closing the snapshot.
+	 *
+	 * @throws IOException if closing the file channel fails
+	 */
+	@Override
+	public void close() throws IOException {
+		for (int i = 0; i < _segments.length(); ++i) {
+			_segments.set(i, null);
+		}
+		_channel.close();
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"PopulationSnapshot[path=%s, generation=%d, size=%d]",
+			_path, _generation, _size
+		);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Opens the population snapshot file, written by the
+	 * {@link #write(Path, EvolutionStart)} method. Only the header of the
+	 * file is read by this method.
+	 *
+	 * @param path the path of the snapshot file
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the opened population snapshot
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the snapshot file can't be opened or is
+	 *         corrupted
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSnapshot<G, C> open(final Path path) throws IOException {
+		return open(path, SEGMENT_SIZE);
+	}
+
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSnapshot<G, C> open(final Path path, final int segmentSize)
+		throws IOException
+	{
+		final FileChannel channel = FileChannel.open(path, READ);
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new EOFException(format(
+						"Missing snapshot header: %s.", path
+					));
+				}
+			}
+			header.flip();
+
+			if (header.getInt() != MAGIC || header.get() != VERSION) {
+				throw new StreamCorruptedException(format(
+					"Invalid snapshot header: %s.", path
+				));
+			}
+
+			final long generation = header.getLong();
+			final int size = header.getInt();
+			final int maxRecordSize = header.getInt();
+			final long fileSize = channel.size();
+
+			if (size < 0 ||
+				maxRecordSize < 0 ||
+				(long)segmentSize + maxRecordSize > Integer.MAX_VALUE ||
+				fileSize < HEADER_SIZE + (size + 1L)*Long.BYTES)
+			{
+				throw new StreamCorruptedException(format(
+					"Invalid snapshot header: %s.", path
+				));
+			}
+
+			return new PopulationSnapshot<>(
+				path,
+				channel,
+				fileSize,
+				generation,
+				size,
+				maxRecordSize,
+				segmentSize
+			);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the population and the generation of the given evolution
+	 * {@code start} object to the given {@code path}.
+	 *
+	 * <pre>{@code
+	 * PopulationSnapshot.write(path, result.next());
+	 * }</pre>
+	 *
+	 * @param path the path of the snapshot file
+	 * @param start the evolution start object to write
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if writing the snapshot fails
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void write(final Path path, final EvolutionStart<G, C> start)
+		throws IOException
+	{
+		requireNonNull(path);
+		final ISeq<Phenotype<G, C>> population = start.population();
+		final long[] offsets = new long[population.size() + 1];
+
+		try (FileChannel channel = FileChannel.open(
+				path, CREATE, TRUNCATE_EXISTING, WRITE))
+		{
+			offsets[0] = HEADER_SIZE + (long)offsets.length*Long.BYTES;
+			channel.position(offsets[0]);
+
+			final OutputStream out = new BufferedOutputStream(
+				Channels.newOutputStream(channel),
+				64*1024
+			);
+			final ByteArrayOutputStream record = new ByteArrayOutputStream();
+
+			int maxRecordSize = 0;
+			for (int i = 0; i < population.size(); ++i) {
+				record.reset();
+				final BinaryWriter writer = BINARY.writer(record);
+				writer.write(population.get(i));
+				writer.finish();
+
+				record.writeTo(out);
+				offsets[i + 1] = offsets[i] + record.size();
+				maxRecordSize = Math.max(maxRecordSize, record.size());
+			}
+			out.flush();
+
+			channel.position(0);
+			final DataOutputStream header = new DataOutputStream(
+				new BufferedOutputStream(Channels.newOutputStream(channel))
+			);
+			header.writeInt(MAGIC);
+			header.writeByte(VERSION);
+			header.writeLong(start.generation());
+			header.writeInt(population.size());
+			header.writeInt(maxRecordSize);
+			for (long offset : offsets) {
+				header.writeLong(offset);
+			}
+			header.flush();
+		}
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+
+/**
+ * The {@code PortfolioEngine} <em>races</em> two (or more) differently
+ * configured evolution {@link io.jenetics.engine.Engine}s against each other.
+ * In contrast to the {@link ConcatEngine} and the {@link CyclicEngine}, the
+ * engines of the portfolio are evolved <em>concurrently</em>, one generation
+ * per engine and step, on the given {@link Executor}. After every
+ * {@code rungSize} generations, the worse half of the still running engines,
+ * according to the improvement of their best fitness value during the last
+ * {@code rungSize} generations, is stopped (<em>successive halving</em>).
+ * The streams of the stopped engines are closed and their CPU share is then
+ * available for the remaining, faster improving, engine configurations. For
+ * non-numeric fitness values, only the fact that an engine has improved its
+ * best fitness during the last rung is taken into account. Engines with the
+ * same improvement are ranked by their best fitness found so far.
+ *
+ * <pre> {@code
+ *             +------------+
+ *         +-->|  Engine 1  |---+
+ *         |   +------------+   |
+ *         |   +------------+   |   merged    +--------+
+ * (Start) +-->|  Engine 2  |---+------------>| Result |
+ *         |   +------------+   |             +--------+
+ *         |   +------------+   |
+ *         +-->|  Engine 3  |---+
+ *             +------------+
+ * }</pre>
+ *
+ * Every element of the created evolution stream contains the population of
+ * the best evolution result found so far, by any engine of the portfolio.
+ * The best fitness of the merged stream therefore never gets worse. The
+ * durations, kill-, invalid- and alter-counts are the sum of all engines
+ * evolved in the given step.
+ *
+ * <pre>{@code
+ *  final Engine.Builder<DoubleGene, Double> builder = Engine.builder(problem)
+ *      .minimizing();
+ *
+ *  final Phenotype<DoubleGene, Double> best =
+ *      PortfolioEngine.of(
+ *          10,
+ *          builder.copy().alterers(new Mutator<>(0.2)).build(),
+ *          builder.copy().alterers(new GaussianMutator<>(0.1)).build(),
+ *          builder.copy().alterers(new MeanAlterer<>()).build())
+ *      .stream()
+ *      .limit(Limits.bySteadyFitness(100))
+ *      .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * @implNote
+ * The engines are advanced by tasks submitted to the given {@code executor},
+ * which are waiting for the evolution steps of the engines. If the engines
+ * itself are using the same executor, it should be a {@code ForkJoinPool}
+ * (like the default {@code ForkJoinPool.commonPool()}), which is able to
+ * compensate blocked worker threads.
+ *
+ * @see ConcatEngine
+ * @see CyclicEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class PortfolioEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends EnginePool<G, C>
+{
+
+	private final int _rungSize;
+	private final Executor _executor;
+
+	/**
+	 * Create a new portfolio evolution engine with the given list of
+	 * {@code engines}.
+	 *
+	 * @param engines the evolution engines which are part of the portfolio
+	 * @param rungSize the number of generations between two successive
+	 *        halving steps
+	 * @param executor the executor used for evolving the engines concurrently
+	 * @throws NullPointerException if the {@code engines} or one of it's
+	 *         elements is {@code null}, or the {@code executor} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code rungSize} is smaller
+	 *         than one
+	 */
+	public PortfolioEngine(
+		final List<? extends EvolutionStreamable<G, C>> engines,
+		final int rungSize,
+		final Executor executor
+	) {
+		super(engines);
+		if (rungSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Rung size must be greater than zero, but was %d.",
+				rungSize
+			));
+		}
+
+		_rungSize = rungSize;
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Return the number of generations between two successive halving steps.
+	 *
+	 * @return the number of generations between two successive halving steps
+	 */
+	public int rungSize() {
+		return _rungSize;
+	}
+
+	/**
+	 * Return the executor used for evolving the engines concurrently.
+	 *
+	 * @return the executor used for evolving the engines concurrently
+	 */
+	public Executor executor() {
+		return _executor;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		return new EvolutionStreamImpl<>(
+			new PortfolioSpliterator<>(
+				_engines.stream()
+					.map(engine -> (Supplier<EvolutionStream<G, C>>)
+						() -> engine.stream(start))
+					.collect(Collectors.toList()),
+				_rungSize,
+				_executor
+			),
+			false
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+
+		return new EvolutionStreamImpl<>(
+			new PortfolioSpliterator<>(
+				_engines.stream()
+					.map(engine -> (Supplier<EvolutionStream<G, C>>)
+						() -> engine.stream(init))
+					.collect(Collectors.toList()),
+				_rungSize,
+				_executor
+			),
+			false
+		);
+	}
+
+	/**
+	 * Create a new portfolio evolution engine with the given array of
+	 * {@code engines}. The engines are evolved on the
+	 * {@code ForkJoinPool.commonPool()}.
+	 *
+	 * @param rungSize the number of generations between two successive
+	 *        halving steps
+	 * @param engines the evolution engines which are part of the portfolio
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new portfolio evolution engine
+	 * @throws NullPointerException if the {@code engines} or one of it's
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the {@code rungSize} is smaller
+	 *         than one
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PortfolioEngine<G, C> of(
+		final int rungSize,
+		final EvolutionStreamable<G, C>... engines
+	) {
+		return new PortfolioEngine<>(List.of(engines), rungSize, commonPool());
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStream;
+
+/**
+ * Spliterator which races the given evolution streams and drops the worse
+ * half of the running streams every {@code rungSize} steps. The racers are
+ * ranked by the fitness improvement of their best result during the last
+ * rung. Racers with the same improvement are ranked by their best result.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class PortfolioSpliterator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Spliterator<EvolutionResult<G, C>>
+{
+
+	/**
+	 * One engine of the portfolio, together with its current state.
+	 */
+	private static final class Racer<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final EvolutionStream<G, C> _stream;
+		private final Spliterator<EvolutionResult<G, C>> _spliterator;
+
+		private EvolutionResult<G, C> _result;
+		private EvolutionResult<G, C> _best;
+
+		// The best result at the start of the current rung.
+		private EvolutionResult<G, C> _rungStart;
+
+		Racer(final EvolutionStream<G, C> stream) {
+			_stream = stream;
+			_spliterator = stream.spliterator();
+		}
+
+		// Evolves the next generation. Returns 'false' if the stream has
+		// been terminated.
+		boolean advance() {
+			final boolean advanced = _spliterator.tryAdvance(r -> _result = r);
+			if (advanced && (_best == null || _result.compareTo(_best) > 0)) {
+				_best = _result;
+			}
+			if (_rungStart == null) {
+				_rungStart = _best;
+			}
+			return advanced;
+		}
+
+		// Return the improvement of the best fitness since the start of the
+		// current rung. For non-numeric fitness values, only the fact that
+		// the fitness has been improved is taken into account.
+		double improvement() {
+			final C best = _best.bestFitness();
+			final C start = _rungStart.bestFitness();
+
+			final double improvement;
+			if (best instanceof Number && start instanceof Number) {
+				final double diff = ((Number)best).doubleValue() -
+					((Number)start).doubleValue();
+
+				improvement = _best.optimize() == Optimize.MAXIMUM
+					? diff
+					: -diff;
+			} else {
+				improvement = _best.compareTo(_rungStart) > 0 ? 1 : 0;
+			}
+
+			return improvement;
+		}
+
+		void nextRung() {
+			_rungStart = _best;
+		}
+
+		void close() {
+			_stream.close();
+		}
+	}
+
+	private final List<Supplier<EvolutionStream<G, C>>> _streams;
+	private final int _rungSize;
+	private final Executor _executor;
+
+	private List<Racer<G, C>> _racers = null;
+	private EvolutionResult<G, C> _best = null;
+	private long _generation = 0;
+
+	PortfolioSpliterator(
+		final List<Supplier<EvolutionStream<G, C>>> streams,
+		final int rungSize,
+		final Executor executor
+	) {
+		_streams = new ArrayList<>(streams);
+		_rungSize = rungSize;
+		_executor = executor;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super EvolutionResult<G, C>> action) {
+		if (_racers == null) {
+			_racers = _streams.stream()
+				.map(stream -> new Racer<>(stream.get()))
+				.collect(Collectors.toList());
+		}
+		if (_racers.isEmpty()) {
+			return false;
+		}
+
+		final List<CompletableFuture<Boolean>> steps = _racers.stream()
+			.map(racer -> supplyAsync(racer::advance, _executor))
+			.collect(Collectors.toList());
+
+		final List<Racer<G, C>> advanced = new ArrayList<>(_racers.size());
+		for (int i = 0; i < steps.size(); ++i) {
+			if (steps.get(i).join()) {
+				advanced.add(_racers.get(i));
+			} else {
+				_racers.get(i).close();
+			}
+		}
+		_racers = advanced;
+
+		if (_racers.isEmpty()) {
+			return false;
+		}
+
+		++_generation;
+		action.accept(merge(_racers));
+
+		if (_generation%_rungSize == 0 && _racers.size() > 1) {
+			_racers = halve(_racers);
+		}
+
+		return true;
+	}
+
+	// Merges the current results of the racers. The population of the best
+	// result found so far, by any racer, is used for the merged result.
+	private EvolutionResult<G, C> merge(final List<Racer<G, C>> racers) {
+		EvolutionDurations durations = EvolutionDurations.ZERO;
+		int killCount = 0;
+		int invalidCount = 0;
+		int alterCount = 0;
+
+		for (Racer<G, C> racer : racers) {
+			final EvolutionResult<G, C> result = racer._result;
+			if (_best == null || result.compareTo(_best) > 0) {
+				_best = result;
+			}
+
+			durations = durations.plus(result.durations());
+			killCount += result.killCount();
+			invalidCount += result.invalidCount();
+			alterCount += result.alterCount();
+		}
+
+		return EvolutionResult.of(
+			_best.optimize(),
+			_best.population(),
+			_generation,
+			_generation,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount
+		);
+	}
+
+	// Keeps the better half of the racers, according to the improvement of
+	// their best result during the last rung, and closes the streams of the
+	// stopped racers.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<Racer<G, C>> halve(final List<Racer<G, C>> racers) {
+		final Comparator<Racer<G, C>> comparator =
+			Comparator.<Racer<G, C>>comparingDouble(Racer::improvement)
+				.thenComparing((a, b) -> a._best.compareTo(b._best))
+				.reversed();
+
+		final List<Racer<G, C>> sorted = racers.stream()
+			.sorted(comparator)
+			.collect(Collectors.toList());
+
+		final int size = (racers.size() + 1)/2;
+		sorted.subList(size, sorted.size()).forEach(Racer::close);
+
+		final List<Racer<G, C>> survivors = sorted.subList(0, size);
+		survivors.forEach(Racer::nextRung);
+		return new ArrayList<>(survivors);
+	}
+
+	@Override
+	public Spliterator<EvolutionResult<G, C>> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.NONNULL | Spliterator.IMMUTABLE;
+	}
+
+}
@@ -0,0 +1,378 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.rewriting.TreePattern.Decl;
+import io.jenetics.ext.rewriting.TreePattern.Val;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Rewriter implementation which indexes the rewrite rules with a
+ * <em>discrimination net</em>. The net is built from the preorder symbol
+ * sequences, value and child count, of the left-hand side patterns, where the
+ * pattern variables are wildcards, which skip a whole subtree. Retrieving the
+ * rules for a tree node walks the net along the symbols of the node's subtree,
+ * and only the rules reached this way are tested against their full pattern.
+ * After a rewrite, only the replaced subtree and its ancestors are examined
+ * again, since the match results of all other nodes can't change.
+ * <p>
+ * The rewriter produces exactly the same results as
+ * {@link TreeRewriter#rewrite(TreeNode, int, Iterable)}: the rules are applied
+ * in the given order, every rule is applied to the first matching node, in
+ * breadth-first order, until it no longer matches, and this is repeated until
+ * the tree is no longer changed or the rewrite limit is reached.
+ *
+ * @implNote
+ * The symbol lookup relies on the {@code equals} method of the node values,
+ * like the {@link TreePattern} matching. Hash lookups are only used for
+ * strings, enums and boxed integral values, where {@code equals} and
+ * {@code hashCode} are consistent. Instances of this class are
+ * immutable and thread-safe. The mutable rewrite state is created for every
+ * {@link #rewrite(TreeNode, int)} call.
+ *
+ * @param <V> the tree value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class IndexedRewriter<V> implements TreeRewriter<V> {
+
+	/**
+	 * Node of the discrimination net. The net is only changed while the
+	 * rewriter is created.
+	 */
+	private static final class Net<V> {
+		// The symbol of the edge, which leads to this net node.
+		final V value;
+		final int arity;
+
+		final List<Net<V>> children = new ArrayList<>();
+		Net<V> wildcard;
+
+		// Hash index of the children, if all child values are of a type,
+		// whose equals method is consistent with its hash code and only
+		// accepts objects of the same type.
+		private Map<Object, List<Net<V>>> _index = new HashMap<>();
+
+		// The rules, whose pattern symbols ends at this net node.
+		int[] rules = {};
+
+		Net(final V value, final int arity) {
+			this.value = value;
+			this.arity = arity;
+		}
+
+		Net<V> child(final V value, final int arity) {
+			final List<Net<V>> nets = _index != null
+				? _index.getOrDefault(value, List.of())
+				: children;
+
+			for (int i = 0, n = nets.size(); i < n; ++i) {
+				final Net<V> child = nets.get(i);
+				if (child.arity == arity &&
+					Objects.equals(child.value, value))
+				{
+					return child;
+				}
+			}
+			return null;
+		}
+
+		private void addChild(final Net<V> child) {
+			children.add(child);
+			if (_index != null && isHashable(child.value)) {
+				_index.computeIfAbsent(child.value, k -> new ArrayList<>())
+					.add(child);
+			} else {
+				_index = null;
+			}
+		}
+
+		private static boolean isHashable(final Object value) {
+			return value == null ||
+				value instanceof String ||
+				value instanceof Enum ||
+				value instanceof Integer ||
+				value instanceof Long ||
+				value instanceof Short ||
+				value instanceof Byte ||
+				value instanceof Character ||
+				value instanceof Boolean;
+		}
+
+		Net<V> add(final Decl<V> decl, final int arity) {
+			Net<V> net;
+			if (decl instanceof Val) {
+				final V value = ((Val<V>)decl).value();
+				net = child(value, arity);
+				if (net == null) {
+					net = new Net<>(value, arity);
+					addChild(net);
+				}
+			} else {
+				if (wildcard == null) {
+					wildcard = new Net<>(null, 0);
+				}
+				net = wildcard;
+			}
+
+			return net;
+		}
+	}
+
+	/**
+	 * Immutable stack of the subtrees, which are not matched yet while
+	 * walking the discrimination net.
+	 */
+	private static final class Subtrees<V> {
+		final TreeNode<V> head;
+		final Subtrees<V> tail;
+
+		Subtrees(final TreeNode<V> head, final Subtrees<V> tail) {
+			this.head = head;
+			this.tail = tail;
+		}
+	}
+
+	private final ISeq<TreeRewriteRule<V>> _rules;
+	private final Net<V> _net = new Net<>(null, 0);
+
+	IndexedRewriter(final ISeq<TreeRewriteRule<V>> rules) {
+		_rules = requireNonNull(rules);
+
+		for (int i = 0; i < rules.length(); ++i) {
+			Net<V> net = _net;
+			for (var it = rules.get(i).left().pattern().preorderIterator();
+				it.hasNext();)
+			{
+				final TreeNode<Decl<V>> node = it.next();
+				net = net.add(node.value(), node.childCount());
+			}
+
+			net.rules = Arrays.copyOf(net.rules, net.rules.length + 1);
+			net.rules[net.rules.length - 1] = i;
+		}
+	}
+
+	// Breadth-first order of the child paths.
+	private static int compare(final int[] a, final int[] b) {
+		final int cmp = Integer.compare(a.length, b.length);
+		return cmp != 0 ? cmp : Arrays.compare(a, b);
+	}
+
+	@Override
+	public int rewrite(final TreeNode<V> tree, final int limit) {
+		requireNonNull(tree);
+		if (limit < 0) {
+			throw new IllegalArgumentException(format(
+				"Limit is smaller then zero: %d", limit
+			));
+		}
+
+		return new Rewriting(tree).rewrite(limit);
+	}
+
+	/**
+	 * The mutable state of one rewrite call.
+	 */
+	private final class Rewriting {
+		private final TreeNode<V> _tree;
+
+		// The nodes which has to be tested against the rules, ordered by
+		// their position in breadth-first order. The nodes are identified by
+		// their child path, which doesn't change, as long as the node is
+		// part of the tree.
+		private final List<TreeMap<int[], TreeNode<V>>> _candidates;
+
+		Rewriting(final TreeNode<V> tree) {
+			_tree = tree;
+			_candidates = new ArrayList<>(_rules.length());
+			for (int i = 0; i < _rules.length(); ++i) {
+				_candidates.add(new TreeMap<>(IndexedRewriter::compare));
+			}
+
+			addSubtree(tree, new int[0]);
+		}
+
+		int rewrite(final int limit) {
+			int rewritten = 0;
+			int count;
+			do {
+				count = 0;
+				for (int i = 0; i < _rules.length(); ++i) {
+					count += rewrite(i, limit - rewritten);
+				}
+
+				rewritten += count;
+			} while (count > 0 && rewritten < limit);
+
+			return rewritten;
+		}
+
+		// Applies the rule with the given index, until it no longer matches.
+		// Like the TreeRewriteRule, the rule is applied at least once, if it
+		// matches.
+		private int rewrite(final int rule, final int limit) {
+			int rewritten = 0;
+			boolean matched;
+			do {
+				matched = rewriteFirst(rule);
+				rewritten += matched ? 1 : 0;
+			} while (matched && rewritten < limit);
+
+			return rewritten;
+		}
+
+		private boolean rewriteFirst(final int index) {
+			final TreeRewriteRule<V> rule = _rules.get(index);
+			final TreeMap<int[], TreeNode<V>> candidates =
+				_candidates.get(index);
+
+			Map.Entry<int[], TreeNode<V>> entry;
+			while ((entry = candidates.pollFirstEntry()) != null) {
+				final TreeNode<V> node = entry.getValue();
+				if (isAttached(node)) {
+					final Optional<TreeMatchResult<V>> result =
+						rule.left().match(node);
+
+					if (result.isPresent()) {
+						final TreeNode<V> replacement = rule.right()
+							.expand(result.get().vars());
+
+						replace(entry.getKey(), node, replacement);
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+
+		private boolean isAttached(final TreeNode<V> node) {
+			TreeNode<V> n = node;
+			while (n != _tree && n != null) {
+				n = n.parent().orElse(null);
+			}
+			return n == _tree;
+		}
+
+		private void replace(
+			final int[] path,
+			final TreeNode<V> node,
+			final TreeNode<V> replacement
+		) {
+			final TreeNode<V> subtree;
+			if (node == _tree) {
+				_tree.removeAllChildren();
+				_tree.value(replacement.value());
+				replacement.childStream()
+					.collect(ISeq.toISeq())
+					.forEach(_tree::attach);
+
+				subtree = _tree;
+			} else {
+				node.parent()
+					.orElseThrow(AssertionError::new)
+					.replace(path[path.length - 1], replacement);
+
+				subtree = replacement;
+			}
+
+			// The match results of the ancestors might have changed.
+			TreeNode<V> ancestor = _tree;
+			for (int i = 0; i < path.length; ++i) {
+				add(ancestor, Arrays.copyOf(path, i));
+				ancestor = ancestor.childAt(path[i]);
+			}
+
+			addSubtree(subtree, path);
+		}
+
+		private void addSubtree(final TreeNode<V> root, final int[] path) {
+			final Deque<TreeNode<V>> nodes = new ArrayDeque<>();
+			final Deque<int[]> paths = new ArrayDeque<>();
+			nodes.add(root);
+			paths.add(path);
+
+			while (!nodes.isEmpty()) {
+				final TreeNode<V> node = nodes.removeFirst();
+				final int[] p = paths.removeFirst();
+				add(node, p);
+
+				for (int i = 0; i < node.childCount(); ++i) {
+					final int[] cp = Arrays.copyOf(p, p.length + 1);
+					cp[p.length] = i;
+
+					nodes.add(node.childAt(i));
+					paths.add(cp);
+				}
+			}
+		}
+
+		private void add(final TreeNode<V> node, final int[] path) {
+			add(node, path, _net, new Subtrees<>(node, null));
+		}
+
+		private void add(
+			final TreeNode<V> node,
+			final int[] path,
+			final Net<V> net,
+			final Subtrees<V> subtrees
+		) {
+			if (subtrees == null) {
+				for (int rule : net.rules) {
+					_candidates.get(rule).put(path, node);
+				}
+			} else {
+				final TreeNode<V> tree = subtrees.head;
+				if (net.wildcard != null) {
+					add(node, path, net.wildcard, subtrees.tail);
+				}
+
+				final Net<V> child = net.child(tree.value(), tree.childCount());
+				if (child != null) {
+					Subtrees<V> next = subtrees.tail;
+					for (int i = tree.childCount(); --i >= 0;) {
+						next = new Subtrees<>(tree.childAt(i), next);
+					}
+					add(node, path, child, next);
+				}
+			}
+		}
+	}
+
+}
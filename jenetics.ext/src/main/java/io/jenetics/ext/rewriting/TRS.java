@@ -54,11 +54,17 @@ import io.jenetics.ext.util.TreeNode;
  * assert tree.equals(TreeNode.parse("S(S(S(S(0))))"));
  * }</pre>
  *
+ * The rewrite rules are indexed by the root symbol and arity of their
+ * left-hand side pattern. A rule is therefore only tested on the nodes with a
+ * matching root, and after a rewrite only the changed subtree and its
+ * ancestors are examined again. The result is the same as applying the rules
+ * one after another with {@link TreeRewriter#rewrite(TreeNode, int, Iterable)}.
+ *
  * @see TreeRewriteRule
  * @see <a href="https://en.wikipedia.org/wiki/Rewriting">TRS</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 public final class TRS<V> implements TreeRewriter<V>, Serializable {
@@ -66,6 +72,7 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private final ISeq<TreeRewriteRule<V>> _rules;
+	private final transient IndexedRewriter<V> _rewriter;
 
 	/**
 	 * Create a new TRS from the given rewrite rules.
@@ -80,11 +87,12 @@ public final class TRS<V> implements TreeRewriter<V>, Serializable {
 			throw new IllegalArgumentException("Rewrite rules must not be empty.");
 		}
 		_rules = rules;
+		_rewriter = new IndexedRewriter<>(rules);
 	}
 
 	@Override
 	public int rewrite(final TreeNode<V> tree, final int limit) {
-		return TreeRewriter.rewrite(tree, limit, _rules);
+		return _rewriter.rewrite(tree, limit);
 	}
 
 	/**
@@ -19,6 +19,7 @@
  */
 package io.jenetics.ext.util;
 
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readIntArray;
 import static io.jenetics.internal.util.SerialIO.readObjectArray;
@@ -53,7 +54,7 @@ import io.jenetics.util.ISeq;
  * This class is immutable and thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 3.9
  */
 public final class FlatTreeNode<V>
@@ -63,21 +64,110 @@ public final class FlatTreeNode<V>
 {
 	private static final long serialVersionUID = 3L;
 
+	/**
+	 * The node arrays of the whole tree, which are shared by all nodes of the
+	 * tree. Beside the breadth-first ordered values, child offsets and child
+	 * counts, the parent indexes, the node levels, the subtree depths and the
+	 * subtree sizes are precomputed, which makes the navigation and query
+	 * operations {@code O(1)}.
+	 */
+	private static final class Nodes {
+		final Object[] elements;
+		final int[] childOffsets;
+		final int[] childCounts;
+		final int[] parents;
+		final int[] levels;
+		final int[] depths;
+		final int[] sizes;
+
+		// Lazily created node views. Since the nodes are immutable, a racy
+		// initialization only creates some additional node objects.
+		private FlatTreeNode<?>[] _nodes;
+
+		Nodes(
+			final Object[] elements,
+			final int[] childOffsets,
+			final int[] childCounts
+		) {
+			this.elements = requireNonNull(elements);
+			this.childOffsets = requireNonNull(childOffsets);
+			this.childCounts = requireNonNull(childCounts);
+
+			final int size = elements.length;
+			parents = new int[size];
+			levels = new int[size];
+			depths = new int[size];
+			sizes = new int[size];
+
+			// The children are always stored on the right side of the parent.
+			if (size > 0) {
+				parents[0] = -1;
+			}
+			for (int i = 0; i < size; ++i) {
+				for (int j = 0; j < childCounts[i]; ++j) {
+					parents[childOffsets[i] + j] = i;
+					levels[childOffsets[i] + j] = levels[i] + 1;
+				}
+			}
+			for (int i = size; --i >= 0;) {
+				sizes[i] += 1;
+				if (parents[i] != -1) {
+					sizes[parents[i]] += sizes[i];
+					depths[parents[i]] = Math.max(
+						depths[parents[i]],
+						depths[i] + 1
+					);
+				}
+			}
+		}
+
+		int size() {
+			return elements.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		<V> FlatTreeNode<V> node(final int index) {
+			FlatTreeNode<?>[] nodes = _nodes;
+			if (nodes == null) {
+				nodes = new FlatTreeNode<?>[elements.length];
+				_nodes = nodes;
+			}
+
+			FlatTreeNode<?> node = nodes[index];
+			if (node == null) {
+				node = new FlatTreeNode<>(index, this);
+				nodes[index] = node;
+			}
+
+			return (FlatTreeNode<V>)node;
+		}
+
+		int childEnd(final int index) {
+			return childOffsets[index] + childCounts[index];
+		}
+
+		boolean isAncestor(final int ancestor, final int index) {
+			int i = index;
+			while (i > ancestor) {
+				i = parents[i];
+			}
+			return i == ancestor;
+		}
+
+		boolean equals(final Nodes nodes) {
+			return nodes == this ||
+				Arrays.equals(nodes.elements, elements) &&
+				Arrays.equals(nodes.childCounts, childCounts) &&
+				Arrays.equals(nodes.childOffsets, childOffsets);
+		}
+	}
+
 	private final int _index;
-	private final Object[] _elements;
-	private final int[] _childOffsets;
-	private final int[] _childCounts;
+	private final Nodes _nodes;
 
-	private FlatTreeNode(
-		final int index,
-		final Object[] elements,
-		final int[] childOffsets,
-		final int[] childCounts
-	) {
+	private FlatTreeNode(final int index, final Nodes nodes) {
 		_index = index;
-		_elements = requireNonNull(elements);
-		_childOffsets = requireNonNull(childOffsets);
-		_childCounts = requireNonNull(childCounts);
+		_nodes = requireNonNull(nodes);
 	}
 
 	/**
@@ -98,40 +188,30 @@ public final class FlatTreeNode<V>
 	}
 
 	private FlatTreeNode<V> nodeAt(final int index) {
-		return new FlatTreeNode<>(
-			index,
-			_elements,
-			_childOffsets,
-			_childCounts
-		);
+		return index == _index ? this : _nodes.node(index);
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public V value() {
-		return (V)_elements[_index];
+		return (V)_nodes.elements[_index];
 	}
 
+	/**
+	 * Return the parent node of {@code this} node. This implementation has a
+	 * runtime complexity of O(1).
+	 *
+	 * @return the parent node, or {@code Optional.empty()} if this node is
+	 *         the root of the tree
+	 */
 	@Override
 	public Optional<FlatTreeNode<V>> parent() {
-		int index = -1;
-		for (int i = _index; --i >= 0 && index == -1;) {
-			if (isParent(i)) {
-				index = i;
-			}
-		}
-
+		final int index = _nodes.parents[_index];
 		return index != -1
 			? Optional.of(nodeAt(index))
 			: Optional.empty();
 	}
 
-	private boolean isParent(final int index) {
-		return _childCounts[index] > 0 &&
-			_childOffsets[index] <= _index &&
-			_childOffsets[index] + _childCounts[index] > _index;
-	}
-
 	@Override
 	public FlatTreeNode<V> childAt(final int index) {
 		if (index < 0 || index >= childCount()) {
@@ -143,7 +223,7 @@ public final class FlatTreeNode<V>
 
 	@Override
 	public int childCount() {
-		return _childCounts[_index];
+		return _nodes.childCounts[_index];
 	}
 
 	/**
@@ -155,7 +235,114 @@ public final class FlatTreeNode<V>
 	 */
 	@Override
 	public int childOffset() {
-		return _childOffsets[_index];
+		return _nodes.childOffsets[_index];
+	}
+
+	/**
+	 * Return the index of {@code this} node in the underlying, breadth-first
+	 * ordered, node array.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the index of {@code this} node in the underlying node array
+	 */
+	public int index() {
+		return _index;
+	}
+
+	/**
+	 * Returns the depth of the tree rooted at this node. This implementation
+	 * has a runtime complexity of O(1).
+	 *
+	 * @return the depth of the tree whose root is this node
+	 */
+	@Override
+	public int depth() {
+		return _nodes.depths[_index];
+	}
+
+	/**
+	 * Returns the number of levels above this node. This implementation has a
+	 * runtime complexity of O(1).
+	 *
+	 * @return the number of levels above this node
+	 */
+	@Override
+	public int level() {
+		return _nodes.levels[_index];
+	}
+
+	@Override
+	public int indexOf(final Tree<?, ?> child) {
+		requireNonNull(child);
+
+		if (child instanceof FlatTreeNode &&
+			((FlatTreeNode<?>)child)._nodes == _nodes)
+		{
+			final int index = ((FlatTreeNode<?>)child)._index;
+			return _nodes.parents[index] == _index
+				? index - childOffset()
+				: -1;
+		} else {
+			return FlatTree.super.indexOf(child);
+		}
+	}
+
+	@Override
+	public boolean isAncestor(final Tree<?, ?> node) {
+		requireNonNull(node);
+
+		if (node instanceof FlatTreeNode) {
+			final FlatTreeNode<?> ancestor = (FlatTreeNode<?>)node;
+			return ancestor._nodes == _nodes &&
+				_nodes.isAncestor(ancestor._index, _index);
+		} else {
+			return FlatTree.super.isAncestor(node);
+		}
+	}
+
+	@Override
+	public int siblingCount() {
+		final int parent = _nodes.parents[_index];
+		return parent != -1 ? _nodes.childCounts[parent] : 1;
+	}
+
+	@Override
+	public Optional<FlatTreeNode<V>> nextSibling() {
+		final int parent = _nodes.parents[_index];
+		return parent != -1 && _index + 1 < _nodes.childEnd(parent)
+			? Optional.of(nodeAt(_index + 1))
+			: Optional.empty();
+	}
+
+	@Override
+	public Optional<FlatTreeNode<V>> previousSibling() {
+		final int parent = _nodes.parents[_index];
+		return parent != -1 && _index > _nodes.childOffsets[parent]
+			? Optional.of(nodeAt(_index - 1))
+			: Optional.empty();
+	}
+
+	@Override
+	public Path childPath() {
+		final int[] path = new int[level()];
+		for (int i = _index, j = path.length; --j >= 0; i = _nodes.parents[i]) {
+			path[j] = i - _nodes.childOffsets[_nodes.parents[i]];
+		}
+
+		return Path.of(path);
+	}
+
+	/**
+	 * Return a new, allocation free, cursor, which is positioned at
+	 * {@code this} node.
+	 *
+	 * @since 6.1
+	 *
+	 * @return a new cursor, positioned at {@code this} node
+	 */
+	public Cursor<V> cursor() {
+		return new Cursor<>(_nodes, _index);
 	}
 
 	@Override
@@ -166,14 +353,14 @@ public final class FlatTreeNode<V>
 	@Override
 	public Iterator<FlatTreeNode<V>> breadthFirstIterator() {
 		return _index == 0
-			? new IntIterator<>(_elements.length, this::nodeAt)
+			? new IntIterator<>(_nodes.size(), this::nodeAt)
 			: FlatTree.super.breadthFirstIterator();
 	}
 
 	@Override
 	public Stream<FlatTreeNode<V>> breadthFirstStream() {
 		return _index == 0
-			? IntStream.range(0, _elements.length).mapToObj(this::nodeAt)
+			? IntStream.range(0, _nodes.size()).mapToObj(this::nodeAt)
 			: FlatTree.super.breadthFirstStream();
 	}
 
@@ -202,7 +389,7 @@ public final class FlatTreeNode<V>
 		return other == this ||
 			other instanceof FlatTreeNode &&
 			((FlatTreeNode)other)._index == _index &&
-			((FlatTreeNode)other)._elements == _elements;
+			((FlatTreeNode)other)._nodes == _nodes;
 	}
 
 	@Override
@@ -218,10 +405,7 @@ public final class FlatTreeNode<V>
 	}
 
 	private boolean equals(final FlatTreeNode<?> tree) {
-		return tree._index == _index &&
-			Arrays.equals(tree._elements, _elements) &&
-			Arrays.equals(tree._childCounts, _childCounts) &&
-			Arrays.equals(tree._childOffsets, _childOffsets);
+		return tree._index == _index && tree._nodes.equals(_nodes);
 	}
 
 	@Override
@@ -229,19 +413,245 @@ public final class FlatTreeNode<V>
 		return toParenthesesString();
 	}
 
+	/**
+	 * Return the number of nodes of {@code this} node (sub-tree). This
+	 * implementation has a runtime complexity of O(1).
+	 *
+	 * @return the number of nodes of {@code this} node (sub-tree)
+	 */
 	@Override
 	public int size() {
-		return _index == 0
-			? _elements.length
-			: countChildren(_index) + 1;
+		return _nodes.sizes[_index];
 	}
 
-	private int countChildren(final int index) {
-		int count = _childCounts[index];
-		for (int i = 0; i < _childCounts[index]; ++i) {
-			count += countChildren(_childOffsets[index] + i);
+	/**
+	 * Mutable cursor over the nodes of a {@link FlatTreeNode}. The cursor
+	 * navigates directly on the flattened node arrays and doesn't create any
+	 * node objects. All navigation and query operations have a runtime
+	 * complexity of O(1).
+	 *
+	 * <pre>{@code
+	 * final FlatTreeNode.Cursor<Op<Double>> cursor = tree.cursor();
+	 * while (cursor.toFirstChild()) {
+	 *     // Walks down the left-most path of the tree.
+	 * }
+	 * assert cursor.isLeaf();
+	 * }</pre>
+	 *
+	 * @implNote
+	 * This class is not thread-safe.
+	 *
+	 * @param <V> the tree value type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Cursor<V> {
+		private final Nodes _nodes;
+		private int _index;
+
+		private Cursor(final Nodes nodes, final int index) {
+			_nodes = nodes;
+			_index = index;
+		}
+
+		/**
+		 * Return the current index of the cursor in the underlying,
+		 * breadth-first ordered, node array.
+		 *
+		 * @return the current node index
+		 */
+		public int index() {
+			return _index;
+		}
+
+		/**
+		 * Return the value of the current node.
+		 *
+		 * @return the value of the current node
+		 */
+		@SuppressWarnings("unchecked")
+		public V value() {
+			return (V)_nodes.elements[_index];
+		}
+
+		/**
+		 * Return the number of children of the current node.
+		 *
+		 * @return the number of children of the current node
+		 */
+		public int childCount() {
+			return _nodes.childCounts[_index];
+		}
+
+		/**
+		 * Return the number of nodes of the subtree, rooted at the current
+		 * node.
+		 *
+		 * @return the size of the current subtree
+		 */
+		public int size() {
+			return _nodes.sizes[_index];
+		}
+
+		/**
+		 * Return the distance from the root to the current node.
+		 *
+		 * @return the level of the current node
+		 */
+		public int level() {
+			return _nodes.levels[_index];
+		}
+
+		/**
+		 * Return the longest distance from the current node to a leaf.
+		 *
+		 * @return the depth of the current subtree
+		 */
+		public int depth() {
+			return _nodes.depths[_index];
+		}
+
+		/**
+		 * Return {@code true} if the current node is the root node.
+		 *
+		 * @return {@code true} if the current node is the root node
+		 */
+		public boolean isRoot() {
+			return _index == 0;
+		}
+
+		/**
+		 * Return {@code true} if the current node is a leaf node.
+		 *
+		 * @return {@code true} if the current node is a leaf node
+		 */
+		public boolean isLeaf() {
+			return _nodes.childCounts[_index] == 0;
+		}
+
+		/**
+		 * Moves the cursor to the node with the given {@code index}.
+		 *
+		 * @param index the breadth-first index of the node
+		 * @return {@code this} cursor
+		 * @throws IndexOutOfBoundsException if the index is out of range
+		 */
+		public Cursor<V> moveTo(final int index) {
+			if (index < 0 || index >= _nodes.size()) {
+				throw new IndexOutOfBoundsException(Integer.toString(index));
+			}
+			_index = index;
+			return this;
+		}
+
+		/**
+		 * Moves the cursor to the root node.
+		 *
+		 * @return {@code this} cursor
+		 */
+		public Cursor<V> toRoot() {
+			_index = 0;
+			return this;
+		}
+
+		/**
+		 * Moves the cursor to the parent node. The cursor is not moved if
+		 * the current node is the root node.
+		 *
+		 * @return {@code true} if the cursor has been moved, {@code false}
+		 *         otherwise
+		 */
+		public boolean toParent() {
+			final int parent = _nodes.parents[_index];
+			if (parent != -1) {
+				_index = parent;
+			}
+			return parent != -1;
+		}
+
+		/**
+		 * Moves the cursor to the child with the given {@code index}.
+		 *
+		 * @param index the child index
+		 * @return {@code this} cursor
+		 * @throws IndexOutOfBoundsException if the child index is out of
+		 *         range
+		 */
+		public Cursor<V> toChild(final int index) {
+			if (index < 0 || index >= _nodes.childCounts[_index]) {
+				throw new IndexOutOfBoundsException(Integer.toString(index));
+			}
+			_index = _nodes.childOffsets[_index] + index;
+			return this;
+		}
+
+		/**
+		 * Moves the cursor to the first child node. The cursor is not moved
+		 * if the current node is a leaf.
+		 *
+		 * @return {@code true} if the cursor has been moved, {@code false}
+		 *         otherwise
+		 */
+		public boolean toFirstChild() {
+			final boolean moved = !isLeaf();
+			if (moved) {
+				_index = _nodes.childOffsets[_index];
+			}
+			return moved;
+		}
+
+		/**
+		 * Moves the cursor to the next sibling node. The cursor is not moved
+		 * if the current node is the root or the last child of its parent.
+		 *
+		 * @return {@code true} if the cursor has been moved, {@code false}
+		 *         otherwise
+		 */
+		public boolean toNextSibling() {
+			final int parent = _nodes.parents[_index];
+			final boolean moved = parent != -1 &&
+				_index + 1 < _nodes.childEnd(parent);
+
+			if (moved) {
+				++_index;
+			}
+			return moved;
+		}
+
+		/**
+		 * Moves the cursor to the previous sibling node. The cursor is not
+		 * moved if the current node is the root or the first child of its
+		 * parent.
+		 *
+		 * @return {@code true} if the cursor has been moved, {@code false}
+		 *         otherwise
+		 */
+		public boolean toPreviousSibling() {
+			final int parent = _nodes.parents[_index];
+			final boolean moved = parent != -1 &&
+				_index > _nodes.childOffsets[parent];
+
+			if (moved) {
+				--_index;
+			}
+			return moved;
+		}
+
+		/**
+		 * Return the tree node at the current cursor position.
+		 *
+		 * @return the tree node at the current cursor position
+		 */
+		public FlatTreeNode<V> node() {
+			return _nodes.node(_index);
+		}
+
+		@Override
+		public String toString() {
+			return format("Cursor[index=%d, value=%s]", _index, value());
 		}
-		return count;
 	}
 
 	/* *************************************************************************
@@ -295,9 +705,29 @@ public final class FlatTreeNode<V>
 
 		return new FlatTreeNode<>(
 			0,
-			elements,
-			childOffsets,
-			childCounts
+			new Nodes(elements, childOffsets, childCounts)
+		);
+	}
+
+	/**
+	 * Create a new flat tree node from the given breadth-first ordered node
+	 * arrays. The arrays are not copied.
+	 *
+	 * @param elements the node values
+	 * @param childOffsets the index of the first child node, or -1 for leaf
+	 *        nodes
+	 * @param childCounts the number of children of the nodes
+	 * @param <V> the tree value types
+	 * @return a new flat tree node, which wraps the given arrays
+	 */
+	static <V> FlatTreeNode<V> of(
+		final Object[] elements,
+		final int[] childOffsets,
+		final int[] childCounts
+	) {
+		return new FlatTreeNode<>(
+			0,
+			new Nodes(elements, childOffsets, childCounts)
 		);
 	}
 
@@ -382,9 +812,9 @@ public final class FlatTreeNode<V>
 			? this
 			: FlatTreeNode.ofTree(this);
 
-		writeObjectArray(node._elements, out);
-		writeIntArray(node._childOffsets, out);
-		writeIntArray(node._childCounts, out);
+		writeObjectArray(node._nodes.elements, out);
+		writeIntArray(node._nodes.childOffsets, out);
+		writeIntArray(node._nodes.childCounts, out);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -393,9 +823,7 @@ public final class FlatTreeNode<V>
 	{
 		return new FlatTreeNode(
 			0,
-			readObjectArray(in),
-			readIntArray(in),
-			readIntArray(in)
+			new Nodes(readObjectArray(in), readIntArray(in), readIntArray(in))
 		);
 	}
 
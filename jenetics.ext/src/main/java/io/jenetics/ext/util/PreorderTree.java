@@ -0,0 +1,415 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import io.jenetics.util.BaseSeq;
+
+/**
+ * Mutable, array based tree, which stores its nodes in <em>preorder</em>.
+ * Beside the node values and the child counts, the tree stores the size of
+ * every subtree. The nodes of a subtree therefore form the contiguous index
+ * range {@code [index, index + subtreeSize(index))}, and replacing or
+ * swapping subtrees are simple array splices. Compared to {@link TreeNode}
+ * graphs, no node objects are created.
+ *
+ * <pre>{@code
+ * final var tree1 = PreorderTree.ofTree(TreeNode.parse("a(b,c(d,e))"));
+ * final var tree2 = PreorderTree.ofTree(TreeNode.parse("x(y,z)"));
+ *
+ * // Swaps the subtrees 'c(d,e)' and 'y'.
+ * PreorderTree.swap(tree1, 2, tree2, 1);
+ * assert tree1.toString().equals("a(b,y)");
+ * assert tree2.toString().equals("x(c(d,e),z)");
+ * }</pre>
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @param <V> the tree value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class PreorderTree<V> {
+
+	private Object[] _values;
+	private int[] _childCounts;
+	private int[] _sizes;
+
+	private PreorderTree(
+		final Object[] values,
+		final int[] childCounts,
+		final int[] sizes
+	) {
+		_values = values;
+		_childCounts = childCounts;
+		_sizes = sizes;
+	}
+
+	private PreorderTree(final Object[] values, final int[] childCounts) {
+		this(values, childCounts, sizes(childCounts));
+	}
+
+	// Calculates the subtree sizes, in reverse preorder.
+	private static int[] sizes(final int[] childCounts) {
+		final int[] sizes = new int[childCounts.length];
+		for (int i = childCounts.length; --i >= 0;) {
+			int end = i + 1;
+			for (int c = 0; c < childCounts[i]; ++c) {
+				end += sizes[end];
+			}
+			sizes[i] = end - i;
+		}
+		return sizes;
+	}
+
+	/**
+	 * Return the number of nodes of {@code this} tree.
+	 *
+	 * @return the number of nodes of {@code this} tree
+	 */
+	public int size() {
+		return _values.length;
+	}
+
+	/**
+	 * Return the value of the node with the given preorder {@code index}.
+	 *
+	 * @param index the preorder node index
+	 * @return the value of the node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@SuppressWarnings("unchecked")
+	public V value(final int index) {
+		return (V)_values[index];
+	}
+
+	/**
+	 * Set the value of the node with the given preorder {@code index}.
+	 *
+	 * @param index the preorder node index
+	 * @param value the new node value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public void value(final int index, final V value) {
+		_values[index] = value;
+	}
+
+	/**
+	 * Return the child count of the node with the given preorder
+	 * {@code index}.
+	 *
+	 * @param index the preorder node index
+	 * @return the child count of the node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int childCount(final int index) {
+		return _childCounts[index];
+	}
+
+	/**
+	 * Return the number of nodes of the subtree, rooted at the given preorder
+	 * {@code index}. The nodes of the subtree have the indexes
+	 * {@code [index, index + subtreeSize(index))}.
+	 *
+	 * @param index the preorder node index
+	 * @return the size of the subtree
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int subtreeSize(final int index) {
+		return _sizes[index];
+	}
+
+	/**
+	 * Return the preorder index of the parent node of the node with the given
+	 * {@code index}, or -1 for the root node.
+	 *
+	 * @param index the preorder node index
+	 * @return the parent node index, or -1 for the root node
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int parent(final int index) {
+		checkIndex(index);
+
+		int parent = index - 1;
+		while (parent >= 0 && parent + _sizes[parent] <= index) {
+			--parent;
+		}
+		return parent;
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= _values.length) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d out of bounds [0, %d).", index, _values.length
+			));
+		}
+	}
+
+	/**
+	 * Return a copy of the subtree, rooted at the given preorder
+	 * {@code index}.
+	 *
+	 * @param index the preorder node index
+	 * @return a copy of the subtree
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public PreorderTree<V> subtree(final int index) {
+		checkIndex(index);
+
+		final int size = _sizes[index];
+		final Object[] values = new Object[size];
+		final int[] childCounts = new int[size];
+		final int[] sizes = new int[size];
+		System.arraycopy(_values, index, values, 0, size);
+		System.arraycopy(_childCounts, index, childCounts, 0, size);
+		System.arraycopy(_sizes, index, sizes, 0, size);
+
+		return new PreorderTree<>(values, childCounts, sizes);
+	}
+
+	/**
+	 * Replaces the subtree, rooted at the given preorder {@code index}, with
+	 * the subtree of the {@code source} tree, rooted at the
+	 * {@code sourceIndex}. The nodes of the source subtree are copied.
+	 *
+	 * @param index the preorder index of the subtree to replace
+	 * @param source the source tree
+	 * @param sourceIndex the preorder index of the source subtree
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 * @throws NullPointerException if the {@code source} tree is {@code null}
+	 */
+	public void replace(
+		final int index,
+		final PreorderTree<? extends V> source,
+		final int sourceIndex
+	) {
+		checkIndex(index);
+		source.checkIndex(sourceIndex);
+
+		final int removed = _sizes[index];
+		final int inserted = source._sizes[sourceIndex];
+		final int delta = inserted - removed;
+		final int size = _values.length + delta;
+		final int tail = _values.length - index - removed;
+
+		final Object[] values = new Object[size];
+		final int[] childCounts = new int[size];
+		final int[] sizes = new int[size];
+
+		System.arraycopy(_values, 0, values, 0, index);
+		System.arraycopy(_childCounts, 0, childCounts, 0, index);
+		System.arraycopy(_sizes, 0, sizes, 0, index);
+
+		System.arraycopy(source._values, sourceIndex, values, index, inserted);
+		System.arraycopy(
+			source._childCounts, sourceIndex,
+			childCounts, index, inserted
+		);
+		System.arraycopy(source._sizes, sourceIndex, sizes, index, inserted);
+
+		System.arraycopy(
+			_values, index + removed,
+			values, index + inserted, tail
+		);
+		System.arraycopy(
+			_childCounts, index + removed,
+			childCounts, index + inserted, tail
+		);
+		System.arraycopy(
+			_sizes, index + removed,
+			sizes, index + inserted, tail
+		);
+
+		// Only the subtree sizes of the ancestors are changing.
+		for (int i = 0; i < index; ++i) {
+			if (i + _sizes[i] > index) {
+				sizes[i] += delta;
+			}
+		}
+
+		_values = values;
+		_childCounts = childCounts;
+		_sizes = sizes;
+	}
+
+	/**
+	 * Swaps the subtree of {@code that} tree, rooted at index {@code i}, with
+	 * the subtree of the {@code other} tree, rooted at index {@code j}.
+	 *
+	 * @param that the first tree
+	 * @param i the preorder subtree index of the first tree
+	 * @param other the second tree
+	 * @param j the preorder subtree index of the second tree
+	 * @param <V> the tree value type
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 * @throws IllegalArgumentException if both trees are the same object
+	 * @throws NullPointerException if one of the trees is {@code null}
+	 */
+	public static <V> void swap(
+		final PreorderTree<V> that,
+		final int i,
+		final PreorderTree<V> other,
+		final int j
+	) {
+		requireNonNull(that);
+		requireNonNull(other);
+		if (that == other) {
+			throw new IllegalArgumentException(
+				"Subtrees of the same tree can't be swapped."
+			);
+		}
+
+		final PreorderTree<V> subtree = that.subtree(i);
+		that.replace(i, other, j);
+		other.replace(j, subtree, 0);
+	}
+
+	/**
+	 * Return the tree as flat tree node, which stores its nodes in
+	 * breadth-first order.
+	 *
+	 * @return a new flat tree node
+	 */
+	public FlatTreeNode<V> toFlatTreeNode() {
+		final int size = _values.length;
+		final Object[] elements = new Object[size];
+		final int[] childOffsets = new int[size];
+		final int[] childCounts = new int[size];
+
+		// The breadth-first queue of preorder indexes.
+		final int[] queue = new int[size];
+		int tail = 1;
+		for (int head = 0; head < size; ++head) {
+			final int index = queue[head];
+			final int count = _childCounts[index];
+
+			elements[head] = _values[index];
+			childCounts[head] = count;
+			childOffsets[head] = count == 0 ? -1 : tail;
+
+			int child = index + 1;
+			for (int c = 0; c < count; ++c) {
+				queue[tail++] = child;
+				child += _sizes[child];
+			}
+		}
+
+		return FlatTreeNode.of(elements, childOffsets, childCounts);
+	}
+
+	/**
+	 * Return the tree as mutable tree node.
+	 *
+	 * @return a new tree node
+	 */
+	public TreeNode<V> toTreeNode() {
+		final int size = _values.length;
+		@SuppressWarnings("unchecked")
+		final TreeNode<V>[] nodes = (TreeNode<V>[])new TreeNode<?>[size];
+
+		for (int i = size; --i >= 0;) {
+			final TreeNode<V> node = TreeNode.of(value(i));
+			int child = i + 1;
+			for (int c = 0; c < _childCounts[i]; ++c) {
+				node.attach(nodes[child]);
+				child += _sizes[child];
+			}
+			nodes[i] = node;
+		}
+
+		return nodes[0];
+	}
+
+	@Override
+	public String toString() {
+		return toFlatTreeNode().toParenthesesString();
+	}
+
+	/**
+	 * Create a new preorder tree from the given breadth-first ordered flat
+	 * tree {@code nodes}, e.g. the genes of a tree chromosome. The root node
+	 * is the first element of the sequence.
+	 *
+	 * @param nodes the breadth-first ordered flat tree nodes
+	 * @param <V> the tree value type
+	 * @return a new preorder tree
+	 * @throws NullPointerException if the given {@code nodes} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code nodes} are empty
+	 */
+	public static <V> PreorderTree<V>
+	of(final BaseSeq<? extends FlatTree<? extends V, ?>> nodes) {
+		final int size = nodes.length();
+		if (size == 0) {
+			throw new IllegalArgumentException("Tree nodes must not be empty.");
+		}
+
+		final Object[] values = new Object[size];
+		final int[] childCounts = new int[size];
+
+		// Preorder traversal with an explicit stack of node indexes.
+		final int[] stack = new int[size];
+		int top = 0;
+		stack[top++] = 0;
+		for (int i = 0; top > 0; ++i) {
+			final FlatTree<? extends V, ?> node = nodes.get(stack[--top]);
+			values[i] = node.value();
+			childCounts[i] = node.childCount();
+
+			for (int c = node.childCount(); --c >= 0;) {
+				stack[top++] = node.childOffset() + c;
+			}
+		}
+
+		return new PreorderTree<>(values, childCounts);
+	}
+
+	/**
+	 * Create a new preorder tree from the given {@code tree}.
+	 *
+	 * @param tree the source tree
+	 * @param <V> the tree value type
+	 * @return a new preorder tree
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 */
+	public static <V> PreorderTree<V> ofTree(final Tree<? extends V, ?> tree) {
+		final int size = tree.size();
+		final Object[] values = new Object[size];
+		final int[] childCounts = new int[size];
+
+		final Iterator<? extends Tree<? extends V, ?>> nodes =
+			tree.preorderIterator();
+		for (int i = 0; i < size; ++i) {
+			final Tree<? extends V, ?> node = nodes.next();
+			values[i] = node.value();
+			childCounts[i] = node.childCount();
+		}
+
+		return new PreorderTree<>(values, childCounts);
+	}
+
+}
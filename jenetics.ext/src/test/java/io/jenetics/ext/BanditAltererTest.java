@@ -0,0 +1,223 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.GaussianMutator;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BanditAltererTest {
+
+	// Alterer which replaces every individual with a constant genotype.
+	private static Alterer<DoubleGene, Double> constant(final double value) {
+		return (population, generation) -> AltererResult.of(
+			population.map(pt -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(value, 0, 100))),
+				generation
+			)).asISeq(),
+			population.size()
+		);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return ISeq.<Phenotype<DoubleGene, Double>>of(
+			() -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(50, 0, 100))),
+				0,
+				50.0
+			),
+			size
+		);
+	}
+
+	@Test
+	public void alter() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.<DoubleGene, Double>of(
+				Optimize.MINIMUM,
+				constant(1),
+				constant(2),
+				constant(3)
+			);
+
+		final AltererResult<DoubleGene, Double> result =
+			alterer.alter(population(100), 1);
+
+		Assert.assertEquals(result.population().size(), 100);
+		Assert.assertEquals(result.alterations(), 100);
+		Assert.assertEquals(
+			alterer.credits().stream()
+				.mapToLong(BanditAlterer.Credit::selections)
+				.sum(),
+			100
+		);
+		Assert.assertEquals(
+			alterer.credits().stream()
+				.mapToLong(BanditAlterer.Credit::alterations)
+				.sum(),
+			100
+		);
+	}
+
+	@Test
+	public void credits() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.<DoubleGene, Double>of(
+				Optimize.MINIMUM,
+				constant(10),
+				constant(90)
+			);
+
+		ISeq<Phenotype<DoubleGene, Double>> population = population(500);
+		for (int i = 1; i < 20; ++i) {
+			population = alterer.alter(population, i).population()
+				.map(pt -> pt.withFitness(pt.genotype().gene().allele()));
+		}
+
+		final ISeq<BanditAlterer.Credit<DoubleGene, Double>> credits =
+			alterer.credits();
+
+		Assert.assertTrue(credits.get(0).improvements() > 0);
+		Assert.assertEquals(credits.get(1).improvements(), 0);
+		Assert.assertTrue(credits.get(0).reward() > 0);
+		Assert.assertEquals(credits.get(1).reward(), 0.0);
+		Assert.assertTrue(
+			credits.get(0).probability() > credits.get(1).probability(),
+			credits.toString()
+		);
+		Assert.assertTrue(
+			credits.get(0).selections() > credits.get(1).selections(),
+			credits.toString()
+		);
+		Assert.assertEquals(
+			credits.get(0).probability() + credits.get(1).probability(),
+			1.0,
+			0.000001
+		);
+	}
+
+	@Test
+	public void creditPendingOffspring() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.of(Optimize.MINIMUM, constant(10));
+
+		final ISeq<Phenotype<DoubleGene, Double>> offspring =
+			alterer.alter(population(10), 1).population()
+				.map(pt -> pt.withFitness(pt.genotype().gene().allele()));
+
+		// The offspring are not part of the next altered population.
+		alterer.alter(population(10), 2);
+		Assert.assertEquals(alterer.credits().get(0).improvements(), 0);
+
+		alterer.alter(offspring, 3);
+		Assert.assertEquals(alterer.credits().get(0).improvements(), 10);
+	}
+
+	@Test
+	public void interceptor() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.of(Optimize.MINIMUM, constant(10));
+
+		final ISeq<Phenotype<DoubleGene, Double>> offspring =
+			alterer.alter(population(10), 1).population()
+				.map(pt -> pt.withFitness(pt.genotype().gene().allele()));
+
+		alterer.interceptor().after(EvolutionResult.of(
+			Optimize.MINIMUM,
+			offspring,
+			1,
+			EvolutionDurations.ZERO,
+			0,
+			0,
+			0
+		));
+		Assert.assertEquals(alterer.credits().get(0).improvements(), 10);
+	}
+
+	@Test
+	public void expiredOffspring() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.of(Optimize.MINIMUM, constant(10));
+
+		final ISeq<Phenotype<DoubleGene, Double>> offspring =
+			alterer.alter(population(10), 1).population()
+				.map(pt -> pt.withFitness(pt.genotype().gene().allele()));
+
+		alterer.alter(population(10), 2 + BanditAlterer.PENDING_GENERATIONS);
+		alterer.alter(offspring, 3 + BanditAlterer.PENDING_GENERATIONS);
+		Assert.assertEquals(alterer.credits().get(0).improvements(), 0);
+	}
+
+	@Test
+	public void engine() {
+		final BanditAlterer<DoubleGene, Double> alterer =
+			BanditAlterer.<DoubleGene, Double>of(
+				Optimize.MINIMUM,
+				new Mutator<>(0.2),
+				new GaussianMutator<>(0.2),
+				new SinglePointCrossover<>(0.3),
+				new MeanAlterer<>(0.3)
+			);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.minimizing()
+			.alterers(alterer)
+			.interceptor(alterer.interceptor())
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(result.bestFitness() < 1);
+		Assert.assertTrue(
+			alterer.credits().stream().allMatch(c -> c.selections() > 0)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyAlterers() {
+		BanditAlterer.<DoubleGene, Double>of(Optimize.MINIMUM);
+	}
+
+}
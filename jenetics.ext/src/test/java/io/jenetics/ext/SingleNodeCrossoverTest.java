@@ -27,6 +27,7 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.ext.util.PreorderTree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -135,6 +136,60 @@ public class SingleNodeCrossoverTest {
 		Assert.assertEquals(tree1.size() + tree2.size(), size1 + size2);
 	}
 
+	@Test(dataProvider = "treeLevels")
+	public void preorderCrossover(final int level1, final int level2) {
+		final Random random = new Random();
+
+		final TreeNode<Integer> tree1 = newTree(level1, random);
+		final TreeNode<Integer> tree2 = newTree(level2, random);
+		final PreorderTree<Integer> preorder1 = PreorderTree.ofTree(tree1);
+		final PreorderTree<Integer> preorder2 = PreorderTree.ofTree(tree2);
+
+		final int altered = SingleNodeCrossover.swap(preorder1, preorder2);
+
+		Assert.assertEquals(
+			preorder1.size() + preorder2.size(),
+			tree1.size() + tree2.size()
+		);
+		Assert.assertEquals(preorder1.value(0), tree1.value());
+		Assert.assertEquals(preorder2.value(0), tree2.value());
+		if (tree1.size() == 1 || tree2.size() == 1) {
+			Assert.assertEquals(altered, 0);
+			Assert.assertEquals(preorder1.toTreeNode(), tree1);
+			Assert.assertEquals(preorder2.toTreeNode(), tree2);
+		} else {
+			Assert.assertEquals(altered, 2);
+		}
+	}
+
+	@Test
+	public void overriddenCrossover() {
+		final var crossover =
+			new SingleNodeCrossover<IntTreeGene, Double>() {
+				@Override
+				protected <A> int crossover(
+					final TreeNode<A> that,
+					final TreeNode<A> other
+				) {
+					final A value = that.value();
+					that.value(other.value());
+					other.value(value);
+					return 2;
+				}
+			};
+
+		final PreorderTree<Integer> tree1 = PreorderTree.ofTree(
+			TreeNode.of(1).attach(2, 3)
+		);
+		final PreorderTree<Integer> tree2 = PreorderTree.ofTree(
+			TreeNode.of(4).attach(5)
+		);
+
+		Assert.assertEquals(crossover.crossover(tree1, tree2), 2);
+		Assert.assertEquals(tree1.toTreeNode(), TreeNode.of(4).attach(2, 3));
+		Assert.assertEquals(tree2.toTreeNode(), TreeNode.of(1).attach(5));
+	}
+
 	@DataProvider(name = "treeLevels")
 	public Object[][] treeLevels() {
 		return new Object[][] {
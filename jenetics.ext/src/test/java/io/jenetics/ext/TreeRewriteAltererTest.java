@@ -0,0 +1,89 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.rewriting.TreeRewriter;
+import io.jenetics.ext.util.PreorderTree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TreeRewriteAltererTest {
+
+	// Replaces every 0 node by a 1 node.
+	private static final TreeRewriter<Integer> REWRITER = (tree, limit) -> {
+		final List<TreeNode<Integer>> zeros = tree.breadthFirstStream()
+			.filter(node -> node.value() == 0)
+			.collect(Collectors.toList());
+		zeros.forEach(node -> node.value(1));
+		return zeros.size();
+	};
+
+	private static TreeNode<Integer> tree(final int leaf) {
+		return TreeNode.of(5)
+			.attach(TreeNode.of(3).attach(leaf, 2))
+			.attach(4);
+	}
+
+	@Test
+	public void rewrite() {
+		final var alterer =
+			new TreeRewriteAlterer<Integer, IntTreeGene, Double>(REWRITER);
+
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(tree(0));
+		Assert.assertEquals(alterer.mutate(tree), 1);
+		Assert.assertEquals(tree.toTreeNode(), tree(1));
+	}
+
+	@Test
+	public void rewriteUnchanged() {
+		final var alterer =
+			new TreeRewriteAlterer<Integer, IntTreeGene, Double>(REWRITER);
+
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(tree(1));
+		Assert.assertEquals(alterer.mutate(tree), 0);
+		Assert.assertEquals(tree.toTreeNode(), tree(1));
+	}
+
+	@Test
+	public void overriddenMutate() {
+		final var alterer =
+			new TreeRewriteAlterer<Integer, IntTreeGene, Double>(REWRITER) {
+				@Override
+				protected void mutate(final TreeNode<Integer> tree) {
+					super.mutate(tree);
+					tree.value(7);
+				}
+			};
+
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(tree(0));
+		Assert.assertEquals(alterer.mutate(tree), 1);
+		Assert.assertEquals(tree.value(0).intValue(), 7);
+		Assert.assertEquals(tree.value(2).intValue(), 1);
+	}
+
+}
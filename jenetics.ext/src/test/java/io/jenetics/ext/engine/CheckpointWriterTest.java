@@ -0,0 +1,168 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointWriterTest {
+
+	private Path _dir;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("jenetics-checkpoint-");
+	}
+
+	@AfterMethod
+	public void cleanup() throws IOException {
+		try (var files = Files.list(_dir)) {
+			for (Path file : (Iterable<Path>)files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(_dir);
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.executor(Runnable::run)
+			.populationSize(50)
+			.minimizing();
+	}
+
+	@Test
+	public void writeCheckpoints() throws IOException {
+		final Path path = _dir.resolve("evolution.checkpoint");
+
+		final var writer = CheckpointWriter.<DoubleGene, Double>of(path, 5);
+		final EvolutionResult<DoubleGene, Double> last;
+		try {
+			last = builder()
+				.interceptor(writer)
+				.build()
+				.stream()
+				.limit(20)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+		} finally {
+			writer.close();
+		}
+		Assert.assertEquals(
+			writer.writtenCheckpoints() + writer.droppedCheckpoints(),
+			4
+		);
+
+		final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+		Assert.assertEquals(checkpoint.result().generation(), 20);
+		Assert.assertEquals(
+			checkpoint.result().population(),
+			last.population()
+		);
+		Assert.assertFalse(Files.exists(path.resolveSibling(
+			path.getFileName() + ".tmp")));
+	}
+
+	@Test
+	public void deterministicResume() throws IOException {
+		final Path path = _dir.resolve("evolution.checkpoint");
+
+		final EvolutionResult<DoubleGene, Double> expected;
+		expected = RandomRegistry.with(
+			new Random(123),
+			r -> {
+				try (var writer = CheckpointWriter.<DoubleGene, Double>of(
+						path, 10, Duration.ofDays(1), 100))
+				{
+					return builder()
+						.interceptor(writer)
+						.build()
+						.stream()
+						.limit(15)
+						.reduce((a, b) -> b)
+						.orElseThrow();
+				} catch (IOException e) {
+					throw new AssertionError(e);
+				}
+			}
+		);
+
+		final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+		Assert.assertEquals(checkpoint.result().generation(), 10);
+		Assert.assertTrue(checkpoint.random().isPresent());
+
+		// Building the engine already consumes random numbers.
+		final Engine<DoubleGene, Double> engine = builder().build();
+		final EvolutionResult<DoubleGene, Double> resumed;
+		resumed = RandomRegistry.with(
+			checkpoint.random().orElseThrow(),
+			r -> engine
+				.stream(checkpoint.next())
+				.limit(5)
+				.reduce((a, b) -> b)
+				.orElseThrow()
+		);
+
+		Assert.assertEquals(resumed.generation(), expected.generation());
+		Assert.assertEquals(resumed.population(), expected.population());
+	}
+
+	@Test
+	public void threadLocalRandom() throws IOException {
+		final Path path = _dir.resolve("evolution.checkpoint");
+		try (var writer = CheckpointWriter.<DoubleGene, Double>of(path, 1)) {
+			RandomRegistry.using(ThreadLocalRandom.current(), r ->
+				builder().interceptor(writer).build().stream()
+					.limit(1)
+					.forEach(er -> {})
+			);
+		}
+
+		Assert.assertFalse(Checkpoint.read(path).random().isPresent());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidGenerations() {
+		CheckpointWriter.of(_dir.resolve("checkpoint"), 0);
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStatistics;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionHistoryTest {
+
+	private Path _dir;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("jenetics-history-");
+	}
+
+	@AfterMethod
+	public void cleanup() throws IOException {
+		try (var files = Files.list(_dir)) {
+			for (Path file : (Iterable<Path>)files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(_dir);
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.executor(Runnable::run)
+			.populationSize(50)
+			.minimizing();
+	}
+
+	private List<EvolutionResult<DoubleGene, Double>>
+	write(final int generations, final int segmentSize) throws IOException {
+		try (var writer = EvolutionHistoryWriter
+				.<DoubleGene, Double>of(_dir, segmentSize))
+		{
+			return builder()
+				.interceptor(writer)
+				.build()
+				.stream()
+				.limit(generations)
+				.collect(Collectors.toList());
+		}
+	}
+
+	// The durations of the written summaries are not complete, since the
+	// interceptor is called before the engine measures the whole evolve step.
+	private static void assertEquals(
+		final EvolutionSummary<DoubleGene, Double> actual,
+		final EvolutionSummary<DoubleGene, Double> expected
+	) {
+		Assert.assertEquals(actual.generation(), expected.generation());
+		Assert.assertEquals(actual.optimize(), expected.optimize());
+		Assert.assertEquals(actual.killCount(), expected.killCount());
+		Assert.assertEquals(actual.invalidCount(), expected.invalidCount());
+		Assert.assertEquals(actual.alterCount(), expected.alterCount());
+		Assert.assertEquals(actual.bestPhenotype(), expected.bestPhenotype());
+		Assert.assertEquals(actual.worstPhenotype(), expected.worstPhenotype());
+		Assert.assertEquals(actual.phenotypeAge(), expected.phenotypeAge());
+		Assert.assertEquals(actual.fitness(), expected.fitness());
+	}
+
+	@Test
+	public void writeAndRead() throws IOException {
+		final List<EvolutionResult<DoubleGene, Double>> results =
+			write(100, 4*1024);
+
+		Assert.assertTrue(EvolutionHistory.segments(_dir).size() > 1);
+
+		try (var history = EvolutionHistory.<DoubleGene, Double>open(_dir)) {
+			Assert.assertEquals(history.size(), 100);
+			Assert.assertEquals(history.firstGeneration(), OptionalLong.of(1));
+			Assert.assertEquals(history.lastGeneration(), OptionalLong.of(100));
+
+			for (var result : results) {
+				assertEquals(
+					history.get(result.generation()).orElseThrow(),
+					EvolutionSummary.of(result)
+				);
+			}
+			Assert.assertFalse(history.get(0).isPresent());
+			Assert.assertFalse(history.get(101).isPresent());
+
+			final List<EvolutionSummary<DoubleGene, Double>> summaries =
+				history.stream().collect(Collectors.toList());
+			Assert.assertEquals(summaries.size(), results.size());
+			for (int i = 0; i < summaries.size(); ++i) {
+				assertEquals(
+					summaries.get(i),
+					EvolutionSummary.of(results.get(i))
+				);
+			}
+			Assert.assertEquals(
+				history.stream(42)
+					.mapToLong(EvolutionSummary::generation)
+					.toArray(),
+				results.stream()
+					.skip(41)
+					.mapToLong(EvolutionResult::generation)
+					.toArray()
+			);
+		}
+	}
+
+	@Test
+	public void emptyHistory() throws IOException {
+		try (var history = EvolutionHistory.<DoubleGene, Double>open(_dir)) {
+			Assert.assertEquals(history.size(), 0);
+			Assert.assertFalse(history.firstGeneration().isPresent());
+			Assert.assertFalse(history.lastGeneration().isPresent());
+			Assert.assertEquals(history.stream().count(), 0);
+		}
+	}
+
+	@Test
+	public void replayStatistics() throws IOException {
+		final List<EvolutionResult<DoubleGene, Double>> results =
+			write(50, EvolutionHistoryWriter.DEFAULT_SEGMENT_SIZE);
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> expected =
+			EvolutionStatistics.ofNumber();
+		results.forEach(expected::accept);
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+		try (var history = EvolutionHistory.<DoubleGene, Double>open(_dir)) {
+			history.stream().forEach(statistics::accept);
+		}
+
+		Assert.assertEquals(
+			statistics.fitness().count(),
+			expected.fitness().count()
+		);
+		Assert.assertEquals(
+			statistics.fitness().min(),
+			expected.fitness().min()
+		);
+		Assert.assertEquals(
+			statistics.fitness().mean(),
+			expected.fitness().mean(),
+			1e-6*Math.abs(expected.fitness().mean())
+		);
+		Assert.assertEquals(
+			statistics.fitness().variance(),
+			expected.fitness().variance(),
+			1e-6*expected.fitness().variance()
+		);
+	}
+
+	@Test
+	public void continueHistory() throws IOException {
+		write(10, EvolutionHistoryWriter.DEFAULT_SEGMENT_SIZE);
+
+		try (var writer = EvolutionHistoryWriter.<DoubleGene, Double>of(_dir)) {
+			builder()
+				.interceptor(writer)
+				.build()
+				.stream(EvolutionStart.of(ISeq.empty(), 11))
+				.limit(5)
+				.forEach(r -> {});
+		}
+
+		Assert.assertEquals(EvolutionHistory.segments(_dir), List.of(0, 1));
+		try (var history = EvolutionHistory.<DoubleGene, Double>open(_dir)) {
+			Assert.assertEquals(history.size(), 15);
+			Assert.assertEquals(
+				history.stream()
+					.mapToLong(EvolutionSummary::generation)
+					.toArray(),
+				LongStream.rangeClosed(1, 15).toArray()
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void nonIncreasingGeneration() throws IOException {
+		final List<EvolutionResult<DoubleGene, Double>> results =
+			write(5, EvolutionHistoryWriter.DEFAULT_SEGMENT_SIZE);
+
+		try (var writer = EvolutionHistoryWriter.<DoubleGene, Double>of(_dir)) {
+			writer.append(EvolutionSummary.of(results.get(4)));
+		}
+	}
+
+	@Test
+	public void truncatedRecord() throws IOException {
+		write(10, EvolutionHistoryWriter.DEFAULT_SEGMENT_SIZE);
+
+		final Path log = _dir.resolve(
+			EvolutionHistory.segmentName(0) + EvolutionHistory.LOG_SUFFIX
+		);
+		try (var channel = FileChannel.open(log, WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+
+		try (var history = EvolutionHistory.<DoubleGene, Double>open(_dir)) {
+			Assert.assertEquals(history.size(), 9);
+			Assert.assertEquals(history.lastGeneration(), OptionalLong.of(9));
+			Assert.assertFalse(history.get(10).isPresent());
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void closedHistory() throws IOException {
+		write(3, EvolutionHistoryWriter.DEFAULT_SEGMENT_SIZE);
+
+		final EvolutionHistory<DoubleGene, Double> history =
+			EvolutionHistory.open(_dir);
+		history.close();
+		history.get(1);
+	}
+
+}
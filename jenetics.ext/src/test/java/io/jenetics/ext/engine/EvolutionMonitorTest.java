@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionMonitorTest {
+
+	private static EvolutionResult<DoubleGene, Double>
+	evolve(final EvolutionMonitor<DoubleGene, Double> monitor) {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(50)
+			.evaluationLatencies(0)
+			.interceptor(monitor)
+			.build();
+
+		return engine.stream()
+			.limit(20)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+	}
+
+	@Test
+	public void attributes() throws JMException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try (var monitor = EvolutionMonitor.<DoubleGene, Double>register(
+				"attributes", ForkJoinPool.commonPool(), Duration.ZERO))
+		{
+			Assert.assertTrue(server.isRegistered(monitor.objectName()));
+			Assert.assertEquals(monitor.getGeneration(), 0);
+			Assert.assertEquals(monitor.getBestFitness(), "");
+
+			final EvolutionResult<DoubleGene, Double> result = evolve(monitor);
+
+			Assert.assertEquals(
+				server.getAttribute(monitor.objectName(), "Generation"),
+				20L
+			);
+			Assert.assertEquals(
+				server.getAttribute(monitor.objectName(), "BestFitness"),
+				String.valueOf(result.bestFitness())
+			);
+			Assert.assertEquals(
+				monitor.getWorstFitness(),
+				String.valueOf(result.worstFitness())
+			);
+			Assert.assertTrue(monitor.getGenerationsPerSecond() > 0);
+			Assert.assertTrue(monitor.getEvaluationsPerSecond() > 0);
+			Assert.assertTrue(monitor.getKillRate() >= 0);
+			Assert.assertTrue(monitor.getInvalidRate() >= 0);
+			Assert.assertTrue(monitor.getActiveThreads() >= 0);
+			Assert.assertTrue(monitor.getQueuedTasks() >= 0);
+			Assert.assertTrue(monitor.getPoolOccupancy() >= 0);
+
+			final Map<String, Double> durations = monitor.getPhaseDurations();
+			Assert.assertEquals(durations.size(), 15);
+			Assert.assertTrue(
+				durations.get("evolve.p99") >= durations.get("evolve.p50")
+			);
+
+			final TabularData data = (TabularData)server
+				.getAttribute(monitor.objectName(), "PhaseDurations");
+			Assert.assertEquals(data.size(), 15);
+			final CompositeData row = data.get(new Object[]{"evaluation.p90"});
+			Assert.assertEquals(
+				row.get("value"),
+				durations.get("evaluation.p90")
+			);
+		}
+	}
+
+	@Test
+	public void estimatedEvaluations() {
+		try (var monitor = EvolutionMonitor.<DoubleGene, Double>register(
+				"estimated", ForkJoinPool.commonPool(), Duration.ZERO))
+		{
+			// Many altered genes, but no individual created in generation 5.
+			final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+				() -> Phenotype.of(
+					Genotype.of(DoubleChromosome.of(0, 1, 100)),
+					1,
+					1.0
+				),
+				10
+			);
+			monitor.after(EvolutionResult.of(
+				Optimize.MAXIMUM,
+				population,
+				5,
+				EvolutionDurations.ZERO,
+				0,
+				0,
+				1000
+			));
+
+			Assert.assertEquals(monitor.getEvaluationsPerSecond(), 0.0);
+		}
+	}
+
+	@Test
+	public void close() {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		final EvolutionMonitor<DoubleGene, Double> monitor =
+			EvolutionMonitor.register("close");
+		Assert.assertTrue(server.isRegistered(monitor.objectName()));
+
+		monitor.close();
+		Assert.assertFalse(server.isRegistered(monitor.objectName()));
+		monitor.close();
+	}
+
+	@Test
+	public void refreshInterval() {
+		try (var monitor = EvolutionMonitor.<DoubleGene, Double>register(
+				"refresh", ForkJoinPool.commonPool(), Duration.ofHours(1)))
+		{
+			evolve(monitor);
+
+			// Only the first generation has been published with rates.
+			Assert.assertEquals(monitor.getGeneration(), 20);
+			Assert.assertEquals(
+				monitor.getPhaseDurations().get("evolve.p50"),
+				monitor.getPhaseDurations().get("evolve.p99")
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void duplicateName() {
+		try (var monitor = EvolutionMonitor.register("duplicate")) {
+			Assert.assertNotNull(monitor.objectName());
+			EvolutionMonitor.register("duplicate");
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeRefreshInterval() {
+		EvolutionMonitor.register(
+			"negative",
+			ForkJoinPool.commonPool(),
+			Duration.ofSeconds(-1)
+		);
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionTracerTest {
+
+	private static final Pattern SPAN = Pattern.compile(
+		"\\{\"name\":\"([^\"]+)\",\"cat\":\"jenetics\",\"ph\":\"X\"," +
+		"\"ts\":[0-9.]+,\"dur\":[0-9.]+,\"pid\":\\d+,\"tid\":(\\d+)," +
+		"\"args\":\\{\"id\":(\\d+),\"parent\":(\\d+)," +
+		"\"generation\":(\\d+)}}"
+	);
+
+	private static final class Event {
+		final String name;
+		final long id;
+		final long parent;
+		final long generation;
+
+		Event(final Matcher matcher) {
+			name = matcher.group(1);
+			id = Long.parseLong(matcher.group(3));
+			parent = Long.parseLong(matcher.group(4));
+			generation = Long.parseLong(matcher.group(5));
+		}
+	}
+
+	private static List<Event> events(final Path path) throws IOException {
+		return Files.readAllLines(path).stream()
+			.map(SPAN::matcher)
+			.filter(Matcher::find)
+			.map(Event::new)
+			.collect(Collectors.toList());
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(200);
+	}
+
+	@Test
+	public void trace() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".json");
+		try {
+			try (var tracer = EvolutionTracer.start(path)) {
+				final Engine<DoubleGene, Double> engine = builder()
+					.spanSink(tracer)
+					.build();
+
+				// Spans of not traced engines are not recorded.
+				builder().build().stream()
+					.limit(5)
+					.collect(EvolutionResult.toBestEvolutionResult());
+
+				engine.stream()
+					.limit(5)
+					.collect(EvolutionResult.toBestEvolutionResult());
+			}
+
+			final String trace = Files.readString(path);
+			Assert.assertTrue(trace.startsWith("{\"traceEvents\":["), trace);
+			Assert.assertTrue(trace.trim().endsWith("}"), trace);
+			Assert.assertTrue(trace.contains("\"thread_name\""), trace);
+
+			final List<Event> events = events(path);
+			final Map<Long, Event> spans = events.stream()
+				.collect(Collectors.toMap(e -> e.id, Function.identity()));
+
+			final List<Event> evolve = events.stream()
+				.filter(e -> e.name.equals("evolve"))
+				.collect(Collectors.toList());
+			Assert.assertEquals(
+				evolve.stream()
+					.map(e -> e.generation)
+					.collect(Collectors.toSet()),
+				Set.of(1L, 2L, 3L, 4L, 5L)
+			);
+			Assert.assertEquals(evolve.size(), 5);
+
+			Assert.assertEquals(
+				events.stream()
+					.filter(e -> e.parent != 0 && !e.name.equals("batch"))
+					.map(e -> e.name)
+					.collect(Collectors.toSet()),
+				Set.of(
+					"offspring-selection",
+					"survivors-selection",
+					"offspring-alter",
+					"offspring-filter",
+					"survivor-filter",
+					"evaluation"
+				)
+			);
+			for (Event event : events) {
+				if (event.parent != 0) {
+					final Event parent = spans.get(event.parent);
+					Assert.assertNotNull(parent, event.name);
+					Assert.assertEquals(
+						parent.name,
+						event.name.equals("batch") ? "evaluation" : "evolve"
+					);
+				}
+			}
+			Assert.assertTrue(
+				events.stream().anyMatch(e -> e.name.equals("batch"))
+			);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void concurrentTracers() throws IOException {
+		final Path path1 = Files.createTempFile("jenetics-", ".json");
+		final Path path2 = Files.createTempFile("jenetics-", ".json");
+		try {
+			try (var tracer1 = EvolutionTracer.start(path1);
+				var tracer2 = EvolutionTracer.start(path2))
+			{
+				builder().spanSink(tracer1).build().stream()
+					.limit(3)
+					.collect(EvolutionResult.toBestEvolutionResult());
+				builder().spanSink(tracer2).build().stream()
+					.limit(4)
+					.collect(EvolutionResult.toBestEvolutionResult());
+			}
+
+			Assert.assertEquals(
+				events(path1).stream()
+					.filter(e -> e.name.equals("evolve"))
+					.count(),
+				3
+			);
+			Assert.assertEquals(
+				events(path2).stream()
+					.filter(e -> e.name.equals("evolve"))
+					.count(),
+				4
+			);
+		} finally {
+			Files.deleteIfExists(path1);
+			Files.deleteIfExists(path2);
+		}
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationSnapshotTest {
+
+	private Path _dir;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("jenetics-snapshot-");
+	}
+
+	@AfterMethod
+	public void cleanup() throws IOException {
+		try (var files = Files.list(_dir)) {
+			for (Path file : (Iterable<Path>)files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(_dir);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	phenotypes(final int size) {
+		return RandomRegistry.with(new Random(123), r ->
+			Genotype.of(DoubleChromosome.of(0, 10, 5), 3).instances()
+				.limit(size)
+				.map(gt -> Phenotype.of(gt, 7, gt.gene().allele()))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	@DataProvider(name = "segmentSizes")
+	public Object[][] segmentSizes() {
+		return new Object[][] {
+			{PopulationSnapshot.SEGMENT_SIZE},
+			{1024},
+			{64},
+			{1}
+		};
+	}
+
+	@Test(dataProvider = "segmentSizes")
+	public void population(final int segmentSize) throws IOException {
+		final Path path = _dir.resolve("population.snapshot");
+		final ISeq<Phenotype<DoubleGene, Double>> population = phenotypes(100);
+		PopulationSnapshot.write(path, EvolutionStart.of(population, 13));
+
+		try (var snapshot = PopulationSnapshot.<DoubleGene, Double>
+				open(path, segmentSize))
+		{
+			Assert.assertEquals(snapshot.generation(), 13);
+			Assert.assertEquals(snapshot.size(), 100);
+			Assert.assertEquals(snapshot.population(), population);
+			Assert.assertEquals(
+				snapshot.toEvolutionInit().population(),
+				population.map(Phenotype::genotype)
+			);
+		}
+	}
+
+	@Test
+	public void emptyPopulation() throws IOException {
+		final Path path = _dir.resolve("population.snapshot");
+		PopulationSnapshot.write(
+			path,
+			EvolutionStart.<DoubleGene, Double>of(ISeq.empty(), 1)
+		);
+
+		try (var snapshot = PopulationSnapshot.open(path)) {
+			Assert.assertEquals(snapshot.size(), 0);
+			Assert.assertTrue(snapshot.population().isEmpty());
+		}
+	}
+
+	@Test
+	public void closedSnapshot() throws IOException {
+		final Path path = _dir.resolve("population.snapshot");
+		final ISeq<Phenotype<DoubleGene, Double>> population = phenotypes(10);
+		PopulationSnapshot.write(path, EvolutionStart.of(population, 1));
+
+		final var snapshot = PopulationSnapshot.<DoubleGene, Double>open(path);
+		Assert.assertEquals(snapshot.population().get(0), population.get(0));
+		snapshot.close();
+
+		Assert.assertEquals(snapshot.population().get(0), population.get(0));
+		Assert.assertThrows(
+			UncheckedIOException.class,
+			() -> snapshot.population().get(1)
+		);
+	}
+
+	@Test
+	public void warmStart() throws IOException {
+		final Path path = _dir.resolve("population.snapshot");
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.populationSize(50)
+			.minimizing()
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+		PopulationSnapshot.write(path, result.next());
+
+		try (var snapshot = PopulationSnapshot.<DoubleGene, Double>open(path)) {
+			final EvolutionResult<DoubleGene, Double> resumed = engine
+				.stream(snapshot.toEvolutionStart())
+				.limit(5)
+				.reduce((a, b) -> b)
+				.orElseThrow();
+
+			Assert.assertEquals(resumed.generation(), 15);
+			Assert.assertTrue(resumed.bestFitness() <= result.bestFitness());
+
+			final long count = engine
+				.stream(snapshot.toEvolutionInit())
+				.limit(5)
+				.count();
+			Assert.assertEquals(count, 5);
+		}
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void invalidFile() throws IOException {
+		final Path path = _dir.resolve("population.snapshot");
+		Files.write(path, new byte[100]);
+		PopulationSnapshot.open(path).close();
+	}
+
+}
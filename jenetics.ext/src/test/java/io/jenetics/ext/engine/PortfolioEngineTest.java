@@ -0,0 +1,263 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.GaussianMutator;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.engine.Problem;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PortfolioEngineTest {
+
+	private static EvolutionResult<IntegerGene, Integer> result(final int value) {
+		final Genotype<IntegerGene> genotype = Genotype.of(
+			IntegerChromosome.of(IntegerGene.of(value, 0, Integer.MAX_VALUE))
+		);
+
+		return EvolutionResult.of(
+			Optimize.MINIMUM,
+			ISeq.of(Phenotype.of(genotype, 1, value)),
+			1,
+			1,
+			EvolutionDurations.ZERO,
+			1,
+			1,
+			1
+		);
+	}
+
+	// Streamable which decreases the fitness by 'step' every generation.
+	private static EvolutionStreamable<IntegerGene, Integer> streamable(
+		final int step,
+		final int size,
+		final AtomicInteger generations
+	) {
+		return streamable(1000, step, size, generations, new AtomicInteger());
+	}
+
+	// Streamable which decreases the fitness, starting from 'start', by
+	// 'step' every generation.
+	private static EvolutionStreamable<IntegerGene, Integer> streamable(
+		final int start,
+		final int step,
+		final int size,
+		final AtomicInteger generations,
+		final AtomicInteger closed
+	) {
+		return new EvolutionStreamable<>() {
+			@Override
+			public EvolutionStream<IntegerGene, Integer>
+			stream(final Supplier<EvolutionStart<IntegerGene, Integer>> s) {
+				final EvolutionStream<IntegerGene, Integer> stream =
+					new EvolutionStreamImpl<>(
+						IntStream.range(1, size + 1)
+							.peek(i -> generations.incrementAndGet())
+							.mapToObj(i -> result(start - i*step))
+							.spliterator(),
+						false
+					);
+				stream.onClose(closed::incrementAndGet);
+				return stream;
+			}
+
+			@Override
+			public EvolutionStream<IntegerGene, Integer>
+			stream(final EvolutionInit<IntegerGene> init) {
+				return stream(EvolutionStart.<IntegerGene, Integer>empty());
+			}
+		};
+	}
+
+	@Test
+	public void emptyPortfolio() {
+		final long count = PortfolioEngine.<IntegerGene, Integer>of(1)
+			.stream()
+			.count();
+
+		Assert.assertEquals(count, 0);
+	}
+
+	@Test
+	public void successiveHalving() {
+		final AtomicInteger a = new AtomicInteger();
+		final AtomicInteger b = new AtomicInteger();
+		final AtomicInteger c = new AtomicInteger();
+
+		final int[] values = PortfolioEngine.of(
+				2,
+				streamable(1, 100, c),
+				streamable(3, 100, a),
+				streamable(2, 100, b))
+			.stream()
+			.limit(10)
+			.mapToInt(r -> r.bestFitness())
+			.toArray();
+
+		Assert.assertEquals(
+			values,
+			IntStream.range(1, 11).map(i -> 1000 - i*3).toArray()
+		);
+		Assert.assertEquals(a.get(), 10);
+		Assert.assertEquals(b.get(), 4);
+		Assert.assertEquals(c.get(), 2);
+	}
+
+	@Test
+	public void halvingByImprovement() {
+		final AtomicInteger a = new AtomicInteger();
+		final AtomicInteger b = new AtomicInteger();
+
+		// 'a' has the better fitness, but 'b' is improving faster.
+		final int[] values = PortfolioEngine.of(
+				2,
+				streamable(100, 1, 100, a, new AtomicInteger()),
+				streamable(1000, 50, 100, b, new AtomicInteger()))
+			.stream()
+			.limit(20)
+			.mapToInt(r -> r.bestFitness())
+			.toArray();
+
+		Assert.assertEquals(a.get(), 2);
+		Assert.assertEquals(b.get(), 20);
+		Assert.assertEquals(values[19], 0);
+	}
+
+	@Test
+	public void bestSoFar() {
+		// The fitness of the single engine is getting worse.
+		final AtomicInteger generations = new AtomicInteger();
+		final int[] values = PortfolioEngine.of(
+				2,
+				streamable(100, -1, 10, generations, new AtomicInteger()))
+			.stream()
+			.mapToInt(r -> r.bestFitness())
+			.toArray();
+
+		Assert.assertEquals(generations.get(), 10);
+		Assert.assertEquals(
+			values,
+			IntStream.range(0, 10).map(i -> 101).toArray()
+		);
+	}
+
+	@Test
+	public void closeStoppedEngines() {
+		final AtomicInteger a = new AtomicInteger();
+		final AtomicInteger b = new AtomicInteger();
+		final AtomicInteger c = new AtomicInteger();
+
+		PortfolioEngine.of(
+				2,
+				streamable(1000, 1, 100, new AtomicInteger(), c),
+				streamable(1000, 3, 100, new AtomicInteger(), a),
+				streamable(1000, 2, 3, new AtomicInteger(), b))
+			.stream()
+			.limit(10)
+			.count();
+
+		Assert.assertEquals(a.get(), 0);
+		Assert.assertEquals(b.get(), 1);
+		Assert.assertEquals(c.get(), 1);
+	}
+
+	@Test
+	public void mergedCounts() {
+		final EvolutionResult<IntegerGene, Integer> result = PortfolioEngine.of(
+				5,
+				streamable(1, 100, new AtomicInteger()),
+				streamable(3, 100, new AtomicInteger()),
+				streamable(2, 100, new AtomicInteger()))
+			.stream()
+			.limit(3)
+			.reduce((x, y) -> y)
+			.orElseThrow();
+
+		Assert.assertEquals(result.generation(), 3);
+		Assert.assertEquals(result.killCount(), 3);
+		Assert.assertEquals(result.invalidCount(), 3);
+		Assert.assertEquals(result.alterCount(), 3);
+		Assert.assertEquals(result.bestFitness().intValue(), 991);
+	}
+
+	@Test
+	public void terminatedEngines() {
+		final long count = PortfolioEngine.of(
+				100,
+				streamable(1, 5, new AtomicInteger()),
+				streamable(3, 7, new AtomicInteger()),
+				streamable(2, 3, new AtomicInteger()))
+			.stream()
+			.count();
+
+		Assert.assertEquals(count, 7);
+	}
+
+	@Test
+	public void engines() {
+		final Problem<double[], DoubleGene, Double> problem = Problem.of(
+			v -> Math.sin(v[0])*Math.cos(v[1]),
+			Codecs.ofVector(DoubleRange.of(0, 2*Math.PI), 2)
+		);
+
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(problem)
+			.minimizing();
+
+		final EvolutionResult<DoubleGene, Double> result = PortfolioEngine.of(
+				5,
+				builder.copy().alterers(new Mutator<>(0.2)).build(),
+				builder.copy().alterers(new GaussianMutator<>(0.1)).build(),
+				builder.copy().alterers(new MeanAlterer<>()).build())
+			.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.totalGenerations(), 50);
+		Assert.assertTrue(result.bestFitness() < 0);
+	}
+
+}
@@ -20,11 +20,15 @@
 package io.jenetics.ext.rewriting;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Random;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
 
 import io.jenetics.ext.util.TreeNode;
 
@@ -60,4 +64,95 @@ public class TRSTest {
 		Assert.assertEquals(IO.object.fromByteArray(data), trs);
 	}
 
+	private static TreeNode<String>
+	newTree(final int depth, final Random random) {
+		final String[] leafs = {"0", "1", "x"};
+		final String[] ops = {"add", "mul", "sub", "S"};
+
+		if (depth == 0 || random.nextDouble() < 0.2) {
+			return TreeNode.of(leafs[random.nextInt(leafs.length)]);
+		}
+
+		final String op = ops[random.nextInt(ops.length)];
+		final TreeNode<String> node = TreeNode.of(op);
+		for (int i = 0, n = op.equals("S") ? 1 : 2; i < n; ++i) {
+			node.attach(newTree(depth - 1, random));
+		}
+		return node;
+	}
+
+	@Test(dataProvider = "rules")
+	public void sameAsSequentialRewrite(final String[] rules) {
+		final ISeq<TreeRewriteRule<String>> rs = ISeq.of(rules)
+			.map(TreeRewriteRule::parse);
+		final TRS<String> trs = new TRS<>(rs);
+
+		final Random random = new Random(1234);
+		for (int i = 0; i < 200; ++i) {
+			final TreeNode<String> tree = newTree(random.nextInt(8), random);
+			final int limit = random.nextInt(4) == 0
+				? 1000
+				: random.nextInt(20);
+
+			final TreeNode<String> expected = TreeNode.ofTree(tree);
+			final TreeNode<String> actual = TreeNode.ofTree(tree);
+			final int expectedCount = TreeRewriter.rewrite(expected, limit, rs);
+			final int actualCount = trs.rewrite(actual, limit);
+
+			Assert.assertEquals(actual, expected, tree.toParenthesesString());
+			Assert.assertEquals(actualCount, expectedCount);
+		}
+	}
+
+	@Test(dataProvider = "rules")
+	public void sameAsSequentialRewriteOfMappedValues(final String[] rules) {
+		// Lists are not indexed by their hash code.
+		final ISeq<TreeRewriteRule<List<String>>> rs = ISeq.of(rules)
+			.map(TreeRewriteRule::parse)
+			.map(rule -> rule.map(List::of));
+		final TRS<List<String>> trs = new TRS<>(rs);
+
+		final Random random = new Random(5678);
+		for (int i = 0; i < 200; ++i) {
+			final TreeNode<List<String>> tree =
+				newTree(random.nextInt(8), random).map(List::of);
+			final int limit = random.nextInt(50);
+
+			final TreeNode<List<String>> expected = TreeNode.ofTree(tree);
+			final TreeNode<List<String>> actual = TreeNode.ofTree(tree);
+			final int expectedCount = TreeRewriter.rewrite(expected, limit, rs);
+			final int actualCount = trs.rewrite(actual, limit);
+
+			Assert.assertEquals(actual, expected, tree.toParenthesesString());
+			Assert.assertEquals(actualCount, expectedCount);
+		}
+	}
+
+	@DataProvider
+	public Object[][] rules() {
+		return new Object[][] {
+			{new String[] {
+				"add(0,$x) -> $x",
+				"add(S($x),$y) -> S(add($x,$y))",
+				"mul(0,$x) -> 0",
+				"mul(S($x),$y) -> add(mul($x,$y),$y)"
+			}},
+			{new String[] {
+				"sub($x,$x) -> 0",
+				"add($x,0) -> $x",
+				"add($x,$x) -> mul(S(S(0)),$x)",
+				"mul($x,1) -> $x",
+				"mul(1,$x) -> $x",
+				"S(sub($x,1)) -> $x",
+				"add($x,$y) -> add($y,$x)"
+			}},
+			{new String[] {
+				"x -> S(0)",
+				"S($x) -> add($x,1)",
+				"$x -> $x",
+				"add(1,$y) -> S($y)"
+			}}
+		};
+	}
+
 }
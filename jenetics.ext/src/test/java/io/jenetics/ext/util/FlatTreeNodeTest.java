@@ -97,10 +97,90 @@ public class FlatTreeNodeTest extends TreeTestBase<Integer, FlatTreeNode<Integer
 			{(Function<Tree<?, ?>, Object>)Tree::childPath},
 			{(Function<Tree<?, ?>, Object>)Tree::isLeaf},
 			{(Function<Tree<?, ?>, Object>)t -> t.root().value()},
-			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)}
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)Tree::depth},
+			{(Function<Tree<?, ?>, Object>)Tree::size},
+			{(Function<Tree<?, ?>, Object>)Tree::siblingCount},
+			{(Function<Tree<?, ?>, Object>)t -> t.nextSibling().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)t -> t.previousSibling().map(Tree::value).orElse(null)},
+			{(Function<Tree<?, ?>, Object>)t -> t.parent().map(p -> p.indexOf(t)).orElse(-1)},
+			{(Function<Tree<?, ?>, Object>)t -> t.isAncestor(t.root())}
 		};
 	}
 
+	@Test
+	public void isAncestor() {
+		final FlatTreeNode<Integer> tree = newTree(5, new Random(123));
+		for (var node : tree) {
+			for (var other : tree) {
+				Assert.assertEquals(
+					node.isAncestor(other),
+					node.pathElements().stream().anyMatch(other::identical)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void cursor() {
+		final FlatTreeNode<Integer> tree = newTree(5, new Random(123));
+
+		for (var node : tree) {
+			final FlatTreeNode.Cursor<Integer> cursor = node.cursor();
+			Assert.assertEquals(cursor.value(), node.value());
+			Assert.assertEquals(cursor.index(), node.index());
+			Assert.assertEquals(cursor.childCount(), node.childCount());
+			Assert.assertEquals(cursor.size(), node.size());
+			Assert.assertEquals(cursor.level(), node.level());
+			Assert.assertEquals(cursor.depth(), node.depth());
+			Assert.assertEquals(cursor.isLeaf(), node.isLeaf());
+			Assert.assertEquals(cursor.isRoot(), node.isRoot());
+			Assert.assertSame(cursor.node(), node.cursor().node());
+
+			Assert.assertEquals(cursor.toParent(), node.parent().isPresent());
+			Assert.assertEquals(
+				cursor.node(),
+				node.parent().orElse(node)
+			);
+
+			cursor.moveTo(node.index());
+			Assert.assertEquals(
+				cursor.toFirstChild(),
+				node.firstChild().isPresent()
+			);
+			Assert.assertEquals(cursor.node(), node.firstChild().orElse(node));
+
+			cursor.moveTo(node.index());
+			Assert.assertEquals(
+				cursor.toNextSibling(),
+				node.nextSibling().isPresent()
+			);
+			Assert.assertEquals(cursor.node(), node.nextSibling().orElse(node));
+
+			cursor.moveTo(node.index());
+			Assert.assertEquals(
+				cursor.toPreviousSibling(),
+				node.previousSibling().isPresent()
+			);
+			Assert.assertEquals(
+				cursor.node(),
+				node.previousSibling().orElse(node)
+			);
+
+			for (int i = 0; i < node.childCount(); ++i) {
+				cursor.moveTo(node.index()).toChild(i);
+				Assert.assertEquals(cursor.node(), node.childAt(i));
+			}
+			Assert.assertTrue(cursor.toRoot().isRoot());
+		}
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void cursorChildOutOfBounds() {
+		final FlatTreeNode<Integer> tree = newTree(3, new Random(123));
+		tree.cursor().toChild(tree.childCount());
+	}
+
 	@Test
 	public void serialize() throws IOException {
 		final FlatTreeNode<Integer> tree = newTree(6, new Random());
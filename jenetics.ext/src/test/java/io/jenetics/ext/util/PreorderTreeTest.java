@@ -0,0 +1,164 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PreorderTreeTest {
+
+	private static TreeNode<Integer> tree() {
+		return TreeNode.of(0)
+			.attach(TreeNode.of(1)
+				.attach(4, 5))
+			.attach(TreeNode.of(2)
+				.attach(6))
+			.attach(TreeNode.of(3)
+				.attach(TreeNode.of(7)
+					.attach(10, 11))
+				.attach(TreeNode.of(8))
+				.attach(TreeNode.of(9)));
+	}
+
+	private static TreeNode<Integer>
+	newTree(final int levels, final long seed) {
+		final TreeNode<Integer> root = TreeNode.of(0);
+		TreeNodeTest.fill(root, levels, new Random(seed));
+		return root;
+	}
+
+	@Test(dataProvider = "trees")
+	public void ofTree(final TreeNode<Integer> tree) {
+		final PreorderTree<Integer> preorder = PreorderTree.ofTree(tree);
+
+		Assert.assertEquals(preorder.size(), tree.size());
+		Assert.assertEquals(preorder.toTreeNode(), tree);
+		Assert.assertEquals(
+			preorder.toFlatTreeNode(),
+			FlatTreeNode.ofTree(tree)
+		);
+		Assert.assertEquals(preorder.toString(), tree.toParenthesesString());
+	}
+
+	@Test(dataProvider = "trees")
+	public void ofFlatTree(final TreeNode<Integer> tree) {
+		final FlatTreeNode<Integer> flat = FlatTreeNode.ofTree(tree);
+		final PreorderTree<Integer> preorder =
+			PreorderTree.of(flat.flattenedNodes());
+
+		Assert.assertEquals(preorder.toTreeNode(), tree);
+		Assert.assertEquals(preorder.toFlatTreeNode(), flat);
+	}
+
+	@Test(dataProvider = "trees")
+	public void subtrees(final TreeNode<Integer> tree) {
+		final PreorderTree<Integer> preorder = PreorderTree.ofTree(tree);
+
+		int index = 0;
+		for (var it = tree.preorderIterator(); it.hasNext(); ++index) {
+			final TreeNode<Integer> node = it.next();
+
+			Assert.assertEquals(preorder.value(index), node.value());
+			Assert.assertEquals(preorder.childCount(index), node.childCount());
+			Assert.assertEquals(preorder.subtreeSize(index), node.size());
+			Assert.assertEquals(preorder.subtree(index).toTreeNode(), node);
+		}
+	}
+
+	@DataProvider(name = "trees")
+	public Object[][] trees() {
+		return new Object[][] {
+			{TreeNode.of(0)},
+			{tree()},
+			{newTree(2, 123)},
+			{newTree(5, 456)},
+			{newTree(10, 789)}
+		};
+	}
+
+	@Test
+	public void parent() {
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(tree());
+
+		// Preorder: 0 1 4 5 2 6 3 7 10 11 8 9
+		final int[] parents = {-1, 0, 1, 1, 0, 4, 0, 6, 7, 7, 6, 6};
+		for (int i = 0; i < tree.size(); ++i) {
+			Assert.assertEquals(tree.parent(i), parents[i], "Index " + i);
+		}
+	}
+
+	@Test
+	public void replace() {
+		final TreeNode<Integer> expected = tree();
+		final TreeNode<Integer> source = TreeNode.of(20)
+			.attach(TreeNode.of(21).attach(22, 23));
+
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(expected);
+		tree.replace(6, PreorderTree.ofTree(source), 1);
+		expected.replace(2, TreeNode.of(21).attach(22, 23));
+
+		Assert.assertEquals(tree.toTreeNode(), expected);
+		Assert.assertEquals(tree.size(), expected.size());
+		Assert.assertEquals(tree.subtreeSize(0), expected.size());
+		Assert.assertEquals(
+			tree.toFlatTreeNode(),
+			FlatTreeNode.ofTree(expected)
+		);
+	}
+
+	@Test
+	public void swap() {
+		final TreeNode<Integer> tree1 = tree();
+		final TreeNode<Integer> tree2 = newTree(3, 123);
+
+		final PreorderTree<Integer> preorder1 = PreorderTree.ofTree(tree1);
+		final PreorderTree<Integer> preorder2 = PreorderTree.ofTree(tree2);
+		PreorderTree.swap(preorder1, 1, preorder2, 0);
+
+		final TreeNode<Integer> subtree = tree1.childAt(0);
+		tree1.replace(0, tree2);
+
+		Assert.assertEquals(preorder1.toTreeNode(), tree1);
+		Assert.assertEquals(preorder2.toTreeNode(), subtree);
+	}
+
+	@Test
+	public void swapParsed() {
+		final var tree1 = PreorderTree.ofTree(TreeNode.parse("a(b,c(d,e))"));
+		final var tree2 = PreorderTree.ofTree(TreeNode.parse("x(y,z)"));
+
+		PreorderTree.swap(tree1, 2, tree2, 1);
+		Assert.assertEquals(tree1.toString(), "a(b,y)");
+		Assert.assertEquals(tree2.toString(), "x(c(d,e),z)");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void swapSameTree() {
+		final PreorderTree<Integer> tree = PreorderTree.ofTree(tree());
+		PreorderTree.swap(tree, 1, tree, 4);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Op;
+
+/**
+ * Measures the sample ingestion of the {@link SampleBuffer}, while the
+ * sample points are published and evaluated concurrently. Every evaluation
+ * works on the snapshot which was published when the evaluation started.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Group)
+public class SampleBufferPerf {
+
+	private static final Tree<Op<Double>, ?> PROGRAM =
+		MathExpr.parseTree("x*x - 3*x + 1");
+
+	@Param({"10000", "100000"})
+	public int size;
+
+	private SampleBuffer<Double> buffer;
+
+	@Setup
+	public void setup() {
+		buffer = new SampleBuffer<>(size);
+		for (int i = 0; i < size; ++i) {
+			buffer.add(sample());
+		}
+		buffer.publish();
+	}
+
+	private static Sample<Double> sample() {
+		final double x = ThreadLocalRandom.current().nextDouble();
+		return Sample.ofDouble(x, x*x - 3*x + 1);
+	}
+
+	@Benchmark
+	@Group("ingest")
+	@GroupThreads(3)
+	public void add() {
+		buffer.add(sample());
+	}
+
+	@Benchmark
+	@Group("ingest")
+	@GroupThreads(1)
+	public int publish() {
+		return buffer.publish();
+	}
+
+	@Benchmark
+	@Group("evaluate")
+	@GroupThreads(3)
+	public Object eval() {
+		return buffer.eval(PROGRAM);
+	}
+
+	@Benchmark
+	@Group("evaluate")
+	@GroupThreads(1)
+	public int addAndPublish() {
+		for (int i = 0; i < 100; ++i) {
+			buffer.add(sample());
+		}
+		return buffer.publish();
+	}
+
+}
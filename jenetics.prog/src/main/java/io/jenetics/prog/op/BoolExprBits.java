@@ -0,0 +1,166 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Bit-parallel evaluation of {@link BoolOp} expression trees. The sample rows
+ * are packed into {@code long} words, 64 rows per word, and the
+ * {@code BoolOp}s are evaluated as bitwise operations on whole words. Every
+ * tree node is evaluated only once for all sample rows. Operations which
+ * are not {@code BoolOp}s are evaluated bit by bit.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BoolExprBits {
+	private BoolExprBits() {}
+
+	/**
+	 * Evaluates the given expression {@code tree} for all packed rows of the
+	 * given variable {@code columns}.
+	 *
+	 * @param tree the expression tree to evaluate
+	 * @param columns the packed variable columns, where {@code columns[i]}
+	 *        contains the values of the variable with index {@code i}
+	 * @return the packed evaluation result
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the columns are empty, have
+	 *         different lengths or a variable index is out of range
+	 */
+	static long[] eval(
+		final Tree<? extends Op<Boolean>, ?> tree,
+		final long[][] columns
+	) {
+		requireNonNull(tree);
+		if (columns.length == 0) {
+			throw new IllegalArgumentException("Columns must not be empty.");
+		}
+
+		final int words = columns[0].length;
+		for (int i = 1; i < columns.length; ++i) {
+			if (columns[i].length != words) {
+				throw new IllegalArgumentException(format(
+					"Expected column length %d, but got %d for column %d.",
+					words, columns[i].length, i
+				));
+			}
+		}
+
+		return eval(tree, columns, words);
+	}
+
+	// Every returned array is a new one and can be overwritten by the caller.
+	private static long[] eval(
+		final Tree<? extends Op<Boolean>, ?> tree,
+		final long[][] columns,
+		final int words
+	) {
+		final Op<Boolean> op = tree.value();
+
+		if (op instanceof Var) {
+			final int index = ((Var<?>)op).index();
+			if (index >= columns.length) {
+				throw new IllegalArgumentException(format(
+					"No value for variable '%s' given.", op
+				));
+			}
+			return columns[index].clone();
+		} else if (op instanceof Val) {
+			final long[] result = new long[words];
+			if (((Val<Boolean>)op).value()) {
+				Arrays.fill(result, -1L);
+			}
+			return result;
+		}
+
+		final long[][] args = new long[tree.childCount()][];
+		for (int i = 0; i < args.length; ++i) {
+			args[i] = eval(tree.childAt(i), columns, words);
+		}
+
+		final long[] result = args.length > 0 ? args[0] : new long[words];
+		if (op instanceof BoolOp) {
+			apply((BoolOp)op, args, result);
+		} else {
+			final Boolean[] values = new Boolean[args.length];
+			for (int i = 0; i < words; ++i) {
+				long word = 0;
+				for (int bit = 0; bit < Long.SIZE; ++bit) {
+					final long mask = 1L << bit;
+					for (int j = 0; j < args.length; ++j) {
+						values[j] = (args[j][i] & mask) != 0;
+					}
+					if (op.apply(values)) {
+						word |= mask;
+					}
+				}
+				result[i] = word;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Applies the given operation word-wise. The {@code result} array may
+	 * be one of the argument arrays.
+	 */
+	static void apply(
+		final BoolOp op,
+		final long[][] args,
+		final long[] result
+	) {
+		final long[] a = args[0];
+		final long[] b = args.length > 1 ? args[1] : null;
+		final int n = result.length;
+
+		switch (op) {
+			case AND:
+				for (int i = 0; i < n; ++i) result[i] = a[i] & b[i];
+				break;
+			case OR:
+				for (int i = 0; i < n; ++i) result[i] = a[i] | b[i];
+				break;
+			case NOT:
+				for (int i = 0; i < n; ++i) result[i] = ~a[i];
+				break;
+			case IMP:
+				for (int i = 0; i < n; ++i) result[i] = ~a[i] | b[i];
+				break;
+			case XOR:
+				for (int i = 0; i < n; ++i) result[i] = a[i] ^ b[i];
+				break;
+			case EQU:
+				for (int i = 0; i < n; ++i) result[i] = ~(a[i] ^ b[i]);
+				break;
+			default:
+				throw new AssertionError("Unknown operation: " + op);
+		}
+	}
+
+}
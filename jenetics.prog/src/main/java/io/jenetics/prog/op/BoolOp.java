@@ -33,7 +33,7 @@ import io.jenetics.ext.util.TreeNode;
  * This class contains basic and secondary boolean operations.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 public enum BoolOp implements Op<Boolean> {
@@ -177,6 +177,45 @@ public enum BoolOp implements Op<Boolean> {
 		return result;
 	}
 
+	/**
+	 * Evaluates the given {@code program} <em>bit-parallel</em> for all
+	 * packed rows of the given variable {@code columns}. Every {@code long}
+	 * word contains 64 sample rows, where row {@code r} is stored in bit
+	 * {@code r%64} of word {@code r/64}. The {@code BoolOp}s are evaluated as
+	 * bitwise operations on whole words, which is up to 64 times faster than
+	 * evaluating the program once per row. This is useful for Boolean
+	 * circuit synthesis, where the whole truth table has to be evaluated.
+	 *
+	 * <pre>{@code
+	 *  final Tree<Op<Boolean>, ?> program = ...;
+	 *  final long[] x = {0b1100L};
+	 *  final long[] y = {0b1010L};
+	 *  final long[] result = BoolOp.evalBits(program, x, y);
+	 * }</pre>
+	 *
+	 * The bits of the last result word, which doesn't belong to a sample
+	 * row, are undefined.
+	 *
+	 * @see Program#eval(Tree, Object[])
+	 *
+	 * @since 6.1
+	 *
+	 * @param program the Boolean program to evaluate
+	 * @param columns the packed variable columns, where {@code columns[i]}
+	 *        contains the values of the variable with index {@code i}
+	 * @return the packed evaluation result
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if no column is given, the columns
+	 *         have different lengths or there is no column for a variable of
+	 *         the {@code program}
+	 */
+	public static long[] evalBits(
+		final Tree<? extends Op<Boolean>, ?> program,
+		final long[]... columns
+	) {
+		return BoolExprBits.eval(program, columns);
+	}
+
 	static Optional<Const<Boolean>> toConst(final String string) {
 		return tryParseBoolean(string)
 			.map(Const::of);
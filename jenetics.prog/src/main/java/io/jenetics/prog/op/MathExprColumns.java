@@ -0,0 +1,154 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Column-at-a-time evaluation of {@link MathOp} expression trees. Instead of
+ * evaluating the whole tree once per sample row, every tree node is evaluated
+ * once for all rows, using primitive {@code double} arrays and the primitive
+ * kernels of the {@link MathOp}s.
+ * Operations which are not {@link MathOp}s are evaluated row by row.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class MathExprColumns {
+	private MathExprColumns() {}
+
+	/**
+	 * Evaluates the given expression {@code tree} for all rows of the given
+	 * variable {@code columns}.
+	 *
+	 * @param tree the expression tree to evaluate
+	 * @param columns the variable columns, where {@code columns[i]} contains
+	 *        the values of the variable with index {@code i}
+	 * @return the evaluated rows
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the columns are empty, have
+	 *         different lengths or a variable index is out of range
+	 */
+	static double[] eval(
+		final Tree<? extends Op<Double>, ?> tree,
+		final double[][] columns
+	) {
+		requireNonNull(tree);
+		if (columns.length == 0) {
+			throw new IllegalArgumentException("Columns must not be empty.");
+		}
+
+		final int rows = columns[0].length;
+		for (int i = 1; i < columns.length; ++i) {
+			if (columns[i].length != rows) {
+				throw new IllegalArgumentException(format(
+					"Expected column length %d, but got %d for column %d.",
+					rows, columns[i].length, i
+				));
+			}
+		}
+
+		final double[] result = eval(tree, columns, rows);
+		for (int i = 0; i < rows; ++i) {
+			if (result[i] == -0.0) {
+				result[i] = 0.0;
+			}
+		}
+		return result;
+	}
+
+	// Every returned array is a new one and can be overwritten by the caller.
+	private static double[] eval(
+		final Tree<? extends Op<Double>, ?> tree,
+		final double[][] columns,
+		final int rows
+	) {
+		final Op<Double> op = tree.value();
+
+		if (op instanceof Var) {
+			final int index = ((Var<?>)op).index();
+			if (index >= columns.length) {
+				throw new IllegalArgumentException(format(
+					"No value for variable '%s' given.", op
+				));
+			}
+			return columns[index].clone();
+		} else if (op instanceof Val) {
+			final double[] result = new double[rows];
+			Arrays.fill(result, ((Val<Double>)op).value());
+			return result;
+		}
+
+		final double[][] args = new double[tree.childCount()][];
+		for (int i = 0; i < args.length; ++i) {
+			args[i] = eval(tree.childAt(i), columns, rows);
+		}
+
+		final double[] result = args.length > 0 ? args[0] : new double[rows];
+		if (op instanceof MathOp) {
+			apply((MathOp)op, args, result);
+		} else {
+			final Double[] values = new Double[args.length];
+			for (int i = 0; i < rows; ++i) {
+				for (int j = 0; j < args.length; ++j) {
+					values[j] = args[j][i];
+				}
+				result[i] = op.apply(values);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Applies the primitive kernel of the given operation element-wise. The
+	 * {@code result} array may be one of the argument arrays.
+	 */
+	static void apply(
+		final MathOp op,
+		final double[][] args,
+		final double[] result
+	) {
+		final double[] a = args[0];
+		final int n = result.length;
+
+		if (op.arity() == 1) {
+			final DoubleUnaryOperator f = op.unary();
+			for (int i = 0; i < n; ++i) {
+				result[i] = f.applyAsDouble(a[i]);
+			}
+		} else {
+			final DoubleBinaryOperator f = op.binary();
+			final double[] b = args[1];
+			for (int i = 0; i < n; ++i) {
+				result[i] = f.applyAsDouble(a[i], b[i]);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Compiles {@link MathOp}, {@link Var} and {@link Val} trees into
+ * {@link MethodHandle} chains with a primitive {@code (double[])double}
+ * signature. Every operation node is bound to the primitive kernel of its
+ * {@link MathOp}, and the child nodes are composed with
+ * {@link MethodHandles#filterArguments(MethodHandle, int, MethodHandle...)}.
+ * The resulting handle is turned into JVM bytecode by the JIT compiler,
+ * without boxing the intermediate values. Tree nodes with other operations
+ * are evaluated by the {@link Program#eval(Tree, Object[])} interpreter.
+ * <p>
+ * The compiled functions are cached with the canonical representation of the
+ * tree as key, which includes the variable indexes and the exact constant
+ * values. Equal expressions, created by different program chromosomes, are
+ * therefore compiled only once.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class MathExprCompiler {
+	private MathExprCompiler() {}
+
+	/**
+	 * The maximal number of cached, compiled expressions.
+	 */
+	static final int CACHE_SIZE = 1024;
+
+	private static final MethodType DOUBLE_ARRAY =
+		methodType(double.class, double[].class);
+
+	private static final Map<MathOp, MethodHandle> OPS = ops();
+
+	private static final MethodHandle VAR =
+		MethodHandles.arrayElementGetter(double[].class);
+
+	private static final MethodHandle INTERPRET = find(
+		"interpret",
+		methodType(double.class, Tree.class, double[].class)
+	);
+
+	private static final Map<String, Compiled> CACHE =
+		Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75F, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean
+			removeEldestEntry(final Map.Entry<String, Compiled> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		});
+
+	/**
+	 * The compiled expression function.
+	 */
+	static final class Compiled implements ToDoubleFunction<double[]> {
+		private final MethodHandle _handle;
+		private final Var<?> _var;
+
+		private Compiled(final MethodHandle handle, final Var<?> var) {
+			_handle = requireNonNull(handle);
+			_var = var;
+		}
+
+		@Override
+		public double applyAsDouble(final double[] args) {
+			requireNonNull(args);
+			if (_var != null && _var.index() >= args.length) {
+				throw new IllegalArgumentException(format(
+					"No value for variable '%s' given.", _var
+				));
+			}
+
+			final double value;
+			try {
+				value = (double)_handle.invokeExact(args);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+			return value == -0.0 ? 0.0 : value;
+		}
+	}
+
+	/**
+	 * Return the compiled function of the given operation {@code tree}. The
+	 * function is taken from the cache, if available.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled function of the given {@code tree}
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 */
+	static Compiled compile(final Tree<? extends Op<Double>, ?> tree) {
+		final String key = key(tree);
+		if (key == null) {
+			return new Compiled(handle(tree), maxVar(tree));
+		}
+
+		final Compiled cached = CACHE.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		final Compiled compiled = new Compiled(handle(tree), maxVar(tree));
+		final Compiled previous = CACHE.putIfAbsent(key, compiled);
+		return previous != null ? previous : compiled;
+	}
+
+	/**
+	 * Return the number of currently cached expressions.
+	 *
+	 * @return the number of cached expressions
+	 */
+	static int cacheSize() {
+		return CACHE.size();
+	}
+
+	/**
+	 * Return the canonical key of the given tree, or {@code null} if the tree
+	 * contains operations which can't be compiled and must not be cached.
+	 */
+	static String key(final Tree<? extends Op<Double>, ?> tree) {
+		final StringBuilder out = new StringBuilder();
+		return key(tree, out) ? out.toString() : null;
+	}
+
+	private static boolean key(
+		final Tree<? extends Op<Double>, ?> tree,
+		final StringBuilder out
+	) {
+		final Op<Double> op = tree.value();
+		if (op instanceof Var) {
+			out.append('$').append(((Var<?>)op).index());
+		} else if (op instanceof Val) {
+			out.append('#').append(Long.toHexString(
+				Double.doubleToRawLongBits(((Val<Double>)op).value())
+			));
+		} else if (op instanceof MathOp) {
+			out.append(op).append('(');
+			for (int i = 0; i < tree.childCount(); ++i) {
+				if (i > 0) out.append(',');
+				if (!key(tree.childAt(i), out)) {
+					return false;
+				}
+			}
+			out.append(')');
+		} else {
+			return false;
+		}
+
+		return true;
+	}
+
+	private static Var<?> maxVar(final Tree<? extends Op<Double>, ?> tree) {
+		return tree.stream()
+			.map(Tree::value)
+			.filter(Var.class::isInstance)
+			.map(op -> (Var<?>)op)
+			.reduce((a, b) -> a.index() >= b.index() ? a : b)
+			.orElse(null);
+	}
+
+	/**
+	 * Creates the {@code (double[])double} method handle of the given tree.
+	 */
+	static MethodHandle handle(final Tree<? extends Op<Double>, ?> tree) {
+		final Op<Double> op = tree.value();
+
+		if (op instanceof Var) {
+			return MethodHandles.insertArguments(VAR, 1, ((Var<?>)op).index());
+		} else if (op instanceof Val) {
+			return MethodHandles.dropArguments(
+				MethodHandles.constant(double.class, ((Val<Double>)op).value()),
+				0,
+				double[].class
+			);
+		} else if (op instanceof MathOp) {
+			final MethodHandle[] children = new MethodHandle[tree.childCount()];
+			for (int i = 0; i < children.length; ++i) {
+				children[i] = handle(tree.childAt(i));
+			}
+
+			// All arguments of the filtered handle are bound to the single
+			// input array.
+			return MethodHandles.permuteArguments(
+				MethodHandles.filterArguments(OPS.get(op), 0, children),
+				DOUBLE_ARRAY,
+				new int[children.length]
+			);
+		} else {
+			return MethodHandles.insertArguments(
+				INTERPRET, 0, FlatTreeNode.ofTree(tree)
+			);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static double
+	interpret(final Tree<?, ?> tree, final double[] args) {
+		final Tree<? extends Op<Double>, ?> expr =
+			(Tree<? extends Op<Double>, ?>)tree;
+		return Program.eval(expr, Numbers.box(args));
+	}
+
+	private static Map<MathOp, MethodHandle> ops() {
+		final MethodHandle unary = findVirtual(
+			DoubleUnaryOperator.class,
+			methodType(double.class, double.class)
+		);
+		final MethodHandle binary = findVirtual(
+			DoubleBinaryOperator.class,
+			methodType(double.class, double.class, double.class)
+		);
+
+		final Map<MathOp, MethodHandle> ops = new EnumMap<>(MathOp.class);
+		for (MathOp op : MathOp.values()) {
+			ops.put(op, op.arity() == 1
+				? unary.bindTo(op.unary())
+				: binary.bindTo(op.binary()));
+		}
+		return ops;
+	}
+
+	private static MethodHandle
+	findVirtual(final Class<?> type, final MethodType methodType) {
+		try {
+			return MethodHandles.publicLookup()
+				.findVirtual(type, "applyAsDouble", methodType);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private static MethodHandle find(final String name, final MethodType type) {
+		try {
+			return MethodHandles.lookup()
+				.findStatic(MathExprCompiler.class, name, type);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+}
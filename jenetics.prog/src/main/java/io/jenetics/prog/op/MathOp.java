@@ -46,7 +46,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
@@ -75,13 +76,13 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#abs(double)
 	 */
-	ABS("abs", 1, v -> abs(v[0])),
+	ABS("abs", a -> abs(a)),
 
 	/**
 	 * Return the negation value of a double value.
 	 * <em>This operation has arity 1.</em>
 	 */
-	NEG("neg", 1, v -> -v[0]),
+	NEG("neg", a -> -a),
 
 	/**
 	 * Return the minimum of two values.
@@ -89,7 +90,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#min(double, double)
 	 */
-	MIN("min", 2, v -> min(v[0], v[1])),
+	MIN("min", (a, b) -> min(a, b)),
 
 	/**
 	 * Return the maximum of two values
@@ -97,7 +98,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#max(double, double)
 	 */
-	MAX("max", 2, v -> max(v[0], v[1])),
+	MAX("max", (a, b) -> max(a, b)),
 
 	/**
 	 * Returns the smallest (closest to negative infinity) double value that is
@@ -107,7 +108,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#ceil(double)
 	 */
-	CEIL("ceil", 1, v -> ceil(v[0])),
+	CEIL("ceil", a -> ceil(a)),
 
 	/**
 	 * Returns the largest (closest to positive infinity) double value that is
@@ -116,7 +117,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#floor(double)
 	 */
-	FLOOR("floor", 1, v -> floor(v[0])),
+	FLOOR("floor", a -> floor(a)),
 
 	/**
 	 * Returns the signum function of the argument; zero if the argument is
@@ -126,7 +127,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#signum(double)
 	 */
-	SIGNUM("signum", 1, v -> signum(v[0])),
+	SIGNUM("signum", a -> signum(a)),
 
 	/**
 	 * Returns the double value that is closest in value to the argument and is
@@ -135,37 +136,37 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#rint(double)
 	 */
-	RINT("rint", 1, v -> rint(v[0])),
+	RINT("rint", a -> rint(a)),
 
 	/**
 	 * Returns the sum of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	ADD("add", 2, v -> v[0] + v[1]),
+	ADD("add", (a, b) -> a + b),
 
 	/**
 	 * Return the diff of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	SUB("sub", 2, v -> v[0] - v[1]),
+	SUB("sub", (a, b) -> a - b),
 
 	/**
 	 * Returns the product of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	MUL("mul", 2, v -> v[0]*v[1]),
+	MUL("mul", (a, b) -> a*b),
 
 	/**
 	 * Returns the quotient of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	DIV("div", 2, v -> v[0]/v[1]),
+	DIV("div", (a, b) -> a/b),
 
 	/**
 	 * Returns the modulo of its arguments.
 	 * <em>This operation has arity 2.</em>
 	 */
-	MOD("mod", 2, v -> v[0]%v[1]),
+	MOD("mod", (a, b) -> a%b),
 
 	/**
 	 * Returns the value of the first argument raised to the power of the second
@@ -174,13 +175,13 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#pow(double, double)
 	 */
-	POW("pow", 2, v -> pow(v[0], v[1])),
+	POW("pow", (a, b) -> pow(a, b)),
 
 	/**
 	 * Returns the square value of a given double value.
 	 * <em>This operation has arity 1.</em>
 	 */
-	SQR("sqr", 1, v -> v[0]*v[0]),
+	SQR("sqr", a -> a*a),
 
 	/**
 	 * Returns the correctly rounded positive square root of a double value.
@@ -188,7 +189,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sqrt(double)
 	 */
-	SQRT("sqrt", 1, v -> sqrt(v[0])),
+	SQRT("sqrt", a -> sqrt(a)),
 
 	/**
 	 * Returns the cube root of a double value.
@@ -196,7 +197,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cbrt(double)
 	 */
-	CBRT("cbrt", 1, v -> cbrt(v[0])),
+	CBRT("cbrt", a -> cbrt(a)),
 
 	/**
 	 * Returns sqrt(<i>x</i><sup>2</sup>&nbsp;+<i>y</i><sup>2</sup>) without
@@ -205,7 +206,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#hypot(double, double)
 	 */
-	HYPOT("hypot", 2, v -> hypot(v[0], v[1])),
+	HYPOT("hypot", (a, b) -> hypot(a, b)),
 
 
 	/* *************************************************************************
@@ -218,7 +219,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#exp(double)
 	 */
-	EXP("exp", 1, v -> exp(v[0])),
+	EXP("exp", a -> exp(a)),
 
 	/**
 	 * Returns the natural logarithm (base e) of a double value.
@@ -226,7 +227,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#log(double)
 	 */
-	LOG("log", 1, v -> log(v[0])),
+	LOG("log", a -> log(a)),
 
 	/**
 	 * Returns the base 10 logarithm of a double value.
@@ -234,7 +235,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#log10(double)
 	 */
-	LOG10("log10", 1, v -> log10(v[0])),
+	LOG10("log10", a -> log10(a)),
 
 
 	/* *************************************************************************
@@ -247,7 +248,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sin(double)
 	 */
-	SIN("sin", 1, v -> sin(v[0])),
+	SIN("sin", a -> sin(a)),
 
 	/**
 	 * Returns the trigonometric cosine of an angle.
@@ -255,7 +256,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cos(double)
 	 */
-	COS("cos", 1, v -> cos(v[0])),
+	COS("cos", a -> cos(a)),
 
 	/**
 	 * Returns the trigonometric tangent of an angle.
@@ -263,7 +264,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#tan(double)
 	 */
-	TAN("tan", 1, v -> tan(v[0])),
+	TAN("tan", a -> tan(a)),
 
 	/**
 	 * Returns the arc cosine of a double value.
@@ -271,7 +272,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#acos(double)
 	 */
-	ACOS("acos", 1, v -> acos(v[0])),
+	ACOS("acos", a -> acos(a)),
 
 	/**
 	 * Returns the arc sine of a double value.
@@ -279,7 +280,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#asin(double)
 	 */
-	ASIN("asin", 1, v -> asin(v[0])),
+	ASIN("asin", a -> asin(a)),
 
 	/**
 	 * Returns the arc tangent of a value.
@@ -287,7 +288,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#atan(double)
 	 */
-	ATAN("atan", 1, v -> atan(v[0])),
+	ATAN("atan", a -> atan(a)),
 
 	/**
 	 * Returns the hyperbolic cosine of a double value.
@@ -295,7 +296,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#cosh(double)
 	 */
-	COSH("cosh", 1, v -> cosh(v[0])),
+	COSH("cosh", a -> cosh(a)),
 
 	/**
 	 * Returns the hyperbolic sine of a double value.
@@ -303,7 +304,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#sinh(double)
 	 */
-	SINH("sinh", 1, v -> sinh(v[0])),
+	SINH("sinh", a -> sinh(a)),
 
 	/**
 	 * Returns the hyperbolic tangent of a double value.
@@ -311,7 +312,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @see Math#tanh(double)
 	 */
-	TANH("tanh", 1, v -> tanh(v[0])),
+	TANH("tanh", a -> tanh(a)),
 
 	/* *************************************************************************
 	 * Conditional functions
@@ -323,7 +324,7 @@ public enum MathOp implements Op<Double> {
 	 *
 	 * @since 5.0
 	 */
-	GT("gt", 2, v -> v[0] > v[1] ? 1.0 : -1.0);
+	GT("gt", (a, b) -> a > b ? 1.0 : -1.0);
 
 	/* *************************************************************************
 	 * Additional mathematical constants.
@@ -349,20 +350,29 @@ public enum MathOp implements Op<Double> {
 
 	private final String _name;
 	private final int _arity;
-	private final Function<Double[], Double> _function;
 
-	MathOp(
-		final String name,
-		final int arity,
-		final Function<Double[], Double> function
-	) {
+	// The primitive kernels, shared by all evaluators of the operation.
+	private final DoubleUnaryOperator _unary;
+	private final DoubleBinaryOperator _binary;
+
+	MathOp(final String name, final DoubleUnaryOperator unary) {
+		assert name != null;
+		assert unary != null;
+
+		_name = name;
+		_arity = 1;
+		_unary = unary;
+		_binary = null;
+	}
+
+	MathOp(final String name, final DoubleBinaryOperator binary) {
 		assert name != null;
-		assert arity >= 0;
-		assert function != null;
+		assert binary != null;
 
 		_name = name;
-		_function = function;
-		_arity = arity;
+		_arity = 2;
+		_unary = null;
+		_binary = binary;
 	}
 
 	@Override
@@ -372,7 +382,29 @@ public enum MathOp implements Op<Double> {
 
 	@Override
 	public Double apply(final Double[] args) {
-		return _function.apply(args);
+		return _arity == 1
+			? _unary.applyAsDouble(args[0])
+			: _binary.applyAsDouble(args[0], args[1]);
+	}
+
+	/**
+	 * Return the primitive kernel of this operation, if it has arity 1.
+	 *
+	 * @return the primitive kernel of this unary operation, or {@code null}
+	 *         if this operation has arity 2
+	 */
+	DoubleUnaryOperator unary() {
+		return _unary;
+	}
+
+	/**
+	 * Return the primitive kernel of this operation, if it has arity 2.
+	 *
+	 * @return the primitive kernel of this binary operation, or {@code null}
+	 *         if this operation has arity 1
+	 */
+	DoubleBinaryOperator binary() {
+		return _binary;
 	}
 
 	/**
@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.MSeq;
+
+/**
+ * Re-evaluates the best individuals of an evolution result with an
+ * <em>exact</em> fitness function, until the best individual of the
+ * population has an exact fitness value. This is used for fitness functions,
+ * which only estimate the fitness, e.g. on a sample batch.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BestVerifier<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Function<? super Phenotype<G, C>, ? extends C> _fitness;
+
+	// The exact fitness values of the verified individuals of the last
+	// generation. They are reused, if these individuals are estimated again
+	// in the next generation. Guarded by 'this'.
+	private Map<Genotype<G>, C> _verified = Map.of();
+
+	BestVerifier(final Function<? super Phenotype<G, C>, ? extends C> fitness) {
+		_fitness = requireNonNull(fitness);
+	}
+
+	/**
+	 * Verifies the best individuals of the given evolution {@code result}.
+	 *
+	 * @param result the evolution result to verify
+	 * @return the evolution result with the verified individuals
+	 */
+	synchronized EvolutionResult<G, C>
+	verify(final EvolutionResult<G, C> result) {
+		final Optimize optimize = result.optimize();
+		final MSeq<Phenotype<G, C>> population = result.population().copy();
+		final Comparator<C> descending = optimize.descending();
+
+		final int[] order = IntStream.range(0, population.size())
+			.boxed()
+			.sorted((a, b) -> descending.compare(
+				population.get(a).fitness(),
+				population.get(b).fitness()))
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		final Map<Genotype<G>, C> verified = new HashMap<>();
+		boolean changed = false;
+		C best = null;
+		for (int index : order) {
+			final Phenotype<G, C> pt = population.get(index);
+			if (best != null && optimize.compare(pt.fitness(), best) <= 0) {
+				break;
+			}
+
+			C fitness = _verified.get(pt.genotype());
+			if (fitness == null) {
+				fitness = _fitness.apply(pt);
+			}
+			if (!fitness.equals(pt.fitness())) {
+				population.set(index, pt.withFitness(fitness));
+				changed = true;
+			}
+			verified.put(pt.genotype(), fitness);
+
+			if (best == null || optimize.compare(fitness, best) > 0) {
+				best = fitness;
+			}
+		}
+		_verified = verified;
+
+		return changed
+			? result.withPopulation(population.toISeq())
+			: result;
+	}
+
+}
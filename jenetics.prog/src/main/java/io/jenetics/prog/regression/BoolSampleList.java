@@ -0,0 +1,217 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.BoolOp;
+import io.jenetics.prog.op.Op;
+
+/**
+ * Bit-packed sample store for {@code Boolean} samples. The sample arguments
+ * are stored in one {@code long[]} column per variable, with 64 sample rows
+ * per word, and the programs are evaluated <em>bit-parallel</em>, with
+ * {@link BoolOp#evalBits(Tree, long[]...)}. Big truth tables are split into
+ * chunks of {@link #CHUNK_WORDS} words, which are evaluated in parallel.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BoolSampleList
+	extends AbstractList<Sample<Boolean>>
+	implements
+		Sampling<Boolean>,
+		Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of packed words, which are evaluated by one task.
+	 */
+	static final int CHUNK_WORDS = 1024;
+
+	private final List<Sample<Boolean>> _samples;
+
+	// The packed sample columns, split into chunks: [chunk][variable][word].
+	private final long[][][] _chunks;
+	private final long[] _expected;
+	private final Boolean[] _results;
+
+	BoolSampleList(final List<Sample<Boolean>> samples) {
+		if (samples.isEmpty()) {
+			throw new IllegalArgumentException(
+				"Sample list must not be empty."
+			);
+		}
+
+		final int arity = samples.get(0).arity();
+		if (arity == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<Boolean> sample = samples.get(i);
+			if (arity != sample.arity()) {
+				throw new IllegalArgumentException(format(
+					"Expected arity %d, but got %d for sample index %d.",
+					arity, sample.arity(), i
+				));
+			}
+		}
+
+		_samples = samples;
+
+		final int words = words(samples.size());
+		_chunks = new long[(words + CHUNK_WORDS - 1)/CHUNK_WORDS][arity][];
+		for (int c = 0; c < _chunks.length; ++c) {
+			final int start = c*CHUNK_WORDS;
+			final int end = min(start + CHUNK_WORDS, words);
+
+			for (int v = 0; v < arity; ++v) {
+				final long[] column = new long[end - start];
+				for (int w = start; w < end; ++w) {
+					column[w - start] = pack(samples, w, v);
+				}
+				_chunks[c][v] = column;
+			}
+		}
+
+		_expected = new long[words];
+		for (int w = 0; w < words; ++w) {
+			_expected[w] = pack(samples, w, -1);
+		}
+		_results = samples.stream()
+			.map(Sample::result)
+			.toArray(Boolean[]::new);
+	}
+
+	// Packs the 64 rows of the given word. Index -1 packs the results.
+	private static long pack(
+		final List<Sample<Boolean>> samples,
+		final int word,
+		final int index
+	) {
+		final int start = word*Long.SIZE;
+		final int end = min(start + Long.SIZE, samples.size());
+
+		long bits = 0;
+		for (int i = start; i < end; ++i) {
+			final Sample<Boolean> sample = samples.get(i);
+			final boolean value = index == -1
+				? sample.result()
+				: sample.argAt(index);
+
+			if (value) {
+				bits |= 1L << (i - start);
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all sample points. The bits
+	 * of the last word, which doesn't belong to a sample point, are zero.
+	 *
+	 * @param program the program to evaluate
+	 * @return the packed calculated values
+	 */
+	long[] calculate(final Tree<? extends Op<Boolean>, ?> program) {
+		final long[] calculated;
+		if (_chunks.length == 1) {
+			calculated = BoolOp.evalBits(program, _chunks[0]);
+		} else {
+			calculated = new long[_expected.length];
+			IntStream.range(0, _chunks.length).parallel().forEach(c -> {
+				final long[] values = BoolOp.evalBits(program, _chunks[c]);
+				final int start = c*CHUNK_WORDS;
+				System.arraycopy(values, 0, calculated, start, values.length);
+			});
+		}
+
+		final int tail = size()%Long.SIZE;
+		if (tail != 0) {
+			calculated[calculated.length - 1] &= (1L << tail) - 1;
+		}
+		return calculated;
+	}
+
+	/**
+	 * Return the packed expected sample results. The returned array must not
+	 * be changed.
+	 *
+	 * @return the packed expected sample results
+	 */
+	long[] expected() {
+		return _expected;
+	}
+
+	@Override
+	public Result<Boolean> eval(final Tree<? extends Op<Boolean>, ?> program) {
+		return Result.of(unpack(calculate(program), size()), _results);
+	}
+
+	@Override
+	public Sample<Boolean> get(final int index) {
+		return _samples.get(index);
+	}
+
+	@Override
+	public int size() {
+		return _samples.size();
+	}
+
+	/**
+	 * Return the number of {@code long} words needed for storing the given
+	 * number of bits.
+	 *
+	 * @param size the number of bits
+	 * @return the number of needed words
+	 */
+	static int words(final int size) {
+		return (size + Long.SIZE - 1)/Long.SIZE;
+	}
+
+	/**
+	 * Unpacks the given {@code words} into a {@code Boolean} array.
+	 *
+	 * @param words the packed bits
+	 * @param size the number of bits to unpack
+	 * @return the unpacked values
+	 */
+	static Boolean[] unpack(final long[] words, final int size) {
+		final Boolean[] values = new Boolean[size];
+		for (int i = 0; i < size; ++i) {
+			values[i] = (words[i/Long.SIZE] & (1L << i)) != 0;
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Op;
+
+/**
+ * Columnar sample store for {@code Double} samples. The sample arguments are
+ * stored in one {@code double[]} column per variable, and the programs are
+ * evaluated <em>column-at-a-time</em>, with
+ * {@link MathExpr#evalColumns(Tree, double[]...)}. Big sample sets are split
+ * into chunks of {@link #CHUNK_SIZE} rows, which are evaluated in parallel.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class DoubleSampleList
+	extends AbstractList<Sample<Double>>
+	implements
+		Sampling<Double>,
+		Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of sample rows, which are evaluated by one task.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+	private final List<Sample<Double>> _samples;
+
+	// The sample columns, split into chunks: [chunk][variable][row].
+	private final double[][][] _chunks;
+	private final double[] _expected;
+	private final Double[] _results;
+
+	DoubleSampleList(final List<Sample<Double>> samples) {
+		if (samples.isEmpty()) {
+			throw new IllegalArgumentException(
+				"Sample list must not be empty."
+			);
+		}
+
+		final int arity = samples.get(0).arity();
+		if (arity == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<Double> sample = samples.get(i);
+			if (arity != sample.arity()) {
+				throw new IllegalArgumentException(format(
+					"Expected arity %d, but got %d for sample index %d.",
+					arity, sample.arity(), i
+				));
+			}
+		}
+
+		_samples = samples;
+
+		final int size = samples.size();
+		_chunks = new double[(size + CHUNK_SIZE - 1)/CHUNK_SIZE][arity][];
+		for (int c = 0; c < _chunks.length; ++c) {
+			final int start = c*CHUNK_SIZE;
+			final int end = min(start + CHUNK_SIZE, size);
+
+			for (int v = 0; v < arity; ++v) {
+				final double[] column = new double[end - start];
+				for (int i = start; i < end; ++i) {
+					column[i - start] = samples.get(i).argAt(v);
+				}
+				_chunks[c][v] = column;
+			}
+		}
+
+		_expected = samples.stream()
+			.mapToDouble(Sample::result)
+			.toArray();
+		_results = DoubleStream.of(_expected)
+			.boxed()
+			.toArray(Double[]::new);
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all sample points.
+	 *
+	 * @param program the program to evaluate
+	 * @return the calculated values, one for every sample point
+	 */
+	double[] calculate(final Tree<? extends Op<Double>, ?> program) {
+		if (_chunks.length == 1) {
+			return MathExpr.evalColumns(program, _chunks[0]);
+		}
+
+		final double[] calculated = new double[_expected.length];
+		IntStream.range(0, _chunks.length).parallel()
+			.forEach(c -> calculate(program, c, calculated));
+		return calculated;
+	}
+
+	private void calculate(
+		final Tree<? extends Op<Double>, ?> program,
+		final int chunk,
+		final double[] calculated
+	) {
+		final double[] values = MathExpr.evalColumns(program, _chunks[chunk]);
+		final int start = chunk*CHUNK_SIZE;
+		System.arraycopy(values, 0, calculated, start, values.length);
+	}
+
+	/**
+	 * Calculates the error of the given {@code program} incrementally, chunk
+	 * by chunk. The not yet evaluated sample points are set to their expected
+	 * values, which gives a lower bound of the final error, if the
+	 * {@code error} function doesn't decrease with growing deviations. The
+	 * partial error is checked after 1, 2, 4, ... evaluated chunks, and the
+	 * evaluation stops, once it is greater than the given {@code bound}.
+	 *
+	 * @param program the program to evaluate
+	 * @param error the error function, with the calculated and expected
+	 *        values as arguments
+	 * @param bound the error bound
+	 * @return the exact error, if it is not greater than the {@code bound},
+	 *         a lower bound of the error otherwise
+	 */
+	double error(
+		final Tree<? extends Op<Double>, ?> program,
+		final ToDoubleBiFunction<double[], double[]> error,
+		final double bound
+	) {
+		final double[] calculated = _expected.clone();
+		for (int c = 0, check = 1; c < _chunks.length - 1; ++c) {
+			calculate(program, c, calculated);
+			if (c + 1 == check) {
+				final double partial =
+					error.applyAsDouble(calculated, _expected);
+				if (partial > bound) {
+					return partial;
+				}
+				check <<= 1;
+			}
+		}
+		calculate(program, _chunks.length - 1, calculated);
+
+		return error.applyAsDouble(calculated, _expected);
+	}
+
+	/**
+	 * Return the expected sample results. The returned array must not be
+	 * changed.
+	 *
+	 * @return the expected sample results
+	 */
+	double[] expected() {
+		return _expected;
+	}
+
+	@Override
+	public Result<Double> eval(final Tree<? extends Op<Double>, ?> program) {
+		final Double[] calculated = DoubleStream.of(calculate(program))
+			.boxed()
+			.toArray(Double[]::new);
+
+		return Result.of(calculated, _results);
+	}
+
+	@Override
+	public Sample<Double> get(final int index) {
+		return _samples.get(index);
+	}
+
+	@Override
+	public int size() {
+		return _samples.size();
+	}
+
+}
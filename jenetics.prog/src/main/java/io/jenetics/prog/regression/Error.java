@@ -22,6 +22,7 @@ package io.jenetics.prog.regression;
 import static java.util.Objects.requireNonNull;
 
 import java.util.function.DoubleBinaryOperator;
+import java.util.stream.DoubleStream;
 
 import io.jenetics.ext.util.Tree;
 
@@ -42,7 +43,7 @@ import io.jenetics.prog.op.Op;
  * @param <T> the sample type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 @FunctionalInterface
@@ -66,6 +67,70 @@ public interface Error<T> {
 		final T[] expected
 	);
 
+	/**
+	 * Calculates the <em>overall</em> error of a given program tree, for
+	 * primitive {@code double} sample values. This method is used for
+	 * {@code Double} samples, which are evaluated column-wise. The default
+	 * implementation boxes the given arrays and delegates to
+	 * {@link #apply(Tree, Object[], Object[])}. The error functions created
+	 * by the {@code Error.of(...)} factory methods pass the primitive arrays
+	 * to {@link LossFunction#apply(double[], double[])}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param program the program tree which calculated the {@code calculated}
+	 *        values
+	 * @param calculated the calculated function values
+	 * @param expected the expected function values
+	 * @return the overall program error
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	default double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final double[] calculated,
+		final double[] expected
+	) {
+		return apply(
+			program,
+			(T[])DoubleStream.of(calculated).boxed().toArray(Double[]::new),
+			(T[])DoubleStream.of(expected).boxed().toArray(Double[]::new)
+		);
+	}
+
+
+	/**
+	 * Calculates the <em>overall</em> error of a given program tree, for
+	 * bit-packed {@code Boolean} sample values. This method is used for
+	 * {@code Boolean} samples, which are evaluated bit-parallel. The default
+	 * implementation unpacks the given arrays and delegates to
+	 * {@link #apply(Tree, Object[], Object[])}. The error functions created
+	 * by the {@code Error.of(...)} factory methods pass the packed arrays
+	 * to {@link LossFunction#apply(long[], long[], int)}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param program the program tree which calculated the {@code calculated}
+	 *        values
+	 * @param calculated the packed calculated function values
+	 * @param expected the packed expected function values
+	 * @param size the number of packed values
+	 * @return the overall program error
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	default double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		return apply(
+			program,
+			(T[])BoolSampleList.unpack(calculated, size),
+			(T[])BoolSampleList.unpack(expected, size)
+		);
+	}
 
 	/**
 	 * Creates an error function which only uses the given {@code loss} function
@@ -80,7 +145,36 @@ public interface Error<T> {
 	 */
 	static <T> Error<T> of(final LossFunction<T> loss) {
 		requireNonNull(loss);
-		return (p, c, e) -> loss.apply(c, e);
+
+		return new Error<>() {
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final T[] calculated,
+				final T[] expected
+			) {
+				return loss.apply(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final double[] calculated,
+				final double[] expected
+			) {
+				return loss.apply(calculated, expected);
+			}
+
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final long[] calculated,
+				final long[] expected,
+				final int size
+			) {
+				return loss.apply(calculated, expected, size);
+			}
+		};
 	}
 
 	/**
@@ -125,8 +219,44 @@ public interface Error<T> {
 		requireNonNull(complexity);
 		requireNonNull(compose);
 
-		return (p, c, e) ->
-			compose.applyAsDouble(loss.apply(c, e), complexity.apply(p));
+		return new Error<>() {
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final T[] calculated,
+				final T[] expected
+			) {
+				return compose.applyAsDouble(
+					loss.apply(calculated, expected),
+					complexity.apply(program)
+				);
+			}
+
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final double[] calculated,
+				final double[] expected
+			) {
+				return compose.applyAsDouble(
+					loss.apply(calculated, expected),
+					complexity.apply(program)
+				);
+			}
+
+			@Override
+			public double apply(
+				final Tree<? extends Op<T>, ?> program,
+				final long[] calculated,
+				final long[] expected,
+				final int size
+			) {
+				return compose.applyAsDouble(
+					loss.apply(calculated, expected, size),
+					complexity.apply(program)
+				);
+			}
+		};
 	}
 
 }
@@ -23,6 +23,8 @@ import static java.lang.Math.abs;
 import static java.lang.Math.sqrt;
 import static java.lang.String.format;
 
+import java.util.stream.DoubleStream;
+
 // https://blog.algorithmia.com/introduction-to-loss-functions/
 // https://towardsdatascience.com/common-loss-functions-in-machine-learning-46af0ffc4d23
 
@@ -36,15 +38,124 @@ import static java.lang.String.format;
  * final Error<Double> error = Error.of(LossFunction::mse);
  * }</pre>
  *
+ * The predefined loss function constants, like {@link #MSE}, also implement
+ * the primitive {@code apply} methods, which are used for {@code Double} and
+ * {@code Boolean} samples.
+ *
  * @see <a href="https://en.wikipedia.org/wiki/Loss_function">Loss function</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 @FunctionalInterface
 public interface LossFunction<T> {
 
+	/**
+	 * The {@link #mse(Double[], Double[])} loss function, which also
+	 * implements the primitive {@link #apply(double[], double[])} method.
+	 * Using this constant avoids boxing the calculated values of
+	 * {@code Double} samples.
+	 *
+	 * @since 6.1
+	 */
+	LossFunction<Double> MSE = new LossFunction<>() {
+		@Override
+		public double apply(
+			final Double[] calculated,
+			final Double[] expected
+		) {
+			return mse(calculated, expected);
+		}
+
+		@Override
+		public double apply(
+			final double[] calculated,
+			final double[] expected
+		) {
+			return mse(calculated, expected);
+		}
+	};
+
+	/**
+	 * The {@link #rmse(Double[], Double[])} loss function, which also
+	 * implements the primitive {@link #apply(double[], double[])} method.
+	 *
+	 * @since 6.1
+	 */
+	LossFunction<Double> RMSE = new LossFunction<>() {
+		@Override
+		public double apply(
+			final Double[] calculated,
+			final Double[] expected
+		) {
+			return rmse(calculated, expected);
+		}
+
+		@Override
+		public double apply(
+			final double[] calculated,
+			final double[] expected
+		) {
+			return rmse(calculated, expected);
+		}
+	};
+
+	/**
+	 * The {@link #mae(Double[], Double[])} loss function, which also
+	 * implements the primitive {@link #apply(double[], double[])} method.
+	 *
+	 * @since 6.1
+	 */
+	LossFunction<Double> MAE = new LossFunction<>() {
+		@Override
+		public double apply(
+			final Double[] calculated,
+			final Double[] expected
+		) {
+			return mae(calculated, expected);
+		}
+
+		@Override
+		public double apply(
+			final double[] calculated,
+			final double[] expected
+		) {
+			return mae(calculated, expected);
+		}
+	};
+
+	/**
+	 * The {@link #hamming(Boolean[], Boolean[])} loss function, which also
+	 * implements the bit-packed {@link #apply(long[], long[], int)} method.
+	 * The error of bit-packed {@code Boolean} samples is then calculated with
+	 * {@link Long#bitCount(long)}.
+	 *
+	 * <pre>{@code
+	 * final Error<Boolean> error = Error.of(LossFunction.HAMMING);
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 */
+	LossFunction<Boolean> HAMMING = new LossFunction<>() {
+		@Override
+		public double apply(
+			final Boolean[] calculated,
+			final Boolean[] expected
+		) {
+			return hamming(calculated, expected);
+		}
+
+		@Override
+		public double apply(
+			final long[] calculated,
+			final long[] expected,
+			final int size
+		) {
+			return hamming(calculated, expected, size);
+		}
+	};
+
 	/**
 	 * Calculates the error between the expected function values and the
 	 * values calculated by the actual {@link io.jenetics.prog.ProgramGene}.
@@ -59,6 +170,69 @@ public interface LossFunction<T> {
 	 */
 	double apply(final T[] calculated, final T[] expected);
 
+	/**
+	 * Calculates the error between the expected and calculated primitive
+	 * function values. This method is used for {@code Double} samples, which
+	 * are evaluated column-wise. The default implementation boxes the given
+	 * arrays and delegates to {@link #apply(Object[], Object[])}. Loss
+	 * functions for {@code Double} samples should override this method, for
+	 * avoiding the boxing overhead.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #mse(double[], double[])
+	 * @see #rmse(double[], double[])
+	 * @see #mae(double[], double[])
+	 *
+	 * @param calculated the currently calculated function value
+	 * @param expected the expected function values
+	 * @return the error value
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	default double apply(final double[] calculated, final double[] expected) {
+		return apply(
+			(T[])DoubleStream.of(calculated).boxed().toArray(Double[]::new),
+			(T[])DoubleStream.of(expected).boxed().toArray(Double[]::new)
+		);
+	}
+
+	/**
+	 * Calculates the error between the expected and calculated bit-packed
+	 * {@code Boolean} function values. Every {@code long} word contains 64
+	 * values, where value {@code i} is stored in bit {@code i%64} of word
+	 * {@code i/64}. This method is used for {@code Boolean} samples, which
+	 * are evaluated bit-parallel. The default implementation unpacks the
+	 * given arrays and delegates to {@link #apply(Object[], Object[])}.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #hamming(long[], long[], int)
+	 *
+	 * @param calculated the packed calculated function values
+	 * @param expected the packed expected function values
+	 * @param size the number of packed values
+	 * @return the error value
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code long[]} arrays is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	default double apply(
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		return apply(
+			(T[])BoolSampleList.unpack(calculated, size),
+			(T[])BoolSampleList.unpack(expected, size)
+		);
+	}
+
 	/**
 	 * Mean square error is measured as the average of squared difference
 	 * between predictions and actual observations.
@@ -146,4 +320,179 @@ public interface LossFunction<T> {
 		return result;
 	}
 
+	/**
+	 * Mean square error for primitive {@code double} values.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #mse(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the mean square error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	static double mse(final double[] calculated, final double[] expected) {
+		checkLength(calculated, expected);
+
+		double result = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			final double diff = expected[i] - calculated[i];
+			result += diff*diff;
+		}
+		if (expected.length > 0) {
+			result = result/expected.length;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Root mean square error for primitive {@code double} values.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #rmse(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the root mean square error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	static double rmse(final double[] calculated, final double[] expected) {
+		return sqrt(mse(calculated, expected));
+	}
+
+	/**
+	 * Mean absolute error for primitive {@code double} values.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #mae(Double[], Double[])
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the mean absolute error
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the {@code double[]} arrays is
+	 *         {@code null}
+	 */
+	static double mae(final double[] calculated, final double[] expected) {
+		checkLength(calculated, expected);
+
+		double result = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			result += abs(expected[i] - calculated[i]);
+		}
+		if (expected.length > 0) {
+			result = result/expected.length;
+		}
+
+		return result;
+	}
+
+	/**
+	 * The Hamming loss is the fraction of the wrongly calculated
+	 * {@code Boolean} values.
+	 *
+	 * @since 6.1
+	 *
+	 * @param calculated the function values calculated with the current program
+	 *        tree
+	 * @param expected the expected function value as given by the sample points
+	 * @return the fraction of wrong values
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	static double hamming(
+		final Boolean[] calculated,
+		final Boolean[] expected
+	) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+
+		int errors = 0;
+		for (int i = 0; i < expected.length; ++i) {
+			if (!expected[i].equals(calculated[i])) {
+				++errors;
+			}
+		}
+
+		return expected.length > 0 ? (double)errors/expected.length : 0;
+	}
+
+	/**
+	 * The Hamming loss for bit-packed {@code Boolean} values, calculated with
+	 * {@link Long#bitCount(long)}.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #hamming(Boolean[], Boolean[])
+	 *
+	 * @param calculated the packed calculated function values
+	 * @param expected the packed expected function values
+	 * @param size the number of packed values
+	 * @return the fraction of wrong values
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal or too short for the given {@code size}
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	static double hamming(
+		final long[] calculated,
+		final long[] expected,
+		final int size
+	) {
+		if (expected.length != calculated.length ||
+			(long)expected.length*Long.SIZE < size)
+		{
+			throw new IllegalArgumentException(format(
+				"Invalid packed array lengths for size %d: %d, %d",
+				size, expected.length, calculated.length
+			));
+		}
+
+		final int words = BoolSampleList.words(size);
+		final int tail = size%Long.SIZE;
+
+		long errors = 0;
+		for (int i = 0; i < words; ++i) {
+			long bits = expected[i] ^ calculated[i];
+			if (i == words - 1 && tail != 0) {
+				bits &= (1L << tail) - 1;
+			}
+			errors += Long.bitCount(bits);
+		}
+
+		return size > 0 ? (double)errors/size : 0;
+	}
+
+	private static void checkLength(
+		final double[] calculated,
+		final double[] expected
+	) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+	}
+
 }
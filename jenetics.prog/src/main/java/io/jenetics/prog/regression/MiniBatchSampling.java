@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.util.Lazy;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Sampling which evaluates the programs on a random <em>mini-batch</em> of a
+ * (big) sample set. The batch is drawn deterministically from the given
+ * random {@code seed} and a new batch is drawn with every {@link #resample()}
+ * call, typically once per generation.
+ * <p>
+ * Every batch consists of <em>nested</em>, progressively larger batches of
+ * the sizes {@code batchSize}, {@code 2*batchSize}, {@code 4*batchSize},
+ * ..., ending with the complete sample set. A {@link Regression} problem uses
+ * the larger batches for its {@link Regression#boundedFitness()} function:
+ * a program is evaluated on the next larger batch, as long as its error is
+ * not greater than the evaluation bound. Only the most promising programs are
+ * therefore evaluated on the complete sample set.
+ *
+ * <pre>{@code
+ * final MiniBatchSampling<Double> sampling =
+ *     new MiniBatchSampling<>(samples, 1_000, 123);
+ * final Regression<Double> regression = Regression.of(codec, error, sampling);
+ *
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(regression)
+ *     .minimizing()
+ *     // Draws a new batch for every generation and re-checks the best
+ *     // program on the complete sample set.
+ *     .interceptor(regression.interceptor())
+ *     .build();
+ * }</pre>
+ *
+ * @see Regression#interceptor()
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @param <T> the sample type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class MiniBatchSampling<T> implements Sampling<T> {
+
+	/**
+	 * The nested sample batches of one epoch. The last batch contains all
+	 * sample points.
+	 */
+	static final class Batch<T> {
+		private final long _epoch;
+		private final List<Lazy<Sampling<T>>> _levels;
+
+		private Batch(final long epoch, final List<Lazy<Sampling<T>>> levels) {
+			_epoch = epoch;
+			_levels = levels;
+		}
+
+		long epoch() {
+			return _epoch;
+		}
+
+		int levels() {
+			return _levels.size();
+		}
+
+		Sampling<T> level(final int index) {
+			return _levels.get(index).get();
+		}
+	}
+
+	private final List<Sample<T>> _samples;
+	private final int _batchSize;
+	private final Sampling<T> _full;
+
+	// Partially shuffled sample indexes, guarded by 'this'.
+	private final int[] _indexes;
+	private final SplittableRandom _random;
+	private long _epoch = -1;
+
+	private volatile Batch<T> _batch;
+
+	/**
+	 * Create a new mini-batch sampling for the given {@code samples}.
+	 *
+	 * @param samples the complete sample set
+	 * @param batchSize the size of the smallest sample batch
+	 * @param seed the random seed for drawing the sample batches
+	 * @throws NullPointerException if the given {@code samples} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code samples} are empty
+	 *         or the {@code batchSize} is smaller than one
+	 */
+	public MiniBatchSampling(
+		final Collection<? extends Sample<T>> samples,
+		final int batchSize,
+		final long seed
+	) {
+		if (samples.isEmpty()) {
+			throw new IllegalArgumentException("Sample list must not be empty.");
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero: %d", batchSize
+			));
+		}
+
+		_samples = List.copyOf(samples);
+		_batchSize = batchSize;
+		_full = Regression.sampling(_samples);
+
+		_indexes = IntStream.range(0, _samples.size()).toArray();
+		_random = new SplittableRandom(seed);
+		resample();
+	}
+
+	/**
+	 * Return the size of the smallest sample batch.
+	 *
+	 * @return the size of the smallest sample batch
+	 */
+	public int batchSize() {
+		return _batchSize;
+	}
+
+	/**
+	 * Return the current epoch, which is the number of {@link #resample()}
+	 * calls since the creation of {@code this} sampling.
+	 *
+	 * @return the current epoch
+	 */
+	public long epoch() {
+		return _batch.epoch();
+	}
+
+	/**
+	 * Draws a new sample batch. Drawing the batches is deterministic for a
+	 * given random seed.
+	 *
+	 * @return the new epoch
+	 */
+	public synchronized long resample() {
+		final int size = _indexes.length;
+		final List<Integer> sizes = new ArrayList<>();
+		for (long s = _batchSize; s < size; s <<= 1) {
+			sizes.add((int)s);
+		}
+
+		// Partial Fisher-Yates shuffle of the largest batch.
+		final int shuffled = sizes.isEmpty() ? 0 : sizes.get(sizes.size() - 1);
+		for (int i = 0; i < shuffled; ++i) {
+			final int j = _random.nextInt(i, size);
+			final int temp = _indexes[i];
+			_indexes[i] = _indexes[j];
+			_indexes[j] = temp;
+		}
+
+		final int[] indexes = _indexes.clone();
+		final List<Lazy<Sampling<T>>> levels = sizes.stream()
+			.map(s -> Lazy.of(() -> sampling(indexes, s)))
+			.collect(Collectors.toCollection(ArrayList::new));
+		levels.add(Lazy.of(() -> _full));
+
+		_batch = new Batch<>(++_epoch, List.copyOf(levels));
+		return _epoch;
+	}
+
+	private Sampling<T> sampling(final int[] indexes, final int size) {
+		return Regression.sampling(
+			IntStream.of(indexes)
+				.limit(size)
+				.mapToObj(_samples::get)
+				.collect(Collectors.toList())
+		);
+	}
+
+	/**
+	 * Return the nested sample batches of the current epoch.
+	 *
+	 * @return the current sample batches
+	 */
+	Batch<T> batch() {
+		return _batch;
+	}
+
+	/**
+	 * Return the sampling of the complete sample set.
+	 *
+	 * @return the sampling of the complete sample set
+	 */
+	Sampling<T> full() {
+		return _full;
+	}
+
+	/**
+	 * Evaluates the given {@code program} with the smallest sample batch of
+	 * the current epoch.
+	 *
+	 * @param program the program to evaluate
+	 * @return the evaluated sample result of the current sample batch
+	 */
+	@Override
+	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
+		requireNonNull(program);
+		return _batch.level(0).eval(program);
+	}
+
+}
@@ -30,7 +30,12 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.BoundedFitness;
 import io.jenetics.engine.Codec;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionStart;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.ISeq;
 
@@ -96,7 +101,7 @@ import io.jenetics.prog.regression.Sampling.Result;
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 5.0
  */
 public final class Regression<T>
@@ -136,18 +141,230 @@ public final class Regression<T>
 	}
 
 	/**
-	 * Calculates the actual error for the given {@code program}.
+	 * Calculates the actual error for the given {@code program}. For
+	 * {@link MiniBatchSampling}s, the error is calculated for the current
+	 * sample batch.
+	 *
+	 * @see #fullError(Tree)
 	 *
 	 * @param program the program to calculate the error value for
 	 * @return the overall error value of the program
 	 */
 	public double error(final Tree<? extends Op<T>, ?> program) {
-		final Result<T> result = _sampling.eval(program);
+		return _sampling instanceof MiniBatchSampling
+			? error(program, ((MiniBatchSampling<T>)_sampling).batch().level(0))
+			: error(program, _sampling);
+	}
+
+	/**
+	 * Calculates the error for the given {@code program} and <em>all</em>
+	 * sample points. This is the same as {@link #error(Tree)}, except for
+	 * {@link MiniBatchSampling}s, where the error is calculated for the
+	 * complete sample set instead of the current sample batch.
+	 *
+	 * @since 6.1
+	 *
+	 * @param program the program to calculate the error value for
+	 * @return the overall error value of the program for all sample points
+	 */
+	public double fullError(final Tree<? extends Op<T>, ?> program) {
+		return _sampling instanceof MiniBatchSampling
+			? error(program, ((MiniBatchSampling<T>)_sampling).full())
+			: error(program, _sampling);
+	}
+
+	@SuppressWarnings("unchecked")
+	private double error(
+		final Tree<? extends Op<T>, ?> program,
+		final Sampling<T> sampling
+	) {
+		if (sampling instanceof DoubleSampleList) {
+			final DoubleSampleList samples = (DoubleSampleList)sampling;
+			return _error.apply(
+				program,
+				samples.calculate((Tree<? extends Op<Double>, ?>)program),
+				samples.expected()
+			);
+		}
+		if (sampling instanceof BoolSampleList) {
+			final BoolSampleList samples = (BoolSampleList)sampling;
+			return _error.apply(
+				program,
+				samples.calculate((Tree<? extends Op<Boolean>, ?>)program),
+				samples.expected(),
+				samples.size()
+			);
+		}
+
+		final Result<T> result = sampling.eval(program);
 		return result != null
 			? _error.apply(program, result.calculated(), result.expected())
 			: Double.MAX_VALUE;
 	}
 
+	/**
+	 * Return the <em>bounded</em> fitness function of the regression
+	 * problem. It stops the error calculation of a program, once its partial
+	 * error exceeds the evaluation bound of a <em>bounded</em>
+	 * {@link io.jenetics.engine.Evaluators} evaluator. The bound is only used
+	 * for <em>minimizing</em> evolution engines.
+	 *
+	 * <pre>{@code
+	 * final Engine<ProgramGene<Double>, Double> engine =
+	 *     new Engine.Builder<>(
+	 *         Evaluators.bounded(
+	 *             REGRESSION.boundedFitness(),
+	 *             REGRESSION.codec(),
+	 *             Optimize.MINIMUM,
+	 *             ForkJoinPool.commonPool()),
+	 *         REGRESSION.codec().encoding())
+	 *     .minimizing()
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @see #error(Tree, double)
+	 * @since 6.1
+	 *
+	 * @return the bounded fitness function of the regression problem
+	 */
+	public BoundedFitness<Tree<Op<T>, ?>, Double> boundedFitness() {
+		return (program, bound) ->
+			bound.optimize() == Optimize.MINIMUM && bound.value().isPresent()
+				? error(program, bound.value().get())
+				: error(program);
+	}
+
+	/**
+	 * Calculates the error for the given {@code program} incrementally and
+	 * stops the calculation, once the partial error is greater than the given
+	 * {@code bound}. The not yet evaluated sample points are treated as
+	 * perfectly fitted, which makes the partial error a lower bound of the
+	 * final error. This requires an {@link Error} function which doesn't
+	 * decrease with growing deviations between calculated and expected
+	 * values, which is the case for all {@link LossFunction}s.
+	 * <p>
+	 * {@link MiniBatchSampling}s evaluate the program on progressively larger
+	 * sample batches, as long as the batch error is not greater than the
+	 * given {@code bound}. The returned error is therefore either the error
+	 * of a sample batch, which is greater than the bound, or the error of the
+	 * complete sample set.
+	 * <p>
+	 * Sample sets with less than a few hundred sample points, and samplings
+	 * other than fixed sample lists, are always evaluated completely.
+	 *
+	 * @since 6.1
+	 *
+	 * @param program the program to calculate the error value for
+	 * @param bound the error bound
+	 * @return the overall error value of the program, if it is not greater
+	 *         than the given {@code bound}, a lower bound, or batch estimate,
+	 *         of the error value otherwise
+	 */
+	public double error(
+		final Tree<? extends Op<T>, ?> program,
+		final double bound
+	) {
+		if (_sampling instanceof MiniBatchSampling) {
+			final MiniBatchSampling.Batch<T> batch =
+				((MiniBatchSampling<T>)_sampling).batch();
+
+			double error = Double.NaN;
+			for (int i = 0; i < batch.levels(); ++i) {
+				error = error(program, batch.level(i), bound);
+				if (error > bound) {
+					return error;
+				}
+			}
+			return error;
+		}
+
+		return error(program, _sampling, bound);
+	}
+
+	@SuppressWarnings("unchecked")
+	private double error(
+		final Tree<? extends Op<T>, ?> program,
+		final Sampling<T> sampling,
+		final double bound
+	) {
+		if (sampling instanceof DoubleSampleList) {
+			return ((DoubleSampleList)sampling).error(
+				(Tree<? extends Op<Double>, ?>)program,
+				(calculated, expected) ->
+					_error.apply(program, calculated, expected),
+				bound
+			);
+		}
+		if (sampling instanceof SampleList) {
+			return ((SampleList<T>)sampling).error(
+				program,
+				(calculated, expected) ->
+					_error.apply(program, calculated, expected),
+				bound
+			);
+		}
+
+		return error(program, sampling);
+	}
+
+	/**
+	 * Return the evolution interceptor for regression problems with
+	 * {@link MiniBatchSampling}. Before every generation, it draws a new
+	 * sample batch and resets the fitness values of the surviving programs,
+	 * which were estimated on the batch of an earlier generation. The whole
+	 * population is therefore compared on the same batch. After every
+	 * generation, it re-checks the best programs
+	 * of the population on the complete sample set, until the best program,
+	 * according to the fitness values of the population, has been evaluated
+	 * on the complete sample set. The programs which are reported as best, by
+	 * the {@link io.jenetics.engine.EvolutionResult}, are therefore always
+	 * evaluated with all sample points. For other samplings, the returned
+	 * interceptor does nothing.
+	 *
+	 * <pre>{@code
+	 * final Engine<ProgramGene<Double>, Double> engine = Engine
+	 *     .builder(regression)
+	 *     .minimizing()
+	 *     .interceptor(regression.interceptor())
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @see MiniBatchSampling
+	 * @since 6.1
+	 *
+	 * @return the evolution interceptor for regression problems
+	 */
+	public EvolutionInterceptor<ProgramGene<T>, Double> interceptor() {
+		if (_sampling instanceof MiniBatchSampling) {
+			final var sampling = (MiniBatchSampling<T>)_sampling;
+			final var verifier = new BestVerifier<ProgramGene<T>, Double>(
+				pt -> fullError(_codec.decode(pt.genotype()))
+			);
+
+			return EvolutionInterceptor.of(
+				start -> {
+					sampling.resample();
+					return invalidate(start);
+				},
+				verifier::verify
+			);
+		}
+
+		return EvolutionInterceptor.identity();
+	}
+
+	private static <T> EvolutionStart<ProgramGene<T>, Double>
+	invalidate(final EvolutionStart<ProgramGene<T>, Double> start) {
+		if (start.population().isEmpty()) {
+			return start;
+		}
+
+		final ISeq<Phenotype<ProgramGene<T>, Double>> population =
+			start.population()
+				.map(pt -> Phenotype.of(pt.genotype(), pt.generation()));
+		return EvolutionStart.of(population, start.generation());
+	}
+
 	/* *************************************************************************
 	 * Factory methods.
 	 * ************************************************************************/
@@ -199,7 +416,7 @@ public final class Regression<T>
 		final List<Sample<T>> s = new ArrayList<>();
 		samples.forEach(s::add);
 
-		return new Regression<>(codec, error, new SampleList<>(s));
+		return new Regression<>(codec, error, sampling(s));
 	}
 
 	/**
@@ -226,6 +443,22 @@ public final class Regression<T>
 	}
 
 
+	// Double samples are stored column-wise and Boolean samples bit-packed.
+	@SuppressWarnings("unchecked")
+	static <T> Sampling<T> sampling(final List<Sample<T>> samples) {
+		final List<?> list = samples;
+		if (samples.stream().allMatch(s -> s.result() instanceof Double)) {
+			final var doubles = (List<Sample<Double>>)list;
+			return (Sampling<T>)new DoubleSampleList(doubles);
+		}
+		if (samples.stream().allMatch(s -> s.result() instanceof Boolean)) {
+			final var booleans = (List<Sample<Boolean>>)list;
+			return (Sampling<T>)new BoolSampleList(booleans);
+		}
+
+		return new SampleList<>(samples);
+	}
+
 	/* *************************************************************************
 	 * Codec factory methods.
 	 * ************************************************************************/
@@ -19,21 +19,53 @@
  */
 package io.jenetics.prog.regression;
 
+import static java.lang.Math.max;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * Lock-free ring buffer, with multiple producers and one consumer. The
+ * producers claim their buffer slots with an atomic counter and never block.
+ * If the consumer falls behind, the oldest elements are overwritten by the
+ * producers. Every slot stores its element together with the sequence number
+ * of the element, which allows the consumer to detect elements which are not
+ * completely written yet or which have already been overwritten. A slot is
+ * only replaced by an element with a greater sequence number, even if two
+ * producers, which wrapped around the buffer, write the same slot
+ * concurrently.
+ *
+ * @implNote
+ * The {@link #add(Object)} and {@link #addAll(Collection)} methods are
+ * lock-free and can be called from different threads. The {@link #drain()}
+ * and {@link #snapshot()} methods must be called by one consumer thread at a
+ * time.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 6.0
  */
 final class RingBuffer {
 
-	private final Object[] _buffer;
+	// The buffer element together with its sequence number.
+	private static final class Entry {
+		final long sequence;
+		final Object element;
+
+		Entry(final long sequence, final Object element) {
+			this.sequence = sequence;
+			this.element = element;
+		}
+	}
 
-	private int _cursor = -1;
-	private int _size = 0;
+	private final AtomicReferenceArray<Entry> _buffer;
+	private final AtomicLong _tail = new AtomicLong();
 
-	private Object[] _snapshot = null;
+	// The sequence number of the next element to drain. Consumer only.
+	private long _drained = 0;
 
 	RingBuffer(final int size) {
 		if (size < 1) {
@@ -42,49 +74,93 @@ final class RingBuffer {
 			);
 		}
 
-		_buffer = new Object[size];
-	}
-
-	synchronized void add(final Object element) {
-		_buffer[next()] = element;
-		_snapshot = null;
+		_buffer = new AtomicReferenceArray<>(size);
 	}
 
-	private int next() {
-		if (_size < _buffer.length) ++_size;
-		return _cursor = (_cursor + 1 < _buffer.length) ? _cursor + 1 : 0;
+	void add(final Object element) {
+		put(_tail.getAndIncrement(), element);
 	}
 
-	synchronized void addAll(final Collection<?> elements) {
+	void addAll(final Collection<?> elements) {
+		long index = _tail.getAndAdd(elements.size());
 		for (Object element : elements) {
-			_buffer[next()] = element;
+			put(index++, element);
 		}
-		_snapshot = null;
 	}
 
-	synchronized Object[] snapshot() {
-		if (_snapshot != null) {
-			return _snapshot;
+	private void put(final long index, final Object element) {
+		final int slot = (int)(index%_buffer.length());
+		final Entry entry = new Entry(index, element);
+
+		Entry current;
+		do {
+			current = _buffer.get(slot);
+
+			// The slot already contains a newer element, which means that
+			// the given element has been overwritten.
+			if (current != null && current.sequence > index) {
+				return;
+			}
+		} while (!_buffer.compareAndSet(slot, current, entry));
+	}
+
+	/**
+	 * Return the elements which have been added since the last call of this
+	 * method, oldest first. At most {@link #size()} elements are returned.
+	 * The draining stops at the first element, which is not completely
+	 * written yet, unless a newer element has already claimed its slot. This
+	 * element, and the following ones, are returned by the next call.
+	 *
+	 * @return the newly added elements
+	 */
+	Object[] drain() {
+		final long tail = _tail.get();
+
+		final List<Object> elements = new ArrayList<>();
+		long index = max(_drained, tail - _buffer.length());
+		for (; index < tail; ++index) {
+			final Entry entry = _buffer.get((int)(index%_buffer.length()));
+			if (entry == null || entry.sequence < index) {
+				// Not written yet. The element is skipped, if its slot has
+				// already been claimed by a newer element.
+				if (_tail.get() - index > _buffer.length()) {
+					continue;
+				}
+				break;
+			}
+
+			// Skip elements, which have been overwritten by newer ones.
+			if (entry.sequence == index) {
+				elements.add(entry.element);
+			}
 		}
+		_drained = index;
 
-		final Object[] result = new Object[_size];
-		if (_size < _buffer.length) {
-			System.arraycopy(_buffer, 0, result, 0, _size);
-		} else {
-			System.arraycopy(
-				_buffer, _cursor + 1,
-				result, 0, _buffer.length - _cursor - 1
-			);
-			System.arraycopy(
-				_buffer, 0,
-				result, _buffer.length - _cursor - 1, _cursor + 1
-			);
+		return elements.toArray();
+	}
+
+	/**
+	 * Return the last {@link #size()} completely written elements of the
+	 * buffer, oldest first.
+	 *
+	 * @return the current elements of the buffer
+	 */
+	Object[] snapshot() {
+		final long tail = _tail.get();
+
+		final List<Object> elements = new ArrayList<>();
+		for (long i = max(0, tail - _buffer.length()); i < tail; ++i) {
+			final Entry entry = _buffer.get((int)(i%_buffer.length()));
+			if (entry != null && entry.sequence == i) {
+				elements.add(entry.element);
+			}
 		}
 
-		return _snapshot = result;
+		return elements.toArray();
 	}
 
-	int size () {
-		return _buffer.length;
+	int size() {
+		return _buffer.length();
 	}
+
 }
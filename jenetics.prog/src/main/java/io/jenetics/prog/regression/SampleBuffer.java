@@ -21,7 +21,6 @@ package io.jenetics.prog.regression;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -37,22 +36,75 @@ import io.jenetics.prog.op.Op;
  * ({@link #add(Sample)}) or a list ({@link #addAll(Collection)}) of new values.
  * These values will be made available for evaluation after an explicit call of
  * the {@link #publish()} method.
+ * <p>
+ * The sample points are added with a lock-free, multi-producer ring buffer,
+ * which never blocks the producing threads. Publishing the sample points is
+ * <em>incremental</em>: only the sample points, added since the last
+ * {@link #publish()} call, are appended to the evaluation store, which shares
+ * the storage of the older sample points with the previous snapshot.
+ * <p>
+ * Every {@link #eval(Tree)} call works on one consistent snapshot, the one
+ * which was published last when the call started. Concurrent evaluations
+ * can therefore see different snapshots, if {@link #publish()} is called
+ * while the population is evaluated. Publishing the sample points between
+ * two generations, e.g. with an
+ * {@link io.jenetics.engine.EvolutionInterceptor}, guarantees that all
+ * individuals of one generation are evaluated with the same sample points.
+ * <p>
+ * The sample buffer can cache the evaluation results of the program
+ * subtrees. Structurally equal subtrees of different programs are then
+ * evaluated only once for the published sample points, which is useful
+ * when most programs of the population share large subtrees. The cached
+ * results are discarded with every {@link #publish()} call.
+ *
+ * <pre>{@code
+ * final SampleBuffer<Double> buffer = new SampleBuffer<>(1000, 50_000);
+ * }</pre>
  *
  * @implNote
  * This class is thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 6.0
  */
 public final class SampleBuffer<T> implements Sampling<T> {
 
 	private final RingBuffer _buffer;
 
-	private volatile SampleList<T> _snapshot = null;
+	private volatile SampleWindow<T> _snapshot;
+
+	/**
+	 * Create a new sample buffer with the given subtree cache size.
+	 *
+	 * @since 6.1
+	 *
+	 * @param size the maximal number of sample points of the buffer
+	 * @param cacheSize the maximal number of cached subtree results. If zero,
+	 *        the subtree results are not cached.
+	 * @throws IllegalArgumentException if the buffer {@code size} is smaller
+	 *         than one or the {@code cacheSize} is smaller than zero
+	 */
+	public SampleBuffer(final int size, final int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(
+				"Cache size must not be negative: " + cacheSize
+			);
+		}
 
-	public SampleBuffer(final int size) {
 		_buffer = new RingBuffer(size);
+		_snapshot = new SampleWindow<>(size, cacheSize);
+	}
+
+	/**
+	 * Create a new sample buffer, without subtree result cache.
+	 *
+	 * @param size the maximal number of sample points of the buffer
+	 * @throws IllegalArgumentException if the buffer {@code size} is smaller
+	 *         than one
+	 */
+	public SampleBuffer(final int size) {
+		this(size, 0);
 	}
 
 	/**
@@ -83,25 +135,17 @@ public final class SampleBuffer<T> implements Sampling<T> {
 
 	/**
 	 * Making the current sample points available for the {@link #eval(Tree)}
-	 * function.
+	 * function. Only the sample points, which has been added since the last
+	 * call, are appended to the published sample points. The oldest sample
+	 * points are removed, if the number of sample points exceeds the size of
+	 * the buffer.
 	 *
 	 * @return the number of <em>published</em> sample points
 	 */
-	@SuppressWarnings({"unchecked", "rawtypes"})
-	public int publish() {
-		final Object[] values = _buffer.snapshot();
-
-		SampleList<T> snapshot = null;
-		if (values != null && values.length > 0) {
-			final List samples = Arrays.asList(values);
-			snapshot = new SampleList(samples);
-		}
-
-		try {
-			return snapshot != null ? snapshot.size() : 0;
-		} finally {
-			_snapshot = snapshot;
-		}
+	public synchronized int publish() {
+		final SampleWindow<T> snapshot = _snapshot.append(_buffer.drain());
+		_snapshot = snapshot;
+		return snapshot.size();
 	}
 
 	/**
@@ -112,18 +156,14 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	 * @return the currently <em>published</em> sample points
 	 */
 	List<Sample<T>> samples() {
-		final SampleList<T> snapshot = _snapshot;
-		return snapshot != null ? snapshot : List.of();
+		return _snapshot;
 	}
 
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
 		requireNonNull(program);
 
-		final SampleList<T> snapshot = _snapshot;
-		return snapshot != null && !snapshot.isEmpty()
-			? snapshot.eval(program)
-			: null;
+		return _snapshot.eval(program);
 	}
 
 }
@@ -19,12 +19,14 @@
  */
 package io.jenetics.prog.regression;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.List;
+import java.util.function.ToDoubleBiFunction;
 import java.util.stream.Stream;
 
 import io.jenetics.ext.util.Tree;
@@ -34,7 +36,7 @@ import io.jenetics.prog.op.Program;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class SampleList<T>
@@ -45,14 +47,29 @@ final class SampleList<T>
 {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The number of sample points, which are evaluated before the partial
+	 * error is checked the first time.
+	 */
+	static final int BLOCK_SIZE = 256;
+
 	private final List<Sample<T>> _samples;
 
 	private final Class<T> _type;
 	private final T[][] _arguments;
 	private final T[] _results;
 
+	private final transient SubtreeCache<T> _cache;
+
+	/**
+	 * Create a new sample list with the given {@code samples}.
+	 *
+	 * @param samples the sample points
+	 * @param cacheSize the capacity of the subtree cache. If zero, the
+	 *        programs are evaluated without cache.
+	 */
 	@SuppressWarnings("unchecked")
-	SampleList(final List<Sample<T>> samples) {
+	SampleList(final List<Sample<T>> samples, final int cacheSize) {
 		if (samples.isEmpty()) {
 			throw new IllegalArgumentException("Sample list must not be empty.");
 		}
@@ -85,6 +102,14 @@ final class SampleList<T>
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		_cache = cacheSize > 0
+			? new SubtreeCache<>(_type, _arguments, cacheSize)
+			: null;
+	}
+
+	SampleList(final List<Sample<T>> samples) {
+		this(samples, 0);
 	}
 
 	private static <T> T[] args(final Class<T> type, final Sample<T> sample) {
@@ -100,6 +125,10 @@ final class SampleList<T>
 
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
+		if (_cache != null) {
+			return Result.of(_cache.eval(program), _results);
+		}
+
 		@SuppressWarnings("unchecked")
 		final T[] calculated = Stream.of(_arguments)
 			.map(args -> Program.eval(program, args))
@@ -108,6 +137,64 @@ final class SampleList<T>
 		return Result.of(calculated, _results);
 	}
 
+	/**
+	 * Calculates the error of the given {@code program} incrementally. The
+	 * not yet evaluated sample points are set to their expected values, which
+	 * gives a lower bound of the final error, if the {@code error} function
+	 * doesn't decrease with growing deviations. The partial error is checked
+	 * after {@link #BLOCK_SIZE}, 2&middot;{@link #BLOCK_SIZE}, 4&middot;{@link
+	 * #BLOCK_SIZE}, ... evaluated sample points, and the evaluation stops, once
+	 * it is greater than the given {@code bound}. Cached sample lists are
+	 * always evaluated completely.
+	 *
+	 * @param program the program to evaluate
+	 * @param error the error function, with the calculated and expected
+	 *        values as arguments
+	 * @param bound the error bound
+	 * @return the exact error, if it is not greater than the {@code bound},
+	 *         a lower bound of the error otherwise
+	 */
+	double error(
+		final Tree<? extends Op<T>, ?> program,
+		final ToDoubleBiFunction<T[], T[]> error,
+		final double bound
+	) {
+		if (_cache != null) {
+			return error.applyAsDouble(_cache.eval(program), _results);
+		}
+
+		final T[] calculated = _results.clone();
+		int start = 0;
+		for (int end = min(BLOCK_SIZE, calculated.length);
+			end < calculated.length;
+			end = min(end << 1, calculated.length))
+		{
+			for (int i = start; i < end; ++i) {
+				calculated[i] = Program.eval(program, _arguments[i]);
+			}
+			start = end;
+
+			final double partial = error.applyAsDouble(calculated, _results);
+			if (partial > bound) {
+				return partial;
+			}
+		}
+		for (int i = start; i < calculated.length; ++i) {
+			calculated[i] = Program.eval(program, _arguments[i]);
+		}
+
+		return error.applyAsDouble(calculated, _results);
+	}
+
+	/**
+	 * Return the subtree cache of this sample list.
+	 *
+	 * @return the subtree cache, or {@code null} if not cached
+	 */
+	SubtreeCache<T> cache() {
+		return _cache;
+	}
+
 	@Override
 	public Sample<T> get(int index) {
 		return _samples.get(index);
@@ -0,0 +1,299 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import io.jenetics.internal.util.Lazy;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+
+/**
+ * Immutable sample window, which stores its sample points in chunks of
+ * {@link #CHUNK_SIZE} rows. Appending new sample points creates a new window,
+ * which shares the chunks with the old one. Only the new sample points are
+ * converted into argument rows, and the chunks of the oldest sample points
+ * are dropped, once they are no longer part of the window.
+ *
+ * @implNote
+ * The rows of a chunk, which belong to a window, are never changed. A new
+ * window only writes to rows behind the end of the old window. Appending is
+ * not thread-safe and must only be done with the newest window, but the
+ * windows can be evaluated concurrently, once they are safely published.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class SampleWindow<T>
+	extends AbstractList<Sample<T>>
+	implements Sampling<T>
+{
+
+	/**
+	 * The number of sample points of one chunk.
+	 */
+	static final int CHUNK_SIZE = 1024;
+
+	private static final Object[][] EMPTY = new Object[0][];
+
+	private static final class Chunk {
+		final Object[] samples = new Object[CHUNK_SIZE];
+		final Object[][] rows = new Object[CHUNK_SIZE][];
+		int size = 0;
+	}
+
+	private final Chunk[] _chunks;
+	private final int _offset;
+	private final int _size;
+	private final int _capacity;
+	private final int _cacheSize;
+
+	private final Lazy<Object[][]> _rows;
+	private final Lazy<T[]> _results;
+	private final Lazy<SubtreeCache<T>> _cache;
+
+	private SampleWindow(
+		final Chunk[] chunks,
+		final int offset,
+		final int size,
+		final int capacity,
+		final int cacheSize
+	) {
+		_chunks = chunks;
+		_offset = offset;
+		_size = size;
+		_capacity = capacity;
+		_cacheSize = cacheSize;
+
+		_rows = Lazy.of(this::rows);
+		_results = Lazy.of(this::results);
+		_cache = Lazy.of(this::cache);
+	}
+
+	/**
+	 * Create a new, empty sample window.
+	 *
+	 * @param capacity the maximal number of sample points of the window
+	 * @param cacheSize the capacity of the subtree cache. If zero, the
+	 *        programs are evaluated without cache.
+	 */
+	SampleWindow(final int capacity, final int cacheSize) {
+		this(new Chunk[0], 0, 0, capacity, cacheSize);
+	}
+
+	/**
+	 * Return a new window with the given sample points appended. If the
+	 * number of sample points exceeds the capacity of the window, the oldest
+	 * sample points are removed.
+	 *
+	 * @param samples the sample points to append
+	 * @return a new sample window
+	 * @throws IllegalArgumentException if the arity of a sample point doesn't
+	 *         match the arity of the window
+	 */
+	@SuppressWarnings("unchecked")
+	SampleWindow<T> append(final Object[] samples) {
+		if (samples.length == 0) {
+			return this;
+		}
+
+		int arity = _size > 0 ? get(0).arity() : -1;
+		Chunk[] chunks = _chunks;
+		int offset = _offset;
+		int size = _size;
+
+		// Appending to an older window would overwrite the rows of a newer
+		// one. The used part of the last chunk is copied in this case.
+		if (chunks.length > 0) {
+			final Chunk last = chunks[chunks.length - 1];
+			final int end = offset + size - (chunks.length - 1)*CHUNK_SIZE;
+			if (last.size != end) {
+				final Chunk copy = new Chunk();
+				System.arraycopy(last.samples, 0, copy.samples, 0, end);
+				System.arraycopy(last.rows, 0, copy.rows, 0, end);
+				copy.size = end;
+
+				chunks = chunks.clone();
+				chunks[chunks.length - 1] = copy;
+			}
+		}
+
+		for (Object element : samples) {
+			final Sample<T> sample = (Sample<T>)element;
+			if (arity == -1) {
+				arity = sample.arity();
+			}
+			if (sample.arity() != arity || arity == 0) {
+				throw new IllegalArgumentException(format(
+					"Expected arity %d, but got %d.", arity, sample.arity()
+				));
+			}
+
+			Chunk last = chunks.length > 0 ? chunks[chunks.length - 1] : null;
+			if (last == null || last.size == CHUNK_SIZE) {
+				chunks = Arrays.copyOf(chunks, chunks.length + 1);
+				chunks[chunks.length - 1] = last = new Chunk();
+			}
+
+			last.samples[last.size] = sample;
+			last.rows[last.size] = args(sample);
+			++last.size;
+			++size;
+		}
+
+		// Remove the oldest sample points.
+		if (size > _capacity) {
+			offset += size - _capacity;
+			size = _capacity;
+		}
+		final int dropped = offset/CHUNK_SIZE;
+		if (dropped > 0) {
+			chunks = Arrays.copyOfRange(chunks, dropped, chunks.length);
+			offset -= dropped*CHUNK_SIZE;
+		}
+
+		return new SampleWindow<>(chunks, offset, size, _capacity, _cacheSize);
+	}
+
+	private static Object[] args(final Sample<?> sample) {
+		final Object[] args = (Object[])Array.newInstance(
+			sample.argAt(0).getClass(),
+			sample.arity()
+		);
+		for (int i = 0; i < args.length; ++i) {
+			args[i] = sample.argAt(i);
+		}
+		return args;
+	}
+
+	private Object[][] rows() {
+		if (_size == 0) {
+			return EMPTY;
+		}
+
+		final Object[][] rows = (Object[][])Array.newInstance(
+			row(0).getClass(),
+			_size
+		);
+		int index = 0;
+		int position = _offset;
+		for (Chunk chunk : _chunks) {
+			final int length = min(CHUNK_SIZE - position, _size - index);
+			System.arraycopy(chunk.rows, position, rows, index, length);
+			index += length;
+			position = 0;
+		}
+
+		return rows;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] results() {
+		final T[] results = (T[])Array.newInstance(type(), _size);
+		for (int i = 0; i < _size; ++i) {
+			results[i] = get(i).result();
+		}
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
+	private SubtreeCache<T> cache() {
+		return _cacheSize > 0 && _size > 0
+			? new SubtreeCache<>(type(), (T[][])_rows.get(), _cacheSize)
+			: null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Class<T> type() {
+		return (Class<T>)row(0).getClass().getComponentType();
+	}
+
+	private Object[] row(final int index) {
+		final int position = _offset + index;
+		return _chunks[position/CHUNK_SIZE].rows[position%CHUNK_SIZE];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
+		if (_size == 0) {
+			return null;
+		}
+
+		final SubtreeCache<T> cache = _cache.get();
+		if (cache != null) {
+			return Result.of(cache.eval(program), _results.get());
+		}
+
+		final T[] calculated = (T[])Array.newInstance(type(), _size);
+		for (int i = 0; i < _size; ++i) {
+			calculated[i] = Program.eval(program, (T[])row(i));
+		}
+
+		return Result.of(calculated, _results.get());
+	}
+
+	/**
+	 * Return the subtree cache of this sample window.
+	 *
+	 * @return the subtree cache, or {@code null} if not cached
+	 */
+	SubtreeCache<T> subtreeCache() {
+		return _cache.get();
+	}
+
+	/**
+	 * Return the number of chunks, which stores the sample points.
+	 *
+	 * @return the number of chunks
+	 */
+	int chunks() {
+		return _chunks.length;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Sample<T> get(final int index) {
+		if (index < 0 || index >= _size) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d out of bounds [0, %d).", index, _size
+			));
+		}
+
+		final int position = _offset + index;
+		return (Sample<T>)_chunks[position/CHUNK_SIZE]
+			.samples[position%CHUNK_SIZE];
+	}
+
+	@Override
+	public int size() {
+		return _size;
+	}
+
+}
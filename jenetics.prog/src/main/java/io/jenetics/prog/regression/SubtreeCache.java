@@ -0,0 +1,300 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Evaluates program trees column-wise over a fixed set of sample points and
+ * caches the evaluated output vector of every inner subtree. The subtrees
+ * are <em>hash-consed</em>: structurally equal subtrees of different
+ * programs are interned into the same node object, with a cached structural
+ * hash. A subtree which is shared by many programs of the population is
+ * therefore evaluated only once, instead of once per occurrence.
+ * <p>
+ * The cache is bound to the sample points it has been created with. A new
+ * cache is created for every {@link SampleBuffer#publish()} call, which
+ * invalidates the evaluated output vectors of the previous sample points.
+ * If the number of interned subtrees exceeds the cache capacity, the cache
+ * is cleared.
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class SubtreeCache<T> {
+
+	// The kind of the interned nodes.
+	private static final int VAR = 0;
+	private static final int VAL = 1;
+	private static final int OP = 2;
+
+	private static final Node<?>[] LEAF = new Node<?>[0];
+
+	/**
+	 * Interned subtree node, with cached structural hash code.
+	 */
+	private static final class Node<T> {
+		private final Op<T> _op;
+		private final int _kind;
+		private final Object _id;
+		private final Node<T>[] _children;
+		private final int _hash;
+
+		private volatile T[] _values;
+
+		Node(final Op<T> op, final Node<T>[] children) {
+			_op = op;
+			_children = children;
+
+			if (op instanceof Var) {
+				_kind = VAR;
+				_id = ((Var<?>)op).index();
+			} else if (op instanceof Val) {
+				_kind = VAL;
+				_id = ((Val<?>)op).value();
+			} else {
+				_kind = OP;
+				_id = op;
+			}
+
+			_hash = 31*(31*_kind + Objects.hashCode(_id)) +
+				Arrays.hashCode(children);
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Node)) {
+				return false;
+			}
+
+			final Node<?> other = (Node<?>)obj;
+			if (other._hash != _hash ||
+				other._kind != _kind ||
+				other._children.length != _children.length ||
+				!Objects.equals(other._id, _id))
+			{
+				return false;
+			}
+
+			// The children of inner nodes are interned nodes or leaves.
+			for (int i = 0; i < _children.length; ++i) {
+				if (!_children[i].equals(other._children[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final Class<T> _type;
+	private final T[][] _columns;
+	private final int _rows;
+	private final int _capacity;
+
+	private final ConcurrentHashMap<Node<T>, Node<T>> _nodes =
+		new ConcurrentHashMap<>();
+
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * Create a new subtree cache for the given sample {@code arguments}.
+	 *
+	 * @param type the sample type
+	 * @param arguments the sample arguments, one array per sample point
+	 * @param capacity the maximal number of interned subtrees
+	 */
+	SubtreeCache(
+		final Class<T> type,
+		final T[][] arguments,
+		final int capacity
+	) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(format(
+				"Cache capacity must be greater than zero: %d", capacity
+			));
+		}
+
+		_type = type;
+		_rows = arguments.length;
+		_capacity = capacity;
+
+		final int arity = arguments.length > 0 ? arguments[0].length : 0;
+		_columns = newArray(Array.newInstance(type, 0).getClass(), arity);
+		for (int v = 0; v < arity; ++v) {
+			final T[] column = newArray(type, _rows);
+			for (int r = 0; r < _rows; ++r) {
+				column[r] = arguments[r][v];
+			}
+			_columns[v] = column;
+		}
+	}
+
+	/**
+	 * Evaluates the given {@code program} for all sample points.
+	 *
+	 * @param program the program to evaluate
+	 * @return the evaluated values, one for every sample point. The returned
+	 *         array must not be changed.
+	 * @throws IllegalArgumentException if there is no sample argument for a
+	 *         program variable
+	 */
+	T[] eval(final Tree<? extends Op<T>, ?> program) {
+		return values(intern(program));
+	}
+
+	/**
+	 * Return the number of interned subtrees.
+	 *
+	 * @return the number of interned subtrees
+	 */
+	int size() {
+		return _nodes.size();
+	}
+
+	/**
+	 * Return the number of subtree evaluations, which could be taken from
+	 * the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	long hits() {
+		return _hits.sum();
+	}
+
+	/**
+	 * Return the number of evaluated subtrees.
+	 *
+	 * @return the number of cache misses
+	 */
+	long misses() {
+		return _misses.sum();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Node<T> intern(final Tree<? extends Op<T>, ?> tree) {
+		final Op<T> op = tree.value();
+		if (tree.childCount() == 0) {
+			return new Node<>(op, (Node<T>[])LEAF);
+		}
+
+		final Node<T>[] children = (Node<T>[])new Node<?>[tree.childCount()];
+		for (int i = 0; i < children.length; ++i) {
+			children[i] = intern(tree.childAt(i));
+		}
+
+		final Node<T> node = new Node<>(op, children);
+		final Node<T> interned = _nodes.get(node);
+		if (interned != null) {
+			return interned;
+		}
+
+		if (_nodes.size() >= _capacity) {
+			_nodes.clear();
+		}
+		final Node<T> previous = _nodes.putIfAbsent(node, node);
+		return previous != null ? previous : node;
+	}
+
+	private T[] values(final Node<T> node) {
+		T[] values = node._values;
+		if (values != null) {
+			_hits.increment();
+			return values;
+		}
+
+		switch (node._kind) {
+			case VAR:
+				values = column(node._op);
+				break;
+			case VAL:
+				values = newArray(_type, _rows);
+				Arrays.fill(values, ((Val<?>)node._op).value());
+				break;
+			default:
+				values = apply(node);
+				_misses.increment();
+		}
+
+		// Leaves are not interned, only the inner node values are cached.
+		if (node._kind == OP) {
+			node._values = values;
+		}
+		return values;
+	}
+
+	private T[] column(final Op<T> var) {
+		final int index = ((Var<?>)var).index();
+		if (index >= _columns.length) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", var
+			));
+		}
+		return _columns[index];
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] apply(final Node<T> node) {
+		final Object[] children = new Object[node._children.length];
+		for (int i = 0; i < children.length; ++i) {
+			children[i] = values(node._children[i]);
+		}
+
+		final T[] values = newArray(_type, _rows);
+		final T[] args = newArray(_type, children.length);
+		for (int r = 0; r < _rows; ++r) {
+			for (int i = 0; i < children.length; ++i) {
+				args[i] = ((T[])children[i])[r];
+			}
+			values[r] = node._op.apply(args);
+		}
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <A> A[] newArray(final Class<?> type, final int length) {
+		return (A[])Array.newInstance(type, length);
+	}
+
+}
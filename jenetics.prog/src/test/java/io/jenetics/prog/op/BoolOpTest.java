@@ -19,9 +19,14 @@
  */
 package io.jenetics.prog.op;
 
+import java.util.Random;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -84,4 +89,53 @@ public class BoolOpTest {
 		Assert.assertFalse(Program.eval(tree, true, true));
 	}
 
+	@Test
+	public void evalBits() {
+		final ISeq<Op<Boolean>> operations = ISeq.of(
+			BoolOp.AND, BoolOp.OR, BoolOp.NOT,
+			BoolOp.IMP, BoolOp.XOR, BoolOp.EQU,
+			Op.of("nand", (Boolean a, Boolean b) -> !(a && b))
+		);
+		final ISeq<Op<Boolean>> terminals = ISeq.of(
+			Var.of("x", 0), Var.of("y", 1), Var.of("z", 2), BoolOp.TRUE
+		);
+
+		final Random random = new Random(123);
+		final long[][] columns = new long[3][5];
+		for (long[] column : columns) {
+			for (int i = 0; i < column.length; ++i) {
+				column[i] = random.nextLong();
+			}
+		}
+
+		for (int p = 0; p < 20; ++p) {
+			final Tree<Op<Boolean>, ?> program =
+				Program.of(5, operations, terminals, random);
+			final long[] result = BoolOp.evalBits(program, columns);
+
+			for (int row = 0; row < columns[0].length*Long.SIZE; ++row) {
+				final Boolean[] args = new Boolean[columns.length];
+				for (int v = 0; v < args.length; ++v) {
+					args[v] = (columns[v][row/Long.SIZE] & (1L << row)) != 0;
+				}
+
+				Assert.assertEquals(
+					(result[row/Long.SIZE] & (1L << row)) != 0,
+					(boolean)Program.eval(program, args),
+					"Row " + row + " of " + program
+				);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalBitsMissingVar() {
+		BoolOp.evalBits(
+			TreeNode.<Op<Boolean>>of(BoolOp.AND)
+				.attach(Var.of("x", 0))
+				.attach(Var.of("y", 1)),
+			new long[2]
+		);
+	}
+
 }
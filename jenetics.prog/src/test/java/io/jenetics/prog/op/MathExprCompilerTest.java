@@ -0,0 +1,134 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MathExprCompilerTest {
+
+	@Test
+	public void cache() {
+		final ToDoubleFunction<double[]> f1 =
+			MathExpr.parse("sin(x)*3.5 + y").compile();
+		final ToDoubleFunction<double[]> f2 =
+			MathExpr.parse("sin(x)*3.5 + y").compile();
+
+		Assert.assertSame(f1, f2);
+		Assert.assertTrue(MathExprCompiler.cacheSize() > 0);
+		Assert.assertTrue(
+			MathExprCompiler.cacheSize() <= MathExprCompiler.CACHE_SIZE
+		);
+	}
+
+	@Test
+	public void cacheKeyVarIndex() {
+		final TreeNode<Op<Double>> t1 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 0))
+			.attach(Var.of("y", 1));
+		final TreeNode<Op<Double>> t2 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 1))
+			.attach(Var.of("y", 0));
+
+		Assert.assertNotEquals(
+			MathExprCompiler.key(t1),
+			MathExprCompiler.key(t2)
+		);
+
+		final double[] args = {3, 1};
+		Assert.assertEquals(MathExpr.compile(t1).applyAsDouble(args), 2.0);
+		Assert.assertEquals(MathExpr.compile(t2).applyAsDouble(args), -2.0);
+	}
+
+	@Test
+	public void compileOtherOps() {
+		final Op<Double> twice = Op.of("twice", v -> 2*v);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(TreeNode.<Op<Double>>of(twice).attach(Var.of("x", 0)))
+			.attach(Const.of(1.0));
+
+		Assert.assertNull(MathExprCompiler.key(tree));
+		Assert.assertEquals(
+			MathExpr.compile(tree).applyAsDouble(new double[]{5}),
+			11.0
+		);
+
+		// Changing the original tree must not change the compiled function.
+		final ToDoubleFunction<double[]> f = MathExpr.compile(tree);
+		tree.childAt(1).value(Const.of(2.0));
+		Assert.assertEquals(f.applyAsDouble(new double[]{5}), 11.0);
+	}
+
+	@Test
+	public void compileNegativeZero() {
+		Assert.assertEquals(
+			MathExpr.parse("-x").compile().applyAsDouble(new double[]{0}),
+			0.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void compileInvalidTree() {
+		MathExpr.compile(TreeNode.<Op<Double>>of(MathOp.ADD)
+			.attach(Var.of("x", 0)));
+	}
+
+	@Test(dataProvider = "operations")
+	public void compileOperation(final MathOp op) {
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(op)
+			.attach(Var.of("x", 0));
+		if (op.arity() == 2) {
+			tree.attach(Var.of("y", 1));
+		}
+
+		final double[][] columns = {
+			{0.5, -1.5, 2.0, 0.0},
+			{0.25, 3.0, -2.0, 1.0}
+		};
+		final double[] values = MathExprColumns.eval(tree, columns);
+		for (int i = 0; i < values.length; ++i) {
+			final double[] args = {columns[0][i], columns[1][i]};
+			final double expected = op.eval(args[0], args[1]);
+
+			Assert.assertEquals(
+				MathExpr.compile(tree).applyAsDouble(args),
+				expected == -0.0 ? 0.0 : expected
+			);
+			Assert.assertEquals(values[i], expected == -0.0 ? 0.0 : expected);
+		}
+	}
+
+	@DataProvider
+	public Object[][] operations() {
+		return Stream.of(MathOp.values())
+			.map(op -> new Object[]{op})
+			.toArray(Object[][]::new);
+	}
+
+}
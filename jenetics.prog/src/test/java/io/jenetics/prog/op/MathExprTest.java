@@ -221,6 +221,59 @@ public class MathExprTest {
 		}
 	}
 
+	@Test(dataProvider = "ast")
+	public void evalCompiled(final Tree<? extends Op<Double>, ?> tree) {
+		final MathExpr expr = new MathExpr(tree);
+		final Random random = new Random();
+
+		for (int i = 0; i < 10; ++i) {
+			final double[] args = random.doubles(6).toArray();
+			Assert.assertEquals(
+				expr.compile().applyAsDouble(args),
+				expr.eval(args)
+			);
+		}
+	}
+
+	@Test(dataProvider = "functionData")
+	public void compile(final String expression, final F3 f, final double[] x) {
+		Assert.assertEquals(
+			MathExpr.parse(expression).compile().applyAsDouble(x),
+			f.apply(x[0], x[1], x[2])
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void compileEvalError() {
+		MathExpr.parse("x+y").compile().applyAsDouble(new double[]{2});
+	}
+
+	@Test(dataProvider = "ast")
+	public void evalColumns(final Tree<? extends Op<Double>, ?> tree) {
+		final MathExpr expr = new MathExpr(tree);
+		final Random random = new Random();
+		final double[][] columns = new double[6][100];
+		for (double[] column : columns) {
+			for (int i = 0; i < column.length; ++i) {
+				column[i] = random.nextDouble();
+			}
+		}
+
+		final double[] result = MathExpr.evalColumns(tree, columns);
+		for (int i = 0; i < result.length; ++i) {
+			final double[] args = new double[columns.length];
+			for (int j = 0; j < args.length; ++j) {
+				args[j] = columns[j][i];
+			}
+			Assert.assertEquals(result[i], expr.eval(args));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalColumnsMissingVar() {
+		MathExpr.evalColumns(MathExpr.parseTree("x + y"), new double[10]);
+	}
+
 	@Test
 	public void evalSimplifiedFromString() {
 		final MathExpr expr = MathExpr.parse("x + 0 - y*1");
@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.BoolOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BoolSampleListTest {
+
+	private static final ISeq<Op<Boolean>> OPERATIONS = ISeq.of(
+		BoolOp.AND, BoolOp.OR, BoolOp.NOT, BoolOp.XOR
+	);
+
+	private static final ISeq<Op<Boolean>> TERMINALS = ISeq.of(
+		Var.of("x", 0), Var.of("y", 1), Var.of("z", 2)
+	);
+
+	private static List<Sample<Boolean>> samples(final int size) {
+		final Random random = new Random(123);
+		return IntStream.range(0, size)
+			.mapToObj(i -> Sample.of(new Boolean[]{
+				random.nextBoolean(),
+				random.nextBoolean(),
+				random.nextBoolean(),
+				random.nextBoolean()
+			}))
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void eval() {
+		final List<Sample<Boolean>> points =
+			samples(2*BoolSampleList.CHUNK_WORDS*Long.SIZE + 17);
+
+		final Random random = new Random(1233);
+		for (int i = 0; i < 10; ++i) {
+			final Tree<Op<Boolean>, ?> program =
+				Program.of(5, OPERATIONS, TERMINALS, random);
+
+			final Sampling.Result<Boolean> expected =
+				new SampleList<>(points).eval(program);
+			final Sampling.Result<Boolean> result =
+				new BoolSampleList(points).eval(program);
+
+			Assert.assertEquals(result.calculated(), expected.calculated());
+			Assert.assertEquals(result.expected(), expected.expected());
+		}
+	}
+
+	@Test
+	public void calculate() {
+		final BoolSampleList samples = new BoolSampleList(samples(70));
+		final long[] calculated = samples.calculate(
+			TreeNode.<Op<Boolean>>of(BoolOp.NOT).attach(Var.of("x", 0))
+		);
+
+		Assert.assertEquals(calculated.length, 2);
+		Assert.assertEquals(calculated[1] >>> 6, 0L);
+	}
+
+	@Test
+	public void error() {
+		final List<Sample<Boolean>> points = samples(1000);
+		final Tree<Op<Boolean>, ?> program =
+			Program.of(5, OPERATIONS, TERMINALS, new Random(12));
+
+		final Regression<Boolean> packed = Regression.of(
+			Regression.codecOf(OPERATIONS, TERMINALS, 5),
+			Error.of(LossFunction.HAMMING),
+			points
+		);
+		final Regression<Boolean> boxed = Regression.of(
+			Regression.codecOf(OPERATIONS, TERMINALS, 5),
+			Error.of(LossFunction.HAMMING),
+			(Sampling<Boolean>)new SampleList<>(points)
+		);
+
+		Assert.assertEquals(packed.error(program), boxed.error(program));
+	}
+
+}
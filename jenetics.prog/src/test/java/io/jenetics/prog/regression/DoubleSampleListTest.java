@@ -0,0 +1,131 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleSampleListTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(
+		MathOp.ADD,
+		MathOp.SUB,
+		MathOp.MUL,
+		MathOp.DIV,
+		MathOp.SIN,
+		MathOp.COS,
+		Op.of("twice", (Double v) -> 2*v)
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Const.of(1.0)
+	);
+
+	private static List<Sample<Double>> samples(final int size) {
+		final Random random = new Random(123);
+		return Stream.generate(() -> Sample.ofDouble(
+				random.nextDouble(),
+				random.nextDouble(),
+				random.nextDouble()))
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+
+	@Test(dataProvider = "programs")
+	public void eval(final Tree<? extends Op<Double>, ?> program) {
+		final List<Sample<Double>> points =
+			samples(2*DoubleSampleList.CHUNK_SIZE + 17);
+
+		final Sampling.Result<Double> expected =
+			new SampleList<>(points).eval(program);
+		final Sampling.Result<Double> result =
+			new DoubleSampleList(points).eval(program);
+
+		Assert.assertEquals(result.expected(), expected.expected());
+		Assert.assertEquals(
+			result.calculated().length,
+			expected.calculated().length
+		);
+		for (int i = 0; i < result.calculated().length; ++i) {
+			Assert.assertEquals(
+				result.calculated()[i],
+				expected.calculated()[i],
+				0.0,
+				"Index " + i
+			);
+		}
+	}
+
+	@DataProvider(name = "programs")
+	public Object[][] programs() {
+		final Random random = new Random(1233);
+		return Stream
+			.generate(() -> Program.of(6, OPERATIONS, TERMINALS, random))
+			.limit(10)
+			.map(p -> new Object[]{p})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void calculate() {
+		final DoubleSampleList samples = new DoubleSampleList(List.of(
+			Sample.ofDouble(1, 2, 0),
+			Sample.ofDouble(2, 3, 0),
+			Sample.ofDouble(3, 4, 0)
+		));
+
+		Assert.assertEquals(
+			samples.calculate(MathExpr.parseTree("x*y + 1")),
+			new double[]{3, 7, 13}
+		);
+		Assert.assertEquals(samples.expected(), new double[]{0, 0, 0});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void arity() {
+		new DoubleSampleList(List.of(
+			Sample.ofDouble(1, 2, 0),
+			Sample.ofDouble(2, 0)
+		));
+	}
+
+}
@@ -71,4 +71,55 @@ public class LossFunctionTest {
 		Assert.assertEquals(LossFunction.mae(calculated, expected), 3.0);
 	}
 
+	@Test
+	public void primitive() {
+		final double[] expected = new double[100];
+		final double[] calculated = new double[100];
+
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = i;
+			calculated[i] = i + 2;
+		}
+		Assert.assertEquals(LossFunction.mse(calculated, expected), 4.0);
+		Assert.assertEquals(LossFunction.rmse(calculated, expected), 2.0);
+		Assert.assertEquals(LossFunction.mae(calculated, expected), 2.0);
+
+		// The default implementation delegates to the boxed version.
+		final LossFunction<Double> loss = LossFunction::mse;
+		Assert.assertEquals(loss.apply(calculated, expected), 4.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void primitiveLength() {
+		LossFunction.mse(new double[10], new double[11]);
+	}
+
+	@Test
+	public void hamming() {
+		final Boolean[] expected = new Boolean[130];
+		final Boolean[] calculated = new Boolean[130];
+		final long[] e = new long[3];
+		final long[] c = new long[3];
+
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = i%2 == 0;
+			calculated[i] = i%5 == 0 ? !expected[i] : expected[i];
+			if (expected[i]) e[i/64] |= 1L << i;
+			if (calculated[i]) c[i/64] |= 1L << i;
+		}
+		// Garbage bits after the last value must be ignored.
+		c[2] |= -1L << 2;
+
+		Assert.assertEquals(
+			LossFunction.hamming(calculated, expected),
+			26/130.0
+		);
+		Assert.assertEquals(LossFunction.hamming(c, e, 130), 26/130.0);
+		Assert.assertEquals(LossFunction.HAMMING.apply(c, e, 130), 26/130.0);
+
+		// The default implementation unpacks the values.
+		final LossFunction<Boolean> loss = LossFunction::hamming;
+		Assert.assertEquals(loss.apply(c, e, 130), 26/130.0);
+	}
+
 }
@@ -0,0 +1,243 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MiniBatchSamplingTest {
+
+	private static final Tree<Op<Double>, ?> X = MathExpr.parseTree("x");
+
+	private static List<Sample<Double>> samples(final int size) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> Sample.ofDouble(i, i))
+			.collect(Collectors.toList());
+	}
+
+	private static Double[] batch(final Sampling<Double> sampling) {
+		return sampling.eval(X).expected();
+	}
+
+	@Test
+	public void batches() {
+		final MiniBatchSampling<Double> sampling =
+			new MiniBatchSampling<>(samples(1000), 100, 123);
+
+		Assert.assertEquals(sampling.batchSize(), 100);
+		Assert.assertEquals(sampling.epoch(), 0);
+
+		final MiniBatchSampling.Batch<Double> batch = sampling.batch();
+		Assert.assertEquals(batch.levels(), 5);
+		for (int i = 0; i < batch.levels(); ++i) {
+			final Double[] values = batch(batch.level(i));
+			Assert.assertEquals(values.length, Math.min(100 << i, 1000));
+			Assert.assertEquals(
+				Arrays.stream(values).distinct().count(),
+				values.length
+			);
+
+			// The batches are nested, the last one contains all samples.
+			if (i > 0 && i < batch.levels() - 1) {
+				Assert.assertEquals(
+					Arrays.copyOf(values, 100 << (i - 1)),
+					batch(batch.level(i - 1))
+				);
+			}
+		}
+		Assert.assertSame(batch.level(4), sampling.full());
+		Assert.assertEquals(batch(sampling), batch(batch.level(0)));
+	}
+
+	@Test
+	public void resample() {
+		final MiniBatchSampling<Double> a =
+			new MiniBatchSampling<>(samples(1000), 100, 123);
+		final MiniBatchSampling<Double> b =
+			new MiniBatchSampling<>(samples(1000), 100, 123);
+
+		Assert.assertEquals(batch(a), batch(b));
+		for (int i = 1; i < 5; ++i) {
+			final Double[] previous = batch(a);
+			Assert.assertEquals(a.resample(), i);
+			Assert.assertEquals(b.resample(), i);
+			Assert.assertEquals(a.epoch(), i);
+
+			Assert.assertEquals(batch(a), batch(b));
+			Assert.assertNotEquals(batch(a), previous);
+		}
+	}
+
+	@Test
+	public void batchGreaterThanSamples() {
+		final MiniBatchSampling<Double> sampling =
+			new MiniBatchSampling<>(samples(10), 100, 123);
+
+		Assert.assertEquals(sampling.batch().levels(), 1);
+		Assert.assertEquals(batch(sampling).length, 10);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		new MiniBatchSampling<>(samples(10), 0, 123);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptySamples() {
+		new MiniBatchSampling<>(List.<Sample<Double>>of(), 10, 123);
+	}
+
+	@Test
+	public void progressiveError() {
+		final MiniBatchSampling<Double> sampling =
+			new MiniBatchSampling<>(samples(10_000), 100, 123);
+		final Regression<Double> regression = Regression.of(
+			Regression.codecOf(ISeq.of(MathOp.ADD), ISeq.of(Var.of("x", 0)), 3),
+			Error.of(LossFunction::mae),
+			sampling
+		);
+
+		final Tree<Op<Double>, ?> offset = MathExpr.parseTree("x + 1");
+		Assert.assertEquals(regression.error(offset), 1.0);
+		Assert.assertEquals(regression.error(offset, 0.5), 1.0);
+		Assert.assertEquals(regression.error(offset, 1.0), 1.0);
+		Assert.assertEquals(regression.fullError(offset), 1.0);
+
+		// Only wrong for the big 'x' values.
+		final Tree<Op<Double>, ?> big =
+			MathExpr.parseTree("max(x, 2*x - 9990)");
+		Assert.assertEquals(regression.fullError(big), 45.0/10_000, 1e-12);
+		Assert.assertTrue(regression.error(big, 0.0) > 0.0);
+		Assert.assertEquals(
+			regression.error(big, 1.0),
+			regression.fullError(big)
+		);
+	}
+
+	@Test
+	public void interceptor() {
+		final MiniBatchSampling<Double> sampling = new MiniBatchSampling<>(
+			IntStream.range(0, 5_000)
+				.mapToObj(i -> i/1000.0)
+				.map(x -> Sample.ofDouble(x, 3*x*x - x))
+				.collect(Collectors.toList()),
+			50,
+			123
+		);
+
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(
+				ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL),
+				ISeq.of(Var.of("x", 0)),
+				5
+			);
+		final Regression<Double> regression =
+			Regression.of(codec, Error.of(LossFunction::mse), sampling);
+
+		final Engine<ProgramGene<Double>, Double> engine = Engine
+			.builder(regression)
+			.minimizing()
+			.interceptor(regression.interceptor())
+			.evaluationLatencies(3)
+			.build();
+
+		final EvolutionResult<ProgramGene<Double>, Double> result =
+			engine.stream()
+				.limit(10)
+				.peek(r -> Assert.assertTrue(
+					r.evaluationLatencies().isPresent()
+				))
+				.peek(r -> Assert.assertEquals(
+					r.bestFitness().doubleValue(),
+					regression.fullError(
+						codec.decode(r.bestPhenotype().genotype())
+					)
+				))
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(sampling.epoch(), 10);
+		Assert.assertEquals(
+			result.bestFitness().doubleValue(),
+			regression.fullError(
+				codec.decode(result.bestPhenotype().genotype())
+			)
+		);
+	}
+
+	@Test
+	public void invalidateSurvivors() {
+		final MiniBatchSampling<Double> sampling =
+			new MiniBatchSampling<>(samples(100), 10, 123);
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(
+				ISeq.of(MathOp.ADD, MathOp.MUL),
+				ISeq.of(Var.of("x", 0)),
+				3
+			);
+		final Regression<Double> regression =
+			Regression.of(codec, Error.of(LossFunction::mse), sampling);
+
+		final ISeq<Phenotype<ProgramGene<Double>, Double>> population =
+			IntStream.range(0, 10)
+				.mapToObj(i -> Phenotype.<ProgramGene<Double>, Double>of(
+					codec.encoding().newInstance(), i, i*1.0
+				))
+				.collect(ISeq.toISeq());
+
+		final EvolutionStart<ProgramGene<Double>, Double> start =
+			regression.interceptor()
+				.before(EvolutionStart.of(population, 10));
+
+		Assert.assertEquals(sampling.epoch(), 1);
+		Assert.assertEquals(start.generation(), 10);
+		Assert.assertEquals(start.population().size(), population.size());
+		for (int i = 0; i < population.size(); ++i) {
+			final var pt = start.population().get(i);
+			Assert.assertTrue(pt.nonEvaluated());
+			final var expected = population.get(i);
+			Assert.assertEquals(pt.genotype(), expected.genotype());
+			Assert.assertEquals(pt.generation(), expected.generation());
+		}
+	}
+
+}
@@ -19,9 +19,12 @@
  */
 package io.jenetics.prog.regression;
 
+import io.jenetics.Optimize;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.FitnessBound;
 import io.jenetics.engine.FitnessNullifier;
 import io.jenetics.util.Streams;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.engine.Codec;
@@ -32,15 +35,19 @@ import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.ProgramGene;
 import io.jenetics.prog.op.EphemeralConst;
+import io.jenetics.prog.op.MathExpr;
 import io.jenetics.prog.op.MathOp;
 import io.jenetics.prog.op.Op;
 import io.jenetics.prog.op.Var;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -90,6 +97,60 @@ public class RegressionTest {
 		regression.error(tree);
 	}
 
+	@Test
+	public void boundedError() {
+		final int size = 3*DoubleSampleList.CHUNK_SIZE + 1;
+		final List<Sample<Double>> samples = IntStream.range(0, size)
+			.mapToObj(i -> Sample.ofDouble(i, i))
+			.collect(Collectors.toList());
+
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+		final Error<Double> error = Error.of(LossFunction::mae);
+		final Regression<Double> columns = Regression.of(
+			codec, error, (Sampling<Double>)new DoubleSampleList(samples)
+		);
+		final Regression<Double> rows = Regression.of(
+			codec, error, (Sampling<Double>)new SampleList<>(samples)
+		);
+
+		final Tree<Op<Double>, ?> exact = MathExpr.parseTree("x");
+		final Tree<Op<Double>, ?> offset = MathExpr.parseTree("x + 1");
+		final Tree<Op<Double>, ?> tail = MathExpr.parseTree("x*x - x*(x - 1)");
+
+		for (var regression : List.of(columns, rows)) {
+			Assert.assertEquals(regression.error(exact, 0.0), 0.0);
+			Assert.assertEquals(regression.error(offset, 1.0), 1.0);
+			Assert.assertEquals(regression.error(tail, 1.0), 0.0, 0.000001);
+
+			// Early abort returns a lower bound of the exact error.
+			final double bounded = regression.error(offset, 0.5);
+			Assert.assertTrue(bounded > 0.5, "" + bounded);
+			Assert.assertTrue(bounded < 1.0, "" + bounded);
+
+			final var fitness = regression.boundedFitness();
+			final FitnessBound<Double> unbounded =
+				FitnessBound.unbounded(Optimize.MINIMUM);
+			final FitnessBound<Double> maximum =
+				FitnessBound.of(Optimize.MAXIMUM, 0.5);
+			final FitnessBound<Double> minimum =
+				FitnessBound.of(Optimize.MINIMUM, 0.5);
+
+			Assert.assertEquals(
+				fitness.apply(offset, unbounded).doubleValue(),
+				1.0
+			);
+			Assert.assertEquals(
+				fitness.apply(offset, maximum).doubleValue(),
+				1.0
+			);
+			Assert.assertEquals(
+				fitness.apply(offset, minimum).doubleValue(),
+				bounded
+			);
+		}
+	}
+
 	//@Test
 	public void dynamicSamples() {
 		final var scheduler = Executors.newScheduledThreadPool(1);
@@ -19,6 +19,13 @@
  */
 package io.jenetics.prog.regression;
 
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -47,6 +54,107 @@ public class RingBufferTest {
 		}
 	}
 
+	@Test
+	public void drain() {
+		final RingBuffer ints = new RingBuffer(5);
+		Assert.assertEquals(ints.drain(), new Object[0]);
+
+		ints.add(0);
+		ints.add(1);
+		Assert.assertEquals(ints.drain(), new Object[]{0, 1});
+		Assert.assertEquals(ints.drain(), new Object[0]);
+
+		ints.addAll(Arrays.asList(2, 3, 4));
+		Assert.assertEquals(ints.drain(), new Object[]{2, 3, 4});
+
+		// Only the newest elements are kept.
+		ints.addAll(Arrays.asList(5, 6, 7, 8, 9, 10, 11));
+		Assert.assertEquals(ints.drain(), new Object[]{7, 8, 9, 10, 11});
+		Assert.assertEquals(ints.snapshot(), new Object[]{7, 8, 9, 10, 11});
+	}
+
+	@Test
+	public void concurrentProducers() throws InterruptedException {
+		final int producers = 4;
+		final int count = 25_000;
+		final RingBuffer ints = new RingBuffer(producers*count);
+
+		final ExecutorService executor =
+			Executors.newFixedThreadPool(producers);
+		try {
+			for (int p = 0; p < producers; ++p) {
+				final int producer = p;
+				executor.execute(() -> {
+					for (int i = 0; i < count; ++i) {
+						ints.add(producer*count + i);
+					}
+				});
+			}
+
+			int drained = 0;
+			final boolean[] seen = new boolean[producers*count];
+			while (drained < seen.length) {
+				for (Object value : ints.drain()) {
+					Assert.assertFalse(seen[(Integer)value]);
+					seen[(Integer)value] = true;
+					++drained;
+				}
+			}
+			Assert.assertTrue(
+				IntStream.range(0, seen.length).allMatch(i -> seen[i])
+			);
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void concurrentWrapAround() throws InterruptedException {
+		final int producers = 4;
+		final int count = 50_000;
+		final int size = 1;
+
+		final ExecutorService executor =
+			Executors.newFixedThreadPool(producers);
+		try {
+			for (int round = 0; round < 10; ++round) {
+				final RingBuffer ints = new RingBuffer(size);
+				final CountDownLatch done = new CountDownLatch(producers);
+				for (int p = 0; p < producers; ++p) {
+					final int producer = p;
+					executor.execute(() -> {
+						for (int i = 0; i < count; ++i) {
+							ints.add(new int[]{producer, i});
+						}
+						done.countDown();
+					});
+				}
+
+				// The elements of every producer are drained in order.
+				final int[] last = new int[producers];
+				Arrays.fill(last, -1);
+				while (done.getCount() > 0) {
+					for (Object value : ints.drain()) {
+						final int[] element = (int[])value;
+						Assert.assertTrue(last[element[0]] < element[1]);
+						last[element[0]] = element[1];
+					}
+				}
+				done.await();
+				ints.drain();
+
+				// No slot is left with an older element.
+				Assert.assertEquals(ints.snapshot().length, size);
+				ints.add(-1);
+				Assert.assertEquals(ints.drain(), new Object[]{-1});
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
 	@DataProvider
 	public Object[][] maxSizes() {
 		return new Object[][] {
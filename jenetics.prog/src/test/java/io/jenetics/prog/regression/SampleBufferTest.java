@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.prog.op.MathExpr;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -56,4 +58,65 @@ public class SampleBufferTest {
 		);
 	}
 
+	@Test
+	public void cachedEval() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(33, 100);
+		for (int i = 0; i < 10; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		buffer.publish();
+
+		final var program = MathExpr.parseTree("x*x + 1");
+		Assert.assertEquals(
+			buffer.eval(program).calculated(),
+			new Double[]{
+				1.0, 2.0, 5.0, 10.0, 17.0, 26.0, 37.0, 50.0, 65.0, 82.0
+			}
+		);
+
+		// Publishing new samples must invalidate the cached results.
+		buffer.add(Sample.ofDouble(10, 20));
+		buffer.publish();
+		final Double[] calculated = buffer.eval(program).calculated();
+		Assert.assertEquals(calculated.length, 11);
+		Assert.assertEquals(calculated[10].doubleValue(), 101.0);
+		Assert.assertEquals(calculated[0].doubleValue(), 1.0);
+	}
+
+	@Test
+	public void incrementalPublish() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(5);
+		for (int i = 0; i < 3; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		Assert.assertEquals(buffer.publish(), 3);
+		final List<Sample<Double>> first = buffer.samples();
+
+		for (int i = 3; i < 7; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		Assert.assertEquals(buffer.publish(), 5);
+		Assert.assertEquals(buffer.publish(), 5);
+
+		Assert.assertEquals(
+			buffer.samples().stream()
+				.map(p -> p.argAt(0).intValue())
+				.collect(Collectors.toList()),
+			List.of(2, 3, 4, 5, 6)
+		);
+
+		// Published snapshots are not changed.
+		Assert.assertEquals(
+			first.stream()
+				.map(p -> p.argAt(0).intValue())
+				.collect(Collectors.toList()),
+			List.of(0, 1, 2)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeCacheSize() {
+		new SampleBuffer<Double>(10, -1);
+	}
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.prog.op.MathExpr;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SampleWindowTest {
+
+	private static Object[] samples(final int from, final int to) {
+		return IntStream.range(from, to)
+			.mapToObj(i -> Sample.ofDouble(i, 2*i))
+			.toArray();
+	}
+
+	private static List<Integer> args(final List<Sample<Double>> samples) {
+		return samples.stream()
+			.map(s -> s.argAt(0).intValue())
+			.collect(Collectors.toList());
+	}
+
+	private static List<Integer> range(final int from, final int to) {
+		return IntStream.range(from, to).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	public void append() {
+		final int chunk = SampleWindow.CHUNK_SIZE;
+		SampleWindow<Double> window = new SampleWindow<>(3*chunk, 0);
+		Assert.assertEquals(window.size(), 0);
+		Assert.assertNull(window.eval(MathExpr.parseTree("x")));
+
+		window = window.append(samples(0, 10));
+		Assert.assertEquals(args(window), range(0, 10));
+		Assert.assertEquals(window.chunks(), 1);
+
+		window = window.append(samples(10, 2*chunk + 5));
+		Assert.assertEquals(args(window), range(0, 2*chunk + 5));
+		Assert.assertEquals(window.chunks(), 3);
+
+		// Removes the oldest sample points and the unused chunks.
+		window = window.append(samples(2*chunk + 5, 4*chunk + 7));
+		Assert.assertEquals(args(window), range(chunk + 7, 4*chunk + 7));
+		Assert.assertEquals(window.chunks(), 4);
+
+		window = window.append(samples(4*chunk + 7, 10*chunk));
+		Assert.assertEquals(args(window), range(7*chunk, 10*chunk));
+		Assert.assertEquals(window.chunks(), 3);
+	}
+
+	@Test
+	public void immutable() {
+		final SampleWindow<Double> a = new SampleWindow<Double>(100, 0)
+			.append(samples(0, 10));
+		final SampleWindow<Double> b = a.append(samples(10, 20));
+		final SampleWindow<Double> c = a.append(samples(20, 25));
+
+		Assert.assertEquals(args(a), range(0, 10));
+		Assert.assertEquals(args(b), range(0, 20));
+		Assert.assertEquals(
+			args(c),
+			IntStream.concat(IntStream.range(0, 10), IntStream.range(20, 25))
+				.boxed()
+				.collect(Collectors.toList())
+		);
+	}
+
+	@Test
+	public void eval() {
+		final int chunk = SampleWindow.CHUNK_SIZE;
+		final Object[] samples = samples(0, 3*chunk);
+		final var program = MathExpr.parseTree("x*x + 1");
+
+		@SuppressWarnings("unchecked")
+		final SampleList<Double> list = new SampleList<>(
+			IntStream.range(chunk/2, 3*chunk)
+				.mapToObj(i -> (Sample<Double>)samples[i])
+				.collect(Collectors.toList())
+		);
+		final SampleWindow<Double> window =
+			new SampleWindow<Double>(5*chunk/2, 0).append(samples);
+		final SampleWindow<Double> cached =
+			new SampleWindow<Double>(5*chunk/2, 10).append(samples);
+
+		final Sampling.Result<Double> expected = list.eval(program);
+		Assert.assertEquals(
+			window.eval(program).calculated(),
+			expected.calculated()
+		);
+		Assert.assertEquals(
+			window.eval(program).expected(),
+			expected.expected()
+		);
+		Assert.assertEquals(
+			cached.eval(program).calculated(),
+			expected.calculated()
+		);
+		Assert.assertNull(window.subtreeCache());
+		Assert.assertNotNull(cached.subtreeCache());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidArity() {
+		new SampleWindow<Double>(10, 0)
+			.append(new Object[]{
+				Sample.ofDouble(1, 2),
+				Sample.ofDouble(1, 2, 3)
+			});
+	}
+
+}
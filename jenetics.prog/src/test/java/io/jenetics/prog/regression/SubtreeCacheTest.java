@@ -0,0 +1,140 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCacheTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(
+		MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.SIN
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0), Var.of("y", 1), Const.of(2.0)
+	);
+
+	private static List<Sample<Double>> samples(final int size) {
+		final Random random = new Random(123);
+		return IntStream.range(0, size)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble(),
+				random.nextDouble(),
+				random.nextDouble()))
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void eval() {
+		final List<Sample<Double>> points = samples(50);
+		final SampleList<Double> uncached = new SampleList<>(points);
+		final SampleList<Double> cached = new SampleList<>(points, 1000);
+
+		final Random random = new Random(1233);
+		for (int i = 0; i < 20; ++i) {
+			final Tree<Op<Double>, ?> program =
+				Program.of(5, OPERATIONS, TERMINALS, random);
+
+			Assert.assertEquals(
+				cached.eval(program).calculated(),
+				uncached.eval(program).calculated()
+			);
+		}
+	}
+
+	@Test
+	public void sharedSubtrees() {
+		final SampleList<Double> samples = new SampleList<>(samples(10), 100);
+		final SubtreeCache<Double> cache = samples.cache();
+
+		samples.eval(MathExpr.parseTree("sin(x*y) + 2"));
+		Assert.assertEquals(cache.size(), 3);
+		Assert.assertEquals(cache.misses(), 3);
+
+		// The shared 'sin(x*y)' subtree is taken from the cache.
+		samples.eval(MathExpr.parseTree("sin(x*y) - x"));
+		Assert.assertEquals(cache.size(), 4);
+		Assert.assertEquals(cache.misses(), 4);
+		Assert.assertEquals(cache.hits(), 1);
+
+		samples.eval(MathExpr.parseTree("sin(x*y) - x"));
+		Assert.assertEquals(cache.misses(), 4);
+		Assert.assertEquals(cache.hits(), 2);
+	}
+
+	@Test
+	public void varIndex() {
+		final SampleList<Double> samples = new SampleList<>(List.of(
+			Sample.ofDouble(3, 1, 0)
+		), 100);
+
+		final TreeNode<Op<Double>> t1 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 0))
+			.attach(Var.of("x", 1));
+		final TreeNode<Op<Double>> t2 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 1))
+			.attach(Var.of("x", 0));
+
+		Assert.assertEquals(samples.eval(t1).calculated(), new Double[]{2.0});
+		Assert.assertEquals(samples.eval(t2).calculated(), new Double[]{-2.0});
+	}
+
+	@Test
+	public void capacity() {
+		final SampleList<Double> samples = new SampleList<>(samples(10), 5);
+
+		final Random random = new Random(1233);
+		for (int i = 0; i < 50; ++i) {
+			samples.eval(Program.of(5, OPERATIONS, TERMINALS, random));
+			Assert.assertTrue(samples.cache().size() <= 5);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingVar() {
+		new SampleList<>(samples(10), 5).eval(
+			TreeNode.<Op<Double>>of(MathOp.ADD)
+				.attach(Var.of("x", 0))
+				.attach(Var.of("z", 2))
+		);
+	}
+
+}
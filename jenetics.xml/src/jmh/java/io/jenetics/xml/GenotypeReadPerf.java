@@ -23,16 +23,21 @@ import static java.lang.String.format;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -50,7 +55,7 @@ import io.jenetics.xml.stream.XML;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 @State(Scope.Benchmark)
@@ -73,7 +78,8 @@ public class GenotypeReadPerf {
 		public Genotype<DoubleGene> genotype;
 
 		public byte[] objectData;
-		public byte[] jaxbData;
+		public byte[] binaryData;
+		public byte[] compressedBinaryData;
 		public byte[] streamData;
 
 		@Setup
@@ -84,13 +90,17 @@ public class GenotypeReadPerf {
 			);
 
 			objectData = object(genotype);
+			binaryData = IO.binary.toByteArray(genotype);
+			compressedBinaryData = IO.compressedBinary.toByteArray(genotype);
 			streamData = stream(genotype);
 
 			System.out.println(format(
-				"Size[chromosomes=%s, object=%s, jaxb=%s, stream=%s]",
+				"Size[chromosomes=%s, object=%s, binary=%s, " +
+					"compressedBinary=%s, stream=%s]",
 				chromosomeCount,
 				mib(objectData.length),
-				mib(jaxbData.length),
+				mib(binaryData.length),
+				mib(compressedBinaryData.length),
 				mib(streamData.length)
 			));
 		}
@@ -117,12 +127,71 @@ public class GenotypeReadPerf {
 
 	}
 
+	/**
+	 * Population of 10 million genotypes, which doesn't fit into the heap of
+	 * the forked benchmark JVM, if it would be read as a collection.
+	 */
+	@State(Scope.Benchmark)
+	public static class PopulationState {
+
+		@Param({"100000", "10000000"})
+		public long populationSize;
+
+		@Param({"genotypes.xml", "genotypes.xml.gz"})
+		public String fileName;
+
+		public Path dir;
+		public Path path;
+
+		@Setup
+		public void setup() throws Exception {
+			dir = Files.createTempDirectory("jenetics-perf-");
+			path = dir.resolve(fileName);
+
+			Writers.Genotypes.write(
+				path,
+				Genotype.of(DoubleChromosome.of(0.0, 1.0, 10))
+					.instances()
+					.limit(populationSize),
+				Writers.DoubleChromosome.writer()
+			);
+
+			System.out.println(format(
+				"Size[genotypes=%s, file=%s, size=%.4f MiB]",
+				populationSize,
+				fileName,
+				(double)Files.size(path)/(1024*1024)
+			));
+		}
+
+		@TearDown
+		public void cleanup() throws IOException {
+			Files.deleteIfExists(path);
+			Files.delete(dir);
+		}
+
+	}
+
 	@Benchmark
 	public Object object(final IOState state) throws Exception {
 		final ByteArrayInputStream in = new ByteArrayInputStream(state.objectData);
 		return IO.object.read(in);
 	}
 
+	@Benchmark
+	public Object binary(final IOState state) throws Exception {
+		final ByteArrayInputStream in =
+			new ByteArrayInputStream(state.binaryData);
+		return IO.binary.read(in);
+	}
+
+	@Benchmark
+	public Object compressedBinary(final IOState state) throws Exception {
+		final ByteArrayInputStream in =
+			new ByteArrayInputStream(state.compressedBinaryData);
+		return IO.compressedBinary.read(in);
+	}
+
 	@Benchmark
 	public Object stream(final IOState state) throws Exception {
 		final ByteArrayInputStream in = new ByteArrayInputStream(state.streamData);
@@ -132,6 +201,22 @@ public class GenotypeReadPerf {
 		}
 	}
 
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+	public double streamPopulation(final PopulationState state)
+		throws Exception
+	{
+		try (var genotypes = Readers.Genotypes
+			.stream(state.path, Readers.DoubleChromosome.reader()))
+		{
+			return genotypes
+				.mapToDouble(gt -> gt.gene().doubleValue())
+				.sum();
+		}
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(GenotypeReadPerf.class.getSimpleName())
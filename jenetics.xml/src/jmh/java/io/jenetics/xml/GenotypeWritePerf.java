@@ -20,16 +20,22 @@
 package io.jenetics.xml;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -45,7 +51,7 @@ import io.jenetics.xml.stream.XML;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 @State(Scope.Benchmark)
@@ -74,6 +80,42 @@ public class GenotypeWritePerf {
 
 	}
 
+	/**
+	 * Population of 10 million genotypes, which doesn't fit into the heap of
+	 * the forked benchmark JVM, if it would be written as a collection.
+	 */
+	@State(Scope.Benchmark)
+	public static class PopulationState {
+
+		@Param({"100000", "10000000"})
+		public long populationSize;
+
+		@Param({"genotypes.xml", "genotypes.xml.gz"})
+		public String fileName;
+
+		public Path dir;
+		public Path path;
+
+		@Setup
+		public void setup() throws IOException {
+			dir = Files.createTempDirectory("jenetics-perf-");
+			path = dir.resolve(fileName);
+		}
+
+		@TearDown
+		public void cleanup() throws IOException {
+			Files.deleteIfExists(path);
+			Files.delete(dir);
+		}
+
+		public Stream<Genotype<DoubleGene>> population() {
+			return Genotype.of(DoubleChromosome.of(0.0, 1.0, 10))
+				.instances()
+				.limit(populationSize);
+		}
+
+	}
+
 	@Benchmark
 	public Object object(final IOState state) throws Exception {
 		final ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -81,6 +123,20 @@ public class GenotypeWritePerf {
 		return out.toByteArray();
 	}
 
+	@Benchmark
+	public Object binary(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.binary.write(state.genotype, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Object compressedBinary(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.compressedBinary.write(state.genotype, out);
+		return out.toByteArray();
+	}
+
 	@Benchmark
 	public Object stream(final IOState state) throws Exception {
 		final ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -101,6 +157,22 @@ public class GenotypeWritePerf {
 		return out.toByteArray();
 	}
 
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+	public Object streamPopulation(final PopulationState state)
+		throws Exception
+	{
+		Writers.Genotypes.write(
+			state.path,
+			state.population(),
+			Writers.DoubleChromosome.writer()
+		);
+
+		return Files.size(state.path);
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(GenotypeWritePerf.class.getSimpleName())
@@ -21,18 +21,29 @@ package io.jenetics.xml;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 import static io.jenetics.xml.stream.Reader.attr;
 import static io.jenetics.xml.stream.Reader.elem;
 import static io.jenetics.xml.stream.Reader.elems;
 import static io.jenetics.xml.stream.Reader.text;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import io.jenetics.BoundedGene;
 import io.jenetics.Chromosome;
@@ -64,12 +75,14 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Readers {
 	private Readers() {}
 
+	static final int BUFFER_SIZE = 64*1024;
+
 	/**
 	 * Bit chromosome reader methods, which reads XML-representations of
 	 * bit-chromosomes.
@@ -726,6 +739,200 @@ public final class Readers {
 			}
 		}
 
+		/**
+		 * Return a lazy stream of the genotypes, read from the given input
+		 * stream. In contrast to {@link #read(InputStream, Reader)}, the
+		 * genotypes are read one by one, while the returned stream is
+		 * consumed. This allows to process genotype files which doesn't fit
+		 * into memory. <em>The returned stream must be closed after usage,
+		 * which also closes the underlying XML reader, but not the given input
+		 * stream.</em>
+		 *
+		 * <pre>{@code
+		 * try (var genotypes = Readers.Genotypes
+		 *     .stream(in, Readers.DoubleChromosome.reader()))
+		 * {
+		 *     genotypes.forEach(System.out::println);
+		 * }
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param in the input stream to read the genotypes from
+		 * @param chromosomeReader the used chromosome reader
+		 * @return a lazy stream of the genotypes
+		 * @throws XMLStreamException if the creation of the XML reader or
+		 *         reading the root element fails. Errors while consuming the
+		 *         stream are thrown as {@link UncheckedIOException}.
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Stream<io.jenetics.Genotype<G>>
+		stream(final InputStream in, final Reader<? extends C> chromosomeReader)
+			throws XMLStreamException
+		{
+			requireNonNull(chromosomeReader);
+			requireNonNull(in);
+
+			final AutoCloseableXMLStreamReader xml = XML.reader(in);
+			try {
+				xml.nextTag();
+				xml.require(START_ELEMENT, null, Writers.Genotypes.ROOT_NAME);
+
+				final Reader<io.jenetics.Genotype<G>> reader =
+					Genotype.reader(chromosomeReader);
+
+				return StreamSupport
+					.stream(new ElemsSpliterator<>(xml, reader), false)
+					.onClose(() -> {
+						try {
+							xml.close();
+						} catch (XMLStreamException e) {
+							throw new UncheckedIOException(new IOException(e));
+						}
+					});
+			} catch (XMLStreamException | RuntimeException e) {
+				try {
+					xml.close();
+				} catch (XMLStreamException suppressed) {
+					e.addSuppressed(suppressed);
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * Return a lazy stream of the genotypes, read from the given
+		 * {@code path}. GZIP compressed files, as written by
+		 * {@link Writers.Genotypes#write(Path, Stream, Writer)}, are detected
+		 * and decompressed automatically. <em>The returned stream must be
+		 * closed after usage, which also closes the opened file.</em>
+		 *
+		 * <pre>{@code
+		 * final Path path = Path.of("population.xml.gz");
+		 * try (var genotypes = Readers.Genotypes
+		 *     .stream(path, Readers.DoubleChromosome.reader()))
+		 * {
+		 *     final long count = genotypes.count();
+		 * }
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param path the file to read the genotypes from
+		 * @param chromosomeReader the used chromosome reader
+		 * @return a lazy stream of the genotypes
+		 * @throws IOException if opening the file fails
+		 * @throws XMLStreamException if the creation of the XML reader or
+		 *         reading the root element fails. Errors while consuming the
+		 *         stream are thrown as {@link UncheckedIOException}.
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Stream<io.jenetics.Genotype<G>>
+		stream(final Path path, final Reader<? extends C> chromosomeReader)
+			throws IOException, XMLStreamException
+		{
+			requireNonNull(chromosomeReader);
+
+			final InputStream in = open(path);
+			try {
+				return Genotypes.<A, G, C>stream(in, chromosomeReader)
+					.onClose(() -> {
+						try {
+							in.close();
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+			} catch (XMLStreamException | RuntimeException e) {
+				try {
+					in.close();
+				} catch (IOException suppressed) {
+					e.addSuppressed(suppressed);
+				}
+				throw e;
+			}
+		}
+
+		// Opens the given file and transparently decompresses it, if it
+		// starts with the GZIP magic number.
+		private static InputStream open(final Path path) throws IOException {
+			final InputStream in = new BufferedInputStream(
+				Files.newInputStream(path),
+				BUFFER_SIZE
+			);
+
+			try {
+				in.mark(2);
+				final int magic = in.read() | in.read() << 8;
+				in.reset();
+
+				return magic == GZIPInputStream.GZIP_MAGIC
+					? new BufferedInputStream(
+						new GZIPInputStream(in, BUFFER_SIZE),
+						BUFFER_SIZE)
+					: in;
+			} catch (IOException | RuntimeException e) {
+				in.close();
+				throw e;
+			}
+		}
+
+	}
+
+	/**
+	 * Spliterator which reads the child elements of the current XML element
+	 * one by one. It stops at the end element of the parent.
+	 */
+	private static final class ElemsSpliterator<T>
+		extends Spliterators.AbstractSpliterator<T>
+	{
+		private final XMLStreamReader _xml;
+		private final Reader<? extends T> _reader;
+		private boolean _finished = false;
+
+		ElemsSpliterator(
+			final XMLStreamReader xml,
+			final Reader<? extends T> reader
+		) {
+			super(Long.MAX_VALUE, ORDERED | NONNULL);
+			_xml = xml;
+			_reader = reader;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			if (_finished) {
+				return false;
+			}
+
+			try {
+				if (_xml.nextTag() == START_ELEMENT) {
+					action.accept(_reader.read(_xml));
+					return true;
+				}
+			} catch (XMLStreamException e) {
+				throw new UncheckedIOException(new IOException(e));
+			}
+
+			_finished = true;
+			return false;
+		}
 	}
 
 	/**
@@ -25,9 +25,15 @@ import static io.jenetics.xml.stream.Writer.elem;
 import static io.jenetics.xml.stream.Writer.elems;
 import static io.jenetics.xml.stream.Writer.text;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -66,7 +72,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Writers {
@@ -1085,6 +1091,7 @@ public final class Writers {
 
 		static final String ROOT_NAME = "genotypes";
 		static final String LENGTH_NAME = "length";
+		static final String GZIP_SUFFIX = ".gz";
 
 		/**
 		 * Create a writer for genotypes of arbitrary chromosomes. How to write the
@@ -1193,6 +1200,168 @@ public final class Writers {
 			}
 		}
 
+		/**
+		 * Write the genotypes of the given stream to the given output stream.
+		 * The genotypes are written one by one, while the given stream is
+		 * consumed, which allows to write more genotypes than fit into memory.
+		 * Since the number of genotypes is not known in advance, the
+		 * {@code length} attribute of the root element is not written. If the
+		 * given {@code indent} is {@code null}, the XML is written without
+		 * any formatting.
+		 *
+		 * <pre>{@code
+		 * Writers.Genotypes.write(
+		 *     out,
+		 *     Genotype.of(DoubleChromosome.of(0, 1, 10)).instances()
+		 *         .limit(10_000_000),
+		 *     null,
+		 *     Writers.DoubleChromosome.writer()
+		 * );
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param indent the XML level indentation, may be {@code null}
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws XMLStreamException if an error occurs while writing the
+		 *         genotypes
+		 * @throws NullPointerException if the one of the arguments, except
+		 *         the {@code indent}, is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Stream<io.jenetics.Genotype<G>> data,
+			final String indent,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws XMLStreamException
+		{
+			requireNonNull(data);
+			requireNonNull(chromosomeWriter);
+			requireNonNull(out);
+
+			final Writer<Iterable<io.jenetics.Genotype<G>>> writer = elem(
+				ROOT_NAME,
+				elems(Genotype.<A, G, C>writer(chromosomeWriter))
+			);
+
+			try (var xml = XML.writer(out, indent)) {
+				writer.write(xml, data::iterator);
+			}
+		}
+
+		/**
+		 * Write the genotypes of the given stream to the given output stream,
+		 * without any formatting.
+		 *
+		 * @see #write(OutputStream, Stream, String, Writer)
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws XMLStreamException if an error occurs while writing the
+		 *         genotypes
+		 * @throws NullPointerException if the one of the arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Stream<io.jenetics.Genotype<G>> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws XMLStreamException
+		{
+			Genotypes.<A, G, C>write(out, data, null, chromosomeWriter);
+		}
+
+		/**
+		 * Write the genotypes of the given stream to the given {@code path},
+		 * without any formatting. If the file name ends with {@code .gz}, the
+		 * file is written GZIP compressed.
+		 * {@link Readers.Genotypes#stream(Path, io.jenetics.xml.stream.Reader)}
+		 * detects and reads compressed files transparently.
+		 *
+		 * <pre>{@code
+		 * final Path path = Path.of("population.xml.gz");
+		 * Writers.Genotypes.write(
+		 *     path,
+		 *     engine.stream()
+		 *         .limit(1000)
+		 *         .flatMap(r -> r.genotypes().stream()),
+		 *     Writers.DoubleChromosome.writer()
+		 * );
+		 * }</pre>
+		 *
+		 * @see #write(OutputStream, Stream, String, Writer)
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param path the target file
+		 * @param data the genotypes to write
+		 * @param chromosomeWriter the chromosome writer used to write the
+		 *        genotypes
+		 * @throws IOException if the file can't be written
+		 * @throws XMLStreamException if an error occurs while writing the
+		 *         genotypes
+		 * @throws NullPointerException if the one of the arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final Path path,
+			final Stream<io.jenetics.Genotype<G>> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws IOException, XMLStreamException
+		{
+			requireNonNull(data);
+			requireNonNull(chromosomeWriter);
+
+			final OutputStream file = Files.newOutputStream(path);
+			final boolean compress = path.getFileName() != null &&
+				path.getFileName().toString().endsWith(GZIP_SUFFIX);
+
+			// The XML stream writer writes single bytes, which makes a
+			// buffer mandatory, especially for the compressed output.
+			try (var out = new BufferedOutputStream(
+					compress
+						? new GZIPOutputStream(file, Readers.BUFFER_SIZE)
+						: file,
+					Readers.BUFFER_SIZE))
+			{
+				Genotypes.<A, G, C>write(out, data, chromosomeWriter);
+			}
+		}
+
 	}
 
 
@@ -19,8 +19,10 @@
  */
 package io.jenetics.xml.stream;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -29,7 +31,7 @@ import javax.xml.stream.XMLStreamWriter;
  * {@link XMLStreamWriter} proxy for writing XML indentations.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 final class IndentingXMLWriter extends XMLWriterProxy {
@@ -45,9 +47,12 @@ final class IndentingXMLWriter extends XMLWriterProxy {
 	private final String _indent;
 
 	private State _state;
-	private final Deque<State> _states = new LinkedList<>();
+	private final Deque<State> _states = new ArrayDeque<>();
 	private int _depth;
 
+	// Cached line breaks, followed by the indentation of the given depth.
+	private final List<String> _indentations = new ArrayList<>();
+
 	IndentingXMLWriter(final XMLStreamWriter writer, final String indent) {
 		super(writer);
 		_state = State.SEEN_NOTHING;
@@ -59,18 +64,16 @@ final class IndentingXMLWriter extends XMLWriterProxy {
 		_states.push(State.SEEN_ELEMENT);
 		_state = State.SEEN_NOTHING;
 		if (_depth > 0) {
-			super.writeCharacters(NEW_LINE);
+			super.writeCharacters(indentation(_depth));
 		}
 
-		doIndent();
 		++_depth;
 	}
 
 	private void onEndElement() throws XMLStreamException {
 		--_depth;
 		if (_state == State.SEEN_ELEMENT) {
-			super.writeCharacters(NEW_LINE);
-			doIndent();
+			super.writeCharacters(indentation(_depth));
 		}
 
 		_state = _states.pop();
@@ -78,20 +81,19 @@ final class IndentingXMLWriter extends XMLWriterProxy {
 
 	private void onEmptyElement() throws XMLStreamException {
 		_state = State.SEEN_ELEMENT;
-		if(_depth > 0) {
-			super.writeCharacters(NEW_LINE);
+		if (_depth > 0) {
+			super.writeCharacters(indentation(_depth));
 		}
-
-		doIndent();
 	}
 
-	private void doIndent() throws XMLStreamException {
-		if (_depth > 0) {
-			for(int i = 0; i < _depth; ++i) {
-				super.writeCharacters(_indent);
-			}
+	private String indentation(final int depth) {
+		while (_indentations.size() <= depth) {
+			_indentations.add(
+				NEW_LINE + _indent.repeat(_indentations.size())
+			);
 		}
 
+		return _indentations.get(depth);
 	}
 
 	@Override
@@ -25,8 +25,15 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -133,4 +140,156 @@ public class WriteReadTest {
 		};
 	}
 
+	@Test
+	public void streamWriteRead() throws Exception {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 3)
+				.instances()
+				.limit(100)
+				.collect(Collectors.toList());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			genotypes.stream(),
+			Writers.DoubleChromosome.writer()
+		);
+
+		final byte[] data = out.toByteArray();
+		try (var stream = Readers.Genotypes.stream(
+			new ByteArrayInputStream(data),
+			Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(stream.collect(Collectors.toList()), genotypes);
+		}
+
+		// The streamed XML is also readable by the non-streaming reader.
+		Assert.assertEquals(
+			Readers.Genotypes.read(
+				new ByteArrayInputStream(data),
+				Readers.DoubleChromosome.reader()),
+			genotypes
+		);
+	}
+
+	@Test
+	public void streamReadIndented() throws Exception {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 5), 2)
+				.instances()
+				.limit(10)
+				.collect(Collectors.toList());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			genotypes,
+			"    ",
+			Writers.DoubleChromosome.writer()
+		);
+
+		try (var stream = Readers.Genotypes.stream(
+			new ByteArrayInputStream(out.toByteArray()),
+			Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(stream.collect(Collectors.toList()), genotypes);
+		}
+	}
+
+	@Test
+	public void streamReadEmpty() throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			Stream.<Genotype<DoubleGene>>empty(),
+			Writers.DoubleChromosome.writer()
+		);
+
+		try (var stream = Readers.Genotypes.stream(
+			new ByteArrayInputStream(out.toByteArray()),
+			Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(stream.count(), 0);
+		}
+	}
+
+	@Test
+	public void streamReadLazy() throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(
+			out,
+			Genotype.of(DoubleChromosome.of(0, 1, 5)).instances().limit(10),
+			Writers.DoubleChromosome.writer()
+		);
+
+		// Corrupt the end of the document, which must not affect the
+		// genotypes read before.
+		final byte[] data = Arrays.copyOf(out.toByteArray(), out.size() - 50);
+		try (var stream = Readers.Genotypes.stream(
+			new ByteArrayInputStream(data),
+			Readers.DoubleChromosome.reader()))
+		{
+			Assert.assertEquals(stream.limit(5).count(), 5);
+		}
+	}
+
+	@Test(dataProvider = "fileNames")
+	public void streamWriteReadFile(final String name) throws Exception {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 3)
+				.instances()
+				.limit(100)
+				.collect(Collectors.toList());
+
+		final Path dir = Files.createTempDirectory("jenetics-xml-");
+		final Path path = dir.resolve(name);
+		try {
+			Writers.Genotypes.write(
+				path,
+				genotypes.stream(),
+				Writers.DoubleChromosome.writer()
+			);
+
+			try (var in = Files.newInputStream(path)) {
+				final boolean compressed =
+					in.read() == 0x1f && in.read() == 0x8b;
+				Assert.assertEquals(compressed, name.endsWith(".gz"));
+			}
+
+			try (var stream = Readers.Genotypes.stream(
+				path,
+				Readers.DoubleChromosome.reader()))
+			{
+				Assert.assertEquals(
+					stream.collect(Collectors.toList()),
+					genotypes
+				);
+			}
+		} finally {
+			Files.deleteIfExists(path);
+			Files.delete(dir);
+		}
+	}
+
+	@DataProvider
+	public Object[][] fileNames() {
+		return new Object[][] {
+			{"genotypes.xml"},
+			{"genotypes.xml.gz"}
+		};
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void streamReadInvalid() throws Exception {
+		final byte[] data = "<genotypes><foo></foo></genotypes>"
+			.getBytes(StandardCharsets.UTF_8);
+
+		try (var stream = Readers.Genotypes.stream(
+			new ByteArrayInputStream(data),
+			Readers.DoubleChromosome.reader()))
+		{
+			stream.count();
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import static java.lang.String.format;
 
 import java.util.Random;
 
+import io.jenetics.internal.jfr.Events;
 import io.jenetics.internal.math.Probabilities;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
@@ -65,7 +66,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -113,6 +114,8 @@ public class Mutator<
 	) {
 		assert population != null : "Not null is guaranteed from base class.";
 
+		final Object event = Events.beginAlter();
+
 		final Random random = RandomRegistry.random();
 		final double p = pow(_probability, 1.0/3.0);
 		final int P = Probabilities.toInt(p);
@@ -122,10 +125,20 @@ public class Mutator<
 				? mutate(pt, generation, p, random)
 				: MutatorResult.of(pt));
 
-		return AltererResult.of(
+		final AltererResult<G, C> altered = AltererResult.of(
 			result.map(MutatorResult::result).asISeq(),
 			result.stream().mapToInt(MutatorResult::mutations).sum()
 		);
+
+		Events.commitAlter(
+			event,
+			this,
+			_probability,
+			generation,
+			population.size(),
+			altered.alterations()
+		);
+		return altered;
 	}
 
 	/**
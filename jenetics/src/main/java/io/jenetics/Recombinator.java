@@ -25,6 +25,7 @@ import static io.jenetics.internal.math.Randoms.indexes;
 
 import java.util.Random;
 
+import io.jenetics.internal.jfr.Events;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
@@ -51,7 +52,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -97,6 +98,8 @@ public abstract class Recombinator<
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
+		final Object event = Events.beginAlter();
+
 		final AltererResult<G, C> result;
 		if (population.size() >= 2) {
 			final Random random = RandomRegistry.random();
@@ -113,6 +116,14 @@ public abstract class Recombinator<
 			result = AltererResult.of(population.asISeq());
 		}
 
+		Events.commitAlter(
+			event,
+			this,
+			_probability,
+			generation,
+			population.size(),
+			result.alterations()
+		);
 		return result;
 	}
 
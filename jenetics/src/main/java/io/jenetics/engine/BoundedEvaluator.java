@@ -0,0 +1,159 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.jfr.Events;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator which passes a cut-off {@link FitnessBound} to the fitness
+ * function. The bound is the fitness quantile of the already evaluated
+ * individuals of the population, which are the survivors of the last
+ * generation.
+ *
+ * @see Evaluators#bounded(BoundedFitness, Optimize, double, Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BoundedEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final BoundedFitness<? super Genotype<G>, C> _function;
+	private final Optimize _optimize;
+	private final double _quantile;
+	private final Executor _executor;
+
+	BoundedEvaluator(
+		final BoundedFitness<? super Genotype<G>, C> function,
+		final Optimize optimize,
+		final double quantile,
+		final Executor executor
+	) {
+		if (!(quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException(format(
+				"Quantile must be in the range [0, 1]: %f", quantile
+			));
+		}
+
+		_function = requireNonNull(function);
+		_optimize = requireNonNull(optimize);
+		_quantile = quantile;
+		_executor = requireNonNull(executor);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final Object event = Events.beginEvaluation();
+
+		final ISeq<Phenotype<G, C>> evaluated = population.stream()
+			.filter(Phenotype::isEvaluated)
+			.collect(ISeq.toISeq());
+
+		final FitnessBound<C> bound = bound(evaluated);
+		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.map(pt -> new PhenotypeFitness<>(pt, _function, bound))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<G, C>> result;
+		if (evaluate.nonEmpty()) {
+			try (var c = Concurrency.with(_executor)) {
+				c.execute(evaluate);
+			}
+
+			result = evaluated
+				.append(evaluate.map(PhenotypeFitness::phenotype));
+		} else {
+			result = population.asISeq();
+		}
+
+		Events.commitEvaluation(event, getClass(), evaluate.size());
+		return result;
+	}
+
+	/**
+	 * Return the fitness bound for the given, evaluated individuals. The
+	 * quantile {@code 1.0} is the fitness of the worst individual.
+	 */
+	FitnessBound<C> bound(final Seq<Phenotype<G, C>> evaluated) {
+		if (evaluated.isEmpty()) {
+			return FitnessBound.unbounded(_optimize);
+		}
+
+		final ISeq<C> fitness = evaluated.stream()
+			.map(Phenotype::fitness)
+			.sorted(_optimize.descending())
+			.collect(ISeq.toISeq());
+
+		final int index = (int)Math.ceil(_quantile*(fitness.size() - 1));
+		return FitnessBound.of(_optimize, fitness.get(index));
+	}
+
+
+	private static final class PhenotypeFitness<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Runnable
+	{
+		final Phenotype<G, C> _phenotype;
+		final BoundedFitness<? super Genotype<G>, C> _function;
+		final FitnessBound<C> _bound;
+		C _fitness;
+
+		PhenotypeFitness(
+			final Phenotype<G, C> phenotype,
+			final BoundedFitness<? super Genotype<G>, C> function,
+			final FitnessBound<C> bound
+		) {
+			_phenotype = phenotype;
+			_function = function;
+			_bound = bound;
+		}
+
+		@Override
+		public void run() {
+			_fitness = _function.apply(_phenotype.genotype(), _bound);
+		}
+
+		Phenotype<G, C> phenotype() {
+			return _phenotype.withFitness(_fitness);
+		}
+
+	}
+
+}
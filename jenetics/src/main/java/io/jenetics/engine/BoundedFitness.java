@@ -0,0 +1,97 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+/**
+ * Fitness function, which gets the cut-off {@link FitnessBound} of the
+ * current population as additional argument. Fitness functions which
+ * accumulate an error over many cases, can stop the evaluation as soon as the
+ * accumulated, partial result is dominated by the bound.
+ * <p>
+ * The returned fitness value must be <em>exact</em>, if it isn't dominated
+ * by the bound. An early aborted evaluation must return a value which is
+ * still dominated by the bound, typically the partial result of the
+ * evaluation. This guarantees that an early aborted evaluation never
+ * determines the best fitness of the population, which is used by the
+ * evolution {@link Limits} and the best phenotype of the
+ * {@link EvolutionResult}. Only the statistics of the <em>worse</em>
+ * individuals, like the mean fitness, are influenced by the early abort.
+ *
+ * @see FitnessBound
+ * @see Evaluators
+ *
+ * @param <T> the argument type of the fitness function
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface BoundedFitness<T, C extends Comparable<? super C>> {
+
+	/**
+	 * Evaluates the fitness of the given {@code value}.
+	 *
+	 * @param value the value to evaluate
+	 * @param bound the cut-off bound of the current population
+	 * @return the fitness value, which is exact if it isn't dominated by the
+	 *         given {@code bound}
+	 */
+	C apply(final T value, final FitnessBound<C> bound);
+
+	/**
+	 * Return a new bounded fitness function, which first applies the given
+	 * {@code decoder} to its input value.
+	 *
+	 * @param decoder the decoder function
+	 * @param <A> the input type of the decoder
+	 * @return a new composed, bounded fitness function
+	 * @throws NullPointerException if the given {@code decoder} is
+	 *         {@code null}
+	 */
+	default <A> BoundedFitness<A, C>
+	compose(final Function<? super A, ? extends T> decoder) {
+		requireNonNull(decoder);
+		return (value, bound) -> apply(decoder.apply(value), bound);
+	}
+
+	/**
+	 * Create a bounded fitness function from the given, unbounded
+	 * {@code fitness} function, which ignores the bound.
+	 *
+	 * @param fitness the unbounded fitness function
+	 * @param <T> the argument type of the fitness function
+	 * @param <C> the fitness value type
+	 * @return a bounded fitness function, which ignores the bound
+	 * @throws NullPointerException if the given {@code fitness} is
+	 *         {@code null}
+	 */
+	static <T, C extends Comparable<? super C>> BoundedFitness<T, C>
+	of(final Function<? super T, ? extends C> fitness) {
+		requireNonNull(fitness);
+		return (value, bound) -> fitness.apply(value);
+	}
+
+}
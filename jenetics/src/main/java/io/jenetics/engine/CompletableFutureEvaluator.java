@@ -27,20 +27,29 @@ import java.util.function.Function;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
+import io.jenetics.internal.jfr.Events;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
 
 /**
+ * Evaluator for fitness functions, which returns a {@link CompletableFuture}
+ * of the fitness value.
+ *
+ * @implNote
+ * The evaluation latency of an individual is measured from the submission of
+ * its future until the completion is observed. Since the futures are joined
+ * in submission order, this is an upper bound of the actual evaluation time.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class CompletableFutureEvaluator<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 >
-	implements Evaluator<G, C>
+	implements RecordingEvaluator<G, C>
 {
 
 	private final Function<? super Genotype<G>, ? extends CompletableFuture<C>> _fitness;
@@ -52,22 +61,70 @@ final class CompletableFutureEvaluator<
 	}
 
 	@Override
-	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		@SuppressWarnings({"unchecked", "rawtypes"})
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final EvaluationLatencies.Recorder<G> recorder
+	) {
+		final Object event = Events.beginEvaluation();
+
+		final ISeq<Genotype<G>> genotypes = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.map(Phenotype::genotype)
+			.collect(ISeq.toISeq());
+
+		final long[] submitted = recorder != null
+			? new long[genotypes.size()]
+			: null;
+
+		@SuppressWarnings("unchecked")
 		final CompletableFuture<C>[] evaluate =
-			(CompletableFuture<C>[])population.stream()
-				.filter(Phenotype::nonEvaluated)
-				.map(pt -> _fitness.apply(pt.genotype()))
-				.collect(ISeq.toISeq())
-				.toArray(new CompletableFuture[0]);
+			(CompletableFuture<C>[])new CompletableFuture<?>[genotypes.size()];
+		for (int i = 0; i < evaluate.length; ++i) {
+			if (submitted != null) {
+				submitted[i] = System.nanoTime();
+			}
+			evaluate[i] = _fitness.apply(genotypes.get(i));
+		}
 
 		final ISeq<Phenotype<G, C>> evaluated = population.stream()
 			.filter(Phenotype::isEvaluated)
 			.collect(ISeq.toISeq());
 
-		CompletableFuture.allOf(evaluate).join();
+		if (recorder != null) {
+			join(genotypes, evaluate, submitted, recorder);
+		} else {
+			CompletableFuture.allOf(evaluate).join();
+		}
+
+		final ISeq<Phenotype<G, C>> result =
+			evaluated.append(map(population, evaluate));
 
-		return evaluated.append(map(population, evaluate));
+		Events.commitEvaluation(event, getClass(), genotypes.size());
+		return result;
+	}
+
+	// Joins the futures in submission order and records the observed
+	// completion times.
+	private static <G extends Gene<?, G>> void join(
+		final Seq<Genotype<G>> genotypes,
+		final CompletableFuture<?>[] futures,
+		final long[] submitted,
+		final EvaluationLatencies.Recorder<G> recorder
+	) {
+		for (int i = 0; i < futures.length; ++i) {
+			try {
+				futures[i].join();
+			} catch (RuntimeException e) {
+				// Waits for all futures, like the non-recording evaluation.
+				CompletableFuture.allOf(futures).join();
+				throw e;
+			}
+			recorder.record(
+				genotypes.get(i),
+				0,
+				System.nanoTime() - submitted[i]
+			);
+		}
 	}
 
 	private ISeq<Phenotype<G, C>> map(
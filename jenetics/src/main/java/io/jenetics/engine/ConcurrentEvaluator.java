@@ -27,6 +27,7 @@ import java.util.function.Function;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
+import io.jenetics.internal.jfr.Events;
 import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
@@ -36,14 +37,14 @@ import io.jenetics.util.Seq;
  * for the fitness evaluation.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 4.2
  */
 final class ConcurrentEvaluator<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 >
-	implements Evaluator<G, C>
+	implements RecordingEvaluator<G, C>
 {
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
@@ -62,18 +63,37 @@ final class ConcurrentEvaluator<
 	}
 
 	@Override
-	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final EvaluationLatencies.Recorder<G> recorder
+	) {
+		final Object event = Events.beginEvaluation();
+
+		final boolean timed = recorder != null;
 		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
+			.map(pt -> new PhenotypeFitness<>(pt, _function, timed))
 			.collect(ISeq.toISeq());
 
 		final ISeq<Phenotype<G, C>> result;
 		if (evaluate.nonEmpty()) {
+			final long submitted = timed ? System.nanoTime() : 0;
 			try (var c = Concurrency.with(_executor)) {
 				c.execute(evaluate);
 			}
 
+			// Joining the tasks makes the measured times visible.
+			if (timed) {
+				for (int i = 0; i < evaluate.size(); ++i) {
+					final PhenotypeFitness<G, C> pf = evaluate.get(i);
+					recorder.record(
+						pf._phenotype.genotype(),
+						pf._started - submitted,
+						pf._finished - pf._started
+					);
+				}
+			}
+
 			result = evaluate.size() == population.size()
 				? evaluate.map(PhenotypeFitness::phenotype)
 				: population.stream()
@@ -84,6 +104,7 @@ final class ConcurrentEvaluator<
 			result = population.asISeq();
 		}
 
+		Events.commitEvaluation(event, getClass(), evaluate.size());
 		return result;
 	}
 
@@ -96,19 +117,30 @@ final class ConcurrentEvaluator<
 	{
 		final Phenotype<G, C> _phenotype;
 		final Function<? super Genotype<G>, ? extends C> _function;
+		final boolean _timed;
 		C _fitness;
+		long _started;
+		long _finished;
 
 		PhenotypeFitness(
 			final Phenotype<G, C> phenotype,
-			final Function<? super Genotype<G>, ? extends C> function
+			final Function<? super Genotype<G>, ? extends C> function,
+			final boolean timed
 		) {
 			_phenotype = phenotype;
 			_function = function;
+			_timed = timed;
 		}
 
 		@Override
 		public void run() {
-			_fitness = _function.apply(_phenotype.genotype());
+			if (_timed) {
+				_started = System.nanoTime();
+				_fitness = _function.apply(_phenotype.genotype());
+				_finished = System.nanoTime();
+			} else {
+				_fitness = _function.apply(_phenotype.genotype());
+			}
 		}
 
 		Phenotype<G, C> phenotype() {
@@ -29,6 +29,8 @@ import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
 
 /**
  * This interface allows you to define constraints on single phenotypes. It is a
@@ -137,6 +139,13 @@ import io.jenetics.util.Factory;
  * <em>invalid</em> values. It is still necessary that the fitness function must
  * handle invalid values accordingly. The constraint <em>only</em> filters
  * invalid individuals after the selection and altering step.
+ * <p>
+ * <b>Since 6.1</b>, the {@link Engine} filters bigger populations in chunks,
+ * which are processed concurrently. The {@link #test(Phenotype)} and repair
+ * methods of a constraint are therefore called from different threads at the
+ * same time and must be thread-safe. Constraints which are not thread-safe
+ * can still be used, by disabling the concurrent filtering with
+ * {@link Engine.Builder#concurrentFiltering(boolean)}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @version 6.1
@@ -177,6 +186,39 @@ public interface Constraint<
 		final long generation
 	);
 
+	/**
+	 * Tries to repair the given invalid {@code individuals} with one call.
+	 * The evolution {@link Engine} collects the invalid individuals of a
+	 * population (chunk) and repairs them together with this method. This
+	 * allows a constraint to share expensive setup work, like building a
+	 * solver model, between the individuals to repair. The default
+	 * implementation repairs every individual with the
+	 * {@link #repair(Phenotype, long)} method.
+	 *
+	 * @apiNote
+	 * If the concurrent filtering of the engine is enabled, which is the
+	 * default, bigger populations are split into chunks, which are filtered
+	 * concurrently. An implementation of this method must then be
+	 * thread-safe. See {@link Engine.Builder#concurrentFiltering(boolean)}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param individuals the invalid phenotypes to repair
+	 * @param generation the actual generation, where this method is called by
+	 *        the evolution engine
+	 * @return the newly created, valid phenotypes, in the same order as the
+	 *         given {@code individuals}. The returned sequence must have the
+	 *         same size as the given {@code individuals}.
+	 * @throws NullPointerException if the given {@code individuals} sequence
+	 *         is {@code null}
+	 */
+	default ISeq<Phenotype<G, C>> repair(
+		final Seq<Phenotype<G, C>> individuals,
+		final long generation
+	) {
+		return individuals.map(pt -> repair(pt, generation)).asISeq();
+	}
+
 	/**
 	 * Wraps the given genotype factory into a factory, which only creates
 	 * individuals obeying {@code this} constraint. The following code will
@@ -19,16 +19,29 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static io.jenetics.internal.jfr.Events.EVALUATION;
+import static io.jenetics.internal.jfr.Events.OFFSPRING_ALTER;
+import static io.jenetics.internal.jfr.Events.OFFSPRING_FILTER;
+import static io.jenetics.internal.jfr.Events.OFFSPRING_SELECTION;
+import static io.jenetics.internal.jfr.Events.SURVIVORS_SELECTION;
+import static io.jenetics.internal.jfr.Events.SURVIVOR_FILTER;
+import static io.jenetics.internal.util.Concurrency.CORES;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.jenetics.Alterer;
@@ -39,6 +52,8 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.internal.jfr.Events;
+import io.jenetics.internal.util.Spans;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -87,13 +102,25 @@ import io.jenetics.util.Seq;
  * execution. The {@code Engine} is configured via the {@code Engine.Builder}
  * class and can't be changed after creation. The actual <i>evolution</i> is
  * performed by the {@link EvolutionStream}, which is created by the
- * {@code Engine}.
+ * {@code Engine}. Only the {@link EvolutionParams} can be changed, via an
+ * {@link EvolutionParamsHandle}, while the evolution stream is running.
+ * <p>
+ * The engine emits <em>JDK Flight Recorder</em> events for every evolution
+ * step ({@code io.jenetics.Evolve}), its phases
+ * ({@code io.jenetics.EvolvePhase}), the fitness evaluation
+ * ({@code io.jenetics.Evaluation}) and the alterers
+ * ({@code io.jenetics.Alter}). The events can be recorded with
+ * {@code java -XX:StartFlightRecording=filename=evolution.jfr ...} and
+ * inspected with JDK Mission Control. The events are only created while a
+ * flight recording, with the event enabled, is running. On runtimes without
+ * the {@code jdk.jfr} module, no events are emitted at all.
  *
  * @implNote
  *     This class is thread safe:
  *     No mutable state is maintained by the engine. Therefore it is save to
  *     create multiple evolution streams with one engine, which may be actually
- *     used in different threads.
+ *     used in different threads. The evolution parameters are read once, at
+ *     the start of every generation.
  *
  * @see Engine.Builder
  * @see EvolutionStart
@@ -108,7 +135,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -120,20 +147,34 @@ public final class Engine<
 		Evaluator<G, C>
 {
 
+	// Minimal number of individuals filtered by one concurrent task.
+	private static final int MIN_FILTER_CHUNK_SIZE = 32;
+
 	// Problem definition.
 	private final Evaluator<G, C> _evaluator;
 	private final Factory<Genotype<G>> _genotypeFactory;
 	private final Constraint<G, C> _constraint;
 	private final Optimize _optimize;
 
-	// Evolution parameters.
-	private final EvolutionParams<G, C> _evolutionParams;
+	// Evolution parameters, read once per generation.
+	private final EvolutionParamsHandle<G, C> _evolutionParams;
 
 	// Execution context for concurrent execution of evolving steps.
 	private final Executor _executor;
+	// The explicitly set evaluation executor, 'null' if not set.
+	private final Executor _evaluationExecutor;
 	private final Clock _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
 
+	// Number of recorded stragglers, negative if disabled.
+	private final int _evaluationStragglers;
+
+	// Receiver of the evolution spans, 'null' if tracing is disabled.
+	private final SpanSink _spanSink;
+
+	// Whether bigger populations are filtered in concurrent chunks.
+	private final boolean _concurrentFiltering;
+
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -144,13 +185,23 @@ public final class Engine<
 	 *        implementation the {@link Phenotype#isValid()} method and repairs
 	 *        invalid phenotypes when needed.
 	 * @param optimize the kind of optimization (minimize or maximize)
-	 * @param evolutionParams the evolution parameters, which influences the
-	 *        evolution process
+	 * @param evolutionParams the handle of the evolution parameters, which
+	 *        influences the evolution process
 	 * @param executor the executor used for executing the single evolve steps
+	 * @param evaluationExecutor the executor used for the fitness evaluation,
+	 *        may be {@code null} if the {@code executor} is used
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
-	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @param evaluationStragglers the number of slowest evaluated genotypes
+	 *        recorded per generation. The recording of the evaluation
+	 *        latencies is disabled if the value is negative.
+	 * @param spanSink the receiver of the evolution spans, may be
+	 *        {@code null}
+	 * @param concurrentFiltering whether bigger populations are filtered and
+	 *        repaired concurrently, in chunks
+	 * @throws NullPointerException if one of the arguments, except the
+	 *         {@code evaluationExecutor} and {@code spanSink}, is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
 	 */
@@ -159,10 +210,14 @@ public final class Engine<
 		final Factory<Genotype<G>> genotypeFactory,
 		final Constraint<G, C> constraint,
 		final Optimize optimize,
-		final EvolutionParams<G, C> evolutionParams,
+		final EvolutionParamsHandle<G, C> evolutionParams,
 		final Executor executor,
+		final Executor evaluationExecutor,
 		final Clock clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final int evaluationStragglers,
+		final SpanSink spanSink,
+		final boolean concurrentFiltering
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -170,32 +225,65 @@ public final class Engine<
 		_optimize = requireNonNull(optimize);
 		_evolutionParams = requireNonNull(evolutionParams);
 		_executor = requireNonNull(executor);
+		_evaluationExecutor = evaluationExecutor;
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_evaluationStragglers = evaluationStragglers;
+		_spanSink = spanSink;
+		_concurrentFiltering = concurrentFiltering;
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final Object event = Events.beginEvolve();
+		final long trace = Spans.nextId(_spanSink);
+		final long traceStart = Spans.start(_spanSink);
+
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
 
+		// The evolution parameters are fixed for the whole generation.
+		final EvolutionParams<G, C> params = _evolutionParams.get();
+
 		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
 
+		// Records the evaluation latencies of this generation, if enabled.
+		final EvaluationLatencies.Recorder<G> recorder =
+			_evaluationStragglers >= 0 &&
+			_evaluator instanceof RecordingEvaluator
+				? new EvaluationLatencies.Recorder<>(_evaluationStragglers)
+				: null;
+
 		// Create initial population if `start` is empty.
 		final EvolutionStart<G, C> es = interceptedStart.population().isEmpty()
-			? evolutionStart(interceptedStart)
+			? evolutionStart(interceptedStart, params)
 			: interceptedStart;
 
 		// Initial evaluation of the population.
 		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
+			? timing.evaluation.timing(() ->
+				Events.phase(
+					_spanSink,
+					EVALUATION,
+					es.generation(),
+					es.population().size(),
+					trace,
+					() -> eval(es.population(), recorder)
+				))
 			: es.population();
 
 		// Select the offspring population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
 			supplyAsync(() ->
 				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
+					Events.phase(
+						_spanSink,
+						OFFSPRING_SELECTION,
+						es.generation(),
+						params.offspringSize(),
+						trace,
+						() -> selectOffspring(population, params)
+					)
 				),
 				_executor
 			);
@@ -204,7 +292,14 @@ public final class Engine<
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
 			supplyAsync(() ->
 				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
+					Events.phase(
+						_spanSink,
+						SURVIVORS_SELECTION,
+						es.generation(),
+						params.survivorsSize(),
+						trace,
+						() -> selectSurvivors(population, params)
+					)
 				),
 				_executor
 			);
@@ -213,25 +308,42 @@ public final class Engine<
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+					Events.phase(
+						_spanSink,
+						OFFSPRING_ALTER,
+						es.generation(),
+						off.size(),
+						trace,
+						() -> params.alterer().alter(off, es.generation())
+					)
 				),
 				_executor
 			);
 
 		// Filter and replace invalid and old survivor individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
-			survivors.thenApplyAsync(sur ->
-				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
+			survivors.thenComposeAsync(sur ->
+				filter(
+					sur,
+					es.generation(),
+					params,
+					SURVIVOR_FILTER,
+					trace,
+					timing.survivorFilter
 				),
 				_executor
 			);
 
 		// Filter and replace invalid and old offspring individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
-			alteredOffspring.thenApplyAsync(off ->
-				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
+			alteredOffspring.thenComposeAsync(off ->
+				filter(
+					off.population(),
+					es.generation(),
+					params,
+					OFFSPRING_FILTER,
+					trace,
+					timing.offspringFilter
 				),
 				_executor
 			);
@@ -247,7 +359,14 @@ public final class Engine<
 		// Evaluate the fitness-function and wait for result.
 		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
 		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
+			Events.phase(
+				_spanSink,
+				EVALUATION,
+				es.generation(),
+				pop.size(),
+				trace,
+				() -> eval(pop, recorder)
+			)
 		);
 
 		final int killCount =
@@ -269,6 +388,9 @@ public final class Engine<
 			invalidCount,
 			alterationCount
 		);
+		if (recorder != null) {
+			er = er.withEvaluationLatencies(recorder.toLatencies());
+		}
 
 		final EvolutionResult<G, C> interceptedResult = _interceptor.after(er);
 		if (er != interceptedResult) {
@@ -280,52 +402,151 @@ public final class Engine<
 
 		timing.evolve.stop();
 
-		return er
+		final EvolutionResult<G, C> evolved = er
 			.withDurations(timing.toDurations())
 			.clean();
+
+		Events.commitEvolve(event, evolved);
+		Spans.end(
+			_spanSink,
+			"evolve",
+			trace,
+			0,
+			evolved.generation(),
+			traceStart
+		);
+		return evolved;
 	}
 
 	// Selects the survivors population. A new population object is returned.
-	private ISeq<Phenotype<G, C>>
-	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
-		return _evolutionParams.survivorsSize() > 0
-			? _evolutionParams.survivorsSelector()
-				.select(population, _evolutionParams.survivorsSize(), _optimize)
+	private ISeq<Phenotype<G, C>> selectSurvivors(
+		final ISeq<Phenotype<G, C>> population,
+		final EvolutionParams<G, C> params
+	) {
+		return params.survivorsSize() > 0
+			? params.survivorsSelector()
+				.select(population, params.survivorsSize(), _optimize)
 			: ISeq.empty();
 	}
 
 	// Selects the offspring population. A new population object is returned.
-	private ISeq<Phenotype<G, C>>
-	selectOffspring(final ISeq<Phenotype<G, C>> population) {
-		return _evolutionParams.offspringSize() > 0
-			? _evolutionParams.offspringSelector()
-				.select(population, _evolutionParams.offspringSize(), _optimize)
+	private ISeq<Phenotype<G, C>> selectOffspring(
+		final ISeq<Phenotype<G, C>> population,
+		final EvolutionParams<G, C> params
+	) {
+		return params.offspringSize() > 0
+			? params.offspringSelector()
+				.select(population, params.offspringSize(), _optimize)
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
+	// Filters out invalid and old individuals. Bigger populations are split
+	// into chunks, which are filtered and repaired concurrently, if the
+	// concurrent filtering is enabled.
+	private CompletableFuture<FilterResult<G, C>> filter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final EvolutionParams<G, C> params,
+		final String phase,
+		final long trace,
+		final Timing timing
+	) {
+		timing.start();
+
+		final int size = population.size();
+		final int chunks = _concurrentFiltering
+			? min(CORES, size/MIN_FILTER_CHUNK_SIZE)
+			: 1;
+
+		final CompletableFuture<FilterResult<G, C>> result;
+		if (chunks <= 1) {
+			result = completedFuture(Events.phase(
+				_spanSink,
+				phase,
+				generation,
+				size,
+				trace,
+				() -> filter(population, generation, params)
+			));
+		} else {
+			final List<CompletableFuture<FilterResult<G, C>>> parts =
+				new ArrayList<>(chunks);
+
+			for (int i = 0; i < chunks; ++i) {
+				final Seq<Phenotype<G, C>> chunk = population.subSeq(
+					(int)((long)i*size/chunks),
+					(int)((long)(i + 1)*size/chunks)
+				);
+				parts.add(supplyAsync(
+					() -> Events.phase(
+						_spanSink,
+						phase,
+						generation,
+						chunk.size(),
+						trace,
+						() -> filter(chunk, generation, params)
+					),
+					_executor
+				));
+			}
+
+			result = allOf(parts.toArray(CompletableFuture[]::new))
+				.thenApply(v -> FilterResult.concat(
+					parts.stream()
+						.map(CompletableFuture::join)
+						.collect(Collectors.toList())
+				));
+		}
+
+		return result.whenComplete((r, e) -> timing.stop());
+	}
+
+	// Filters out invalid and old individuals of the given chunk. Invalid
+	// individuals are repaired together with one batched repair call.
 	private FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
-		final long generation
+		final long generation,
+		final EvolutionParams<G, C> params
 	) {
 		int killCount = 0;
 		int invalidCount = 0;
 
 		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final int[] invalid = new int[pop.size()];
 		for (int i = 0, n = pop.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = pop.get(i);
 
 			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
-				++invalidCount;
+				invalid[invalidCount++] = i;
 			} else if (individual.age(generation) >
-						_evolutionParams.maximalPhenotypeAge())
+						params.maximalPhenotypeAge())
 			{
 				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
 				++killCount;
 			}
 		}
 
+		if (invalidCount > 0) {
+			final MSeq<Phenotype<G, C>> individuals =
+				MSeq.ofLength(invalidCount);
+			for (int i = 0; i < invalidCount; ++i) {
+				individuals.set(i, pop.get(invalid[i]));
+			}
+
+			final Seq<Phenotype<G, C>> repaired =
+				_constraint.repair(individuals.toISeq(), generation);
+			if (repaired.size() != invalidCount) {
+				throw new IllegalStateException(format(
+					"Expected %d repaired individuals, but got %d.",
+					invalidCount, repaired.size()
+				));
+			}
+
+			for (int i = 0; i < invalidCount; ++i) {
+				pop.set(invalid[i], repaired.get(i));
+			}
+		}
+
 		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
 	}
 
@@ -353,7 +574,16 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
+		return eval(population, null);
+	}
+
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final EvaluationLatencies.Recorder<G> recorder
+	) {
+		final ISeq<Phenotype<G, C>> evaluated = recorder != null
+			? ((RecordingEvaluator<G, C>)_evaluator).eval(population, recorder)
+			: _evaluator.eval(population);
 
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
@@ -381,7 +611,7 @@ public final class Engine<
 	public EvolutionStream<G, C>
 	stream(final Supplier<EvolutionStart<G, C>> start) {
 		return EvolutionStream.ofEvolution(
-			() -> evolutionStart(start.get()),
+			() -> evolutionStart(start.get(), _evolutionParams.get()),
 			this
 		);
 	}
@@ -391,8 +621,10 @@ public final class Engine<
 		return stream(evolutionStart(init));
 	}
 
-	private EvolutionStart<G, C>
-	evolutionStart(final EvolutionStart<G, C> start) {
+	private EvolutionStart<G, C> evolutionStart(
+		final EvolutionStart<G, C> start,
+		final EvolutionParams<G, C> params
+	) {
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
 
@@ -403,7 +635,7 @@ public final class Engine<
 		);
 
 		final ISeq<Phenotype<G, C>> pop = stream
-			.limit(populationSize())
+			.limit(params.populationSize())
 			.collect(ISeq.toISeq());
 
 		return EvolutionStart.of(pop, gen);
@@ -418,7 +650,8 @@ public final class Engine<
 			EvolutionStart.of(
 				pop.map(gt -> Phenotype.of(gt, gen)),
 				gen
-			)
+			),
+			_evolutionParams.get()
 		);
 	}
 
@@ -448,13 +681,24 @@ public final class Engine<
 		return _constraint;
 	}
 
+	/**
+	 * Return the evolution parameters, which are used for the next generation.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the current evolution parameters
+	 */
+	public EvolutionParams<G, C> evolutionParams() {
+		return _evolutionParams.get();
+	}
+
 	/**
 	 * Return the used survivor {@link Selector} of the GA.
 	 *
 	 * @return the used survivor {@link Selector} of the GA.
 	 */
 	public Selector<G, C> survivorsSelector() {
-		return _evolutionParams.survivorsSelector();
+		return _evolutionParams.get().survivorsSelector();
 	}
 
 	/**
@@ -463,7 +707,7 @@ public final class Engine<
 	 * @return the used offspring {@link Selector} of the GA.
 	 */
 	public Selector<G, C> offspringSelector() {
-		return _evolutionParams.offspringSelector();
+		return _evolutionParams.get().offspringSelector();
 	}
 
 	/**
@@ -472,7 +716,7 @@ public final class Engine<
 	 * @return the used {@link Alterer} of the GA.
 	 */
 	public Alterer<G, C> alterer() {
-		return _evolutionParams.alterer();
+		return _evolutionParams.get().alterer();
 	}
 
 	/**
@@ -481,7 +725,7 @@ public final class Engine<
 	 * @return the number of selected offspring
 	 */
 	public int offspringSize() {
-		return _evolutionParams.offspringSize();
+		return _evolutionParams.get().offspringSize();
 	}
 
 	/**
@@ -490,7 +734,7 @@ public final class Engine<
 	 * @return the number of selected survivors
 	 */
 	public int survivorsSize() {
-		return _evolutionParams.survivorsSize();
+		return _evolutionParams.get().survivorsSize();
 	}
 
 	/**
@@ -499,7 +743,7 @@ public final class Engine<
 	 * @return the number of individuals of a population
 	 */
 	public int populationSize() {
-		return _evolutionParams.populationSize();
+		return _evolutionParams.get().populationSize();
 	}
 
 	/**
@@ -508,7 +752,7 @@ public final class Engine<
 	 * @return the maximal allowed phenotype age
 	 */
 	public long maximalPhenotypeAge() {
-		return _evolutionParams.maximalPhenotypeAge();
+		return _evolutionParams.get().maximalPhenotypeAge();
 	}
 
 	/**
@@ -540,6 +784,21 @@ public final class Engine<
 		return _executor;
 	}
 
+	/**
+	 * Return the {@link Executor} the engine is using for the concurrent
+	 * fitness evaluation. This executor is only used by the default
+	 * evaluator.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the executor used for the fitness evaluation
+	 */
+	public Executor evaluationExecutor() {
+		return _evaluationExecutor != null
+			? _evaluationExecutor
+			: _executor;
+	}
+
 	/**
 	 * Return the evolution interceptor.
 	 *
@@ -551,6 +810,32 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return the receiver of the recorded evolution spans.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the span sink of the engine, or {@code null} if the tracing is
+	 *         disabled
+	 */
+	public SpanSink spanSink() {
+		return _spanSink;
+	}
+
+	/**
+	 * Return whether bigger populations are filtered and repaired
+	 * concurrently, in chunks.
+	 *
+	 * @since 6.1
+	 *
+	 * @see Builder#concurrentFiltering(boolean)
+	 *
+	 * @return {@code true} if the concurrent filtering is enabled
+	 */
+	public boolean concurrentFiltering() {
+		return _concurrentFiltering;
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -559,13 +844,23 @@ public final class Engine<
 	 * @return a new engine builder
 	 */
 	public Builder<G, C> toBuilder() {
-		return new Builder<>(_evaluator, _genotypeFactory)
+		final Builder<G, C> builder =
+			new Builder<>(_evaluator, _genotypeFactory);
+
+		// Only an explicitly set evaluation executor is taken over. Otherwise
+		// the evaluation follows a changed executor of the new builder.
+		builder._evaluationExecutor = _evaluationExecutor;
+
+		return builder
 			.clock(_clock)
 			.executor(_executor)
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.evaluationLatencies(_evaluationStragglers)
+			.spanSink(_spanSink)
+			.concurrentFiltering(_concurrentFiltering);
 	}
 
 
@@ -674,7 +969,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 6.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -692,14 +987,19 @@ public final class Engine<
 		// Evolution parameters.
 		private final EvolutionParams.Builder<G, C> _evolutionParams =
 			EvolutionParams.builder();
+		private EvolutionParamsHandle<G, C> _evolutionParamsHandle;
 
 
 		// Engine execution environment.
 		private Executor _executor = commonPool();
+		private Executor _evaluationExecutor;
 		private Clock _clock = NanoClock.systemUTC();
 
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
+		private int _evaluationStragglers = -1;
+		private SpanSink _spanSink = null;
+		private boolean _concurrentFiltering = true;
 
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
@@ -749,7 +1049,32 @@ public final class Engine<
 		 * @throws NullPointerException if the {@code params} is {@code null}.
 		 */
 		public Builder<G, C> evolutionParams(final EvolutionParams<G, C> params) {
-			_evolutionParams.evolutionParams(params);
+			params().evolutionParams(params);
+			return this;
+		}
+
+		/**
+		 * Set the evolution parameter handle used by the engine. The built
+		 * engine reads its evolution parameters from the given handle at the
+		 * start of every generation, which allows to change the parameters
+		 * of a running evolution stream. All engines built by this builder,
+		 * and by its copies, are sharing the given {@code handle}. The
+		 * {@code handle} itself is never changed by this builder. Setting one
+		 * of the evolution parameters on this builder detaches the
+		 * {@code handle}, and the parameters are initialized with the current
+		 * parameters of the {@code handle} instead.
+		 *
+		 * @since 6.1
+		 *
+		 * @see EvolutionParamsHandle
+		 *
+		 * @param handle the evolution parameter handle
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code handle} is {@code null}.
+		 */
+		public Builder<G, C>
+		evolutionParams(final EvolutionParamsHandle<G, C> handle) {
+			_evolutionParamsHandle = requireNonNull(handle);
 			return this;
 		}
 
@@ -763,7 +1088,7 @@ public final class Engine<
 		 *         {@code null}.
 		 */
 		public Builder<G, C> offspringSelector(final Selector<G, C> selector) {
-			_evolutionParams.offspringSelector(selector);
+			params().offspringSelector(selector);
 			return this;
 		}
 
@@ -777,7 +1102,7 @@ public final class Engine<
 		 *         {@code null}.
 		 */
 		public Builder<G, C> survivorsSelector(final Selector<G, C> selector) {
-			_evolutionParams.survivorsSelector(selector);
+			params().survivorsSelector(selector);
 			return this;
 		}
 
@@ -792,7 +1117,7 @@ public final class Engine<
 		 *         {@code null}.
 		 */
 		public Builder<G, C> selector(final Selector<G, C> selector) {
-			_evolutionParams.selector(selector);
+			params().selector(selector);
 			return this;
 		}
 
@@ -813,7 +1138,7 @@ public final class Engine<
 			final Alterer<G, C> first,
 			final Alterer<G, C>... rest
 		) {
-			_evolutionParams.alterers(first, rest);
+			params().alterers(first, rest);
 			return this;
 		}
 
@@ -824,6 +1149,13 @@ public final class Engine<
 		 * <p><i>Default implementation uses {@code Phenotype::isValid} for
 		 * validating the phenotype.</i></p>
 		 *
+		 * <p><b>Since 6.1</b>, bigger populations are filtered in chunks,
+		 * which are processed concurrently. The {@code test} and
+		 * {@code repair} methods of the given {@code constraint} must
+		 * therefore be thread-safe. Constraints which are not thread-safe
+		 * can be used by disabling the concurrent filtering with
+		 * {@link #concurrentFiltering(boolean)}.</p>
+		 *
 		 * @since 5.0
 		 *
 		 * @param constraint phenotype constraint which can override the default
@@ -888,7 +1220,7 @@ public final class Engine<
 		 *         within the range [0, 1].
 		 */
 		public Builder<G, C> offspringFraction(final double fraction) {
-			_evolutionParams.offspringFraction(fraction);
+			params().offspringFraction(fraction);
 			return this;
 		}
 
@@ -929,7 +1261,7 @@ public final class Engine<
 				));
 			}
 
-			return offspringFraction(size/(double)_evolutionParams.populationSize());
+			return offspringFraction(size/(double)params().populationSize());
 		}
 
 		/**
@@ -950,7 +1282,7 @@ public final class Engine<
 				));
 			}
 
-			return survivorsFraction(size/(double)_evolutionParams.populationSize());
+			return survivorsFraction(size/(double)params().populationSize());
 		}
 
 		/**
@@ -962,7 +1294,7 @@ public final class Engine<
 		 * @throws java.lang.IllegalArgumentException if {@code size < 1}
 		 */
 		public Builder<G, C> populationSize(final int size) {
-			_evolutionParams.populationSize(size);
+			params().populationSize(size);
 			return this;
 		}
 
@@ -975,12 +1307,15 @@ public final class Engine<
 		 * @throws java.lang.IllegalArgumentException if {@code age < 1}
 		 */
 		public Builder<G, C> maximalPhenotypeAge(final long age) {
-			_evolutionParams.maximalPhenotypeAge(age);
+			params().maximalPhenotypeAge(age);
 			return this;
 		}
 
 		/**
-		 * The executor used by the engine.
+		 * The executor used by the engine. This executor is used for the
+		 * selection, alteration and filter steps and, if no separate
+		 * {@link #evaluationExecutor(Executor)} is set, for the fitness
+		 * evaluation.
 		 *
 		 * @param executor the executor used by the engine
 		 * @return {@code this} builder, for command chaining
@@ -990,6 +1325,27 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The executor used for the concurrent fitness evaluation. Separating
+		 * the evaluation executor from the {@link #executor(Executor)} of the
+		 * other evolution steps prevents the cheap selection and alteration
+		 * tasks from queuing behind expensive fitness evaluations, and vice
+		 * versa. This executor is only used by the default evaluator, created
+		 * by one of the {@code Engine.builder(...)} factory methods.
+		 *
+		 * @since 6.1
+		 *
+		 * @see MeteredExecutor
+		 *
+		 * @param executor the executor used for the fitness evaluation
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code executor} is {@code null}
+		 */
+		public Builder<G, C> evaluationExecutor(final Executor executor) {
+			_evaluationExecutor = requireNonNull(executor);
+			return this;
+		}
+
 		/**
 		 * The clock used for calculating the execution durations.
 		 *
@@ -1019,6 +1375,70 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Enables the recording of the fitness evaluation latencies. For
+		 * every evaluated individual, the evaluation time and the time the
+		 * evaluation task was waiting for execution is recorded. The
+		 * latencies of a generation, together with the given number of
+		 * slowest evaluated genotypes, are available via the
+		 * {@link EvolutionResult#evaluationLatencies()} method. The
+		 * recording is cheap enough to be left enabled in production. It is
+		 * supported by the default evaluator and the evaluators created by
+		 * the {@link Evaluators} class. The recording is disabled by default.
+		 *
+		 * @since 6.1
+		 *
+		 * @see EvaluationLatencies
+		 *
+		 * @param stragglers the number of slowest evaluated genotypes recorded
+		 *        per generation. A negative value disables the recording.
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> evaluationLatencies(final int stragglers) {
+			_evaluationStragglers = stragglers;
+			return this;
+		}
+
+		/**
+		 * Enables or disables the concurrent filtering of bigger
+		 * populations. If enabled, populations with at least 64 individuals
+		 * are split into chunks, which are validated and repaired
+		 * concurrently, using the {@link #executor()}.
+		 * The {@link Constraint} must then be thread-safe. If disabled, the
+		 * constraint is called by one thread per filter step, as before
+		 * version 6.1. The concurrent filtering is enabled by default.
+		 *
+		 * @since 6.1
+		 *
+		 * @see #constraint(Constraint)
+		 *
+		 * @param concurrent {@code true} for enabling the concurrent
+		 *        filtering, {@code false} otherwise
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> concurrentFiltering(final boolean concurrent) {
+			_concurrentFiltering = concurrent;
+			return this;
+		}
+
+		/**
+		 * Set the receiver of the evolution spans, recorded by the built
+		 * engine. Only the spans of the built engine are reported to the
+		 * given {@code sink}. The tracing is disabled by default.
+		 *
+		 * @since 6.1
+		 *
+		 * @see SpanSink
+		 *
+		 * @param sink the receiver of the recorded evolution spans,
+		 *        {@code null} disables the tracing
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> spanSink(final SpanSink sink) {
+			_spanSink = sink;
+			return this;
+		}
+
 		/**
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
@@ -1030,19 +1450,40 @@ public final class Engine<
 				_genotypeFactory,
 				__constraint(),
 				_optimize,
-				_evolutionParams.build(),
+				__evolutionParams(),
 				_executor,
+				_evaluationExecutor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_evaluationStragglers,
+				_spanSink,
+				_concurrentFiltering
 			);
 		}
 
 		private Evaluator<G, C> __evaluator() {
 			return _evaluator instanceof ConcurrentEvaluator
-				? ((ConcurrentEvaluator<G, C>)_evaluator).with(_executor)
+				? ((ConcurrentEvaluator<G, C>)_evaluator)
+					.with(evaluationExecutor())
 				: _evaluator;
 		}
 
+		private EvolutionParamsHandle<G, C> __evolutionParams() {
+			return _evolutionParamsHandle != null
+				? _evolutionParamsHandle
+				: EvolutionParamsHandle.of(_evolutionParams.build());
+		}
+
+		// Return the evolution parameter builder, for changing the evolution
+		// parameters. An attached parameter handle is detached.
+		private EvolutionParams.Builder<G, C> params() {
+			if (_evolutionParamsHandle != null) {
+				_evolutionParams.evolutionParams(_evolutionParamsHandle.get());
+				_evolutionParamsHandle = null;
+			}
+			return _evolutionParams;
+		}
+
 		private Constraint<G, C> __constraint() {
 			return _constraint == null
 				? RetryConstraint.of(_genotypeFactory)
@@ -1059,7 +1500,7 @@ public final class Engine<
 		 * @return the used {@link Alterer} of the GA.
 		 */
 		public Alterer<G, C> alterer() {
-			return _evolutionParams.alterer();
+			return evolutionParams().alterer();
 		}
 
 		/**
@@ -1086,6 +1527,20 @@ public final class Engine<
 			return _executor;
 		}
 
+		/**
+		 * Return the {@link Executor} the engine is using for the fitness
+		 * evaluation.
+		 *
+		 * @since 6.1
+		 *
+		 * @return the executor used for the fitness evaluation
+		 */
+		public Executor evaluationExecutor() {
+			return _evaluationExecutor != null
+				? _evaluationExecutor
+				: _executor;
+		}
+
 		/**
 		 * Return the used genotype {@link Factory} of the GA. The genotype factory
 		 * is used for creating the initial population and new, random individuals
@@ -1118,7 +1573,9 @@ public final class Engine<
 		 * @return the currently set evolution parameters
 		 */
 		public EvolutionParams<G, C> evolutionParams() {
-			return _evolutionParams.build();
+			return _evolutionParamsHandle != null
+				? _evolutionParamsHandle.get()
+				: _evolutionParams.build();
 		}
 
 		/**
@@ -1129,7 +1586,7 @@ public final class Engine<
 		 * @return the maximal allowed phenotype age
 		 */
 		public long maximalPhenotypeAge() {
-			return _evolutionParams.maximalPhenotypeAge();
+			return evolutionParams().maximalPhenotypeAge();
 		}
 
 		/**
@@ -1138,7 +1595,7 @@ public final class Engine<
 		 * @return the offspring fraction.
 		 */
 		public double offspringFraction() {
-			return _evolutionParams.offspringFraction();
+			return evolutionParams().offspringFraction();
 		}
 
 		/**
@@ -1149,7 +1606,7 @@ public final class Engine<
 		 * @return the used offspring {@link Selector} of the GA.
 		 */
 		public Selector<G, C> offspringSelector() {
-			return _evolutionParams.offspringSelector();
+			return evolutionParams().offspringSelector();
 		}
 
 		/**
@@ -1160,7 +1617,7 @@ public final class Engine<
 		 * @return the used survivor {@link Selector} of the GA.
 		 */
 		public Selector<G, C> survivorsSelector() {
-			return _evolutionParams.survivorsSelector();
+			return evolutionParams().survivorsSelector();
 		}
 
 		/**
@@ -1182,7 +1639,7 @@ public final class Engine<
 		 * @return the number of individuals of a population
 		 */
 		public int populationSize() {
-			return _evolutionParams.populationSize();
+			return evolutionParams().populationSize();
 		}
 
 		/**
@@ -1196,6 +1653,47 @@ public final class Engine<
 			return _interceptor;
 		}
 
+		/**
+		 * Return the number of recorded stragglers, or a negative value if
+		 * the recording of the evaluation latencies is disabled.
+		 *
+		 * @since 6.1
+		 *
+		 * @see #evaluationLatencies(int)
+		 *
+		 * @return the number of recorded stragglers
+		 */
+		public int evaluationLatencies() {
+			return _evaluationStragglers;
+		}
+
+		/**
+		 * Return the receiver of the evolution spans.
+		 *
+		 * @since 6.1
+		 *
+		 * @see #spanSink(SpanSink)
+		 *
+		 * @return the span sink, or {@code null} if the tracing is disabled
+		 */
+		public SpanSink spanSink() {
+			return _spanSink;
+		}
+
+		/**
+		 * Return whether bigger populations are filtered and repaired
+		 * concurrently.
+		 *
+		 * @since 6.1
+		 *
+		 * @see #concurrentFiltering(boolean)
+		 *
+		 * @return {@code true} if the concurrent filtering is enabled
+		 */
+		public boolean concurrentFiltering() {
+			return _concurrentFiltering;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1205,13 +1703,20 @@ public final class Engine<
 		 */
 		@Override
 		public Builder<G, C> copy() {
-			return new Builder<>(_evaluator, _genotypeFactory)
+			final var builder = new Builder<>(_evaluator, _genotypeFactory)
 				.clock(_clock)
 				.executor(_executor)
 				.constraint(_constraint)
 				.optimize(_optimize)
-				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.evaluationLatencies(_evaluationStragglers)
+				.spanSink(_spanSink)
+				.concurrentFiltering(_concurrentFiltering);
+
+			builder._evolutionParams.evolutionParams(_evolutionParams.build());
+			builder._evolutionParamsHandle = _evolutionParamsHandle;
+			builder._evaluationExecutor = _evaluationExecutor;
+			return builder;
 		}
 
 	}
@@ -0,0 +1,361 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Contains the fitness evaluation latencies of the individuals, evaluated
+ * within one generation, and the <em>stragglers</em>, the genotypes with the
+ * slowest fitness evaluation. For every evaluated individual the
+ * <em>evaluation</em> time and the <em>queue wait</em> time, the time between
+ * the submission of the evaluation task and its start, is recorded.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .evaluationLatencies(3)
+ *     .build();
+ *
+ * engine.stream()
+ *     .limit(100)
+ *     .forEach(result -> result.evaluationLatencies().ifPresent(l -> {
+ *         System.out.println(l.evaluation(99));
+ *         System.out.println(l.stragglers());
+ *     }));
+ * }</pre>
+ *
+ * The recording is only supported by the {@link Evaluator} implementations
+ * created by the {@link Evaluators} class. For the {@code Future} based
+ * evaluators, the evaluation time is measured from the submission of the
+ * future until its completion is <em>observed</em>, which is an upper bound
+ * of the actual evaluation time. The queue wait time is not observable for
+ * this evaluators and is always zero.
+ *
+ * @see Engine.Builder#evaluationLatencies(int)
+ * @see EvolutionResult#evaluationLatencies()
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvaluationLatencies<G extends Gene<?, G>> {
+
+	private final long[] _evaluations;
+	private final long[] _waits;
+	private final ISeq<Straggler<G>> _stragglers;
+
+	private EvaluationLatencies(
+		final long[] evaluations,
+		final long[] waits,
+		final ISeq<Straggler<G>> stragglers
+	) {
+		_evaluations = evaluations;
+		_waits = waits;
+		_stragglers = stragglers;
+	}
+
+	/**
+	 * Return the number of evaluated individuals.
+	 *
+	 * @return the number of evaluated individuals
+	 */
+	public int count() {
+		return _evaluations.length;
+	}
+
+	/**
+	 * Return the evaluation time at the given {@code percentile}. This is the
+	 * smallest recorded evaluation time, which is greater or equal than the
+	 * given percentile of all recorded evaluation times.
+	 *
+	 * @param percentile the requested percentile, within {@code [0, 100]}
+	 * @return the evaluation time at the given percentile, or
+	 *         {@link Duration#ZERO} if no individual has been evaluated
+	 * @throws IllegalArgumentException if the given {@code percentile} is not
+	 *         within the range {@code [0, 100]}
+	 */
+	public Duration evaluation(final double percentile) {
+		return percentile(_evaluations, percentile);
+	}
+
+	/**
+	 * Return the queue wait time at the given {@code percentile}.
+	 *
+	 * @see #evaluation(double)
+	 *
+	 * @param percentile the requested percentile, within {@code [0, 100]}
+	 * @return the queue wait time at the given percentile, or
+	 *         {@link Duration#ZERO} if no individual has been evaluated
+	 * @throws IllegalArgumentException if the given {@code percentile} is not
+	 *         within the range {@code [0, 100]}
+	 */
+	public Duration queueWait(final double percentile) {
+		return percentile(_waits, percentile);
+	}
+
+	private static Duration
+	percentile(final long[] values, final double percentile) {
+		if (!(percentile >= 0 && percentile <= 100)) {
+			throw new IllegalArgumentException(format(
+				"Percentile must be within [0, 100]: %f.", percentile
+			));
+		}
+		if (values.length == 0) {
+			return Duration.ZERO;
+		}
+
+		final int rank = Math.max(
+			(int)Math.ceil(percentile*values.length/100.0), 1
+		);
+		return Duration.ofNanos(values[rank - 1]);
+	}
+
+	/**
+	 * Return the summed up evaluation time of all evaluated individuals.
+	 *
+	 * @return the summed up evaluation time
+	 */
+	public Duration totalEvaluation() {
+		return Duration.ofNanos(LongStream.of(_evaluations).sum());
+	}
+
+	/**
+	 * Return the recorded evaluation times, in nanoseconds and in ascending
+	 * order. The returned stream can be used for feeding a
+	 * {@link io.jenetics.stat.LatencyHistogram}, which collects the evaluation
+	 * times of several generations.
+	 *
+	 * @return the recorded evaluation times in ascending order
+	 */
+	public LongStream evaluationNanos() {
+		return LongStream.of(_evaluations);
+	}
+
+	/**
+	 * Return the recorded queue wait times, in nanoseconds and in ascending
+	 * order.
+	 *
+	 * @return the recorded queue wait times in ascending order
+	 */
+	public LongStream queueWaitNanos() {
+		return LongStream.of(_waits);
+	}
+
+	/**
+	 * Return the genotypes with the slowest fitness evaluation, in descending
+	 * order of their evaluation time.
+	 *
+	 * @return the slowest evaluated genotypes
+	 */
+	public ISeq<Straggler<G>> stragglers() {
+		return _stragglers;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"EvaluationLatencies[count=%d, p50=%s, p99=%s, max=%s, wait=%s]",
+			count(), evaluation(50), evaluation(99), evaluation(100),
+			queueWait(99)
+		);
+	}
+
+
+	/**
+	 * An individual with a slow fitness evaluation.
+	 *
+	 * @param <G> the gene type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Straggler<G extends Gene<?, G>> {
+		private final Genotype<G> _genotype;
+		private final long _evaluation;
+		private final long _wait;
+
+		private Straggler(
+			final Genotype<G> genotype,
+			final long evaluation,
+			final long wait
+		) {
+			_genotype = requireNonNull(genotype);
+			_evaluation = evaluation;
+			_wait = wait;
+		}
+
+		/**
+		 * Return the slowly evaluated genotype.
+		 *
+		 * @return the slowly evaluated genotype
+		 */
+		public Genotype<G> genotype() {
+			return _genotype;
+		}
+
+		/**
+		 * Return the evaluation time of the genotype.
+		 *
+		 * @return the evaluation time of the genotype
+		 */
+		public Duration evaluation() {
+			return Duration.ofNanos(_evaluation);
+		}
+
+		/**
+		 * Return the queue wait time of the genotype.
+		 *
+		 * @return the queue wait time of the genotype
+		 */
+		public Duration queueWait() {
+			return Duration.ofNanos(_wait);
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Straggler[evaluation=%s, wait=%s, genotype=%s]",
+				evaluation(), queueWait(), _genotype
+			);
+		}
+	}
+
+
+	/**
+	 * Records the evaluation latencies of one generation. The evaluators
+	 * record the latencies <em>after</em> the evaluation tasks have been
+	 * joined, from the calling thread. Apart from growing the internal
+	 * arrays, the recording doesn't allocate any objects.
+	 *
+	 * @param <G> the gene type
+	 */
+	static final class Recorder<G extends Gene<?, G>> {
+		private final Genotype<G>[] _slowest;
+		private final long[] _slowestEvaluations;
+		private final long[] _slowestWaits;
+		private int _slowestCount;
+
+		private long[] _evaluations = new long[64];
+		private long[] _waits = new long[64];
+		private int _count;
+
+		@SuppressWarnings("unchecked")
+		Recorder(final int stragglers) {
+			if (stragglers < 0) {
+				throw new IllegalArgumentException(format(
+					"Number of stragglers must not be negative: %d.",
+					stragglers
+				));
+			}
+
+			_slowest = (Genotype<G>[])new Genotype<?>[stragglers];
+			_slowestEvaluations = new long[stragglers];
+			_slowestWaits = new long[stragglers];
+		}
+
+		void record(
+			final Genotype<G> genotype,
+			final long waitNanos,
+			final long evaluationNanos
+		) {
+			if (_count == _evaluations.length) {
+				_evaluations = Arrays.copyOf(_evaluations, _count*2);
+				_waits = Arrays.copyOf(_waits, _count*2);
+			}
+			_evaluations[_count] = Math.max(evaluationNanos, 0);
+			_waits[_count] = Math.max(waitNanos, 0);
+			++_count;
+
+			straggler(genotype, waitNanos, evaluationNanos);
+		}
+
+		// Insertion into the (small) array of the slowest genotypes, which is
+		// sorted in descending order of the evaluation time.
+		private void straggler(
+			final Genotype<G> genotype,
+			final long waitNanos,
+			final long evaluationNanos
+		) {
+			int index = _slowestCount;
+			while (index > 0 &&
+				_slowestEvaluations[index - 1] < evaluationNanos)
+			{
+				--index;
+			}
+
+			if (index < _slowest.length) {
+				final int end = Math.min(_slowestCount, _slowest.length - 1);
+				for (int i = end; i > index; --i) {
+					_slowest[i] = _slowest[i - 1];
+					_slowestEvaluations[i] = _slowestEvaluations[i - 1];
+					_slowestWaits[i] = _slowestWaits[i - 1];
+				}
+
+				_slowest[index] = genotype;
+				_slowestEvaluations[index] = Math.max(evaluationNanos, 0);
+				_slowestWaits[index] = Math.max(waitNanos, 0);
+				_slowestCount = Math.min(_slowestCount + 1, _slowest.length);
+			}
+		}
+
+		int count() {
+			return _count;
+		}
+
+		EvaluationLatencies<G> toLatencies() {
+			final long[] evaluations = Arrays.copyOf(_evaluations, _count);
+			final long[] waits = Arrays.copyOf(_waits, _count);
+			Arrays.sort(evaluations);
+			Arrays.sort(waits);
+
+			final MSeq<Straggler<G>> stragglers = MSeq.ofLength(_slowestCount);
+			for (int i = 0; i < _slowestCount; ++i) {
+				stragglers.set(i, new Straggler<>(
+					_slowest[i],
+					_slowestEvaluations[i],
+					_slowestWaits[i]
+				));
+			}
+
+			return new EvaluationLatencies<>(
+				evaluations,
+				waits,
+				stragglers.toISeq()
+			);
+		}
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.function.Function;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
+import io.jenetics.Optimize;
 
 /**
  * This class contains factory methods for creating commonly usable
@@ -35,7 +36,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 public final class Evaluators {
@@ -295,4 +296,114 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new fitness evaluator, which passes a cut-off
+	 * {@link FitnessBound} to the given {@code fitness} function. The bound
+	 * is the given fitness {@code quantile} of the already evaluated
+	 * individuals of the population, which are the survivors of the previous
+	 * generation. A quantile of {@code 1.0} uses the fitness of the
+	 * <em>worst</em> survivor as bound, smaller values result in tighter
+	 * bounds, e.g. the tournament threshold of the offspring selector.
+	 * <p>
+	 * The fitness function can stop its evaluation, once its partial result is
+	 * dominated by the bound, see {@link BoundedFitness}.
+	 *
+	 * <pre>{@code
+	 * final Evaluator<DoubleGene, Double> evaluator = Evaluators.bounded(
+	 *     regression.boundedFitness().compose(codec.decoder()),
+	 *     Optimize.MINIMUM,
+	 *     1.0,
+	 *     ForkJoinPool.commonPool()
+	 * );
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, codec.encoding())
+	 *         .minimizing()
+	 *         .build();
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param fitness the bounded fitness function
+	 * @param optimize the optimization strategy of the evolution engine
+	 * @param quantile the fitness quantile of the evaluated individuals,
+	 *        used as evaluation bound
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new bounded fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code quantile} is not within
+	 *         the range {@code [0, 1]}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> bounded(
+		final BoundedFitness<? super Genotype<G>, C> fitness,
+		final Optimize optimize,
+		final double quantile,
+		final Executor executor
+	) {
+		return new BoundedEvaluator<>(fitness, optimize, quantile, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which passes the fitness of the
+	 * <em>worst</em> survivor of the previous generation as cut-off
+	 * {@link FitnessBound} to the given {@code fitness} function.
+	 *
+	 * @see #bounded(BoundedFitness, Optimize, double, Executor)
+	 * @since 6.1
+	 *
+	 * @param fitness the bounded fitness function
+	 * @param optimize the optimization strategy of the evolution engine
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new bounded fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> bounded(
+		final BoundedFitness<? super Genotype<G>, C> fitness,
+		final Optimize optimize,
+		final Executor executor
+	) {
+		return bounded(fitness, optimize, 1.0, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which passes the fitness of the
+	 * <em>worst</em> survivor of the previous generation as cut-off
+	 * {@link FitnessBound} to the given {@code fitness} function.
+	 *
+	 * @see #bounded(BoundedFitness, Optimize, double, Executor)
+	 * @since 6.1
+	 *
+	 * @param fitness the bounded fitness function, working on the
+	 *        <em>native</em> fitness domain
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param optimize the optimization strategy of the evolution engine
+	 * @param executor the {@code Executor} used for evaluating the fitness
+	 *        function
+	 * @param <T> the <em>native</em> fitness domain type
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new bounded fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T, G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> bounded(
+		final BoundedFitness<? super T, C> fitness,
+		final Codec<T, G> codec,
+		final Optimize optimize,
+		final Executor executor
+	) {
+		return bounded(
+			fitness.<Genotype<G>>compose(codec.decoder()),
+			optimize,
+			executor
+		);
+	}
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import io.jenetics.Gene;
+
+/**
+ * Mutable handle of the {@link EvolutionParams}, which allows to change the
+ * parameters of a running evolution {@link Engine}. The engine reads the
+ * parameters from the handle <em>once</em> at the start of every generation.
+ * A parameter change will therefore take effect, atomically, with the next
+ * generation.
+ *
+ * <pre>{@code
+ * final var params = EvolutionParamsHandle.of(
+ *     EvolutionParams.<DoubleGene, Double>builder()
+ *         .populationSize(100)
+ *         .build()
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .evolutionParams(params)
+ *     .build();
+ *
+ * // Grow the population while the evolution stream is running, possible
+ * // from a different thread.
+ * params.update(p -> p.toBuilder().populationSize(500).build());
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe and can be used from different threads. No
+ * additional synchronization is needed.
+ *
+ * @see Engine.Builder#evolutionParams(EvolutionParamsHandle)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness function result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionParamsHandle<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Supplier<EvolutionParams<G, C>>
+{
+
+	private final AtomicReference<EvolutionParams<G, C>> _params;
+
+	private EvolutionParamsHandle(final EvolutionParams<G, C> params) {
+		_params = new AtomicReference<>(requireNonNull(params));
+	}
+
+	/**
+	 * Return the current evolution parameters.
+	 *
+	 * @return the current evolution parameters
+	 */
+	@Override
+	public EvolutionParams<G, C> get() {
+		return _params.get();
+	}
+
+	/**
+	 * Set new evolution parameters, which are used from the next generation
+	 * on.
+	 *
+	 * @param params the new evolution parameters
+	 * @throws NullPointerException if the given {@code params} are
+	 *         {@code null}
+	 */
+	public void set(final EvolutionParams<G, C> params) {
+		_params.set(requireNonNull(params));
+	}
+
+	/**
+	 * Atomically updates the current evolution parameters with the results
+	 * of applying the given {@code update} function. The function should be
+	 * side-effect-free, since it may be re-applied when attempted updates
+	 * fail due to contention among threads.
+	 *
+	 * @param update the update function
+	 * @return the updated evolution parameters
+	 * @throws NullPointerException if the given {@code update} function is
+	 *         {@code null} or returns {@code null}
+	 */
+	public EvolutionParams<G, C>
+	update(final UnaryOperator<EvolutionParams<G, C>> update) {
+		requireNonNull(update);
+		return _params.updateAndGet(p -> requireNonNull(update.apply(p)));
+	}
+
+	@Override
+	public String toString() {
+		return "EvolutionParamsHandle[" + _params.get() + "]";
+	}
+
+	/**
+	 * Create a new evolution parameter handle with the given initial
+	 * {@code params}.
+	 *
+	 * @param params the initial evolution parameters
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @return a new evolution parameter handle
+	 * @throws NullPointerException if the given {@code params} are
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionParamsHandle<G, C> of(final EvolutionParams<G, C> params) {
+		return new EvolutionParamsHandle<>(params);
+	}
+
+}
@@ -36,6 +36,7 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -74,7 +75,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -96,6 +97,9 @@ public final class EvolutionResult<
 
 	private final boolean _dirty;
 
+	// Runtime information, which is not serialized.
+	private final transient EvaluationLatencies<G> _evaluationLatencies;
+
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
 
@@ -108,7 +112,8 @@ public final class EvolutionResult<
 		final int killCount,
 		final int invalidCount,
 		final int alterCount,
-		final boolean dirty
+		final boolean dirty,
+		final EvaluationLatencies<G> evaluationLatencies
 	) {
 		_optimize = requireNonNull(optimize);
 		_population = requireNonNull(population);
@@ -119,6 +124,7 @@ public final class EvolutionResult<
 		_invalidCount = invalidCount;
 		_alterCount = alterCount;
 		_dirty = dirty;
+		_evaluationLatencies = evaluationLatencies;
 
 		_best = Lazy.of(() -> _population.stream()
 			.max(_optimize.ascending())
@@ -214,6 +220,21 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the fitness evaluation latencies of the individuals, evaluated
+	 * in this generation. The latencies are only available if the recording
+	 * has been enabled with the {@link Engine.Builder#evaluationLatencies(int)}
+	 * method. The latencies are not part of the {@code equals} and
+	 * {@code hashCode} contract and are not serialized.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the evaluation latencies of this generation, if recorded
+	 */
+	public Optional<EvaluationLatencies<G>> evaluationLatencies() {
+		return Optional.ofNullable(_evaluationLatencies);
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -290,7 +311,7 @@ public final class EvolutionResult<
 	}
 
 	private EvolutionResult<G, C> withTotalGenerations(final long total) {
-		return EvolutionResult.of(
+		return new EvolutionResult<>(
 			_optimize,
 			_population,
 			_generation,
@@ -298,12 +319,28 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			true,
+			_evaluationLatencies
 		);
 	}
 
-	EvolutionResult<G, C> withPopulation(final ISeq<Phenotype<G, C>> population) {
-		return EvolutionResult.of(
+	/**
+	 * Return a new evolution result with the given {@code population}. All
+	 * other values, including the {@link #evaluationLatencies()}, are taken
+	 * from {@code this} result. This method is meant for interceptors which
+	 * replace or re-evaluate individuals of the result population.
+	 *
+	 * @since 6.1
+	 *
+	 * @param population the new result population
+	 * @return a new evolution result with the given {@code population}
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public EvolutionResult<G, C>
+	withPopulation(final ISeq<Phenotype<G, C>> population) {
+		return new EvolutionResult<>(
 			optimize(),
 			population,
 			generation(),
@@ -311,12 +348,14 @@ public final class EvolutionResult<
 			durations(),
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			true,
+			_evaluationLatencies
 		);
 	}
 
 	EvolutionResult<G, C> withDurations(final EvolutionDurations durations) {
-		return EvolutionResult.of(
+		return new EvolutionResult<>(
 			optimize(),
 			population(),
 			generation(),
@@ -324,7 +363,25 @@ public final class EvolutionResult<
 			durations,
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			true,
+			_evaluationLatencies
+		);
+	}
+
+	EvolutionResult<G, C>
+	withEvaluationLatencies(final EvaluationLatencies<G> latencies) {
+		return new EvolutionResult<>(
+			optimize(),
+			population(),
+			generation(),
+			totalGenerations(),
+			durations(),
+			killCount(),
+			invalidCount(),
+			alterCount(),
+			_dirty,
+			latencies
 		);
 	}
 
@@ -338,7 +395,8 @@ public final class EvolutionResult<
 			killCount(),
 			invalidCount(),
 			alterCount(),
-			false
+			false,
+			_evaluationLatencies
 		);
 	}
 
@@ -773,7 +831,8 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
-			true
+			true,
+			null
 		);
 	}
 
@@ -813,7 +872,8 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
-			true
+			true,
+			null
 		);
 	}
 
@@ -856,7 +916,8 @@ public final class EvolutionResult<
 			readInt(in),
 			readInt(in),
 			readInt(in),
-			true
+			true,
+			null
 		);
 	}
 
@@ -29,6 +29,7 @@ import java.util.function.Consumer;
 import io.jenetics.Phenotype;
 import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
+import io.jenetics.stat.LatencyHistogram;
 import io.jenetics.stat.LongMomentStatistics;
 import io.jenetics.stat.MinMax;
 
@@ -85,7 +86,7 @@ import io.jenetics.stat.MinMax;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -104,6 +105,12 @@ public abstract class EvolutionStatistics<
 	private final DoubleMomentStatistics
 		_evolveDuration = new DoubleMomentStatistics();
 
+	// The duration percentiles.
+	private final LatencyHistogram _selectionLatency = new LatencyHistogram();
+	private final LatencyHistogram _alterLatency = new LatencyHistogram();
+	private final LatencyHistogram _evaluationLatency = new LatencyHistogram();
+	private final LatencyHistogram _evolveLatency = new LatencyHistogram();
+
 	// The evolution statistics values.
 	private final IntMomentStatistics _killed = new IntMomentStatistics();
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
@@ -132,21 +139,49 @@ public abstract class EvolutionStatistics<
 		_age.accept(pt.age(generation));
 	}
 
+	/**
+	 * Adds the given evolution {@code summary} to the statistics. This
+	 * allows to replay the statistics of (logged) evolution runs, where the
+	 * populations are no longer available. The statistics of the population
+	 * are aggregated from the statistical moments of the summary.
+	 *
+	 * @since 6.1
+	 *
+	 * @param summary the evolution summary to add
+	 * @throws NullPointerException if the given {@code summary} is
+	 *         {@code null}
+	 */
+	public void accept(final EvolutionSummary<?, C> summary) {
+		accept(summary.durations());
+
+		_killed.accept(summary.killCount());
+		_invalids.accept(summary.invalidCount());
+		_altered.accept(summary.alterCount());
+
+		_age.combine(summary.phenotypeAge());
+		acceptFitness(summary);
+	}
+
+	abstract void acceptFitness(final EvolutionSummary<?, C> summary);
+
 	// Calculate duration statistics
 	private void accept(final EvolutionDurations durations) {
-		final double selection =
-			toSeconds(durations.offspringSelectionDuration()) +
-				toSeconds(durations.survivorsSelectionDuration());
-		final double alter =
-			toSeconds(durations.offspringAlterDuration()) +
-				toSeconds(durations.offspringFilterDuration());
-
-		_selectionDuration.accept(selection);
-		_alterDuration.accept(alter);
+		final Duration selection = durations.offspringSelectionDuration()
+			.plus(durations.survivorsSelectionDuration());
+		final Duration alter = durations.offspringAlterDuration()
+			.plus(durations.offspringFilterDuration());
+
+		_selectionDuration.accept(toSeconds(selection));
+		_alterDuration.accept(toSeconds(alter));
 		_evaluationDuration
 			.accept(toSeconds(durations.evaluationDuration()));
 		_evolveDuration
 			.accept(toSeconds(durations.evolveDuration()));
+
+		_selectionLatency.accept(selection);
+		_alterLatency.accept(alter);
+		_evaluationLatency.accept(durations.evaluationDuration());
+		_evolveLatency.accept(durations.evolveDuration());
 	}
 
 	private static double toSeconds(final Duration duration) {
@@ -198,6 +233,63 @@ public abstract class EvolutionStatistics<
 		return _evolveDuration;
 	}
 
+	/**
+	 * Return the latency histogram of the durations needed for selecting the
+	 * population. In contrast to {@link #selectionDuration()}, it allows to
+	 * query the duration percentiles.
+	 *
+	 * <pre>{@code
+	 * final Duration p99 = statistics.selectionLatency().percentile(99);
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @return the latency histogram of the selection durations
+	 */
+	public LatencyHistogram selectionLatency() {
+		return _selectionLatency;
+	}
+
+	/**
+	 * Return the latency histogram of the durations needed for altering the
+	 * population.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the latency histogram of the alter durations
+	 */
+	public LatencyHistogram alterLatency() {
+		return _alterLatency;
+	}
+
+	/**
+	 * Return the latency histogram of the durations needed for evaluating the
+	 * fitness function of the new individuals.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the latency histogram of the evaluation durations
+	 */
+	public LatencyHistogram evaluationLatency() {
+		return _evaluationLatency;
+	}
+
+	/**
+	 * Return the latency histogram of the durations needed for the whole
+	 * evolve step.
+	 *
+	 * <pre>{@code
+	 * System.out.println(statistics.evolveLatency().toPercentileTable());
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @return the latency histogram of the evolve durations
+	 */
+	public LatencyHistogram evolveLatency() {
+		return _evolveLatency;
+	}
+
 
 	/* *************************************************************************
 	 * Evolution statistics
@@ -337,6 +429,16 @@ public abstract class EvolutionStatistics<
 			_fitness.accept(pt.fitness());
 		}
 
+		@Override
+		void acceptFitness(final EvolutionSummary<?, C> summary) {
+			if (_fitness.max() == null) {
+				_fitness = MinMax.of(summary.optimize().ascending());
+			}
+
+			_fitness.accept(summary.bestFitness());
+			_fitness.accept(summary.worstFitness());
+		}
+
 		@Override
 		public String toString() {
 			return super.toString() +
@@ -364,6 +466,16 @@ public abstract class EvolutionStatistics<
 			_fitness.accept(pt.fitness().doubleValue());
 		}
 
+		@Override
+		void acceptFitness(final EvolutionSummary<?, N> summary) {
+			if (summary.fitness().isPresent()) {
+				_fitness.combine(summary.fitness().get());
+			} else {
+				_fitness.accept(summary.bestFitness().doubleValue());
+				_fitness.accept(summary.worstFitness().doubleValue());
+			}
+		}
+
 		@Override
 		public String toString() {
 			return super.toString() +
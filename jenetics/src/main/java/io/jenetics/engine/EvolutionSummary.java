@@ -0,0 +1,382 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Hashes.hash;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.LongMoments;
+
+/**
+ * Compact summary of one generation of an evolution run. In contrast to the
+ * {@link EvolutionResult} it doesn't contain the whole population. It only
+ * contains the best and the worst phenotype, the statistical moments of the
+ * phenotype age and, for numeric fitness values, the statistical moments of
+ * the fitness values. This allows to keep the summaries of very long
+ * evolution runs, and to aggregate them later with the
+ * {@link EvolutionStatistics}.
+ *
+ * <pre>{@code
+ * final EvolutionStatistics<Double, ?> statistics =
+ *     EvolutionStatistics.ofNumber();
+ *
+ * final List<EvolutionSummary<DoubleGene, Double>> summaries = engine
+ *     .stream()
+ *     .limit(1000)
+ *     .map(EvolutionSummary::of)
+ *     .collect(Collectors.toList());
+ *
+ * summaries.forEach(statistics::accept);
+ * }</pre>
+ *
+ * @see EvolutionResult
+ * @see EvolutionStatistics#accept(EvolutionSummary)
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionSummary<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Optimize _optimize;
+	private final long _generation;
+	private final long _totalGenerations;
+
+	private final EvolutionDurations _durations;
+	private final int _killCount;
+	private final int _invalidCount;
+	private final int _alterCount;
+
+	private final Phenotype<G, C> _bestPhenotype;
+	private final Phenotype<G, C> _worstPhenotype;
+	private final LongMoments _phenotypeAge;
+	private final DoubleMoments _fitness;
+
+	private EvolutionSummary(
+		final Optimize optimize,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final Phenotype<G, C> bestPhenotype,
+		final Phenotype<G, C> worstPhenotype,
+		final LongMoments phenotypeAge,
+		final DoubleMoments fitness
+	) {
+		_optimize = requireNonNull(optimize);
+		_generation = generation;
+		_totalGenerations = totalGenerations;
+		_durations = requireNonNull(durations);
+		_killCount = killCount;
+		_invalidCount = invalidCount;
+		_alterCount = alterCount;
+		_bestPhenotype = requireNonNull(bestPhenotype);
+		_worstPhenotype = requireNonNull(worstPhenotype);
+		_phenotypeAge = requireNonNull(phenotypeAge);
+		_fitness = fitness;
+	}
+
+	/**
+	 * Return the optimization strategy used.
+	 *
+	 * @return the optimization strategy used
+	 */
+	public Optimize optimize() {
+		return _optimize;
+	}
+
+	/**
+	 * The current generation.
+	 *
+	 * @return the current generation
+	 */
+	public long generation() {
+		return _generation;
+	}
+
+	/**
+	 * Return the generation count evaluated so far.
+	 *
+	 * @return the total number of generations evaluated so far
+	 */
+	public long totalGenerations() {
+		return _totalGenerations;
+	}
+
+	/**
+	 * Return the timing (meta) information of the evolution step.
+	 *
+	 * @return the timing (meta) information of the evolution step
+	 */
+	public EvolutionDurations durations() {
+		return _durations;
+	}
+
+	/**
+	 * Return the number of killed individuals.
+	 *
+	 * @return the number of killed individuals
+	 */
+	public int killCount() {
+		return _killCount;
+	}
+
+	/**
+	 * Return the number of invalid individuals.
+	 *
+	 * @return the number of invalid individuals
+	 */
+	public int invalidCount() {
+		return _invalidCount;
+	}
+
+	/**
+	 * The number of altered individuals.
+	 *
+	 * @return the number of altered individuals
+	 */
+	public int alterCount() {
+		return _alterCount;
+	}
+
+	/**
+	 * Return the best {@code Phenotype} of the summarized generation.
+	 *
+	 * @return the best {@code Phenotype} of the summarized generation
+	 */
+	public Phenotype<G, C> bestPhenotype() {
+		return _bestPhenotype;
+	}
+
+	/**
+	 * Return the worst {@code Phenotype} of the summarized generation.
+	 *
+	 * @return the worst {@code Phenotype} of the summarized generation
+	 */
+	public Phenotype<G, C> worstPhenotype() {
+		return _worstPhenotype;
+	}
+
+	/**
+	 * Return the best population fitness.
+	 *
+	 * @return The best population fitness.
+	 */
+	public C bestFitness() {
+		return _bestPhenotype.fitness();
+	}
+
+	/**
+	 * Return the worst population fitness.
+	 *
+	 * @return The worst population fitness.
+	 */
+	public C worstFitness() {
+		return _worstPhenotype.fitness();
+	}
+
+	/**
+	 * Return the statistical moments of the phenotype age of the summarized
+	 * population. The {@link LongMoments#count()} is the population size.
+	 *
+	 * @return the statistical moments of the phenotype age
+	 */
+	public LongMoments phenotypeAge() {
+		return _phenotypeAge;
+	}
+
+	/**
+	 * Return the statistical moments of the population fitness values. The
+	 * moments are only available for fitness values of type {@link Number}.
+	 *
+	 * @return the statistical moments of the population fitness values, if
+	 *         available
+	 */
+	public Optional<DoubleMoments> fitness() {
+		return Optional.ofNullable(_fitness);
+	}
+
+	@Override
+	public int hashCode() {
+		return
+			hash(_optimize,
+			hash(_generation,
+			hash(_totalGenerations,
+			hash(_durations,
+			hash(_killCount,
+			hash(_invalidCount,
+			hash(_alterCount,
+			hash(_bestPhenotype,
+			hash(_worstPhenotype,
+			hash(_phenotypeAge,
+			hash(_fitness)))))))))));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof EvolutionSummary &&
+			_optimize == ((EvolutionSummary)obj)._optimize &&
+			_generation == ((EvolutionSummary)obj)._generation &&
+			_totalGenerations == ((EvolutionSummary)obj)._totalGenerations &&
+			_durations.equals(((EvolutionSummary)obj)._durations) &&
+			_killCount == ((EvolutionSummary)obj)._killCount &&
+			_invalidCount == ((EvolutionSummary)obj)._invalidCount &&
+			_alterCount == ((EvolutionSummary)obj)._alterCount &&
+			_bestPhenotype.equals(((EvolutionSummary)obj)._bestPhenotype) &&
+			_worstPhenotype.equals(((EvolutionSummary)obj)._worstPhenotype) &&
+			_phenotypeAge.equals(((EvolutionSummary)obj)._phenotypeAge) &&
+			Objects.equals(_fitness, ((EvolutionSummary)obj)._fitness);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"EvolutionSummary[generation=%d, best=%s, worst=%s]",
+			_generation, _bestPhenotype, _worstPhenotype
+		);
+	}
+
+	/* *************************************************************************
+	 *  Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new evolution summary object with the given values.
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param bestPhenotype the best phenotype of the population
+	 * @param worstPhenotype the worst phenotype of the population
+	 * @param phenotypeAge the statistical moments of the phenotype age
+	 * @param fitness the statistical moments of the fitness values, may be
+	 *        {@code null}
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution summary object
+	 * @throws java.lang.NullPointerException if one of the arguments, except
+	 *         the {@code fitness} moments, is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionSummary<G, C> of(
+		final Optimize optimize,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final Phenotype<G, C> bestPhenotype,
+		final Phenotype<G, C> worstPhenotype,
+		final LongMoments phenotypeAge,
+		final DoubleMoments fitness
+	) {
+		return new EvolutionSummary<>(
+			optimize,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			bestPhenotype,
+			worstPhenotype,
+			phenotypeAge,
+			fitness
+		);
+	}
+
+	/**
+	 * Create the summary of the given evolution {@code result}.
+	 *
+	 * @param result the evolution result to summarize
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the summary of the given evolution result
+	 * @throws NullPointerException if the given evolution {@code result} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the population of the given
+	 *         {@code result} is empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionSummary<G, C> of(final EvolutionResult<G, C> result) {
+		if (result.population().isEmpty()) {
+			throw new IllegalArgumentException(
+				"Can't summarize an empty population."
+			);
+		}
+
+		final LongMomentStatistics age = new LongMomentStatistics();
+		final DoubleMomentStatistics fitness = new DoubleMomentStatistics();
+		boolean numeric = true;
+
+		for (Phenotype<G, C> pt : result.population()) {
+			age.accept(pt.age(result.generation()));
+
+			if (numeric && pt.fitness() instanceof Number) {
+				fitness.accept(((Number)pt.fitness()).doubleValue());
+			} else {
+				numeric = false;
+			}
+		}
+
+		return new EvolutionSummary<>(
+			result.optimize(),
+			result.generation(),
+			result.totalGenerations(),
+			result.durations(),
+			result.killCount(),
+			result.invalidCount(),
+			result.alterCount(),
+			result.bestPhenotype(),
+			result.worstPhenotype(),
+			LongMoments.of(age),
+			numeric ? DoubleMoments.of(fitness) : null
+		);
+	}
+
+}
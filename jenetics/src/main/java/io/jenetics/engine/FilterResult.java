@@ -21,6 +21,8 @@ package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import io.jenetics.Gene;
 import io.jenetics.Phenotype;
 import io.jenetics.util.ISeq;
@@ -33,7 +35,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 4.0
+ * @version 6.1
  */
 final class FilterResult<
 	G extends Gene<?, G>,
@@ -54,4 +56,24 @@ final class FilterResult<
 		this.invalidCount = invalidCount;
 	}
 
+	/**
+	 * Concatenates the given filter results, in the given order, into one
+	 * filter result.
+	 *
+	 * @param results the filter results to concatenate
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the concatenated filter result
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	FilterResult<G, C> concat(final List<FilterResult<G, C>> results) {
+		return new FilterResult<>(
+			results.stream()
+				.flatMap(r -> r.population.stream())
+				.collect(ISeq.toISeq()),
+			results.stream().mapToInt(r -> r.killCount).sum(),
+			results.stream().mapToInt(r -> r.invalidCount).sum()
+		);
+	}
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import io.jenetics.Optimize;
+
+/**
+ * Represents the cut-off bound of a fitness evaluation, which is derived from
+ * the already evaluated individuals of the current population. A fitness
+ * value which is <em>dominated</em> by the bound, which means it is worse
+ * than the bound value, will most likely not survive the next selection. A
+ * {@link BoundedFitness} function can therefore stop its evaluation as soon
+ * as its partial result is dominated by the bound.
+ *
+ * <pre>{@code
+ * final BoundedFitness<double[], Double> fitness = (x, bound) -> {
+ *     double error = 0;
+ *     for (int i = 0; i < x.length; ++i) {
+ *         error += error(x, i);
+ *         // Stop the evaluation, since the error can only grow.
+ *         if (bound.isDominated(error)) {
+ *             return error;
+ *         }
+ *     }
+ *     return error;
+ * };
+ * }</pre>
+ *
+ * @see BoundedFitness
+ * @see Evaluators
+ *
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class FitnessBound<C extends Comparable<? super C>> {
+
+	private final Optimize _optimize;
+	private final C _value;
+
+	private FitnessBound(final Optimize optimize, final C value) {
+		_optimize = requireNonNull(optimize);
+		_value = value;
+	}
+
+	/**
+	 * Return the optimization strategy of the bound.
+	 *
+	 * @return the optimization strategy of the bound
+	 */
+	public Optimize optimize() {
+		return _optimize;
+	}
+
+	/**
+	 * Return the bound value, if available. The first generation, with no
+	 * evaluated individuals, has no bound value.
+	 *
+	 * @return the bound value, if available
+	 */
+	public Optional<C> value() {
+		return Optional.ofNullable(_value);
+	}
+
+	/**
+	 * Test whether the given fitness value is <em>dominated</em> by the
+	 * bound. This is the case, if the fitness is <em>worse</em> than the bound
+	 * value. An unbounded bound doesn't dominate any value.
+	 *
+	 * @param fitness the fitness value to test
+	 * @return {@code true} if the given {@code fitness} is dominated by
+	 *         {@code this} bound, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code fitness} is
+	 *         {@code null}
+	 */
+	public boolean isDominated(final C fitness) {
+		requireNonNull(fitness);
+		return _value != null && _optimize.compare(fitness, _value) < 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_optimize, _value);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof FitnessBound &&
+			((FitnessBound<?>)obj)._optimize == _optimize &&
+			Objects.equals(((FitnessBound<?>)obj)._value, _value);
+	}
+
+	@Override
+	public String toString() {
+		return "FitnessBound[" + _optimize + ", " + _value + "]";
+	}
+
+	/**
+	 * Create a new fitness bound with the given {@code value}.
+	 *
+	 * @param optimize the optimization strategy
+	 * @param value the bound value
+	 * @param <C> the fitness value type
+	 * @return a new fitness bound
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <C extends Comparable<? super C>> FitnessBound<C>
+	of(final Optimize optimize, final C value) {
+		return new FitnessBound<>(optimize, requireNonNull(value));
+	}
+
+	/**
+	 * Return a fitness bound without bound value, which doesn't dominate any
+	 * fitness value.
+	 *
+	 * @param optimize the optimization strategy
+	 * @param <C> the fitness value type
+	 * @return a new fitness bound without bound value
+	 * @throws NullPointerException if the given {@code optimize} is
+	 *         {@code null}
+	 */
+	public static <C extends Comparable<? super C>> FitnessBound<C>
+	unbounded(final Optimize optimize) {
+		return new FitnessBound<>(optimize, null);
+	}
+
+}
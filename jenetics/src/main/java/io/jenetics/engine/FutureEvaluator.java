@@ -31,6 +31,7 @@ import java.util.function.Function;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
+import io.jenetics.internal.jfr.Events;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
@@ -39,15 +40,20 @@ import io.jenetics.util.Seq;
  * Example of an {@code Engine.Evaluator} where the fitness function returns
  * a {@link Future} of the fitness value instead the value itself.
  *
+ * @implNote
+ * The evaluation latency of an individual is measured from the submission of
+ * its future until the completion is observed. Since the futures are joined
+ * in submission order, this is an upper bound of the actual evaluation time.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class FutureEvaluator<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 >
-	implements Evaluator<G, C>
+	implements RecordingEvaluator<G, C>
 {
 	private final Function<? super Genotype<G>, ? extends Future<C>> _fitness;
 
@@ -58,30 +64,71 @@ final class FutureEvaluator<
 	}
 
 	@Override
-	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<Future<C>> evaluate = population.stream()
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final EvaluationLatencies.Recorder<G> recorder
+	) {
+		final Object event = Events.beginEvaluation();
+
+		final ISeq<Genotype<G>> genotypes = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(pt -> _fitness.apply(pt.genotype()))
+			.map(Phenotype::genotype)
 			.collect(ISeq.toISeq());
 
+		final long[] submitted = recorder != null
+			? new long[genotypes.size()]
+			: null;
+		final long[] completed = recorder != null
+			? new long[genotypes.size()]
+			: null;
+
+		final MSeq<Future<C>> evaluate = MSeq.ofLength(genotypes.size());
+		for (int i = 0; i < genotypes.size(); ++i) {
+			if (submitted != null) {
+				submitted[i] = System.nanoTime();
+			}
+			evaluate.set(i, _fitness.apply(genotypes.get(i)));
+		}
+
 		final ISeq<Phenotype<G, C>> evaluated = population.stream()
 			.filter(Phenotype::isEvaluated)
 			.collect(ISeq.toISeq());
 
-		join(evaluate);
+		join(evaluate, completed);
+
+		if (recorder != null) {
+			for (int i = 0; i < genotypes.size(); ++i) {
+				recorder.record(
+					genotypes.get(i),
+					0,
+					completed[i] - submitted[i]
+				);
+			}
+		}
+
+		final ISeq<Phenotype<G, C>> result =
+			evaluated.append(map(population, evaluate));
 
-		return evaluated.append(map(population, evaluate));
+		Events.commitEvaluation(event, getClass(), genotypes.size());
+		return result;
 	}
 
-	private static void join(final Iterable<? extends Future<?>> futures) {
+	private static void join(
+		final Iterable<? extends Future<?>> futures,
+		final long[] completed
+	) {
 		final Iterator<? extends Future<?>> it = futures.iterator();
 
 		Exception exception = null;
 		Future<?> future = null;
 		try {
+			int index = 0;
 			while (it.hasNext()) {
 				future = it.next();
 				future.get();
+				if (completed != null) {
+					completed[index++] = System.nanoTime();
+				}
 			}
 			future = null;
 		} catch (InterruptedException |
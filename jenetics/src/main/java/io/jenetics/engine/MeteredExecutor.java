@@ -0,0 +1,194 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor decorator, which measures the <em>saturation</em> of the decorated
+ * executor. It counts the submitted, running and completed tasks and sums up
+ * the time the tasks are waiting in the executor queue and the time the tasks
+ * are running. Decorating the executors of the different evolution stages
+ * allows to tune the pool sizes from measured values.
+ *
+ * <pre>{@code
+ * final var evaluation = MeteredExecutor.of(Executors.newFixedThreadPool(30));
+ * final var evolution = MeteredExecutor.of(Executors.newFixedThreadPool(4));
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .executor(evolution)
+ *     .evaluationExecutor(evaluation)
+ *     .build();
+ *
+ * ...
+ * // A growing wait time indicates a saturated thread pool.
+ * System.out.println(evaluation.waitTime());
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe. Recording the metrics doesn't block the
+ * executing threads.
+ *
+ * @see Engine.Builder#executor(Executor)
+ * @see Engine.Builder#evaluationExecutor(Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class MeteredExecutor implements Executor {
+
+	private final Executor _executor;
+
+	private final LongAdder _submitted = new LongAdder();
+	private final LongAdder _completed = new LongAdder();
+	private final LongAdder _waitNanos = new LongAdder();
+	private final LongAdder _runNanos = new LongAdder();
+	private final AtomicInteger _active = new AtomicInteger();
+	private final AtomicInteger _maxActive = new AtomicInteger();
+
+	private MeteredExecutor(final Executor executor) {
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Return the decorated executor.
+	 *
+	 * @return the decorated executor
+	 */
+	public Executor executor() {
+		return _executor;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		requireNonNull(command);
+
+		final long submitted = System.nanoTime();
+		_submitted.increment();
+		_executor.execute(() -> {
+			final long started = System.nanoTime();
+			_waitNanos.add(started - submitted);
+
+			final int active = _active.incrementAndGet();
+			_maxActive.accumulateAndGet(active, Math::max);
+			try {
+				command.run();
+			} finally {
+				_active.decrementAndGet();
+				_runNanos.add(System.nanoTime() - started);
+				_completed.increment();
+			}
+		});
+	}
+
+	/**
+	 * Return the number of tasks submitted to this executor.
+	 *
+	 * @return the number of submitted tasks
+	 */
+	public long submittedTasks() {
+		return _submitted.sum();
+	}
+
+	/**
+	 * Return the number of completed tasks.
+	 *
+	 * @return the number of completed tasks
+	 */
+	public long completedTasks() {
+		return _completed.sum();
+	}
+
+	/**
+	 * Return the number of currently running tasks.
+	 *
+	 * @return the number of currently running tasks
+	 */
+	public int activeTasks() {
+		return _active.get();
+	}
+
+	/**
+	 * Return the maximal number of concurrently running tasks observed so far.
+	 *
+	 * @return the maximal number of concurrently running tasks
+	 */
+	public int maxActiveTasks() {
+		return _maxActive.get();
+	}
+
+	/**
+	 * Return the number of tasks which are submitted, but not started yet.
+	 *
+	 * @return the number of waiting tasks
+	 */
+	public long queuedTasks() {
+		return Math.max(submittedTasks() - completedTasks() - activeTasks(), 0);
+	}
+
+	/**
+	 * Return the accumulated time the tasks were waiting for execution.
+	 *
+	 * @return the accumulated waiting time of the tasks
+	 */
+	public Duration waitTime() {
+		return Duration.ofNanos(_waitNanos.sum());
+	}
+
+	/**
+	 * Return the accumulated execution time of the tasks.
+	 *
+	 * @return the accumulated execution time of the tasks
+	 */
+	public Duration runTime() {
+		return Duration.ofNanos(_runNanos.sum());
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"MeteredExecutor[submitted=%d, completed=%d, active=%d, " +
+			"maxActive=%d, wait=%s, run=%s]",
+			submittedTasks(), completedTasks(), activeTasks(),
+			maxActiveTasks(), waitTime(), runTime()
+		);
+	}
+
+	/**
+	 * Create a new metered executor, which decorates the given
+	 * {@code executor}.
+	 *
+	 * @param executor the executor to decorate
+	 * @return a new metered executor
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public static MeteredExecutor of(final Executor executor) {
+		return new MeteredExecutor(executor);
+	}
+
+}
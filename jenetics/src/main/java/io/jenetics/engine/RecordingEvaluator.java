@@ -0,0 +1,66 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator which is able to record the evaluation latencies of the evaluated
+ * individuals.
+ *
+ * @see EvaluationLatencies
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+interface RecordingEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Evaluator<G, C>
+{
+
+	/**
+	 * Evaluates the fitness values of the given {@code population} and
+	 * records the evaluation latencies of the evaluated individuals. If the
+	 * {@code recorder} is {@code null}, no latencies are measured.
+	 *
+	 * @param population the population to evaluate
+	 * @param recorder the latency recorder, may be {@code null}
+	 * @return the evaluated population
+	 */
+	ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final EvaluationLatencies.Recorder<G> recorder
+	);
+
+	@Override
+	default ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return eval(population, null);
+	}
+
+}
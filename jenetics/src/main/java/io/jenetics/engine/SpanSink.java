@@ -0,0 +1,74 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+/**
+ * Receiver of the <em>spans</em>, recorded by an evolution {@link Engine}.
+ * The engine reports every evolution step ({@code evolve}), its phases
+ * ({@code offspring-selection}, {@code survivors-selection},
+ * {@code offspring-alter}, {@code offspring-filter}, {@code survivor-filter}
+ * and {@code evaluation}) and the task batches ({@code batch}), executed by
+ * the worker threads, as span. The sink is attached to one engine via the
+ * {@link Engine.Builder#spanSink(SpanSink)} method.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .spanSink((name, id, parent, generation, start, end, thread) ->
+ *         System.out.println(name + ": " + (end - start) + "ns"))
+ *     .build();
+ * }</pre>
+ *
+ * @implSpec
+ * The sink is called from the thread which executed the span and must be
+ * thread-safe. It should return quickly, since it is called on the
+ * evolution threads.
+ *
+ * @see Engine.Builder#spanSink(SpanSink)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface SpanSink {
+
+	/**
+	 * Called for every finished span.
+	 *
+	 * @param name the span name
+	 * @param id the unique span id
+	 * @param parent the id of the parent span, or zero if the span has no
+	 *        parent
+	 * @param generation the generation of the span, or zero if unknown
+	 * @param start the start time of the span, in nanoseconds
+	 * @param end the end time of the span, in nanoseconds
+	 * @param thread the thread which executed the span
+	 */
+	void span(
+		final String name,
+		final long id,
+		final long parent,
+		final long generation,
+		final long start,
+		final long end,
+		final Thread thread
+	);
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import io.jenetics.internal.collection.Array.Store;
+
+/**
+ * Read-only store, which creates its elements lazily with the given element
+ * function. The created elements are cached, which means that the element
+ * function is called at most once per index, if there are no concurrent
+ * accesses. Modifying operations are not supported. They are not needed
+ * for <em>sealed</em> arrays, which are copied before modification.
+ *
+ * @implNote
+ * This class is thread-safe. The element function may be called more than
+ * once for a given index, if it is accessed concurrently. It must therefore
+ * return equal values for the same index.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class LazyStore<T> implements Store<T>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient IntFunction<? extends T> _function;
+	private final transient AtomicReferenceArray<T> _values;
+
+	private LazyStore(
+		final IntFunction<? extends T> function,
+		final int length
+	) {
+		_function = requireNonNull(function);
+		_values = new AtomicReferenceArray<>(length);
+	}
+
+	@Override
+	public T get(final int index) {
+		T value = _values.get(index);
+		if (value == null) {
+			value = requireNonNull(_function.apply(index));
+			_values.lazySet(index, value);
+		}
+		return value;
+	}
+
+	@Override
+	public void set(final int index, final T value) {
+		throw new UnsupportedOperationException("Read-only store.");
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super T> comparator
+	) {
+		throw new UnsupportedOperationException("Read-only store.");
+	}
+
+	@Override
+	public ObjectStore<T> copy(final int from, final int until) {
+		final Object[] array = new Object[until - from];
+		for (int i = from; i < until; ++i) {
+			array[i - from] = get(i);
+		}
+		return ObjectStore.of(array);
+	}
+
+	@Override
+	public ObjectStore<T> newInstance(final int length) {
+		return ObjectStore.ofLength(length);
+	}
+
+	@Override
+	public int length() {
+		return _values.length();
+	}
+
+	/**
+	 * Create a new lazy store with the given {@code length} and element
+	 * {@code function}.
+	 *
+	 * @param function the function, which creates the element for a given
+	 *        index
+	 * @param length the length of the store
+	 * @param <T> the element type
+	 * @return a new lazy store
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 * @throws NegativeArraySizeException if the given {@code length} is
+	 *         negative
+	 */
+	public static <T> LazyStore<T>
+	of(final IntFunction<? extends T> function, final int length) {
+		return new LazyStore<>(function, length);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return copy();
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.io;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import io.jenetics.util.IO;
+
+/**
+ * {@link IO} implementation of the compact, versioned binary format of the
+ * library. The format is able to store {@code Genotype}, {@code Phenotype},
+ * {@code EvolutionResult} and {@code EvolutionSummary} objects, and
+ * sequences of it, much more compact than the <em>Java</em> serialization.
+ * Objects of other types are stored with the <em>Java</em> serialization.
+ *
+ * <p><b>Format (version 1)</b></p>
+ * A binary stream starts with a fixed size header, which is never
+ * compressed, followed by the (optionally compressed) content. All
+ * {@code int} and {@code long} values, marked with <em>varint</em>, are
+ * written in the zig-zag encoded variable length format of
+ * {@link io.jenetics.internal.util.SerialIO#writeInt(int, java.io.DataOutput)}.
+ * Floating point values are written as raw 8 byte values.
+ * <pre>
+ * stream     := magic:'JBIN' version:byte flags:byte value* END
+ * flags      := bit 0: the content is compressed with <em>Deflate</em>
+ * value      := GENOTYPE genotype
+ *             | PHENOTYPE phenotype
+ *             | EVOLUTION_RESULT result
+ *             | EVOLUTION_SUMMARY summary
+ *             | SEQ size:varint value*
+ *             | OBJECT bytes
+ * genotype   := length:varint chromosome*
+ * phenotype  := genotype generation:varint fitness
+ * fitness    := NULL | DOUBLE double | INTEGER varint | LONG varint
+ *             | OBJECT bytes
+ * result     := optimize:byte generation:varint total:varint
+ *               duration:varint{7} kills:varint invalids:varint
+ *               alterations:varint size:varint phenotype*
+ * summary    := optimize:byte generation:varint total:varint
+ *               duration:varint{7} kills:varint invalids:varint
+ *               alterations:varint best:phenotype worst:phenotype
+ *               age:long-moments (NULL | DOUBLE double-moments)
+ * long-moments   := count:varint min:varint max:varint sum:varint
+ *                   mean:double variance:double skewness:double
+ *                   kurtosis:double
+ * double-moments := count:varint min:double max:double sum:double
+ *                   mean:double variance:double skewness:double
+ *                   kurtosis:double
+ * chromosome := template:varint [definition] data
+ * bytes      := length:varint byte*
+ * </pre>
+ * Chromosomes don't store their <em>schema</em>, like the gene range or the
+ * valid alleles, directly. Instead, they refer to a <em>template</em>, which
+ * is defined inline, when the chromosome with the new template is written
+ * the first time. Templates are numbered consecutively, starting with zero.
+ * A template index, which is equal to the number of already defined
+ * templates, is therefore followed by the template definition.
+ * <pre>
+ * definition := BIT p:double
+ *             | DOUBLE min:double max:double length-range
+ *             | INTEGER min:varint max:varint length-range
+ *             | LONG min:varint max:varint length-range
+ *             | CHARACTER valid-chars:string length-range
+ *             | PERMUTATION valid-alleles:bytes
+ *             | OBJECT
+ * data       := (BIT) length:varint byte{(length + 7)/8}
+ *             | (DOUBLE) length:varint double*
+ *             | (INTEGER, LONG, CHARACTER) length:varint varint*
+ *             | (PERMUTATION) length:varint allele-index:varint*
+ *             | (OBJECT) bytes
+ * </pre>
+ * Numeric chromosomes are therefore stored as packed primitive arrays, bit
+ * chromosomes as raw (little endian) bytes and enum genes as index into the
+ * allele table, which is shared by all permutation chromosomes with the same
+ * valid alleles.
+ *
+ * @see BinaryWriter
+ * @see BinaryReader
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BinaryIO extends IO {
+
+	static final byte[] MAGIC = {'J', 'B', 'I', 'N'};
+	static final byte VERSION = 1;
+	static final byte DEFLATE = 0x01;
+
+	static final int BUFFER_SIZE = 64*1024;
+
+	// Value tags.
+	static final byte END = 0;
+	static final byte GENOTYPE = 1;
+	static final byte PHENOTYPE = 2;
+	static final byte EVOLUTION_RESULT = 3;
+	static final byte SEQ = 4;
+	static final byte OBJECT = 5;
+	static final byte EVOLUTION_SUMMARY = 6;
+
+	// Fitness tags.
+	static final byte NULL = 0;
+	static final byte DOUBLE = 1;
+	static final byte INTEGER = 2;
+	static final byte LONG = 3;
+
+	// Chromosome template tags.
+	static final byte BIT_CHROMOSOME = 1;
+	static final byte DOUBLE_CHROMOSOME = 2;
+	static final byte INTEGER_CHROMOSOME = 3;
+	static final byte LONG_CHROMOSOME = 4;
+	static final byte CHARACTER_CHROMOSOME = 5;
+	static final byte PERMUTATION_CHROMOSOME = 6;
+	static final byte OBJECT_CHROMOSOME = 7;
+
+	private final boolean _compress;
+
+	private BinaryIO(final boolean compress) {
+		_compress = compress;
+	}
+
+	/**
+	 * Return {@code true} if {@code this} IO compresses the written content.
+	 *
+	 * @return {@code true} if the written content is compressed
+	 */
+	public boolean isCompressed() {
+		return _compress;
+	}
+
+	/**
+	 * Create a new binary writer, which writes to the given output stream.
+	 *
+	 * @param out the output stream to write to
+	 * @return a new binary writer
+	 * @throws IOException if writing the stream header fails
+	 */
+	public BinaryWriter writer(final OutputStream out) throws IOException {
+		return BinaryWriter.of(out, _compress);
+	}
+
+	/**
+	 * Create a new binary reader, which reads from the given input stream.
+	 * The compression is detected from the stream header.
+	 *
+	 * @param in the input stream to read from
+	 * @return a new binary reader
+	 * @throws IOException if reading the stream header fails
+	 */
+	public BinaryReader reader(final InputStream in) throws IOException {
+		return BinaryReader.of(in);
+	}
+
+	/**
+	 * Create a new binary reader, which reads the remaining bytes of the
+	 * given {@code buffer}. The position of the given buffer is advanced by
+	 * the read bytes. This method allows to read from memory-mapped files
+	 * without copying the data into an intermediate buffer.
+	 *
+	 * @param buffer the byte buffer to read from
+	 * @return a new binary reader
+	 * @throws IOException if reading the stream header fails
+	 */
+	public BinaryReader reader(final ByteBuffer buffer) throws IOException {
+		return BinaryReader.of(new ByteBufferInputStream(buffer));
+	}
+
+	@Override
+	public void write(final Object object, final OutputStream out)
+		throws IOException
+	{
+		final BinaryWriter writer = writer(out);
+		writer.write(object);
+		writer.finish();
+	}
+
+	@Override
+	public void write(final Object object, final Path path)
+		throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(
+				path, CREATE, TRUNCATE_EXISTING, WRITE);
+			OutputStream out = Channels.newOutputStream(channel))
+		{
+			write(object, out);
+		}
+	}
+
+	@Override
+	public <T> T read(final Class<T> type, final InputStream in)
+		throws IOException
+	{
+		try {
+			return type.cast(reader(in).read());
+		} catch (ClassCastException e) {
+			throw new IOException(e);
+		}
+	}
+
+	@Override
+	public <T> T read(final Class<T> type, final Path path)
+		throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(path, READ);
+			InputStream in = Channels.newInputStream(channel))
+		{
+			return read(type, in);
+		}
+	}
+
+	/**
+	 * Return a new binary IO object.
+	 *
+	 * @see IO#binary
+	 * @see IO#compressedBinary
+	 *
+	 * @param compress {@code true} if the written content should be compressed
+	 *        with <em>Deflate</em>
+	 * @return a new binary IO object
+	 */
+	public static BinaryIO of(final boolean compress) {
+		return new BinaryIO(compress);
+	}
+
+}
@@ -0,0 +1,603 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.io;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.io.BinaryIO.BIT_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.BUFFER_SIZE;
+import static io.jenetics.internal.io.BinaryIO.CHARACTER_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.DEFLATE;
+import static io.jenetics.internal.io.BinaryIO.DOUBLE;
+import static io.jenetics.internal.io.BinaryIO.DOUBLE_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.END;
+import static io.jenetics.internal.io.BinaryIO.EVOLUTION_RESULT;
+import static io.jenetics.internal.io.BinaryIO.EVOLUTION_SUMMARY;
+import static io.jenetics.internal.io.BinaryIO.GENOTYPE;
+import static io.jenetics.internal.io.BinaryIO.INTEGER;
+import static io.jenetics.internal.io.BinaryIO.INTEGER_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.LONG;
+import static io.jenetics.internal.io.BinaryIO.LONG_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.MAGIC;
+import static io.jenetics.internal.io.BinaryIO.NULL;
+import static io.jenetics.internal.io.BinaryIO.OBJECT;
+import static io.jenetics.internal.io.BinaryIO.OBJECT_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.PERMUTATION_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.PHENOTYPE;
+import static io.jenetics.internal.io.BinaryIO.SEQ;
+import static io.jenetics.internal.io.BinaryIO.VERSION;
+import static io.jenetics.internal.util.SerialIO.readBytes;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.readString;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.CharacterGene;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.internal.util.SerialIO.Reader;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+
+/**
+ * Streaming reader of the binary format, described in {@link BinaryIO}.
+ *
+ * <pre>{@code
+ * try (BinaryReader reader = BinaryIO.of(false).reader(in)) {
+ *     Object value;
+ *     while ((value = reader.read()) != null) {
+ *         final var pt = (Phenotype<DoubleGene, Double>)value;
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see BinaryWriter
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BinaryReader implements Closeable {
+
+	private final InputStream _stream;
+	private final Inflater _inflater;
+	private final DataInputStream _in;
+
+	// The chromosome readers of the already defined templates.
+	private final List<Reader<Chromosome<?>>> _templates = new ArrayList<>();
+
+	private boolean _finished = false;
+
+	private BinaryReader(final InputStream stream, final boolean compressed) {
+		_stream = requireNonNull(stream);
+		_inflater = compressed ? new Inflater() : null;
+
+		_in = new DataInputStream(
+			compressed
+				? new InflaterInputStream(stream, _inflater, BUFFER_SIZE)
+				: isInMemory(stream)
+					? stream
+					: new BufferedInputStream(stream, BUFFER_SIZE)
+		);
+	}
+
+	// In-memory streams don't need an additional buffer.
+	private static boolean isInMemory(final InputStream stream) {
+		return stream instanceof ByteBufferInputStream ||
+			stream instanceof ByteArrayInputStream;
+	}
+
+	/**
+	 * Reads the next value from the underlying stream.
+	 *
+	 * @return the next value, or {@code null} if the end of the written
+	 *         values has been reached
+	 * @throws IOException if an I/O error occurs or the stream is corrupted
+	 */
+	public Object read() throws IOException {
+		if (_finished) {
+			return null;
+		}
+
+		final byte tag = _in.readByte();
+		if (tag == END) {
+			_finished = true;
+			if (_inflater != null) {
+				_inflater.end();
+			}
+			return null;
+		}
+
+		return readValue(tag);
+	}
+
+	private Object readValue(final byte tag) throws IOException {
+		switch (tag) {
+			case GENOTYPE: return readGenotype();
+			case PHENOTYPE: return readPhenotype();
+			case EVOLUTION_RESULT: return readResult();
+			case EVOLUTION_SUMMARY: return readSummary();
+			case SEQ:
+				final int length = readInt(_in);
+				final MSeq<Object> values = MSeq.ofLength(length);
+				for (int i = 0; i < length; ++i) {
+					final byte next = _in.readByte();
+					if (next == END) {
+						throw new StreamCorruptedException(
+							"Unexpected end tag."
+						);
+					}
+					values.set(i, readValue(next));
+				}
+				return values.toISeq();
+			case OBJECT: return deserialize(readBytes(_in));
+			default:
+				throw new StreamCorruptedException(format(
+					"Unknown value tag: %d.", tag
+				));
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private EvolutionResult<?, ?> readResult() throws IOException {
+		final Optimize optimize = readOptimize();
+		final long generation = readLong(_in);
+		final long totalGenerations = readLong(_in);
+		final EvolutionDurations durations = readDurations();
+
+		final int killCount = readInt(_in);
+		final int invalidCount = readInt(_in);
+		final int alterCount = readInt(_in);
+
+		final int size = readInt(_in);
+		final MSeq<Phenotype> population = MSeq.ofLength(size);
+		for (int i = 0; i < size; ++i) {
+			population.set(i, readPhenotype());
+		}
+
+		return EvolutionResult.of(
+			optimize,
+			(ISeq)population.toISeq(),
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount
+		);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private EvolutionSummary<?, ?> readSummary() throws IOException {
+		final Optimize optimize = readOptimize();
+		final long generation = readLong(_in);
+		final long totalGenerations = readLong(_in);
+		final EvolutionDurations durations = readDurations();
+
+		final int killCount = readInt(_in);
+		final int invalidCount = readInt(_in);
+		final int alterCount = readInt(_in);
+
+		final Phenotype best = readPhenotype();
+		final Phenotype worst = readPhenotype();
+
+		final LongMoments age = LongMoments.of(
+			readLong(_in),
+			readLong(_in),
+			readLong(_in),
+			readLong(_in),
+			_in.readDouble(),
+			_in.readDouble(),
+			_in.readDouble(),
+			_in.readDouble()
+		);
+
+		final byte tag = _in.readByte();
+		final DoubleMoments fitness;
+		switch (tag) {
+			case NULL:
+				fitness = null;
+				break;
+			case DOUBLE:
+				fitness = DoubleMoments.of(
+					readLong(_in),
+					_in.readDouble(),
+					_in.readDouble(),
+					_in.readDouble(),
+					_in.readDouble(),
+					_in.readDouble(),
+					_in.readDouble(),
+					_in.readDouble()
+				);
+				break;
+			default:
+				throw new StreamCorruptedException(format(
+					"Unknown fitness moments tag: %d.", tag
+				));
+		}
+
+		return EvolutionSummary.of(
+			optimize,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			best,
+			worst,
+			age,
+			fitness
+		);
+	}
+
+	private Optimize readOptimize() throws IOException {
+		final int ordinal = _in.readByte();
+		if (ordinal < 0 || ordinal >= Optimize.values().length) {
+			throw new StreamCorruptedException(format(
+				"Invalid optimization strategy: %d.", ordinal
+			));
+		}
+		return Optimize.values()[ordinal];
+	}
+
+	private EvolutionDurations readDurations() throws IOException {
+		return EvolutionDurations.of(
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in)),
+			Duration.ofNanos(readLong(_in))
+		);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Phenotype<?, ?> readPhenotype() throws IOException {
+		final Genotype genotype = readGenotype();
+		final long generation = readLong(_in);
+
+		final byte tag = _in.readByte();
+		switch (tag) {
+			case NULL: return Phenotype.of(genotype, generation);
+			case DOUBLE:
+				return Phenotype.of(genotype, generation, _in.readDouble());
+			case INTEGER:
+				return Phenotype.of(genotype, generation, readInt(_in));
+			case LONG:
+				return Phenotype.of(genotype, generation, readLong(_in));
+			case OBJECT:
+				final Object fitness = deserialize(readBytes(_in));
+				if (!(fitness instanceof Comparable)) {
+					throw new InvalidObjectException(format(
+						"Fitness value is not comparable: %s.", fitness
+					));
+				}
+				return Phenotype.of(genotype, generation, (Comparable)fitness);
+			default:
+				throw new StreamCorruptedException(format(
+					"Unknown fitness tag: %d.", tag
+				));
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Genotype<?> readGenotype() throws IOException {
+		final int length = readInt(_in);
+		final MSeq<Chromosome> chromosomes = MSeq.ofLength(length);
+		for (int i = 0; i < length; ++i) {
+			chromosomes.set(i, readChromosome());
+		}
+
+		return Genotype.of((ISeq)chromosomes.toISeq());
+	}
+
+	private Chromosome<?> readChromosome() throws IOException {
+		final int index = readInt(_in);
+		if (index == _templates.size()) {
+			_templates.add(readTemplate(_in.readByte()));
+		} else if (index < 0 || index > _templates.size()) {
+			throw new StreamCorruptedException(format(
+				"Undefined chromosome template: %d.", index
+			));
+		}
+
+		return _templates.get(index).read(_in);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Reader<Chromosome<?>> readTemplate(final byte tag)
+		throws IOException
+	{
+		switch (tag) {
+			case BIT_CHROMOSOME: {
+				final double p = _in.readDouble();
+				return in -> {
+					final int length = readInt(in);
+					final byte[] bytes = new byte[(length + 7) >>> 3];
+					in.readFully(bytes);
+					return BitChromosome.of(BitSet.valueOf(bytes), length, p);
+				};
+			}
+			case DOUBLE_CHROMOSOME: {
+				final double min = _in.readDouble();
+				final double max = _in.readDouble();
+				final IntRange range = readLengthRange();
+
+				return new ChromosomeReader<DoubleGene>(
+					range,
+					in -> {
+						final int length = readInt(in);
+						final byte[] bytes = new byte[length*8];
+						in.readFully(bytes);
+						final DoubleBuffer values = ByteBuffer.wrap(bytes)
+							.asDoubleBuffer();
+
+						final MSeq<DoubleGene> genes = MSeq.ofLength(length);
+						for (int i = 0; i < length; ++i) {
+							final double value = values.get(i);
+							genes.set(i, DoubleGene.of(value, min, max));
+						}
+						return genes.toISeq();
+					},
+					DoubleChromosome::of,
+					() -> DoubleChromosome.of(min, max, range)
+				);
+			}
+			case INTEGER_CHROMOSOME: {
+				final int min = readInt(_in);
+				final int max = readInt(_in);
+				final IntRange range = readLengthRange();
+
+				return new ChromosomeReader<IntegerGene>(
+					range,
+					in -> {
+						final int length = readInt(in);
+						final MSeq<IntegerGene> genes = MSeq.ofLength(length);
+						for (int i = 0; i < length; ++i) {
+							genes.set(i, IntegerGene.of(readInt(in), min, max));
+						}
+						return genes.toISeq();
+					},
+					IntegerChromosome::of,
+					() -> IntegerChromosome.of(min, max, range)
+				);
+			}
+			case LONG_CHROMOSOME: {
+				final long min = readLong(_in);
+				final long max = readLong(_in);
+				final IntRange range = readLengthRange();
+
+				return new ChromosomeReader<LongGene>(
+					range,
+					in -> {
+						final int length = readInt(in);
+						final MSeq<LongGene> genes = MSeq.ofLength(length);
+						for (int i = 0; i < length; ++i) {
+							genes.set(i, LongGene.of(readLong(in), min, max));
+						}
+						return genes.toISeq();
+					},
+					LongChromosome::of,
+					() -> LongChromosome.of(min, max, range)
+				);
+			}
+			case CHARACTER_CHROMOSOME: {
+				final CharSeq chars = new CharSeq(readString(_in));
+				final IntRange range = readLengthRange();
+
+				return new ChromosomeReader<CharacterGene>(
+					range,
+					in -> {
+						final int length = readInt(in);
+						final MSeq<CharacterGene> genes = MSeq.ofLength(length);
+						for (int i = 0; i < length; ++i) {
+							final char value = (char)readInt(in);
+							genes.set(i, CharacterGene.of(value, chars));
+						}
+						return genes.toISeq();
+					},
+					genes -> CharacterChromosome.of(chars, range)
+						.newInstance(genes),
+					() -> CharacterChromosome.of(chars, range)
+				);
+			}
+			case PERMUTATION_CHROMOSOME: {
+				final Object value = deserialize(readBytes(_in));
+				if (!(value instanceof ISeq)) {
+					throw new InvalidObjectException(format(
+						"Invalid allele table: %s.", value
+					));
+				}
+				final ISeq<?> alleles = (ISeq<?>)value;
+
+				return in -> {
+					final int length = readInt(in);
+					final MSeq<EnumGene> genes = MSeq.ofLength(length);
+					for (int i = 0; i < length; ++i) {
+						genes.set(i, EnumGene.of(readInt(in), alleles));
+					}
+					return new PermutationChromosome(genes.toISeq());
+				};
+			}
+			case OBJECT_CHROMOSOME:
+				return in -> {
+					final Object value = deserialize(readBytes(in));
+					if (!(value instanceof Chromosome)) {
+						throw new InvalidObjectException(format(
+							"Invalid chromosome: %s.", value
+						));
+					}
+					return (Chromosome<?>)value;
+				};
+			default:
+				throw new StreamCorruptedException(format(
+					"Unknown chromosome tag: %d.", tag
+				));
+		}
+	}
+
+	/**
+	 * Reads the chromosomes of one template. The chromosomes are created
+	 * from a <em>prototype</em> chromosome, which preserves the length range
+	 * of the template. For templates with a fixed length, the first read
+	 * chromosome is used as prototype.
+	 *
+	 * @param <G> the gene type
+	 */
+	private static final class ChromosomeReader<G extends Gene<?, G>>
+		implements Reader<Chromosome<?>>
+	{
+		private final IntRange _lengthRange;
+		private final Reader<ISeq<G>> _genes;
+		private final Function<? super ISeq<G>, ? extends Chromosome<G>> _fixed;
+		private final Supplier<? extends Chromosome<G>> _variable;
+
+		private Chromosome<G> _prototype;
+
+		ChromosomeReader(
+			final IntRange lengthRange,
+			final Reader<ISeq<G>> genes,
+			final Function<? super ISeq<G>, ? extends Chromosome<G>> fixed,
+			final Supplier<? extends Chromosome<G>> variable
+		) {
+			_lengthRange = lengthRange;
+			_genes = genes;
+			_fixed = fixed;
+			_variable = variable;
+		}
+
+		@Override
+		public Chromosome<?> read(final DataInput in) throws IOException {
+			final ISeq<G> genes = _genes.read(in);
+			if (_prototype == null) {
+				if (_lengthRange.equals(IntRange.of(genes.length()))) {
+					_prototype = _fixed.apply(genes);
+					return _prototype;
+				}
+				_prototype = _variable.get();
+			}
+
+			return _prototype.newInstance(genes);
+		}
+	}
+
+	private IntRange readLengthRange() throws IOException {
+		return IntRange.of(readInt(_in), readInt(_in));
+	}
+
+	private static Object deserialize(final byte[] bytes) throws IOException {
+		try (ObjectInputStream in =
+				new ObjectInputStream(new ByteArrayInputStream(bytes)))
+		{
+			return in.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new InvalidObjectException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Closes the underlying input stream.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (_inflater != null) {
+			_inflater.end();
+		}
+		_stream.close();
+	}
+
+	/**
+	 * Create a new binary reader and reads the stream header.
+	 *
+	 * @param in the input stream to read from
+	 * @return a new binary reader
+	 * @throws NullPointerException if the input stream is {@code null}
+	 * @throws IOException if reading the stream header fails or the stream
+	 *         header is invalid
+	 */
+	public static BinaryReader of(final InputStream in) throws IOException {
+		final byte[] header = new byte[MAGIC.length + 2];
+		new DataInputStream(in).readFully(header);
+
+		if (!Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+			throw new StreamCorruptedException("Invalid binary stream header.");
+		}
+		if (header[MAGIC.length] != VERSION) {
+			throw new StreamCorruptedException(format(
+				"Unsupported binary stream version: %d.", header[MAGIC.length]
+			));
+		}
+
+		return new BinaryReader(
+			in,
+			(header[MAGIC.length + 1] & DEFLATE) != 0
+		);
+	}
+
+}
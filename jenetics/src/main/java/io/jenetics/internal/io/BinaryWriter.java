@@ -0,0 +1,502 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.io;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.io.BinaryIO.BIT_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.BUFFER_SIZE;
+import static io.jenetics.internal.io.BinaryIO.CHARACTER_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.DEFLATE;
+import static io.jenetics.internal.io.BinaryIO.DOUBLE;
+import static io.jenetics.internal.io.BinaryIO.DOUBLE_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.END;
+import static io.jenetics.internal.io.BinaryIO.EVOLUTION_RESULT;
+import static io.jenetics.internal.io.BinaryIO.EVOLUTION_SUMMARY;
+import static io.jenetics.internal.io.BinaryIO.GENOTYPE;
+import static io.jenetics.internal.io.BinaryIO.INTEGER;
+import static io.jenetics.internal.io.BinaryIO.INTEGER_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.LONG;
+import static io.jenetics.internal.io.BinaryIO.LONG_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.MAGIC;
+import static io.jenetics.internal.io.BinaryIO.NULL;
+import static io.jenetics.internal.io.BinaryIO.OBJECT;
+import static io.jenetics.internal.io.BinaryIO.OBJECT_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.PERMUTATION_CHROMOSOME;
+import static io.jenetics.internal.io.BinaryIO.PHENOTYPE;
+import static io.jenetics.internal.io.BinaryIO.SEQ;
+import static io.jenetics.internal.io.BinaryIO.VERSION;
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.internal.util.SerialIO.writeString;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * Streaming writer of the binary format, described in {@link BinaryIO}. The
+ * chromosome templates are shared between all values written with the same
+ * writer.
+ *
+ * <pre>{@code
+ * try (BinaryWriter writer = BinaryIO.of(false).writer(out)) {
+ *     for (Phenotype<DoubleGene, Double> pt : population) {
+ *         writer.write(pt);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see BinaryReader
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BinaryWriter implements Closeable {
+
+	private final OutputStream _stream;
+	private final Deflater _deflater;
+	private final DeflaterOutputStream _deflated;
+	private final DataOutputStream _out;
+
+	// Chromosome templates, which have already been defined.
+	private final Map<List<?>, Integer> _templates = new HashMap<>();
+	private final Map<ISeq<?>, Integer> _alleles = new IdentityHashMap<>();
+
+	private boolean _finished = false;
+
+	private BinaryWriter(final OutputStream stream, final boolean compress) {
+		_stream = requireNonNull(stream);
+		_deflater = compress ? new Deflater() : null;
+		_deflated = compress
+			? new DeflaterOutputStream(stream, _deflater, BUFFER_SIZE)
+			: null;
+
+		// In-memory streams don't need an additional buffer.
+		_out = new DataOutputStream(
+			compress
+				? new BufferedOutputStream(_deflated, BUFFER_SIZE)
+				: stream instanceof ByteArrayOutputStream
+					? stream
+					: new BufferedOutputStream(stream, BUFFER_SIZE)
+		);
+	}
+
+	/**
+	 * Writes the given {@code value} to the underlying stream. Genotypes,
+	 * phenotypes, evolution results, evolution summaries and sequences of it
+	 * are written in the compact binary format. Other objects are written
+	 * with the <em>Java</em> serialization.
+	 *
+	 * @param value the value to write
+	 * @throws NullPointerException if the given {@code value} is {@code null}
+	 * @throws IllegalStateException if the writer has already been finished
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(final Object value) throws IOException {
+		requireNonNull(value);
+		if (_finished) {
+			throw new IllegalStateException("Writer has been finished.");
+		}
+
+		if (value instanceof Genotype) {
+			_out.writeByte(GENOTYPE);
+			writeGenotype((Genotype<?>)value);
+		} else if (value instanceof Phenotype) {
+			_out.writeByte(PHENOTYPE);
+			writePhenotype((Phenotype<?, ?>)value);
+		} else if (value instanceof EvolutionResult) {
+			_out.writeByte(EVOLUTION_RESULT);
+			writeResult((EvolutionResult<?, ?>)value);
+		} else if (value instanceof EvolutionSummary) {
+			_out.writeByte(EVOLUTION_SUMMARY);
+			writeSummary((EvolutionSummary<?, ?>)value);
+		} else if (value instanceof BaseSeq) {
+			final BaseSeq<?> seq = (BaseSeq<?>)value;
+			_out.writeByte(SEQ);
+			writeInt(seq.length(), _out);
+			for (int i = 0, n = seq.length(); i < n; ++i) {
+				write(seq.get(i));
+			}
+		} else {
+			_out.writeByte(OBJECT);
+			writeBytes(serialize(value), _out);
+		}
+	}
+
+	private void writeResult(final EvolutionResult<?, ?> result)
+		throws IOException
+	{
+		_out.writeByte(result.optimize().ordinal());
+		writeLong(result.generation(), _out);
+		writeLong(result.totalGenerations(), _out);
+
+		writeDurations(result.durations());
+
+		writeInt(result.killCount(), _out);
+		writeInt(result.invalidCount(), _out);
+		writeInt(result.alterCount(), _out);
+
+		writeInt(result.population().size(), _out);
+		for (Phenotype<?, ?> pt : result.population()) {
+			writePhenotype(pt);
+		}
+	}
+
+	private void writeSummary(final EvolutionSummary<?, ?> summary)
+		throws IOException
+	{
+		_out.writeByte(summary.optimize().ordinal());
+		writeLong(summary.generation(), _out);
+		writeLong(summary.totalGenerations(), _out);
+		writeDurations(summary.durations());
+
+		writeInt(summary.killCount(), _out);
+		writeInt(summary.invalidCount(), _out);
+		writeInt(summary.alterCount(), _out);
+
+		writePhenotype(summary.bestPhenotype());
+		writePhenotype(summary.worstPhenotype());
+
+		final LongMoments age = summary.phenotypeAge();
+		writeLong(age.count(), _out);
+		writeLong(age.min(), _out);
+		writeLong(age.max(), _out);
+		writeLong(age.sum(), _out);
+		writeMoments(
+			age.mean(),
+			age.variance(),
+			age.skewness(),
+			age.kurtosis()
+		);
+
+		final DoubleMoments fitness = summary.fitness().orElse(null);
+		if (fitness == null) {
+			_out.writeByte(NULL);
+		} else {
+			_out.writeByte(DOUBLE);
+			writeLong(fitness.count(), _out);
+			_out.writeDouble(fitness.min());
+			_out.writeDouble(fitness.max());
+			_out.writeDouble(fitness.sum());
+			writeMoments(
+				fitness.mean(),
+				fitness.variance(),
+				fitness.skewness(),
+				fitness.kurtosis()
+			);
+		}
+	}
+
+	private void writeMoments(
+		final double mean,
+		final double variance,
+		final double skewness,
+		final double kurtosis
+	)
+		throws IOException
+	{
+		_out.writeDouble(mean);
+		_out.writeDouble(variance);
+		_out.writeDouble(skewness);
+		_out.writeDouble(kurtosis);
+	}
+
+	private void writeDurations(final EvolutionDurations durations)
+		throws IOException
+	{
+		writeLong(durations.offspringSelectionDuration().toNanos(), _out);
+		writeLong(durations.survivorsSelectionDuration().toNanos(), _out);
+		writeLong(durations.offspringAlterDuration().toNanos(), _out);
+		writeLong(durations.offspringFilterDuration().toNanos(), _out);
+		writeLong(durations.survivorFilterDuration().toNanos(), _out);
+		writeLong(durations.evaluationDuration().toNanos(), _out);
+		writeLong(durations.evolveDuration().toNanos(), _out);
+	}
+
+	private void writePhenotype(final Phenotype<?, ?> phenotype)
+		throws IOException
+	{
+		writeGenotype(phenotype.genotype());
+		writeLong(phenotype.generation(), _out);
+
+		final Object fitness = phenotype.fitnessOptional().orElse(null);
+		if (fitness == null) {
+			_out.writeByte(NULL);
+		} else if (fitness instanceof Double) {
+			_out.writeByte(DOUBLE);
+			_out.writeDouble((Double)fitness);
+		} else if (fitness instanceof Integer) {
+			_out.writeByte(INTEGER);
+			writeInt((Integer)fitness, _out);
+		} else if (fitness instanceof Long) {
+			_out.writeByte(LONG);
+			writeLong((Long)fitness, _out);
+		} else {
+			_out.writeByte(OBJECT);
+			writeBytes(serialize(fitness), _out);
+		}
+	}
+
+	private void writeGenotype(final Genotype<?> genotype) throws IOException {
+		writeInt(genotype.length(), _out);
+		for (int i = 0, n = genotype.length(); i < n; ++i) {
+			writeChromosome(genotype.get(i));
+		}
+	}
+
+	private void writeChromosome(final Chromosome<?> chromosome)
+		throws IOException
+	{
+		final Class<?> type = chromosome.getClass();
+		if (type == BitChromosome.class) {
+			final BitChromosome ch = (BitChromosome)chromosome;
+			if (template(List.of(BIT_CHROMOSOME, ch.oneProbability()))) {
+				_out.writeByte(BIT_CHROMOSOME);
+				_out.writeDouble(ch.oneProbability());
+			}
+
+			writeInt(ch.length(), _out);
+			_out.write(Arrays.copyOf(
+				ch.toBitSet().toByteArray(),
+				(ch.length() + 7) >>> 3
+			));
+		} else if (type == DoubleChromosome.class) {
+			final DoubleChromosome ch = (DoubleChromosome)chromosome;
+			final IntRange range = ch.lengthRange();
+			if (template(List.of(
+					DOUBLE_CHROMOSOME,
+					ch.min(), ch.max(),
+					range.min(), range.max())))
+			{
+				_out.writeByte(DOUBLE_CHROMOSOME);
+				_out.writeDouble(ch.min());
+				_out.writeDouble(ch.max());
+				writeLengthRange(range);
+			}
+
+			final double[] values = ch.toArray();
+			final ByteBuffer bytes = ByteBuffer.allocate(values.length*8);
+			bytes.asDoubleBuffer().put(values);
+			writeInt(values.length, _out);
+			_out.write(bytes.array());
+		} else if (type == IntegerChromosome.class) {
+			final IntegerChromosome ch = (IntegerChromosome)chromosome;
+			final IntRange range = ch.lengthRange();
+			if (template(List.of(
+					INTEGER_CHROMOSOME,
+					ch.min(), ch.max(),
+					range.min(), range.max())))
+			{
+				_out.writeByte(INTEGER_CHROMOSOME);
+				writeInt(ch.min(), _out);
+				writeInt(ch.max(), _out);
+				writeLengthRange(range);
+			}
+
+			final int[] values = ch.toArray();
+			writeInt(values.length, _out);
+			for (int value : values) {
+				writeInt(value, _out);
+			}
+		} else if (type == LongChromosome.class) {
+			final LongChromosome ch = (LongChromosome)chromosome;
+			final IntRange range = ch.lengthRange();
+			if (template(List.of(
+					LONG_CHROMOSOME,
+					ch.min(), ch.max(),
+					range.min(), range.max())))
+			{
+				_out.writeByte(LONG_CHROMOSOME);
+				writeLong(ch.min(), _out);
+				writeLong(ch.max(), _out);
+				writeLengthRange(range);
+			}
+
+			final long[] values = ch.toArray();
+			writeInt(values.length, _out);
+			for (long value : values) {
+				writeLong(value, _out);
+			}
+		} else if (type == CharacterChromosome.class) {
+			final CharacterChromosome ch = (CharacterChromosome)chromosome;
+			final IntRange range = ch.lengthRange();
+			final String chars = ch.gene().validChars().toString();
+			if (template(List.of(
+				CHARACTER_CHROMOSOME, chars, range.min(), range.max())))
+			{
+				_out.writeByte(CHARACTER_CHROMOSOME);
+				writeString(chars, _out);
+				writeLengthRange(range);
+			}
+
+			final char[] values = ch.toArray();
+			writeInt(values.length, _out);
+			for (char value : values) {
+				writeInt(value, _out);
+			}
+		} else if (type == PermutationChromosome.class) {
+			final PermutationChromosome<?> ch =
+				(PermutationChromosome<?>)chromosome;
+			if (alleles(ch.validAlleles())) {
+				_out.writeByte(PERMUTATION_CHROMOSOME);
+				writeBytes(serialize(ch.validAlleles()), _out);
+			}
+
+			writeInt(ch.length(), _out);
+			for (EnumGene<?> gene : ch) {
+				writeInt(gene.alleleIndex(), _out);
+			}
+		} else {
+			if (template(List.of(OBJECT_CHROMOSOME))) {
+				_out.writeByte(OBJECT_CHROMOSOME);
+			}
+			writeBytes(serialize(chromosome), _out);
+		}
+	}
+
+	// Writes the index of the given template and returns true, if the
+	// template definition must follow.
+	private boolean template(final List<?> key) throws IOException {
+		final Integer index = _templates.get(key);
+		if (index != null) {
+			writeInt(index, _out);
+			return false;
+		} else {
+			final int next = _templates.size() + _alleles.size();
+			_templates.put(key, next);
+			writeInt(next, _out);
+			return true;
+		}
+	}
+
+	private boolean alleles(final ISeq<?> alleles) throws IOException {
+		final Integer index = _alleles.get(alleles);
+		if (index != null) {
+			writeInt(index, _out);
+			return false;
+		} else {
+			final int next = _templates.size() + _alleles.size();
+			_alleles.put(alleles, next);
+			writeInt(next, _out);
+			return true;
+		}
+	}
+
+	private void writeLengthRange(final IntRange range) throws IOException {
+		writeInt(range.min(), _out);
+		writeInt(range.max(), _out);
+	}
+
+	private static byte[] serialize(final Object value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the end marker and flushes the written content, without closing
+	 * the underlying output stream. No further values can be written after
+	 * this method has been called.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void finish() throws IOException {
+		if (!_finished) {
+			_finished = true;
+			_out.writeByte(END);
+			_out.flush();
+			if (_deflated != null) {
+				_deflated.finish();
+				_deflater.end();
+			}
+			_stream.flush();
+		}
+	}
+
+	/**
+	 * Finishes the writer and closes the underlying output stream.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			_stream.close();
+		}
+	}
+
+	/**
+	 * Create a new binary writer and writes the stream header.
+	 *
+	 * @param out the output stream to write to
+	 * @param compress {@code true} if the content should be compressed
+	 * @return a new binary writer
+	 * @throws NullPointerException if the output stream is {@code null}
+	 * @throws IOException if writing the stream header fails
+	 */
+	public static BinaryWriter
+	of(final OutputStream out, final boolean compress) throws IOException {
+		out.write(MAGIC);
+		out.write(VERSION);
+		out.write(compress ? DEFLATE : 0);
+		return new BinaryWriter(out, compress);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.io;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream, which reads the remaining bytes of a {@link ByteBuffer}. The
+ * stream is <em>not</em> buffered, since it already reads from memory.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer _buffer;
+
+	ByteBufferInputStream(final ByteBuffer buffer) {
+		_buffer = requireNonNull(buffer);
+	}
+
+	@Override
+	public int read() {
+		return _buffer.hasRemaining() ? _buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(final byte[] bytes, final int offset, final int length) {
+		if (length == 0) {
+			return 0;
+		}
+		if (!_buffer.hasRemaining()) {
+			return -1;
+		}
+
+		final int n = Math.min(length, _buffer.remaining());
+		_buffer.get(bytes, offset, n);
+		return n;
+	}
+
+	@Override
+	public long skip(final long n) {
+		final int skip = (int)Math.max(Math.min(n, _buffer.remaining()), 0);
+		_buffer.position(_buffer.position() + skip);
+		return skip;
+	}
+
+	@Override
+	public int available() {
+		return _buffer.remaining();
+	}
+
+}
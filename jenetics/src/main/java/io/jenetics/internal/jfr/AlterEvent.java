@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of one call of an {@code Alterer}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+@Name("io.jenetics.Alter")
+@Label("Alter")
+@Category("Jenetics")
+@Description("Alteration of a population by one alterer")
+@StackTrace(false)
+final class AlterEvent extends Event {
+
+	private static final EventType TYPE =
+		EventType.getEventType(AlterEvent.class);
+
+	@Label("Alterer")
+	public String alterer;
+
+	@Label("Probability")
+	public double probability;
+
+	@Label("Generation")
+	public long generation;
+
+	@Label("Population Size")
+	public int populationSize;
+
+	@Label("Alterations")
+	@Description("Number of altered individuals")
+	public int alterations;
+
+	/**
+	 * Return a new, started, event if the event type is enabled.
+	 *
+	 * @return a new started event, or {@code null} if not enabled
+	 */
+	static AlterEvent start() {
+		if (TYPE.isEnabled()) {
+			final AlterEvent event = new AlterEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	/**
+	 * Commits the given event, if enabled.
+	 *
+	 * @param event the event to commit
+	 * @param alterer the alterer
+	 * @param probability the alter probability
+	 * @param generation the current generation
+	 * @param populationSize the size of the altered population
+	 * @param alterations the number of altered individuals
+	 */
+	static void commit(
+		final AlterEvent event,
+		final Object alterer,
+		final double probability,
+		final long generation,
+		final int populationSize,
+		final int alterations
+	) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.alterer = alterer.getClass().getSimpleName();
+			event.probability = probability;
+			event.generation = generation;
+			event.populationSize = populationSize;
+			event.alterations = alterations;
+			event.commit();
+		}
+	}
+
+}
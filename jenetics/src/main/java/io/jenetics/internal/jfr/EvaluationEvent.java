@@ -0,0 +1,88 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of the fitness evaluation of a population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+@Name("io.jenetics.Evaluation")
+@Label("Evaluation")
+@Category("Jenetics")
+@Description("Fitness evaluation of a population")
+@StackTrace(false)
+final class EvaluationEvent extends Event {
+
+	private static final EventType TYPE =
+		EventType.getEventType(EvaluationEvent.class);
+
+	@Label("Evaluator")
+	public String evaluator;
+
+	@Label("Individuals")
+	@Description("Number of evaluated individuals")
+	public int individuals;
+
+	/**
+	 * Return a new, started, event if the event type is enabled.
+	 *
+	 * @return a new started event, or {@code null} if not enabled
+	 */
+	static EvaluationEvent start() {
+		if (TYPE.isEnabled()) {
+			final EvaluationEvent event = new EvaluationEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	/**
+	 * Commits the given event, if enabled.
+	 *
+	 * @param event the event to commit
+	 * @param evaluator the evaluator type
+	 * @param individuals the number of evaluated individuals
+	 */
+	static void commit(
+		final EvaluationEvent event,
+		final Class<?> evaluator,
+		final int individuals
+	) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.evaluator = evaluator.getSimpleName();
+			event.individuals = individuals;
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import java.util.function.Supplier;
+
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.SpanSink;
+import io.jenetics.internal.util.Spans;
+
+/**
+ * Facade of the JFR events of this package. The event classes are only used
+ * if the {@code jdk.jfr} module is part of the current runtime, and the event
+ * objects are only created if the event type is enabled by a running
+ * recording. Otherwise, all methods of this class are no-ops. The event
+ * handles, returned by the {@code begin*} methods, are {@code null} if the
+ * event is not recorded.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public final class Events {
+
+	public static final String OFFSPRING_SELECTION = "offspring-selection";
+	public static final String SURVIVORS_SELECTION = "survivors-selection";
+	public static final String OFFSPRING_ALTER = "offspring-alter";
+	public static final String OFFSPRING_FILTER = "offspring-filter";
+	public static final String SURVIVOR_FILTER = "survivor-filter";
+	public static final String EVALUATION = "evaluation";
+
+	// Indicates whether the 'jdk.jfr' module is available.
+	private static final boolean AVAILABLE = isAvailable();
+
+	private Events() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Starts the recording of one evolution step.
+	 *
+	 * @return the event handle, or {@code null} if not recorded
+	 */
+	public static Object beginEvolve() {
+		return AVAILABLE ? EvolveEvent.start() : null;
+	}
+
+	/**
+	 * Commits the evolution step event.
+	 *
+	 * @param event the event handle, may be {@code null}
+	 * @param result the evolution result of the evolution step
+	 */
+	public static void commitEvolve(
+		final Object event,
+		final EvolutionResult<?, ?> result
+	) {
+		if (event != null) {
+			EvolveEvent.commit((EvolveEvent)event, result);
+		}
+	}
+
+	/**
+	 * Executes the given {@code task} and records it as evolution phase. The
+	 * phase is also reported as {@link Spans span}, if tracing is enabled.
+	 *
+	 * @param sink the span sink of the engine, may be {@code null}
+	 * @param phase the name of the evolution phase
+	 * @param generation the current generation
+	 * @param populationSize the number of processed individuals
+	 * @param parent the span id of the evolution step
+	 * @param task the phase task
+	 * @param <T> the result type
+	 * @return the result of the executed task
+	 */
+	public static <T> T phase(
+		final SpanSink sink,
+		final String phase,
+		final long generation,
+		final int populationSize,
+		final long parent,
+		final Supplier<? extends T> task
+	) {
+		final Object event = AVAILABLE ? PhaseEvent.start() : null;
+		try {
+			return Spans.span(sink, phase, parent, generation, task);
+		} finally {
+			if (event != null) {
+				PhaseEvent.commit(
+					(PhaseEvent)event,
+					phase,
+					generation,
+					populationSize
+				);
+			}
+		}
+	}
+
+	/**
+	 * Starts the recording of a population evaluation.
+	 *
+	 * @return the event handle, or {@code null} if not recorded
+	 */
+	public static Object beginEvaluation() {
+		return AVAILABLE ? EvaluationEvent.start() : null;
+	}
+
+	/**
+	 * Commits the evaluation event.
+	 *
+	 * @param event the event handle, may be {@code null}
+	 * @param evaluator the evaluator type
+	 * @param individuals the number of evaluated individuals
+	 */
+	public static void commitEvaluation(
+		final Object event,
+		final Class<?> evaluator,
+		final int individuals
+	) {
+		if (event != null) {
+			EvaluationEvent.commit(
+				(EvaluationEvent)event,
+				evaluator,
+				individuals
+			);
+		}
+	}
+
+	/**
+	 * Starts the recording of one alterer call.
+	 *
+	 * @return the event handle, or {@code null} if not recorded
+	 */
+	public static Object beginAlter() {
+		return AVAILABLE ? AlterEvent.start() : null;
+	}
+
+	/**
+	 * Commits the alter event.
+	 *
+	 * @param event the event handle, may be {@code null}
+	 * @param alterer the alterer
+	 * @param probability the alter probability
+	 * @param generation the current generation
+	 * @param populationSize the size of the altered population
+	 * @param alterations the number of altered individuals
+	 */
+	public static void commitAlter(
+		final Object event,
+		final Object alterer,
+		final double probability,
+		final long generation,
+		final int populationSize,
+		final int alterations
+	) {
+		if (event != null) {
+			AlterEvent.commit(
+				(AlterEvent)event,
+				alterer,
+				probability,
+				generation,
+				populationSize,
+				alterations
+			);
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * JFR event of one evolution step of the {@code Engine}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+@Name("io.jenetics.Evolve")
+@Label("Evolve")
+@Category("Jenetics")
+@Description("One evolution step of the evolution engine")
+@StackTrace(false)
+final class EvolveEvent extends Event {
+
+	private static final EventType TYPE =
+		EventType.getEventType(EvolveEvent.class);
+
+	@Label("Generation")
+	public long generation;
+
+	@Label("Population Size")
+	public int populationSize;
+
+	@Label("Alter Count")
+	@Description("Number of altered individuals")
+	public int alterCount;
+
+	@Label("Kill Count")
+	@Description("Number of individuals replaced because of their age")
+	public int killCount;
+
+	@Label("Invalid Count")
+	@Description("Number of invalid, and repaired, individuals")
+	public int invalidCount;
+
+	@Label("Offspring Selection")
+	@Timespan
+	public long offspringSelection;
+
+	@Label("Survivors Selection")
+	@Timespan
+	public long survivorsSelection;
+
+	@Label("Offspring Alter")
+	@Timespan
+	public long offspringAlter;
+
+	@Label("Offspring Filter")
+	@Timespan
+	public long offspringFilter;
+
+	@Label("Survivor Filter")
+	@Timespan
+	public long survivorFilter;
+
+	@Label("Evaluation")
+	@Timespan
+	public long evaluation;
+
+	/**
+	 * Return a new, started, event if the event type is enabled.
+	 *
+	 * @return a new started event, or {@code null} if not enabled
+	 */
+	static EvolveEvent start() {
+		if (TYPE.isEnabled()) {
+			final EvolveEvent event = new EvolveEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	/**
+	 * Commits the given event, if enabled.
+	 *
+	 * @param event the event to commit
+	 * @param result the evolution result of the evolution step
+	 */
+	static void commit(
+		final EvolveEvent event,
+		final EvolutionResult<?, ?> result
+	) {
+		event.end();
+		if (event.shouldCommit()) {
+			final EvolutionDurations durations = result.durations();
+			event.generation = result.generation();
+			event.populationSize = result.population().size();
+			event.alterCount = result.alterCount();
+			event.killCount = result.killCount();
+			event.invalidCount = result.invalidCount();
+			event.offspringSelection =
+				durations.offspringSelectionDuration().toNanos();
+			event.survivorsSelection =
+				durations.survivorsSelectionDuration().toNanos();
+			event.offspringAlter = durations.offspringAlterDuration().toNanos();
+			event.offspringFilter =
+				durations.offspringFilterDuration().toNanos();
+			event.survivorFilter = durations.survivorFilterDuration().toNanos();
+			event.evaluation = durations.evaluationDuration().toNanos();
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of one phase of an evolution step, recorded on the thread which
+ * executes the phase.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+@Name("io.jenetics.EvolvePhase")
+@Label("Evolve Phase")
+@Category("Jenetics")
+@Description("One phase of an evolution step")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+
+	private static final EventType TYPE =
+		EventType.getEventType(PhaseEvent.class);
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Generation")
+	public long generation;
+
+	@Label("Population Size")
+	@Description("Number of individuals processed by the phase")
+	public int populationSize;
+
+	/**
+	 * Return a new, started, event if the event type is enabled.
+	 *
+	 * @return a new started event, or {@code null} if not enabled
+	 */
+	static PhaseEvent start() {
+		if (TYPE.isEnabled()) {
+			final PhaseEvent event = new PhaseEvent();
+			event.begin();
+			return event;
+		}
+		return null;
+	}
+
+	/**
+	 * Commits the given event, if enabled.
+	 *
+	 * @param event the event to commit
+	 * @param phase the name of the evolution phase
+	 * @param generation the current generation
+	 * @param populationSize the number of processed individuals
+	 */
+	static void commit(
+		final PhaseEvent event,
+		final String phase,
+		final long generation,
+		final int populationSize
+	) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.phase = phase;
+			event.generation = generation;
+			event.populationSize = populationSize;
+			event.commit();
+		}
+	}
+
+}
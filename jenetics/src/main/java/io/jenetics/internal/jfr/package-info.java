@@ -0,0 +1,73 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+
+/**
+ * JDK Flight Recorder (JFR) events, emitted by the evolution {@code Engine}.
+ * The events are only used via the {@link io.jenetics.internal.jfr.Events}
+ * facade, which checks once whether the {@code jdk.jfr} module is available.
+ * On runtimes without this module, the event classes are never loaded. The
+ * events are only created and committed while a recording, with the event
+ * enabled, is running. All events are in the {@code Jenetics} category.
+ *
+ * The recorded events can be printed with
+ * {@code jfr print --events 'io.jenetics.*' recording.jfr} or inspected with
+ * the <em>Event Browser</em> of JDK Mission Control. Every event has the
+ * standard {@code startTime}, {@code duration} and {@code eventThread}
+ * fields. The event schema:
+ *
+ * <table class="striped">
+ *     <caption>Jenetics JFR events</caption>
+ *     <thead>
+ *         <tr><th>Event</th><th>Field</th><th>Description</th></tr>
+ *     </thead>
+ *     <tbody>
+ *         <tr><td>{@code io.jenetics.Evolve}</td>
+ *             <td>{@code generation}, {@code populationSize},
+ *             {@code alterCount}, {@code killCount}, {@code invalidCount},
+ *             {@code offspringSelection}, {@code survivorsSelection},
+ *             {@code offspringAlter}, {@code offspringFilter},
+ *             {@code survivorFilter}, {@code evaluation}</td>
+ *             <td>One evolution step. The phase durations are timespans in
+ *             nanoseconds.</td></tr>
+ *         <tr><td>{@code io.jenetics.EvolvePhase}</td>
+ *             <td>{@code phase}, {@code generation},
+ *             {@code populationSize}</td>
+ *             <td>One phase of an evolution step, recorded on the thread
+ *             executing the phase. The {@code phase} is one of
+ *             {@code offspring-selection}, {@code survivors-selection},
+ *             {@code offspring-alter}, {@code offspring-filter},
+ *             {@code survivor-filter} and {@code evaluation}.</td></tr>
+ *         <tr><td>{@code io.jenetics.Evaluation}</td>
+ *             <td>{@code evaluator}, {@code individuals}</td>
+ *             <td>Fitness evaluation of a population by one of the
+ *             built-in evaluators.</td></tr>
+ *         <tr><td>{@code io.jenetics.Alter}</td>
+ *             <td>{@code alterer}, {@code probability}, {@code generation},
+ *             {@code populationSize}, {@code alterations}</td>
+ *             <td>One call of a {@code Mutator} or {@code Recombinator}
+ *             based alterer.</td></tr>
+ *     </tbody>
+ * </table>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+package io.jenetics.internal.jfr;
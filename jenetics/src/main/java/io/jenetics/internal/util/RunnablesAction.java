@@ -29,7 +29,7 @@ import io.jenetics.util.BaseSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 6.1
  * @since 2.0
  */
 final class RunnablesAction extends RecursiveAction {
@@ -40,19 +40,22 @@ final class RunnablesAction extends RecursiveAction {
 	private final BaseSeq<? extends Runnable> _runnables;
 	private final int _high;
 	private final int _low;
+	private final Spans.Scope _span;
 
 	private RunnablesAction(
 		final BaseSeq<? extends Runnable> runnables,
 		final int low,
-		final int high
+		final int high,
+		final Spans.Scope span
 	) {
 		_runnables = runnables;
 		_low = low;
 		_high = high;
+		_span = span;
 	}
 
 	RunnablesAction(final BaseSeq<? extends Runnable> runnables) {
-		this(runnables, 0, runnables.length());
+		this(runnables, 0, runnables.length(), Spans.current());
 	}
 
 	@Override
@@ -60,14 +63,16 @@ final class RunnablesAction extends RecursiveAction {
 		if ((_high - _low) <= Env.splitThreshold ||
 			getSurplusQueuedTaskCount() > Env.maxSurplusQueuedTaskCount)
 		{
+			final long start = Spans.start(_span);
 			for (int i = _low; i < _high; ++i) {
 				_runnables.get(i).run();
 			}
+			Spans.end(_span, "batch", start);
 		} else {
 			final int mid = (_low + _high) >>> 1;
 			invokeAll(
-				new RunnablesAction(_runnables, _low, mid),
-				new RunnablesAction(_runnables, mid, _high)
+				new RunnablesAction(_runnables, _low, mid, _span),
+				new RunnablesAction(_runnables, mid, _high, _span)
 			);
 		}
 	}
@@ -23,7 +23,7 @@ import io.jenetics.util.BaseSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.1
  * @since 2.0
  */
 final class RunnablesRunnable implements Runnable {
@@ -31,6 +31,7 @@ final class RunnablesRunnable implements Runnable {
 	private final BaseSeq<? extends Runnable> _runnables;
 	private final int _start;
 	private final int _end;
+	private final Spans.Scope _span;
 
 	RunnablesRunnable(
 		final BaseSeq<? extends Runnable> runnables,
@@ -40,13 +41,16 @@ final class RunnablesRunnable implements Runnable {
 		_runnables = runnables;
 		_start = start;
 		_end = end;
+		_span = Spans.current();
 	}
 
 	@Override
 	public void run() {
+		final long start = Spans.start(_span);
 		for (int i = _start; i < _end; ++i) {
 			_runnables.get(i).run();
 		}
+		Spans.end(_span, "batch", start);
 	}
 
 }
@@ -0,0 +1,192 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.jenetics.engine.SpanSink;
+
+/**
+ * Minimal tracing hook for the evolution engine. The engine reports the
+ * evolution steps and its phases as <em>spans</em> to its {@link SpanSink}.
+ * The sink of the currently executed span is propagated, together with the
+ * span id, to the executed task batches. If the engine has no sink, which
+ * is the default, reporting a span costs one {@code null} check.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+public final class Spans {
+	private Spans() {}
+
+	/**
+	 * The currently executed span, together with its sink.
+	 */
+	public static final class Scope {
+		private final SpanSink _sink;
+		private final long _id;
+
+		private Scope(final SpanSink sink, final long id) {
+			_sink = sink;
+			_id = id;
+		}
+	}
+
+	private static final AtomicLong IDS = new AtomicLong();
+	private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Return a new, unique span id.
+	 *
+	 * @param sink the span sink, may be {@code null}
+	 * @return a new span id, or zero if the {@code sink} is {@code null}
+	 */
+	public static long nextId(final SpanSink sink) {
+		return sink != null ? IDS.incrementAndGet() : 0;
+	}
+
+	/**
+	 * Return the start time of a new span.
+	 *
+	 * @param sink the span sink, may be {@code null}
+	 * @return the start time in nanoseconds, or zero if the {@code sink} is
+	 *         {@code null}
+	 */
+	public static long start(final SpanSink sink) {
+		return sink != null ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Reports the span, which started at the given {@code start} time and
+	 * ends now.
+	 *
+	 * @param sink the span sink, may be {@code null}
+	 * @param name the span name
+	 * @param id the span id
+	 * @param parent the parent span id
+	 * @param generation the generation of the span
+	 * @param start the start time, as returned by {@link #start(SpanSink)}
+	 */
+	public static void end(
+		final SpanSink sink,
+		final String name,
+		final long id,
+		final long parent,
+		final long generation,
+		final long start
+	) {
+		if (sink != null && start != 0) {
+			sink.span(
+				name,
+				id != 0 ? id : IDS.incrementAndGet(),
+				parent,
+				generation,
+				start,
+				System.nanoTime(),
+				Thread.currentThread()
+			);
+		}
+	}
+
+	/**
+	 * Return the span, which is currently executed by the calling thread.
+	 *
+	 * @return the current span, or {@code null} if there is no current span
+	 */
+	public static Scope current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Return the start time of a new child span of the given {@code scope}.
+	 *
+	 * @param scope the parent span, may be {@code null}
+	 * @return the start time in nanoseconds, or zero if the {@code scope} is
+	 *         {@code null}
+	 */
+	public static long start(final Scope scope) {
+		return scope != null ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Reports the child span of the given {@code scope}, which started at
+	 * the given {@code start} time and ends now.
+	 *
+	 * @param scope the parent span, may be {@code null}
+	 * @param name the span name
+	 * @param start the start time, as returned by {@link #start(Scope)}
+	 */
+	public static void end(
+		final Scope scope,
+		final String name,
+		final long start
+	) {
+		if (scope != null) {
+			end(scope._sink, name, 0, scope._id, 0, start);
+		}
+	}
+
+	/**
+	 * Executes the given {@code task} as span. While the task is executed,
+	 * the span is the {@link #current()} span of the calling thread.
+	 *
+	 * @param sink the span sink, may be {@code null}
+	 * @param name the span name
+	 * @param parent the parent span id
+	 * @param generation the generation of the span
+	 * @param task the task to execute
+	 * @param <T> the result type
+	 * @return the result of the executed task
+	 */
+	public static <T> T span(
+		final SpanSink sink,
+		final String name,
+		final long parent,
+		final long generation,
+		final Supplier<? extends T> task
+	) {
+		if (sink == null) {
+			return task.get();
+		}
+
+		final long id = IDS.incrementAndGet();
+		final Scope previous = CURRENT.get();
+		CURRENT.set(new Scope(sink, id));
+
+		final long start = System.nanoTime();
+		try {
+			return task.get();
+		} finally {
+			CURRENT.set(previous);
+			sink.span(
+				name,
+				id,
+				parent,
+				generation,
+				start,
+				System.nanoTime(),
+				Thread.currentThread()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,518 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable, fixed-memory histogram of latencies, which allows to query
+ * arbitrary percentiles, like the p50, p99 or p999 latencies, of very long
+ * running measurements. The recorded values are sorted into log-linear
+ * buckets, similar to the <em>HdrHistogram</em>. Each bucket covers a value
+ * range, whose width is proportional to the values it contains. The
+ * relative error of the returned percentiles is therefore bounded by the
+ * number of <em>significant digits</em> given at construction time,
+ * independent of the recorded values.
+ * <p>
+ * The histogram is designed to work with (though does not require) streams.
+ * <pre>{@code
+ * final Stream<EvolutionResult<DoubleGene, Double>> results = ...
+ * final LatencyHistogram histogram = results
+ *     .collect(toLatencyHistogram(r -> r.durations().evolveDuration()));
+ *
+ * System.out.println(histogram.percentile(99.9));
+ * System.out.println(histogram.toPercentileTable());
+ * }</pre>
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use
+ * {@link #toLatencyHistogram(Function)} on a parallel stream, because the
+ * parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution. The memory consumption only depends
+ * on the highest trackable value and the number of significant digits, and
+ * not on the number of recorded values.
+ *
+ * @see <a href="http://hdrhistogram.org/">HdrHistogram</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class LatencyHistogram
+	implements Consumer<Duration>, LongConsumer
+{
+
+	/**
+	 * The highest trackable latency of histograms created with the default
+	 * constructor.
+	 */
+	public static final Duration DEFAULT_HIGHEST_TRACKABLE_VALUE =
+		Duration.ofHours(1);
+
+	/**
+	 * The number of significant digits of histograms created with the
+	 * default constructor.
+	 */
+	public static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+
+	private static final double[] DEFAULT_PERCENTILES = {
+		0, 50, 90, 99, 99.9, 99.99, 100
+	};
+
+	private final long _highestTrackableValue;
+	private final int _significantDigits;
+
+	// Derived bucket parameters.
+	private final int _subBucketHalfCountMagnitude;
+	private final int _subBucketHalfCount;
+	private final long _subBucketMask;
+	private final int _leadingZeroCountBase;
+
+	private final long[] _counts;
+	private long _count = 0;
+	private long _overflows = 0;
+	private long _sum = 0;
+	private long _min = Long.MAX_VALUE;
+	private long _max = Long.MIN_VALUE;
+
+	/**
+	 * Create a new latency histogram, which can track latencies up to the
+	 * given {@code highestTrackableValue} with the given number of
+	 * significant digits. Greater latencies are recorded as
+	 * {@code highestTrackableValue}, but the {@link #max()} latency is still
+	 * tracked exactly. Percentiles, which fall into these latencies, are
+	 * reported as {@link #max()}.
+	 *
+	 * @param highestTrackableValue the highest trackable latency
+	 * @param significantDigits the number of significant decimal digits of
+	 *        the recorded latencies
+	 * @throws NullPointerException if the given {@code highestTrackableValue}
+	 *         is {@code null}
+	 * @throws IllegalArgumentException if the {@code highestTrackableValue}
+	 *         is not positive or the {@code significantDigits} are not within
+	 *         the range {@code [1, 5]}
+	 */
+	public LatencyHistogram(
+		final Duration highestTrackableValue,
+		final int significantDigits
+	) {
+		_highestTrackableValue = highestTrackableValue.toNanos();
+		if (_highestTrackableValue < 1) {
+			throw new IllegalArgumentException(format(
+				"Highest trackable value must be positive: %s.",
+				highestTrackableValue
+			));
+		}
+		if (significantDigits < 1 || significantDigits > 5) {
+			throw new IllegalArgumentException(format(
+				"Significant digits must be within [1, 5]: %d.",
+				significantDigits
+			));
+		}
+		_significantDigits = significantDigits;
+
+		final long singleUnitResolution =
+			2*(long)Math.pow(10, significantDigits);
+		final int subBucketCountMagnitude =
+			64 - Long.numberOfLeadingZeros(singleUnitResolution - 1);
+
+		_subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+		_subBucketHalfCount = 1 << _subBucketHalfCountMagnitude;
+		_subBucketMask = (1L << subBucketCountMagnitude) - 1;
+		_leadingZeroCountBase = 64 - subBucketCountMagnitude;
+
+		_counts = new long[
+			(bucketCount(_highestTrackableValue, subBucketCountMagnitude) + 1)*
+				_subBucketHalfCount
+		];
+	}
+
+	/**
+	 * Create a new latency histogram with the
+	 * {@link #DEFAULT_HIGHEST_TRACKABLE_VALUE} and
+	 * {@link #DEFAULT_SIGNIFICANT_DIGITS}.
+	 */
+	public LatencyHistogram() {
+		this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_SIGNIFICANT_DIGITS);
+	}
+
+	private static int bucketCount(final long value, final int magnitude) {
+		long smallestUntrackableValue = 1L << magnitude;
+		int buckets = 1;
+		while (smallestUntrackableValue <= value) {
+			if (smallestUntrackableValue > Long.MAX_VALUE/2) {
+				return buckets + 1;
+			}
+			smallestUntrackableValue <<= 1;
+			++buckets;
+		}
+
+		return buckets;
+	}
+
+	/* *************************************************************************
+	 * Index calculations.
+	 * ************************************************************************/
+
+	private int index(final long value) {
+		final int bucket = _leadingZeroCountBase -
+			Long.numberOfLeadingZeros(value | _subBucketMask);
+		final int subBucket = (int)(value >>> bucket);
+
+		return ((bucket + 1) << _subBucketHalfCountMagnitude) +
+			(subBucket - _subBucketHalfCount);
+	}
+
+	private int bucket(final int index) {
+		return Math.max((index >> _subBucketHalfCountMagnitude) - 1, 0);
+	}
+
+	private long lowestEquivalentValue(final int index) {
+		final int bucket = (index >> _subBucketHalfCountMagnitude) - 1;
+		final int subBucket = bucket < 0
+			? index & (_subBucketHalfCount - 1)
+			: (index & (_subBucketHalfCount - 1)) + _subBucketHalfCount;
+
+		return (long)subBucket << Math.max(bucket, 0);
+	}
+
+	private long highestEquivalentValue(final int index) {
+		return lowestEquivalentValue(index) + (1L << bucket(index)) - 1;
+	}
+
+	/* *************************************************************************
+	 * Recording values.
+	 * ************************************************************************/
+
+	/**
+	 * Records the given latency, in nanoseconds.
+	 *
+	 * @param nanos the latency to record, in nanoseconds
+	 * @throws IllegalArgumentException if the given latency is negative
+	 */
+	@Override
+	public void accept(final long nanos) {
+		if (nanos < 0) {
+			throw new IllegalArgumentException(format(
+				"Latency must not be negative: %d ns.", nanos
+			));
+		}
+
+		if (nanos > _highestTrackableValue) {
+			++_counts[index(_highestTrackableValue)];
+			++_overflows;
+		} else {
+			++_counts[index(nanos)];
+		}
+		++_count;
+		_sum += nanos;
+		_min = Math.min(_min, nanos);
+		_max = Math.max(_max, nanos);
+	}
+
+	/**
+	 * Records the given latency.
+	 *
+	 * @param latency the latency to record
+	 * @throws NullPointerException if the given {@code latency} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given latency is negative
+	 */
+	@Override
+	public void accept(final Duration latency) {
+		accept(latency.toNanos());
+	}
+
+	/**
+	 * Combine the recorded latencies of the {@code other} histogram with
+	 * {@code this} one.
+	 *
+	 * @param other the other histogram to combine
+	 * @return {@code this} histogram
+	 * @throws NullPointerException if the {@code other} histogram is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code other} histogram has a
+	 *         different highest trackable value or number of significant
+	 *         digits
+	 */
+	public LatencyHistogram combine(final LatencyHistogram other) {
+		if (other._highestTrackableValue != _highestTrackableValue ||
+			other._significantDigits != _significantDigits)
+		{
+			throw new IllegalArgumentException(format(
+				"Incompatible histograms: %s ns/%d digits != %s ns/%d digits.",
+				_highestTrackableValue, _significantDigits,
+				other._highestTrackableValue, other._significantDigits
+			));
+		}
+
+		for (int i = 0; i < _counts.length; ++i) {
+			_counts[i] += other._counts[i];
+		}
+		_count += other._count;
+		_overflows += other._overflows;
+		_sum += other._sum;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+
+		return this;
+	}
+
+	/* *************************************************************************
+	 * Querying values.
+	 * ************************************************************************/
+
+	/**
+	 * Return the highest trackable latency of this histogram.
+	 *
+	 * @return the highest trackable latency
+	 */
+	public Duration highestTrackableValue() {
+		return Duration.ofNanos(_highestTrackableValue);
+	}
+
+	/**
+	 * Return the number of significant digits of the recorded latencies.
+	 *
+	 * @return the number of significant digits
+	 */
+	public int significantDigits() {
+		return _significantDigits;
+	}
+
+	/**
+	 * Return the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimal recorded latency, or {@link Duration#ZERO} if no
+	 * latency has been recorded.
+	 *
+	 * @return the minimal recorded latency
+	 */
+	public Duration min() {
+		return _count > 0 ? Duration.ofNanos(_min) : Duration.ZERO;
+	}
+
+	/**
+	 * Return the maximal recorded latency, or {@link Duration#ZERO} if no
+	 * latency has been recorded.
+	 *
+	 * @return the maximal recorded latency
+	 */
+	public Duration max() {
+		return _count > 0 ? Duration.ofNanos(_max) : Duration.ZERO;
+	}
+
+	/**
+	 * Return the exact sum of the recorded latencies.
+	 *
+	 * @return the sum of the recorded latencies
+	 */
+	public Duration sum() {
+		return Duration.ofNanos(_sum);
+	}
+
+	/**
+	 * Return the exact arithmetic mean of the recorded latencies, or
+	 * {@link Duration#ZERO} if no latency has been recorded.
+	 *
+	 * @return the mean of the recorded latencies
+	 */
+	public Duration mean() {
+		return _count > 0
+			? Duration.ofNanos(Math.round((double)_sum/_count))
+			: Duration.ZERO;
+	}
+
+	/**
+	 * Return the latency at the given {@code percentile}. This is the
+	 * greatest latency, which is equivalent to the smallest recorded latency
+	 * greater or equal than the given percentile of all recorded latencies.
+	 * The returned value is never smaller than {@link #min()} and never
+	 * greater than {@link #max()}.
+	 *
+	 * <pre>{@code
+	 * final Duration p99 = histogram.percentile(99);
+	 * final Duration p999 = histogram.percentile(99.9);
+	 * }</pre>
+	 *
+	 * @param percentile the requested percentile, within {@code [0, 100]}
+	 * @return the latency at the given percentile, or {@link Duration#ZERO}
+	 *         if no latency has been recorded
+	 * @throws IllegalArgumentException if the given {@code percentile} is not
+	 *         within the range {@code [0, 100]}
+	 */
+	public Duration percentile(final double percentile) {
+		final int index = percentileIndex(percentile);
+		if (index < 0) {
+			return Duration.ZERO;
+		}
+
+		// The requested rank lies within the values, which are greater than
+		// the highest trackable value. The maximal value is the only known
+		// upper bound of these values.
+		return rank(percentile) > _count - _overflows
+			? Duration.ofNanos(_max)
+			: Duration.ofNanos(clamp(highestEquivalentValue(index)));
+	}
+
+	private long rank(final double percentile) {
+		return Math.max((long)Math.ceil(percentile*_count/100.0), 1);
+	}
+
+	private long clamp(final long value) {
+		return Math.max(Math.min(value, _max), _min);
+	}
+
+	private int percentileIndex(final double percentile) {
+		if (!(percentile >= 0 && percentile <= 100)) {
+			throw new IllegalArgumentException(format(
+				"Percentile must be within [0, 100]: %f.", percentile
+			));
+		}
+		if (_count == 0) {
+			return -1;
+		}
+
+		final long target = rank(percentile);
+		long count = 0;
+		for (int i = 0; i < _counts.length; ++i) {
+			count += _counts[i];
+			if (count >= target) {
+				return i;
+			}
+		}
+
+		return _counts.length - 1;
+	}
+
+	private long countUntil(final int index) {
+		long count = 0;
+		for (int i = 0; i <= index; ++i) {
+			count += _counts[i];
+		}
+		return count;
+	}
+
+	/**
+	 * Return the latencies of the given {@code percentiles} as text table.
+	 * Every row contains the percentile, the latency in seconds and the
+	 * number of recorded latencies smaller or equal than the latency.
+	 *
+	 * <pre>{@code
+	 *   Percentile          Value [s]        Count
+	 *      50.0000        0.000499711          500
+	 *      99.0000        0.000991231          991
+	 *      99.9000        0.000999423          999
+	 * }</pre>
+	 *
+	 * @param percentiles the percentiles of the table rows
+	 * @return the percentile table
+	 * @throws NullPointerException if the given {@code percentiles} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if one of the given
+	 *         {@code percentiles} is not within the range {@code [0, 100]}
+	 */
+	public String toPercentileTable(final double... percentiles) {
+		requireNonNull(percentiles);
+
+		final StringBuilder out = new StringBuilder();
+		out.append(format(
+			"%12s %18s %12s%n",
+			"Percentile", "Value [s]", "Count"
+		));
+		for (double percentile : percentiles) {
+			final int index = percentileIndex(percentile);
+			out.append(format(
+				"%12.4f %18.9f %12d%n",
+				percentile,
+				percentile(percentile).toNanos()/1_000_000_000.0,
+				index >= 0 ? countUntil(index) : 0
+			));
+		}
+
+		return out.toString();
+	}
+
+	/**
+	 * Return the latencies of the percentiles {@code 0}, {@code 50},
+	 * {@code 90}, {@code 99}, {@code 99.9}, {@code 99.99} and {@code 100} as
+	 * text table.
+	 *
+	 * @see #toPercentileTable(double...)
+	 *
+	 * @return the percentile table
+	 */
+	public String toPercentileTable() {
+		return toPercentileTable(DEFAULT_PERCENTILES);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"LatencyHistogram[N=%d, min=%s, p50=%s, p99=%s, p999=%s, max=%s]",
+			count(), min(), percentile(50), percentile(99),
+			percentile(99.9), max()
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a latency-producing mapping
+	 * function to each input element, and returns a latency histogram of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<EvolutionResult<DoubleGene, Double>> stream = ...
+	 * final LatencyHistogram histogram = stream
+	 *     .collect(toLatencyHistogram(r -> r.durations().evolveDuration()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the latency histogram reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, LatencyHistogram>
+	toLatencyHistogram(final Function<? super T, ? extends Duration> mapper) {
+		requireNonNull(mapper);
+		return Collector.of(
+			LatencyHistogram::new,
+			(r, t) -> r.accept(mapper.apply(t)),
+			LatencyHistogram::combine
+		);
+	}
+
+}
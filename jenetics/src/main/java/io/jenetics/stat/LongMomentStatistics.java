@@ -63,7 +63,7 @@ import java.util.stream.Collector;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public class LongMomentStatistics
 	extends MomentStatistics
@@ -121,6 +121,38 @@ public class LongMomentStatistics
 		return this;
 	}
 
+	/**
+	 * Combines the given, already summarized, {@code moments} with
+	 * {@code this} statistics object. The central moments of higher order
+	 * are recovered from the given moment estimators, which may introduce
+	 * small rounding errors. The fourth central moment of a sample with less
+	 * than four values can't be recovered and is therefore lost.
+	 *
+	 * @since 6.1
+	 *
+	 * @param moments the summarized moments to combine with {@code this}
+	 *        statistics object
+	 * @return {@code this} statistics object
+	 * @throws java.lang.NullPointerException if the given {@code moments}
+	 *         are {@code null}
+	 */
+	public LongMomentStatistics combine(final LongMoments moments) {
+		if (moments.count() > 0L) {
+			super.combine(
+				moments.count(),
+				moments.mean(),
+				moments.variance(),
+				moments.skewness(),
+				moments.kurtosis()
+			);
+			_min = Math.min(_min, moments.min());
+			_max = Math.max(_max, moments.max());
+			_sum += moments.sum();
+		}
+
+		return this;
+	}
+
 	/**
 	 * Return the minimum value recorded, or {@code Long.MAX_VALUE} if no
 	 * values have been recorded.
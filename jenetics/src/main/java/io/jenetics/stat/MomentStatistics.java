@@ -33,7 +33,7 @@ import io.jenetics.internal.math.DoubleAdder;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 abstract class MomentStatistics {
 
@@ -105,6 +105,44 @@ abstract class MomentStatistics {
 			.add(4.0*d*(pn*b._m3.value() - b._n*m3)/n);
 	}
 
+	/**
+	 * Combines the moments of an already summarized sample, given by its
+	 * count, mean, variance, skewness and kurtosis. The central moments of
+	 * the sample are recovered from the given (bias corrected) estimators.
+	 * The moments of higher order can't be recovered, if the sample is too
+	 * small or its variance is zero. They are treated as zero in this case.
+	 */
+	void combine(
+		final long count,
+		final double mean,
+		final double variance,
+		final double skewness,
+		final double kurtosis
+	) {
+		if (count <= 0L) {
+			return;
+		}
+
+		final double n = count;
+		final double var = count > 1L ? variance : 0.0;
+		final double m2 = var*(n - 1.0);
+		final double m3 = count >= 3L && var >= 10E-20
+			? skewness*(n - 1.0)*(n - 2.0)*sqrt(var)*var/n
+			: 0.0;
+		final double m4 = count > 3L && var >= 10E-20
+			? (kurtosis*(n - 1.0)*(n - 2.0)*(n - 3.0)*var*var +
+				3.0*m2*m2*(n - 1.0))/(n*(n + 1.0))
+			: 0.0;
+
+		final MomentStatistics other = new MomentStatistics() {};
+		other._n = count;
+		other._m1.add(mean);
+		other._m2.add(m2);
+		other._m3.add(m3);
+		other._m4.add(m4);
+		combine(other);
+	}
+
 	/**
 	 * Returns the count of values recorded.
 	 *
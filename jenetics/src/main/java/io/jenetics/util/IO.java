@@ -31,6 +31,8 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 
+import io.jenetics.internal.io.BinaryIO;
+
 /**
  * Class for object serialization. The following example shows how to write and
  * reload a given population.
@@ -53,7 +55,7 @@ import java.nio.file.Path;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public abstract class IO {
 
@@ -87,6 +89,40 @@ public abstract class IO {
 		}
 	};
 
+	/**
+	 * IO implementation for the compact, versioned binary format of the
+	 * library. Genotypes, phenotypes and evolution results, and sequences of
+	 * it, are stored as packed primitive arrays, with variable length encoded
+	 * integers and with chromosome schemas (gene ranges, valid alleles, ...)
+	 * which are written only once per stream. Other objects are written with
+	 * the <em>Java</em> serialization. The written content is not compressed.
+	 *
+	 * <pre>{@code
+	 * final EvolutionResult<DoubleGene, Double> result = ...;
+	 * IO.binary.write(result, Path.of("result.bin"));
+	 *
+	 * final EvolutionResult<DoubleGene, Double> read =
+	 *     IO.binary.read(EvolutionResult.class, Path.of("result.bin"));
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @see #compressedBinary
+	 */
+	public static final IO binary = BinaryIO.of(false);
+
+	/**
+	 * IO implementation for the compact binary format, which additionally
+	 * compresses the written content with <em>Deflate</em>. The {@link #binary}
+	 * and the {@code compressedBinary} IO are able to read both, the
+	 * compressed and the uncompressed format.
+	 *
+	 * @since 6.1
+	 *
+	 * @see #binary
+	 */
+	public static final IO compressedBinary = BinaryIO.of(true);
+
 	/**
 	 * Serializes the given {@code object} to a {@code byte[]} array.
 	 *
@@ -0,0 +1,172 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BoundedEvaluatorTest {
+
+	private static Phenotype<IntegerGene, Integer> phenotype(final int value) {
+		return Phenotype.of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 1000))),
+			1
+		);
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population() {
+		return IntStream.range(0, 20)
+			.mapToObj(i -> i < 10
+				? phenotype(i).withFitness(i)
+				: phenotype(i))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void worstBound() {
+		final List<FitnessBound<Integer>> bounds = new CopyOnWriteArrayList<>();
+		final Evaluator<IntegerGene, Integer> evaluator = Evaluators.bounded(
+			(gt, bound) -> {
+				bounds.add(bound);
+				return gt.gene().allele();
+			},
+			Optimize.MINIMUM,
+			Runnable::run
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> result =
+			evaluator.eval(population());
+
+		Assert.assertEquals(result.size(), 20);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		result.forEach(pt ->
+			Assert.assertEquals(pt.fitness(), pt.genotype().gene().allele())
+		);
+
+		Assert.assertEquals(bounds.size(), 10);
+		bounds.forEach(b -> {
+			Assert.assertEquals(b.value().orElseThrow().intValue(), 9);
+			Assert.assertTrue(b.isDominated(10));
+			Assert.assertFalse(b.isDominated(9));
+		});
+	}
+
+	@Test
+	public void quantileBound() {
+		final BoundedEvaluator<IntegerGene, Integer> min =
+			new BoundedEvaluator<>(
+				(gt, b) -> 0, Optimize.MINIMUM, 0.5, Runnable::run
+			);
+		final BoundedEvaluator<IntegerGene, Integer> max =
+			new BoundedEvaluator<>(
+				(gt, b) -> 0, Optimize.MAXIMUM, 0.0, Runnable::run
+			);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> evaluated = population()
+			.stream()
+			.filter(Phenotype::isEvaluated)
+			.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			min.bound(evaluated),
+			FitnessBound.of(Optimize.MINIMUM, 5)
+		);
+		Assert.assertEquals(
+			max.bound(evaluated),
+			FitnessBound.of(Optimize.MAXIMUM, 9)
+		);
+		Assert.assertEquals(
+			min.bound(ISeq.empty()),
+			FitnessBound.<Integer>unbounded(Optimize.MINIMUM)
+		);
+	}
+
+	@Test
+	public void unboundedFirstGeneration() {
+		final Evaluator<IntegerGene, Integer> evaluator = Evaluators.bounded(
+			(gt, bound) -> {
+				Assert.assertFalse(bound.value().isPresent());
+				Assert.assertFalse(bound.isDominated(Integer.MAX_VALUE));
+				return gt.gene().allele();
+			},
+			Optimize.MINIMUM,
+			Runnable::run
+		);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			IntStream.range(0, 10)
+				.mapToObj(BoundedEvaluatorTest::phenotype)
+				.collect(ISeq.toISeq());
+
+		Assert.assertTrue(
+			evaluator.eval(population).forAll(Phenotype::isEvaluated)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		Evaluators.<IntegerGene, Integer>bounded(
+			(gt, b) -> 0, Optimize.MINIMUM, 1.1, Runnable::run
+		);
+	}
+
+	@Test
+	public void engine() {
+		final Codec<Integer, IntegerGene> codec =
+			Codecs.ofScalar(IntRange.of(0, 1000));
+
+		// Early abort returns a lower bound of the 'exact' fitness.
+		final BoundedFitness<Integer, Integer> fitness = (value, bound) ->
+			bound.isDominated(value/2) ? value/2 : value;
+
+		final Engine<IntegerGene, Integer> engine = new Engine.Builder<>(
+				Evaluators.bounded(
+					fitness, codec, Optimize.MINIMUM, Runnable::run),
+				codec.encoding())
+			.minimizing()
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+			.limit(Limits.byFitnessThreshold(1))
+			.limit(1000)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(
+			result.bestFitness(),
+			result.bestPhenotype().genotype().gene().allele()
+		);
+	}
+
+}
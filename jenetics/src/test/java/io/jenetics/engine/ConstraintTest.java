@@ -27,6 +27,7 @@ import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -73,4 +74,25 @@ public class ConstraintTest {
 		}
 	}
 
+	@Test
+	public void batchedRepair() {
+		final Constraint<DoubleGene, Double> constraint = RetryConstraint.of(
+			pt -> pt.genotype().gene().doubleValue() < 0.5,
+			100
+		);
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(0.75, 0, 1))),
+				1
+			),
+			50
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> repaired =
+			constraint.repair(population, 1);
+
+		Assert.assertEquals(repaired.size(), population.size());
+		Assert.assertTrue(repaired.forAll(constraint::test));
+	}
+
 }
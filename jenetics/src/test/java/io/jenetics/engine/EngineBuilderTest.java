@@ -19,6 +19,8 @@
  */
 package io.jenetics.engine;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.testng.Assert;
@@ -191,4 +193,80 @@ public class EngineBuilderTest {
 		Assert.assertEquals(engine.offspringSize(), 35);
 	}
 
+	@Test
+	public void evaluationExecutor() {
+		final ExecutorService pool1 = Executors.newFixedThreadPool(2);
+		final ExecutorService pool2 = Executors.newFixedThreadPool(2);
+		final var executor = MeteredExecutor.of(pool1);
+		final var evaluation = MeteredExecutor.of(pool2);
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> gt.gene().allele(),
+					Genotype.of(DoubleChromosome.of(0, 1)))
+				.executor(executor)
+				.evaluationExecutor(evaluation)
+				.build();
+
+			Assert.assertSame(engine.executor(), executor);
+			Assert.assertSame(engine.evaluationExecutor(), evaluation);
+			Assert.assertSame(
+				engine.toBuilder().evaluationExecutor(),
+				evaluation
+			);
+
+			engine.stream()
+				.limit(10)
+				.collect(EvolutionResult.toBestGenotype());
+
+			Assert.assertTrue(executor.completedTasks() > 0);
+			Assert.assertTrue(evaluation.completedTasks() > 0);
+		} finally {
+			pool1.shutdown();
+			pool2.shutdown();
+		}
+	}
+
+	@Test
+	public void defaultEvaluationExecutor() {
+		final var executor = MeteredExecutor.of(Runnable::run);
+
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(
+				gt -> gt.gene().allele(),
+				Genotype.of(DoubleChromosome.of(0, 1)))
+			.executor(executor);
+
+		Assert.assertSame(builder.evaluationExecutor(), executor);
+		Assert.assertSame(builder.copy().evaluationExecutor(), executor);
+		Assert.assertSame(builder.build().evaluationExecutor(), executor);
+	}
+
+	@Test
+	public void toBuilderExecutor() {
+		final var executor1 = MeteredExecutor.of(Runnable::run);
+		final var executor2 = MeteredExecutor.of(Runnable::run);
+
+		final Engine<DoubleGene, Double> engine1 = Engine
+			.builder(
+				gt -> gt.gene().allele(),
+				Genotype.of(DoubleChromosome.of(0, 1)))
+			.executor(executor1)
+			.build();
+		final Engine<DoubleGene, Double> engine2 = engine1.toBuilder()
+			.executor(executor2)
+			.build();
+
+		Assert.assertSame(engine2.evaluationExecutor(), executor2);
+
+		final long completed = executor1.completedTasks();
+		engine2.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestGenotype());
+
+		Assert.assertEquals(executor1.completedTasks(), completed);
+		Assert.assertTrue(executor2.completedTasks() > 0);
+	}
+
 }
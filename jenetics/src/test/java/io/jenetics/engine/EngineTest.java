@@ -32,6 +32,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -53,6 +54,7 @@ import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -62,6 +64,7 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -263,6 +266,142 @@ public class EngineTest {
 		Assert.assertEquals(result.invalidCount(), populationSize);
 	}
 
+	@Test(dataProvider = "filterExecutors")
+	public void batchedConstraintRepair(final Executor executor) {
+		try {
+			final int populationSize = 1000;
+			final AtomicInteger repairs = new AtomicInteger();
+			final AtomicInteger batches = new AtomicInteger();
+
+			final Constraint<DoubleGene, Double> constraint =
+				new Constraint<>() {
+					@Override
+					public boolean
+					test(final Phenotype<DoubleGene, Double> pt) {
+						return pt.genotype().gene().allele() < 0.5;
+					}
+
+					@Override
+					public Phenotype<DoubleGene, Double> repair(
+						final Phenotype<DoubleGene, Double> pt,
+						final long generation
+					) {
+						repairs.incrementAndGet();
+						final DoubleGene gene = DoubleGene.of(0.25, 0, 1);
+						return Phenotype.of(
+							Genotype.of(DoubleChromosome.of(gene)),
+							generation
+						);
+					}
+
+					@Override
+					public ISeq<Phenotype<DoubleGene, Double>> repair(
+						final Seq<Phenotype<DoubleGene, Double>> individuals,
+						final long generation
+					) {
+						batches.incrementAndGet();
+						return Constraint.super.repair(individuals, generation);
+					}
+				};
+
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(a -> a.gene().allele(), DoubleChromosome.of(0, 1))
+				.constraint(constraint)
+				.populationSize(populationSize)
+				.alterers(new Mutator<>(1))
+				.executor(executor)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(1)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.population().size(), populationSize);
+			Assert.assertTrue(result.invalidCount() > 0);
+			Assert.assertEquals(result.invalidCount(), repairs.get());
+			Assert.assertTrue(batches.get() > 0);
+			Assert.assertTrue(batches.get() < repairs.get());
+			Assert.assertTrue(
+				result.population().forAll(constraint::test)
+			);
+		} finally {
+			if (executor instanceof ExecutorService) {
+				((ExecutorService)executor).shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void sequentialFiltering() throws InterruptedException {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final AtomicInteger batches = new AtomicInteger();
+			final Constraint<DoubleGene, Double> constraint =
+				new Constraint<>() {
+					@Override
+					public boolean
+					test(final Phenotype<DoubleGene, Double> pt) {
+						return pt.genotype().gene().allele() < 0.5;
+					}
+
+					@Override
+					public Phenotype<DoubleGene, Double> repair(
+						final Phenotype<DoubleGene, Double> pt,
+						final long generation
+					) {
+						return Phenotype.of(
+							Genotype.of(DoubleChromosome.of(
+								DoubleGene.of(0.25, 0, 1)
+							)),
+							generation
+						);
+					}
+
+					@Override
+					public ISeq<Phenotype<DoubleGene, Double>> repair(
+						final Seq<Phenotype<DoubleGene, Double>> individuals,
+						final long generation
+					) {
+						batches.incrementAndGet();
+						return Constraint.super.repair(individuals, generation);
+					}
+				};
+
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(a -> a.gene().allele(), DoubleChromosome.of(0, 1))
+				.constraint(constraint)
+				.populationSize(1000)
+				.alterers(new Mutator<>(1))
+				.executor(executor)
+				.concurrentFiltering(false)
+				.build();
+
+			Assert.assertFalse(engine.concurrentFiltering());
+			Assert.assertFalse(engine.toBuilder().concurrentFiltering());
+			Assert.assertFalse(engine.toBuilder().copy().concurrentFiltering());
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(1)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			// One batch repair call for the survivors and the offspring.
+			Assert.assertTrue(result.invalidCount() > 0);
+			Assert.assertTrue(batches.get() <= 2);
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@DataProvider(name = "filterExecutors")
+	public Object[][] filterExecutors() {
+		return new Object[][] {
+			{ForkJoinPool.commonPool()},
+			{(Executor)Runnable::run},
+			{Executors.newSingleThreadExecutor()}
+		};
+	}
+
 	@Test
 	public void toUniquePopulation() {
 		final int populationSize = 100;
@@ -521,4 +660,46 @@ public class EngineTest {
 			.collect(EvolutionResult.toBestEvolutionResult());
 	}
 
+	@Test
+	public void evaluationLatencies() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(50)
+			.evaluationLatencies(3)
+			.build();
+
+		Assert.assertEquals(engine.toBuilder().evaluationLatencies(), 3);
+
+		final var results = engine.stream()
+			.limit(10)
+			.collect(Collectors.toList());
+
+		// The first generation evaluates the initial population as well.
+		Assert.assertTrue(
+			results.get(0).evaluationLatencies().orElseThrow().count() > 50
+		);
+		for (var result : results) {
+			final EvaluationLatencies<DoubleGene> latencies =
+				result.evaluationLatencies().orElseThrow();
+			Assert.assertTrue(latencies.count() <= 2*50);
+			Assert.assertEquals(
+				latencies.stragglers().size(),
+				Math.min(3, latencies.count())
+			);
+		}
+	}
+
+	@Test
+	public void evaluationLatenciesDisabled() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.build();
+
+		Assert.assertTrue(
+			engine.stream()
+				.limit(5)
+				.allMatch(r -> r.evaluationLatencies().isEmpty())
+		);
+	}
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvaluationLatenciesTest {
+
+	private static Genotype<IntegerGene> genotype(final int value) {
+		return Genotype.of(
+			IntegerChromosome.of(IntegerGene.of(value, 0, Integer.MAX_VALUE))
+		);
+	}
+
+	private static EvaluationLatencies<IntegerGene>
+	latencies(final int stragglers, final int... values) {
+		final var recorder = new EvaluationLatencies.Recorder<IntegerGene>(
+			stragglers
+		);
+		for (int value : values) {
+			recorder.record(genotype(value), 2L*value, value);
+		}
+		return recorder.toLatencies();
+	}
+
+	@Test
+	public void percentiles() {
+		final int[] values = new int[1000];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = (i*7919)%values.length + 1;
+		}
+		final EvaluationLatencies<IntegerGene> latencies = latencies(0, values);
+
+		Assert.assertEquals(latencies.count(), 1000);
+		Assert.assertEquals(latencies.evaluation(0), Duration.ofNanos(1));
+		Assert.assertEquals(latencies.evaluation(50), Duration.ofNanos(500));
+		Assert.assertEquals(latencies.evaluation(99), Duration.ofNanos(990));
+		Assert.assertEquals(latencies.evaluation(99.9), Duration.ofNanos(999));
+		Assert.assertEquals(latencies.evaluation(100), Duration.ofNanos(1000));
+		Assert.assertEquals(latencies.queueWait(50), Duration.ofNanos(1000));
+		Assert.assertEquals(
+			latencies.totalEvaluation(),
+			Duration.ofNanos(1000*1001/2)
+		);
+		Assert.assertEquals(
+			latencies.evaluationNanos().toArray(),
+			latencies.evaluationNanos().sorted().toArray()
+		);
+		Assert.assertTrue(latencies.stragglers().isEmpty());
+	}
+
+	@Test
+	public void stragglers() {
+		final EvaluationLatencies<IntegerGene> latencies =
+			latencies(3, 5, 1, 9, 3, 7, 2, 8, 9, 4);
+
+		final ISeq<Integer> slowest = latencies.stragglers()
+			.map(s -> s.genotype().gene().allele());
+		Assert.assertEquals(slowest, ISeq.of(9, 9, 8));
+		Assert.assertEquals(
+			latencies.stragglers().stream()
+				.map(EvaluationLatencies.Straggler::evaluation)
+				.collect(Collectors.toList()),
+			ISeq.of(9L, 9L, 8L).map(Duration::ofNanos).asList()
+		);
+		Assert.assertEquals(
+			latencies.stragglers().get(2).queueWait(),
+			Duration.ofNanos(16)
+		);
+	}
+
+	@Test
+	public void lessValuesThanStragglers() {
+		final EvaluationLatencies<IntegerGene> latencies =
+			latencies(10, 1, 3, 2);
+
+		Assert.assertEquals(
+			latencies.stragglers().map(s -> s.genotype().gene().allele()),
+			ISeq.of(3, 2, 1)
+		);
+	}
+
+	@Test
+	public void empty() {
+		final EvaluationLatencies<IntegerGene> latencies = latencies(5);
+
+		Assert.assertEquals(latencies.count(), 0);
+		Assert.assertEquals(latencies.evaluation(99), Duration.ZERO);
+		Assert.assertEquals(latencies.queueWait(99), Duration.ZERO);
+		Assert.assertEquals(latencies.totalEvaluation(), Duration.ZERO);
+		Assert.assertTrue(latencies.stragglers().isEmpty());
+	}
+
+	@Test
+	public void negativeTimes() {
+		final var recorder = new EvaluationLatencies.Recorder<IntegerGene>(1);
+		recorder.record(genotype(1), -5, -3);
+
+		final EvaluationLatencies<IntegerGene> latencies =
+			recorder.toLatencies();
+		Assert.assertEquals(latencies.evaluation(100), Duration.ZERO);
+		Assert.assertEquals(latencies.queueWait(100), Duration.ZERO);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidPercentile() {
+		latencies(0, 1, 2, 3).evaluation(100.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeStragglers() {
+		new EvaluationLatencies.Recorder<IntegerGene>(-1);
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.DoubleGene;
+import io.jenetics.Mutator;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionParamsHandleTest {
+
+	private static EvolutionParamsHandle<DoubleGene, Double> handle() {
+		return EvolutionParamsHandle.of(
+			EvolutionParams.<DoubleGene, Double>builder()
+				.populationSize(20)
+				.build()
+		);
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine.builder(
+			x -> x,
+			Codecs.ofScalar(DoubleRange.of(0, 1))
+		);
+	}
+
+	@Test
+	public void builderParams() {
+		final EvolutionParamsHandle<DoubleGene, Double> handle = handle();
+
+		final Engine.Builder<DoubleGene, Double> builder = builder()
+			.evolutionParams(handle);
+		Assert.assertSame(builder.evolutionParams(), handle.get());
+
+		final Engine<DoubleGene, Double> engine = builder
+			.maximalPhenotypeAge(30)
+			.build();
+
+		// Setting a parameter detaches the handle.
+		Assert.assertEquals(engine.populationSize(), 20);
+		Assert.assertEquals(engine.maximalPhenotypeAge(), 30);
+		Assert.assertEquals(handle.get().maximalPhenotypeAge(), 70);
+
+		handle.update(p -> p.toBuilder().populationSize(50).build());
+		Assert.assertEquals(engine.populationSize(), 20);
+	}
+
+	@Test
+	public void buildTwice() {
+		final EvolutionParamsHandle<DoubleGene, Double> handle = handle();
+		final Engine.Builder<DoubleGene, Double> builder = builder()
+			.evolutionParams(handle);
+
+		final Engine<DoubleGene, Double> engine1 = builder.build();
+		handle.update(p -> p.toBuilder().populationSize(50).build());
+
+		final Engine<DoubleGene, Double> engine2 = builder.build();
+		Assert.assertEquals(handle.get().populationSize(), 50);
+		Assert.assertEquals(engine1.populationSize(), 50);
+		Assert.assertEquals(engine2.populationSize(), 50);
+
+		builder()
+			.evolutionParams(handle)
+			.build();
+		Assert.assertEquals(handle.get().populationSize(), 50);
+	}
+
+	@Test
+	public void toBuilder() {
+		final EvolutionParamsHandle<DoubleGene, Double> handle = handle();
+		final Engine<DoubleGene, Double> engine = builder()
+			.evolutionParams(handle)
+			.build();
+
+		final Engine<DoubleGene, Double> copy = engine.toBuilder().build();
+		handle.update(p -> p.toBuilder().populationSize(50).build());
+
+		Assert.assertEquals(engine.populationSize(), 50);
+		Assert.assertEquals(copy.populationSize(), 50);
+		Assert.assertSame(copy.evolutionParams(), handle.get());
+	}
+
+	@Test
+	public void builderCopy() {
+		final EvolutionParamsHandle<DoubleGene, Double> handle = handle();
+		final Engine.Builder<DoubleGene, Double> builder = builder()
+			.evolutionParams(handle);
+
+		final Engine<DoubleGene, Double> copy = builder.copy().build();
+		final Engine<DoubleGene, Double> detached = builder.copy()
+			.populationSize(30)
+			.build();
+		handle.update(p -> p.toBuilder().populationSize(50).build());
+
+		Assert.assertEquals(copy.populationSize(), 50);
+		Assert.assertEquals(detached.populationSize(), 30);
+		Assert.assertEquals(builder.populationSize(), 50);
+	}
+
+	@Test
+	public void changePopulationSize() {
+		final EvolutionParamsHandle<DoubleGene, Double> handle =
+			EvolutionParamsHandle.of(
+				EvolutionParams.<DoubleGene, Double>builder()
+					.populationSize(50)
+					.build()
+			);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				x -> x,
+				Codecs.ofScalar(DoubleRange.of(0, 1)))
+			.evolutionParams(handle)
+			.build();
+
+		final int[] sizes = engine.stream()
+			.limit(10)
+			.peek(result -> {
+				if (result.generation() == 3) {
+					handle.update(p -> p.toBuilder().populationSize(200).build());
+				} else if (result.generation() == 6) {
+					handle.update(p -> p.toBuilder().populationSize(10).build());
+				}
+			})
+			.mapToInt(result -> result.population().size())
+			.toArray();
+
+		Assert.assertEquals(
+			sizes,
+			new int[]{50, 50, 50, 200, 200, 200, 10, 10, 10, 10}
+		);
+		Assert.assertEquals(engine.populationSize(), 10);
+	}
+
+	@Test
+	public void changeAlterer() {
+		final AtomicInteger count = new AtomicInteger();
+		final Alterer<DoubleGene, Double> counting = (population, generation) -> {
+			count.incrementAndGet();
+			return AltererResult.of(population.asISeq());
+		};
+
+		final EvolutionParamsHandle<DoubleGene, Double> handle =
+			EvolutionParamsHandle.of(
+				EvolutionParams.<DoubleGene, Double>builder()
+					.alterers(new Mutator<>())
+					.build()
+			);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				x -> x,
+				Codecs.ofScalar(DoubleRange.of(0, 1)))
+			.evolutionParams(handle)
+			.build();
+
+		engine.stream()
+			.limit(10)
+			.forEach(result -> {
+				if (result.generation() == 5) {
+					handle.update(p -> p.toBuilder().alterers(counting).build());
+				}
+			});
+
+		Assert.assertEquals(count.get(), 5);
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionStatisticsTest {
+
+	@Test
+	public void latencies() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.minimizing()
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results = engine
+			.stream()
+			.limit(50)
+			.collect(Collectors.toList());
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+		results.forEach(statistics);
+
+		Assert.assertEquals(statistics.evolveLatency().count(), 50);
+		Assert.assertEquals(statistics.evaluationLatency().count(), 50);
+		Assert.assertEquals(statistics.selectionLatency().count(), 50);
+		Assert.assertEquals(statistics.alterLatency().count(), 50);
+
+		Assert.assertEquals(
+			statistics.evolveLatency().max(),
+			results.stream()
+				.map(r -> r.durations().evolveDuration())
+				.max(Comparable::compareTo)
+				.orElseThrow()
+		);
+		Assert.assertEquals(
+			statistics.evolveLatency().max().toNanos()/1_000_000_000.0,
+			statistics.evolveDuration().max(),
+			1e-9
+		);
+		Assert.assertTrue(
+			statistics.evolveLatency().percentile(50)
+				.compareTo(statistics.evolveLatency().percentile(99)) <= 0
+		);
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Optimize;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.MinMax;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionSummaryTest {
+
+	private static Engine<DoubleGene, Double> engine() {
+		return Engine
+			.builder(
+				v -> v[0]*v[0] + v[1]*v[1],
+				Codecs.ofVector(DoubleRange.of(-10, 10), 2))
+			.minimizing()
+			.populationSize(100)
+			.build();
+	}
+
+	@Test
+	public void ofResult() {
+		final EvolutionResult<DoubleGene, Double> result = engine().stream()
+			.limit(5)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		final EvolutionSummary<DoubleGene, Double> summary =
+			EvolutionSummary.of(result);
+
+		Assert.assertEquals(summary.optimize(), Optimize.MINIMUM);
+		Assert.assertEquals(summary.generation(), result.generation());
+		Assert.assertEquals(
+			summary.totalGenerations(),
+			result.totalGenerations()
+		);
+		Assert.assertEquals(summary.durations(), result.durations());
+		Assert.assertEquals(summary.killCount(), result.killCount());
+		Assert.assertEquals(summary.invalidCount(), result.invalidCount());
+		Assert.assertEquals(summary.alterCount(), result.alterCount());
+		Assert.assertEquals(summary.bestPhenotype(), result.bestPhenotype());
+		Assert.assertEquals(summary.worstPhenotype(), result.worstPhenotype());
+		Assert.assertEquals(summary.phenotypeAge().count(), 100);
+
+		final DoubleMoments fitness = summary.fitness().orElseThrow();
+		Assert.assertEquals(fitness.count(), 100);
+		Assert.assertEquals(fitness.min(), result.bestFitness().doubleValue());
+		Assert.assertEquals(fitness.max(), result.worstFitness().doubleValue());
+		Assert.assertEquals(summary, EvolutionSummary.of(result));
+	}
+
+	@Test
+	public void ofNonNumericResult() {
+		final Engine<DoubleGene, String> engine = Engine
+			.builder(
+				v -> String.valueOf(v[0]),
+				Codecs.ofVector(DoubleRange.of(0, 10), 1))
+			.populationSize(10)
+			.build();
+
+		final EvolutionResult<DoubleGene, String> result = engine.stream()
+			.limit(2)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		final EvolutionSummary<DoubleGene, String> summary =
+			EvolutionSummary.of(result);
+
+		Assert.assertFalse(summary.fitness().isPresent());
+		Assert.assertEquals(summary.bestFitness(), result.bestFitness());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofEmptyResult() {
+		EvolutionSummary.of(EvolutionResult.<DoubleGene, Double>of(
+			Optimize.MAXIMUM,
+			ISeq.empty(),
+			1,
+			EvolutionDurations.ZERO,
+			0,
+			0,
+			0
+		));
+	}
+
+	@Test
+	public void numberStatistics() {
+		final List<EvolutionResult<DoubleGene, Double>> results = engine()
+			.stream()
+			.limit(50)
+			.collect(Collectors.toList());
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> expected =
+			EvolutionStatistics.ofNumber();
+		results.forEach(expected::accept);
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+		results.stream()
+			.map(EvolutionSummary::of)
+			.forEach(statistics::accept);
+
+		final DoubleMomentStatistics a = statistics.fitness();
+		final DoubleMomentStatistics e = expected.fitness();
+		Assert.assertEquals(a.count(), e.count());
+		Assert.assertEquals(a.min(), e.min());
+		Assert.assertEquals(a.max(), e.max());
+		Assert.assertEquals(a.sum(), e.sum(), 1e-6*Math.abs(e.sum()));
+		Assert.assertEquals(a.mean(), e.mean(), 1e-6*Math.abs(e.mean()));
+		Assert.assertEquals(a.variance(), e.variance(), 1e-6*e.variance());
+		Assert.assertEquals(a.skewness(), e.skewness(), 1e-6);
+		Assert.assertEquals(a.kurtosis(), e.kurtosis(), 1e-6);
+
+		Assert.assertEquals(
+			statistics.phenotypeAge().count(),
+			expected.phenotypeAge().count()
+		);
+		Assert.assertEquals(
+			statistics.phenotypeAge().mean(),
+			expected.phenotypeAge().mean(),
+			1e-9
+		);
+		Assert.assertEquals(
+			statistics.altered().sum(),
+			expected.altered().sum()
+		);
+		Assert.assertEquals(
+			statistics.killed().sum(),
+			expected.killed().sum()
+		);
+	}
+
+	@Test
+	public void comparableStatistics() {
+		final List<EvolutionResult<DoubleGene, Double>> results = engine()
+			.stream()
+			.limit(20)
+			.collect(Collectors.toList());
+
+		final EvolutionStatistics<Double, MinMax<Double>> expected =
+			EvolutionStatistics.ofComparable();
+		results.forEach(expected::accept);
+
+		final EvolutionStatistics<Double, MinMax<Double>> statistics =
+			EvolutionStatistics.ofComparable();
+		results.stream()
+			.map(EvolutionSummary::of)
+			.forEach(statistics::accept);
+
+		final MinMax<Double> a = statistics.fitness();
+		final MinMax<Double> e = expected.fitness();
+		Assert.assertEquals(a.min(), e.min());
+		Assert.assertEquals(a.max(), e.max());
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MeteredExecutorTest {
+
+	@Test
+	public void serialExecution() {
+		final MeteredExecutor executor = MeteredExecutor.of(Runnable::run);
+		for (int i = 0; i < 10; ++i) {
+			executor.execute(() -> {});
+		}
+
+		Assert.assertEquals(executor.submittedTasks(), 10);
+		Assert.assertEquals(executor.completedTasks(), 10);
+		Assert.assertEquals(executor.activeTasks(), 0);
+		Assert.assertEquals(executor.queuedTasks(), 0);
+		Assert.assertEquals(executor.maxActiveTasks(), 1);
+	}
+
+	@Test
+	public void saturation() throws InterruptedException {
+		final ExecutorService pool = Executors.newFixedThreadPool(2);
+		final MeteredExecutor executor = MeteredExecutor.of(pool);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(2);
+
+		try {
+			for (int i = 0; i < 5; ++i) {
+				executor.execute(() -> {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+
+			Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+			Assert.assertEquals(executor.submittedTasks(), 5);
+			Assert.assertEquals(executor.activeTasks(), 2);
+			Assert.assertEquals(executor.queuedTasks(), 3);
+
+			release.countDown();
+		} finally {
+			pool.shutdown();
+			Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+		}
+
+		Assert.assertEquals(executor.completedTasks(), 5);
+		Assert.assertEquals(executor.activeTasks(), 0);
+		Assert.assertEquals(executor.maxActiveTasks(), 2);
+		Assert.assertTrue(executor.waitTime().toNanos() > 0);
+		Assert.assertTrue(executor.runTime().toNanos() > 0);
+	}
+
+}
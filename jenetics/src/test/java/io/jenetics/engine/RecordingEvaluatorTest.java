@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Tests the latency recording of all {@link RecordingEvaluator}
+ * implementations with the same fixture.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class RecordingEvaluatorTest {
+
+	private static final int SIZE = 20;
+
+	// The genotype with the greatest allele is the slowest one.
+	private static final ISeq<Phenotype<DoubleGene, Double>> POPULATION =
+		IntStream.range(0, SIZE)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(i, 0, SIZE))),
+				1
+			))
+			.collect(ISeq.toISeq());
+
+	private static double fitness(final Genotype<DoubleGene> gt) {
+		final double value = gt.gene().allele();
+		if (value == SIZE - 1) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return value;
+	}
+
+	@Test(dataProvider = "evaluators")
+	public void evaluateRecording(
+		final RecordingEvaluator<DoubleGene, Double> evaluator,
+		final boolean queued
+	) {
+		final var recorder = new EvaluationLatencies.Recorder<DoubleGene>(1);
+		final ISeq<Phenotype<DoubleGene, Double>> evaluated =
+			evaluator.eval(POPULATION, recorder);
+		Assert.assertTrue(evaluated.forAll(Phenotype::isEvaluated));
+
+		final EvaluationLatencies<DoubleGene> latencies =
+			recorder.toLatencies();
+		Assert.assertEquals(latencies.count(), SIZE);
+		if (!queued) {
+			Assert.assertEquals(latencies.queueWait(100), Duration.ZERO);
+		}
+		Assert.assertSame(
+			latencies.stragglers().get(0).genotype(),
+			POPULATION.get(SIZE - 1).genotype()
+		);
+		Assert.assertTrue(
+			latencies.evaluation(100).compareTo(Duration.ofMillis(100)) >= 0,
+			latencies.toString()
+		);
+	}
+
+	// The evaluator and whether it measures the queue wait times.
+	@DataProvider
+	public Object[][] evaluators() {
+		return new Object[][] {
+			{new ConcurrentEvaluator<DoubleGene, Double>(
+				RecordingEvaluatorTest::fitness,
+				ForkJoinPool.commonPool()
+			), true},
+			{new FutureEvaluator<DoubleGene, Double>(gt ->
+				CompletableFuture.supplyAsync(() -> fitness(gt))
+			), false},
+			{new CompletableFutureEvaluator<DoubleGene, Double>(gt ->
+				CompletableFuture.supplyAsync(() -> fitness(gt))
+			), false}
+		};
+	}
+
+}
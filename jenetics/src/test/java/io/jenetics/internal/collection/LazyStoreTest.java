@@ -0,0 +1,76 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LazyStoreTest {
+
+	@Test
+	public void get() {
+		final AtomicInteger calls = new AtomicInteger();
+		final LazyStore<Integer> store = LazyStore.of(i -> {
+			calls.incrementAndGet();
+			return i*i;
+		}, 10);
+
+		Assert.assertEquals(store.length(), 10);
+		Assert.assertEquals(calls.get(), 0);
+		Assert.assertEquals(store.get(3).intValue(), 9);
+		Assert.assertEquals(store.get(3).intValue(), 9);
+		Assert.assertEquals(calls.get(), 1);
+	}
+
+	@Test
+	public void seq() throws Exception {
+		final ISeq<Integer> seq = new ArrayISeq<>(
+			Array.of(LazyStore.<Integer>of(i -> i, 20)).seal()
+		);
+
+		Assert.assertEquals(
+			seq,
+			IntStream.range(0, 20).boxed().collect(ISeq.toISeq())
+		);
+		Assert.assertEquals(
+			seq.copy().sort((a, b) -> b - a).get(0).intValue(),
+			19
+		);
+		Assert.assertEquals(
+			IO.object.fromByteArray(IO.object.toByteArray(seq)),
+			seq
+		);
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void set() {
+		LazyStore.<Integer>of(i -> i, 10).set(0, 1);
+	}
+
+}
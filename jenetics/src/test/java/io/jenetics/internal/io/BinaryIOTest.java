@@ -0,0 +1,290 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionSummary;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BinaryIOTest {
+
+	@DataProvider(name = "ios")
+	public Object[][] ios() {
+		return new Object[][] {
+			{IO.binary},
+			{IO.compressedBinary}
+		};
+	}
+
+	@DataProvider(name = "genotypes")
+	public Object[][] genotypes() {
+		return RandomRegistry.with(new Random(123), r -> new Object[][] {
+			{Genotype.of(BitChromosome.of(100, 0.3), 3)},
+			{Genotype.of(BitChromosome.of(7))},
+			{Genotype.of(DoubleChromosome.of(0, 10, 20), 5)},
+			{Genotype.of(DoubleChromosome.of(0, 10, IntRange.of(2, 20)), 5)},
+			{Genotype.of(IntegerChromosome.of(-100, 100, 10), 2)},
+			{Genotype.of(IntegerChromosome.of(0, 10, IntRange.of(2, 9)))},
+			{Genotype.of(LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, 8))},
+			{Genotype.of(CharacterChromosome.of(30), 4)},
+			{Genotype.of(CharacterChromosome.of(IntRange.of(3, 30)))},
+			{Genotype.of(PermutationChromosome.ofInteger(20), 3)},
+			{Genotype.of(
+				DoubleChromosome.of(0, 1, 5),
+				DoubleChromosome.of(-1, 1, 5),
+				DoubleChromosome.of(0, 1, 5))}
+		});
+	}
+
+	@Test(dataProvider = "genotypes")
+	public void genotype(final Genotype<?> genotype) throws IOException {
+		for (IO io : new IO[]{IO.binary, IO.compressedBinary}) {
+			final Object read = io.fromByteArray(io.toByteArray(genotype));
+			Assert.assertEquals(read, genotype);
+		}
+	}
+
+	@Test(dataProvider = "ios")
+	public void byteBufferReader(final IO io) throws IOException {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final byte[] bytes = io.toByteArray(gt);
+
+		final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 10);
+		buffer.position(5);
+		buffer.put(bytes);
+		buffer.position(5).limit(5 + bytes.length);
+
+		final BinaryReader reader = ((BinaryIO)io).reader(buffer);
+		Assert.assertEquals(reader.read(), gt);
+		Assert.assertNull(reader.read());
+	}
+
+	@Test
+	public void lengthRange() throws IOException {
+		final DoubleChromosome ch =
+			DoubleChromosome.of(0, 1, IntRange.of(5, 15));
+		final Genotype<?> read = (Genotype<?>)IO.binary
+			.fromByteArray(IO.binary.toByteArray(Genotype.of(ch)));
+
+		Assert.assertEquals(
+			((DoubleChromosome)read.chromosome()).lengthRange(),
+			IntRange.of(5, 15)
+		);
+	}
+
+	@Test(dataProvider = "ios")
+	public void phenotypes(final IO io) throws IOException {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final ISeq<Phenotype<?, ?>> phenotypes = ISeq.of(
+			Phenotype.of(gt, 1),
+			Phenotype.of(gt, 2, 3.5),
+			Phenotype.of(gt, 3, 35),
+			Phenotype.of(gt, Long.MAX_VALUE, -3L),
+			Phenotype.of(gt, 4, "fitness")
+		);
+
+		final Object read = io.fromByteArray(io.toByteArray(phenotypes));
+		Assert.assertEquals(read, phenotypes);
+	}
+
+	@Test(dataProvider = "ios")
+	public void evolutionResult(final IO io) throws IOException {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.chromosome().as(DoubleChromosome.class).doubleValue(),
+				DoubleChromosome.of(0, 10, 10))
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(3)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		@SuppressWarnings("unchecked")
+		final EvolutionResult<DoubleGene, Double> read =
+			io.read(EvolutionResult.class, new ByteArrayInputStream(
+				io.toByteArray(result)));
+
+		Assert.assertEquals(read, result);
+		Assert.assertEquals(read.population(), result.population());
+		Assert.assertEquals(read.durations(), result.durations());
+		Assert.assertEquals(read.totalGenerations(), result.totalGenerations());
+	}
+
+	@Test(dataProvider = "ios")
+	public void evolutionSummary(final IO io) throws IOException {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.chromosome().as(DoubleChromosome.class).doubleValue(),
+				DoubleChromosome.of(0, 10, 10))
+			.populationSize(100)
+			.build();
+
+		final EvolutionSummary<DoubleGene, Double> summary = engine.stream()
+			.limit(3)
+			.map(EvolutionSummary::of)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		final Object read = io.read(new ByteArrayInputStream(
+			io.toByteArray(summary)));
+
+		Assert.assertEquals(read, summary);
+	}
+
+	@Test
+	public void nonNumericEvolutionSummary() throws IOException {
+		final Engine<DoubleGene, String> engine = Engine
+			.builder(
+				gt -> gt.toString(),
+				DoubleChromosome.of(0, 10, 2))
+			.populationSize(10)
+			.build();
+
+		final EvolutionSummary<DoubleGene, String> summary = engine.stream()
+			.limit(2)
+			.map(EvolutionSummary::of)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		final Object read = IO.binary.read(new ByteArrayInputStream(
+			IO.binary.toByteArray(summary)));
+
+		Assert.assertEquals(read, summary);
+	}
+
+	@Test
+	public void sharedAlleleTable() throws IOException {
+		final PermutationChromosome<Integer> ch =
+			PermutationChromosome.ofInteger(1000);
+		final ISeq<Genotype<EnumGene<Integer>>> genotypes =
+			ISeq.of(() -> Genotype.of(ch.newInstance()), 100);
+
+		final byte[] binary = IO.binary.toByteArray(genotypes);
+		final byte[] object = IO.object.toByteArray(genotypes);
+		Assert.assertTrue(binary.length < object.length);
+
+		@SuppressWarnings("unchecked")
+		final ISeq<Genotype<EnumGene<Integer>>> read =
+			(ISeq<Genotype<EnumGene<Integer>>>)IO.binary.fromByteArray(binary);
+		Assert.assertEquals(read, genotypes);
+		Assert.assertSame(
+			read.get(0).chromosome().gene().validAlleles(),
+			read.get(99).chromosome().gene().validAlleles()
+		);
+	}
+
+	@Test
+	public void compression() throws IOException {
+		final Genotype<DoubleGene> gt = Genotype.of(
+			DoubleChromosome.of(ISeq.of(() -> DoubleGene.of(0.5, 0, 1), 1000))
+		);
+
+		Assert.assertTrue(
+			IO.compressedBinary.toByteArray(gt).length <
+			IO.binary.toByteArray(gt).length/10
+		);
+	}
+
+	@Test
+	public void streaming() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final ISeq<Genotype<DoubleGene>> genotypes = ISeq.of(
+			() -> Genotype.of(DoubleChromosome.of(0, 1, 10)),
+			100
+		);
+
+		try (BinaryWriter writer = BinaryIO.of(true).writer(out)) {
+			for (Genotype<DoubleGene> gt : genotypes) {
+				writer.write(gt);
+			}
+		}
+
+		int count = 0;
+		try (BinaryReader reader = BinaryIO.of(false)
+				.reader(new ByteArrayInputStream(out.toByteArray())))
+		{
+			Object value;
+			while ((value = reader.read()) != null) {
+				Assert.assertEquals(value, genotypes.get(count++));
+			}
+		}
+		Assert.assertEquals(count, genotypes.size());
+	}
+
+	@Test
+	public void path() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".bin");
+		try {
+			final Genotype<DoubleGene> gt = Genotype.of(
+				DoubleChromosome.of(0, 1, 100),
+				10
+			);
+			IO.compressedBinary.write(gt, path);
+			Assert.assertEquals(IO.binary.read(Genotype.class, path), gt);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void invalidHeader() throws IOException {
+		IO.binary.fromByteArray(IO.object.toByteArray("value"));
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidType() throws IOException {
+		final byte[] bytes = IO.binary.toByteArray(
+			Genotype.of(DoubleChromosome.of(0, 1))
+		);
+		IO.binary.read(Phenotype.class, new ByteArrayInputStream(bytes));
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.jfr;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Mutator;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class JfrEventsTest {
+
+	private static Map<String, List<RecordedEvent>> record(final Runnable task)
+		throws IOException
+	{
+		final Path file = Files.createTempFile("jenetics-", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable("io.jenetics.Evolve");
+			recording.enable("io.jenetics.EvolvePhase");
+			recording.enable("io.jenetics.Evaluation");
+			recording.enable("io.jenetics.Alter");
+
+			recording.start();
+			task.run();
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file).stream()
+				.collect(groupingBy(e -> e.getEventType().getName()));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void engineEvents() throws IOException {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(100)
+			.alterers(new Mutator<>(0.2), new SinglePointCrossover<>(0.1))
+			.build();
+
+		final Map<String, List<RecordedEvent>> events = record(() ->
+			engine.stream()
+				.limit(5)
+				.collect(EvolutionResult.toBestEvolutionResult())
+		);
+
+		final List<RecordedEvent> evolve = events.get("io.jenetics.Evolve");
+		Assert.assertEquals(
+			evolve.stream()
+				.map(e -> e.getLong("generation"))
+				.sorted()
+				.collect(toList()),
+			List.of(1L, 2L, 3L, 4L, 5L)
+		);
+		for (RecordedEvent event : evolve) {
+			Assert.assertEquals(event.getInt("populationSize"), 100);
+			Assert.assertTrue(event.getInt("alterCount") >= 0);
+			Assert.assertTrue(event.getLong("evaluation") >= 0);
+		}
+
+		final Set<String> phases = events.get("io.jenetics.EvolvePhase")
+			.stream()
+			.map(e -> e.getString("phase"))
+			.collect(toSet());
+		Assert.assertEquals(
+			phases,
+			Set.of(
+				Events.OFFSPRING_SELECTION,
+				Events.SURVIVORS_SELECTION,
+				Events.OFFSPRING_ALTER,
+				Events.OFFSPRING_FILTER,
+				Events.SURVIVOR_FILTER,
+				Events.EVALUATION
+			)
+		);
+
+		Assert.assertEquals(
+			events.get("io.jenetics.Alter").stream()
+				.map(e -> e.getString("alterer"))
+				.collect(toSet()),
+			Set.of("Mutator", "SinglePointCrossover")
+		);
+		Assert.assertTrue(
+			events.get("io.jenetics.Evaluation").stream()
+				.allMatch(e -> e.getString("evaluator")
+					.equals("ConcurrentEvaluator"))
+		);
+	}
+
+	@Test
+	public void noRecording() {
+		Assert.assertNull(Events.beginEvolve());
+		Assert.assertNull(Events.beginEvaluation());
+		Assert.assertNull(Events.beginAlter());
+
+		Events.commitEvolve(null, null);
+		Events.commitEvaluation(null, Object.class, 0);
+		Events.commitAlter(null, new Object(), 0, 0, 0, 0);
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static io.jenetics.stat.LatencyHistogram.toLatencyHistogram;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LatencyHistogramTest {
+
+	private static long[] latencies(final int count, final long seed) {
+		final Random random = new Random(seed);
+		return LongStream.generate(() ->
+				(long)Math.exp(random.nextDouble()*Math.log(60_000_000_000L)))
+			.limit(count)
+			.toArray();
+	}
+
+	// Exact percentile: smallest value, which is greater or equal than the
+	// given percentile of all values.
+	private static long percentile(final long[] sorted, final double p) {
+		final int rank = (int)Math.max(Math.ceil(p*sorted.length/100.0), 1);
+		return sorted[rank - 1];
+	}
+
+	@Test(dataProvider = "significantDigits")
+	public void percentiles(final Integer digits) {
+		final long[] values = latencies(100_000, 123);
+		final LatencyHistogram histogram =
+			new LatencyHistogram(Duration.ofMinutes(1), digits);
+		Arrays.stream(values).forEach(histogram);
+
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		final double error = Math.pow(10, -digits);
+		for (double p : new double[]{0, 1, 10, 50, 90, 99, 99.9, 99.99, 100}) {
+			final long expected = percentile(sorted, p);
+			final long actual = histogram.percentile(p).toNanos();
+			Assert.assertTrue(
+				actual >= expected &&
+				actual - expected <= Math.max(error*expected, 1),
+				String.format("p%s: %d != %d", p, actual, expected)
+			);
+		}
+	}
+
+	@DataProvider(name = "significantDigits")
+	public Object[][] significantDigits() {
+		return new Object[][] {{1}, {2}, {3}, {4}};
+	}
+
+	@Test
+	public void smallValuesExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		LongStream.range(0, 200).forEach(histogram);
+
+		for (int i = 1; i <= 200; ++i) {
+			Assert.assertEquals(
+				histogram.percentile(i/2.0).toNanos(),
+				i - 1
+			);
+		}
+	}
+
+	@Test
+	public void moments() {
+		final long[] values = latencies(10_000, 456);
+		final LatencyHistogram histogram = new LatencyHistogram();
+		Arrays.stream(values).forEach(histogram);
+
+		final LongSummaryStatistics expected =
+			Arrays.stream(values).summaryStatistics();
+
+		Assert.assertEquals(histogram.count(), expected.getCount());
+		Assert.assertEquals(histogram.min().toNanos(), expected.getMin());
+		Assert.assertEquals(histogram.max().toNanos(), expected.getMax());
+		Assert.assertEquals(histogram.sum().toNanos(), expected.getSum());
+		Assert.assertEquals(
+			histogram.mean().toNanos(),
+			Math.round(expected.getAverage())
+		);
+		Assert.assertEquals(histogram.percentile(0), histogram.min());
+		Assert.assertEquals(histogram.percentile(100), histogram.max());
+	}
+
+	@Test
+	public void empty() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		Assert.assertEquals(histogram.count(), 0);
+		Assert.assertEquals(histogram.min(), Duration.ZERO);
+		Assert.assertEquals(histogram.max(), Duration.ZERO);
+		Assert.assertEquals(histogram.mean(), Duration.ZERO);
+		Assert.assertEquals(histogram.percentile(99), Duration.ZERO);
+	}
+
+	@Test
+	public void saturation() {
+		final LatencyHistogram histogram =
+			new LatencyHistogram(Duration.ofMillis(1), 2);
+		histogram.accept(Duration.ofMillis(1));
+		histogram.accept(Duration.ofHours(2));
+
+		Assert.assertEquals(histogram.count(), 2);
+		Assert.assertEquals(histogram.max(), Duration.ofHours(2));
+		Assert.assertEquals(histogram.percentile(100), Duration.ofHours(2));
+		Assert.assertTrue(
+			histogram.percentile(50).compareTo(Duration.ofMillis(1)) >= 0
+		);
+	}
+
+	@Test
+	public void combine() {
+		final long[] values = latencies(50_000, 789);
+
+		final LatencyHistogram expected = new LatencyHistogram();
+		Arrays.stream(values).forEach(expected);
+
+		final LatencyHistogram a = new LatencyHistogram();
+		final LatencyHistogram b = new LatencyHistogram();
+		Arrays.stream(values, 0, 20_000).forEach(a);
+		Arrays.stream(values, 20_000, values.length).forEach(b);
+		final LatencyHistogram combined = a.combine(b);
+
+		Assert.assertEquals(combined.count(), expected.count());
+		Assert.assertEquals(combined.min(), expected.min());
+		Assert.assertEquals(combined.max(), expected.max());
+		Assert.assertEquals(combined.sum(), expected.sum());
+		Assert.assertEquals(
+			combined.toPercentileTable(),
+			expected.toPercentileTable()
+		);
+	}
+
+	@Test
+	public void parallelCollect() {
+		final long[] values = latencies(100_000, 1011);
+
+		final LatencyHistogram expected = new LatencyHistogram();
+		Arrays.stream(values).forEach(expected);
+
+		final LatencyHistogram histogram = IntStream.range(0, values.length)
+			.parallel()
+			.boxed()
+			.collect(toLatencyHistogram(i -> Duration.ofNanos(values[i])));
+
+		Assert.assertEquals(histogram.count(), expected.count());
+		Assert.assertEquals(histogram.toString(), expected.toString());
+		Assert.assertEquals(
+			histogram.toPercentileTable(),
+			expected.toPercentileTable()
+		);
+	}
+
+	@Test
+	public void percentileTable() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		LongStream.rangeClosed(1, 100).forEach(histogram);
+
+		final String[] rows = histogram.toPercentileTable(50, 99)
+			.lines()
+			.toArray(String[]::new);
+		Assert.assertEquals(rows.length, 3);
+		Assert.assertEquals(
+			rows[1].trim().split("\\s+"),
+			new String[]{"50.0000", "0.000000050", "50"}
+		);
+		Assert.assertEquals(
+			rows[2].trim().split("\\s+"),
+			new String[]{"99.0000", "0.000000099", "99"}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeLatency() {
+		new LatencyHistogram().accept(-1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidPercentile() {
+		new LatencyHistogram().percentile(100.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSignificantDigits() {
+		new LatencyHistogram(Duration.ofSeconds(1), 6);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidHighestTrackableValue() {
+		new LatencyHistogram(Duration.ZERO, 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void incompatibleCombine() {
+		new LatencyHistogram(Duration.ofSeconds(1), 2)
+			.combine(new LatencyHistogram(Duration.ofSeconds(1), 3));
+	}
+
+}
@@ -85,6 +85,42 @@ public class LongMomentStatisticsTest {
 		assertEqualsDouble(summary.kurtosis(), expected.getKurtosis(), epsilon);
 	}
 
+	@Test(dataProvider = "sampleCounts")
+	public void combineMoments(final Integer sampleCounts, final Double epsilon) {
+		final List<Long> numbers = numbers(sampleCounts);
+
+		final DescriptiveStatistics expected = new DescriptiveStatistics();
+		numbers.forEach(expected::addValue);
+
+		// Combine the moments of (unequal) chunks of the samples.
+		final LongMomentStatistics summary = new LongMomentStatistics();
+		// The chunks must contain at least four samples, otherwise the
+		// fourth central moment can't be recovered.
+		int start = 0;
+		for (int size = 4; start < numbers.size(); size *= 3) {
+			int end = Math.min(start + size, numbers.size());
+			if (numbers.size() - end < 4) {
+				end = numbers.size();
+			}
+			summary.combine(LongMoments.of(
+				numbers.subList(start, end).stream()
+					.collect(toLongMomentStatistics(Long::longValue))
+			));
+			start = end;
+		}
+
+		Assert.assertEquals(summary.count(), numbers.size());
+		assertEqualsDouble(min(summary.min()), expected.getMin(), 0.0);
+		assertEqualsDouble(max(summary.max()), expected.getMax(), 0.0);
+		assertEqualsDouble(summary.sum(), expected.getSum(), epsilon);
+		assertEqualsDouble(summary.mean(), expected.getMean(), epsilon);
+		assertEqualsDouble(summary.variance(), expected.getVariance(), epsilon);
+		if (numbers.size() > 10) {
+			assertEqualsDouble(summary.skewness(), expected.getSkewness(), epsilon);
+			assertEqualsDouble(summary.kurtosis(), expected.getKurtosis(), epsilon);
+		}
+	}
+
 	private static double min(final long value) {
 		return value == Long.MAX_VALUE ? Double.NaN : value;
 	}